@@ -0,0 +1,232 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.transforms.*;
+
+/**
+ * Representative beans used as the input of the marshalling benchmarks.
+ *
+ * <p>
+ * All beans are {@link Serializable} so that they can also be marshalled through {@link Format#JSO}.
+ */
+public class Beans {
+
+	/**
+	 * Bean with a mix of simple property types accessed through getters and setters.
+	 */
+	@Bean(sort=true)
+	public static class FlatBean implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private int id;
+		private long timestamp;
+		private double score;
+		private boolean active;
+		private String name, description;
+
+		/**
+		 * Creates a populated instance.
+		 *
+		 * @param i A seed value used to vary the property values.
+		 * @return A new instance.
+		 */
+		public static FlatBean create(int i) {
+			FlatBean x = new FlatBean();
+			x.id = i;
+			x.timestamp = 1_600_000_000_000L + i;
+			x.score = i * 1.5;
+			x.active = i % 2 == 0;
+			x.name = "name-" + i;
+			x.description = "A somewhat longer description string for item #" + i + " with \"quotes\" & <markup>.";
+			return x;
+		}
+
+		public int getId() { return id; }
+		public void setId(int id) { this.id = id; }
+		public long getTimestamp() { return timestamp; }
+		public void setTimestamp(long timestamp) { this.timestamp = timestamp; }
+		public double getScore() { return score; }
+		public void setScore(double score) { this.score = score; }
+		public boolean isActive() { return active; }
+		public void setActive(boolean active) { this.active = active; }
+		public String getName() { return name; }
+		public void setName(String name) { this.name = name; }
+		public String getDescription() { return description; }
+		public void setDescription(String description) { this.description = description; }
+	}
+
+	/**
+	 * Top-level list of flat beans, the only shape supported by tabular formats.
+	 */
+	public static class FlatBeanList extends ArrayList<FlatBean> {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Creates a populated instance.
+		 *
+		 * @param size The number of entries in the list.
+		 * @return A new instance.
+		 */
+		public static FlatBeanList create(int size) {
+			FlatBeanList x = new FlatBeanList();
+			for (int i = 0; i < size; i++)
+				x.add(FlatBean.create(i));
+			return x;
+		}
+	}
+
+	/**
+	 * Recursive bean producing a deeply-nested object graph.
+	 */
+	@Bean(sort=true)
+	public static class DeepBean implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		public int level;
+		public String label;
+		public List<String> tags;
+		public DeepBean child;
+
+		/**
+		 * Creates a chain of nested beans.
+		 *
+		 * @param depth The number of nested levels.
+		 * @return A new instance.
+		 */
+		public static DeepBean create(int depth) {
+			DeepBean x = new DeepBean();
+			x.level = depth;
+			x.label = "level-" + depth;
+			x.tags = Arrays.asList("a" + depth, "b" + depth, "c" + depth);
+			if (depth > 1)
+				x.child = create(depth-1);
+			return x;
+		}
+	}
+
+	/**
+	 * Bean containing a large list of beans.
+	 */
+	@Bean(sort=true)
+	public static class ListBean implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		public List<FlatBean> items;
+
+		/**
+		 * Creates a populated instance.
+		 *
+		 * @param size The number of entries in the list.
+		 * @return A new instance.
+		 */
+		public static ListBean create(int size) {
+			ListBean x = new ListBean();
+			x.items = new ArrayList<>(size);
+			for (int i = 0; i < size; i++)
+				x.items.add(FlatBean.create(i));
+			return x;
+		}
+	}
+
+	/**
+	 * Bean containing maps of simple values and of beans.
+	 */
+	@Bean(sort=true)
+	public static class MapBean implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		public Map<String,Integer> counts;
+		public Map<String,FlatBean> beans;
+
+		/**
+		 * Creates a populated instance.
+		 *
+		 * @param size The number of entries in each map.
+		 * @return A new instance.
+		 */
+		public static MapBean create(int size) {
+			MapBean x = new MapBean();
+			x.counts = new TreeMap<>();
+			x.beans = new TreeMap<>();
+			for (int i = 0; i < size; i++) {
+				x.counts.put("key" + i, i);
+				x.beans.put("bean" + i, FlatBean.create(i));
+			}
+			return x;
+		}
+	}
+
+	/**
+	 * Bean with date properties converted through swaps.
+	 */
+	@Bean(sort=true)
+	public static class DatesBean implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		@Swap(TemporalDateSwap.IsoInstant.class)
+		public Date created;
+
+		@Swap(TemporalCalendarSwap.IsoLocalDateTime.class)
+		public Calendar modified;
+
+		public List<DateEntry> history;
+
+		/**
+		 * Creates a populated instance.
+		 *
+		 * @param size The number of entries in the history list.
+		 * @return A new instance.
+		 */
+		public static DatesBean create(int size) {
+			DatesBean x = new DatesBean();
+			x.created = new Date(1_600_000_000_000L);
+			x.modified = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+			x.modified.setTimeInMillis(1_600_000_000_000L);
+			x.history = new ArrayList<>(size);
+			for (int i = 0; i < size; i++)
+				x.history.add(DateEntry.create(i));
+			return x;
+		}
+	}
+
+	/**
+	 * Entry in {@link DatesBean#history}.
+	 */
+	@Bean(sort=true)
+	public static class DateEntry implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		@Swap(TemporalDateSwap.IsoInstant.class)
+		public Date time;
+
+		public String event;
+
+		/**
+		 * Creates a populated instance.
+		 *
+		 * @param i A seed value used to vary the property values.
+		 * @return A new instance.
+		 */
+		public static DateEntry create(int i) {
+			DateEntry x = new DateEntry();
+			x.time = new Date(1_600_000_000_000L + i * 86_400_000L);
+			x.event = "event-" + i;
+			return x;
+		}
+	}
+}
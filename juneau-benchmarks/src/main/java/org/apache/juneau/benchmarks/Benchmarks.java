@@ -0,0 +1,50 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Entry point for <c>target/benchmarks.jar</c>.
+ *
+ * <p>
+ * Identical to <c>org.openjdk.jmh.Main</c> except that the {@link GCProfiler} is always enabled so that every run reports
+ * bytes allocated per operation (<c>gc.alloc.rate.norm</c>) alongside ops/s.
+ */
+public class Benchmarks {
+
+	/**
+	 * Runs the benchmarks.
+	 *
+	 * @param args Standard JMH command-line arguments.
+	 * @throws Exception If the benchmarks could not be run.
+	 */
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cmd = new CommandLineOptions(args);
+		if (cmd.shouldHelp()) {
+			cmd.showHelp();
+			return;
+		}
+		if (cmd.shouldList()) {
+			new Runner(cmd).list();
+			return;
+		}
+		OptionsBuilder o = new OptionsBuilder();
+		o.parent(cmd);
+		if (! cmd.getProfilers().stream().anyMatch(x -> x.getKlass().equals(GCProfiler.class.getName()) || x.getKlass().equals("gc")))
+			o.addProfiler(GCProfiler.class);
+		new Runner(o.build()).run();
+	}
+}
@@ -0,0 +1,138 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import org.apache.juneau.cbor.*;
+import org.apache.juneau.compact.*;
+import org.apache.juneau.csv.*;
+import org.apache.juneau.html.*;
+import org.apache.juneau.jena.*;
+import org.apache.juneau.jso.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.oapi.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+
+/**
+ * The serializer/parser pairs exercised by the benchmarks.
+ *
+ * <p>
+ * Formats that cannot represent every {@link Model} override {@link #supports(Model)}.
+ */
+public enum Format {
+
+	/** {@link JsonSerializer} / {@link JsonParser} */
+	JSON(JsonSerializer.DEFAULT, JsonParser.DEFAULT),
+
+	/** {@link SimpleJsonSerializer} / {@link SimpleJsonParser} */
+	SIMPLE_JSON(SimpleJsonSerializer.DEFAULT, SimpleJsonParser.DEFAULT),
+
+	/** {@link XmlSerializer} / {@link XmlParser} */
+	XML(XmlSerializer.DEFAULT, XmlParser.DEFAULT),
+
+	/** {@link HtmlSerializer} / {@link HtmlParser} */
+	HTML(HtmlSerializer.DEFAULT, HtmlParser.DEFAULT),
+
+	/** {@link UonSerializer} / {@link UonParser} */
+	UON(UonSerializer.DEFAULT, UonParser.DEFAULT),
+
+	/** {@link UrlEncodingSerializer} / {@link UrlEncodingParser} */
+	URL_ENCODING(UrlEncodingSerializer.DEFAULT, UrlEncodingParser.DEFAULT),
+
+	/** {@link MsgPackSerializer} / {@link MsgPackParser} */
+	MSGPACK(MsgPackSerializer.DEFAULT, MsgPackParser.DEFAULT),
+
+	/** {@link JsoSerializer} / {@link JsoParser} */
+	JSO(JsoSerializer.DEFAULT, JsoParser.DEFAULT),
+
+	/**
+	 * {@link OpenApiSerializer} / {@link OpenApiParser}
+	 *
+	 * <p>
+	 * Nested beans are escaped once per level, so {@link Model#DEEP} is not supported.
+	 */
+	OPENAPI(OpenApiSerializer.DEFAULT, OpenApiParser.DEFAULT) {
+		@Override public boolean supports(Model model) { return model != Model.DEEP; }
+	},
+
+	/** {@link RdfXmlAbbrevSerializer} / {@link RdfXmlParser} */
+	RDF_XML(RdfXmlAbbrevSerializer.DEFAULT, RdfXmlParser.DEFAULT),
+
+	/** {@link TurtleSerializer} / {@link TurtleParser} */
+	TURTLE(TurtleSerializer.DEFAULT, TurtleParser.DEFAULT),
+
+	/** {@link N3Serializer} / {@link N3Parser} */
+	N3(N3Serializer.DEFAULT, N3Parser.DEFAULT),
+
+	/** {@link NTripleSerializer} / {@link NTripleParser} */
+	NTRIPLE(NTripleSerializer.DEFAULT, NTripleParser.DEFAULT),
+
+	/** {@link CborSerializer} / {@link CborParser} */
+	CBOR(CborSerializer.DEFAULT, CborParser.DEFAULT),
+
+	/** {@link CompactSerializer} / {@link CompactParser} */
+	COMPACT(CompactSerializer.DEFAULT, CompactParser.DEFAULT),
+
+	/** {@link NdJsonSerializer} / {@link NdJsonParser} */
+	NDJSON(NdJsonSerializer.DEFAULT, NdJsonParser.DEFAULT),
+
+	/**
+	 * {@link CsvSerializer} / {@link CsvParser}
+	 *
+	 * <p>
+	 * Only tables of flat beans can be represented, so only {@link Model#ROWS} is supported.
+	 */
+	CSV(CsvSerializer.DEFAULT, CsvParser.DEFAULT) {
+		@Override public boolean supports(Model model) { return model == Model.ROWS; }
+	};
+
+	final Serializer serializer;
+	final Parser parser;
+
+	private Format(Serializer serializer, Parser parser) {
+		this.serializer = serializer;
+		this.parser = parser;
+	}
+
+	/**
+	 * Returns the serializer for this format.
+	 *
+	 * @return The serializer for this format.
+	 */
+	public Serializer getSerializer() {
+		return serializer;
+	}
+
+	/**
+	 * Returns the parser for this format.
+	 *
+	 * @return The parser for this format.
+	 */
+	public Parser getParser() {
+		return parser;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this format can round-trip the specified model.
+	 *
+	 * @param model The model to check.
+	 * @return <jk>true</jk> if this format can round-trip the specified model.
+	 */
+	public boolean supports(Model model) {
+		return true;
+	}
+}
@@ -0,0 +1,106 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the throughput of serializing and parsing every {@link Model} through every {@link Format}.
+ *
+ * <p>
+ * Serialized output is either a {@link String} (for {@link WriterSerializer WriterSerializers}) or a <code><jk>byte</jk>[]</code>
+ * (for {@link OutputStreamSerializer OutputStreamSerializers}), and is fed as-is to the matching parser.
+ *
+ * <p>
+ * Combinations rejected by {@link Format#supports(Model)} fail during setup.
+ * Use <c>-p format=...</c> and <c>-p model=...</c> to restrict a run to supported combinations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class MarshallBenchmark {
+
+	// Used to compare the original and round-tripped models independently of map ordering and blank node IDs.
+	private static final WriterSerializer COMPARATOR = SimpleJsonSerializer.create().sortMaps().build();
+
+	/** The serializer/parser pair to measure. */
+	@Param
+	public Format format;
+
+	/** The object graph to marshall. */
+	@Param
+	public Model model;
+
+	private Serializer serializer;
+	private Parser parser;
+	private Object pojo, serialized;
+
+	/**
+	 * Creates the model and its serialized form, and verifies that the pair round-trips the model.
+	 *
+	 * @throws Exception If the model could not be round-tripped.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		if (! format.supports(model))
+			throw new IllegalStateException("Model " + model + " is not supported by format " + format);
+		serializer = format.getSerializer();
+		parser = format.getParser();
+		pojo = model.create();
+		serialized = serializer.serialize(pojo);
+		Object parsed = parser.parse(serialized, model.type);
+		if (! COMPARATOR.serialize(parsed).equals(COMPARATOR.serialize(pojo)))
+			throw new IllegalStateException("Model " + model + " does not round-trip through format " + format);
+	}
+
+	/**
+	 * Serializes the model.
+	 *
+	 * @return The serialized output.
+	 * @throws SerializeException Serialization failed.
+	 */
+	@Benchmark
+	public Object serialize() throws SerializeException {
+		return serializer.serialize(pojo);
+	}
+
+	/**
+	 * Parses the serialized form of the model.
+	 *
+	 * @return The parsed object.
+	 * @throws Exception Parsing failed.
+	 */
+	@Benchmark
+	public Object parse() throws Exception {
+		return parser.parse(serialized, model.type);
+	}
+
+	/**
+	 * Serializes the model and parses the result.
+	 *
+	 * @return The parsed object.
+	 * @throws Exception Serialization or parsing failed.
+	 */
+	@Benchmark
+	public Object roundTrip() throws Exception {
+		return parser.parse(serializer.serialize(pojo), model.type);
+	}
+}
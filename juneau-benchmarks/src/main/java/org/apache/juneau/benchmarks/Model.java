@@ -0,0 +1,66 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.lang.reflect.*;
+
+import org.apache.juneau.benchmarks.Beans.*;
+
+/**
+ * The object graphs round-tripped by the benchmarks.
+ */
+public enum Model {
+
+	/** A single bean with simple properties. */
+	FLAT(FlatBean.class) {
+		@Override Object create() { return FlatBean.create(1); }
+	},
+
+	/** A top-level list of flat beans. */
+	ROWS(FlatBeanList.class) {
+		@Override Object create() { return FlatBeanList.create(1000); }
+	},
+
+	/** A chain of nested beans. */
+	DEEP(DeepBean.class) {
+		@Override Object create() { return DeepBean.create(20); }
+	},
+
+	/** A bean holding a large list of beans. */
+	LIST(ListBean.class) {
+		@Override Object create() { return ListBean.create(1000); }
+	},
+
+	/** A bean holding maps of simple values and beans. */
+	MAP(MapBean.class) {
+		@Override Object create() { return MapBean.create(100); }
+	},
+
+	/** A bean with swapped date properties. */
+	DATES(DatesBean.class) {
+		@Override Object create() { return DatesBean.create(100); }
+	};
+
+	final Type type;
+
+	private Model(Type type) {
+		this.type = type;
+	}
+
+	/**
+	 * Creates a new instance of this model.
+	 *
+	 * @return A new instance of this model.
+	 */
+	abstract Object create();
+}
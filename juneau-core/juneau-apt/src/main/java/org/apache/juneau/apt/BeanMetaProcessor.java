@@ -0,0 +1,746 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.apt;
+
+import static javax.lang.model.element.Modifier.*;
+
+import java.beans.*;
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import javax.annotation.processing.*;
+import javax.lang.model.*;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.*;
+import javax.tools.*;
+
+/**
+ * Annotation processor that precomputes bean property discovery at build time.
+ *
+ * <p>
+ * Analyzes classes annotated with <ja>@Bean</ja>, the parameter and return types of methods on classes annotated
+ * with <ja>@Rest</ja>, and recursively the property types of those beans.
+ * Only classes being compiled are included, so each jar describes its own classes.
+ * The fields and methods that the runtime would discover through reflection are written in discovery order to
+ * <c>META-INF/juneau/beans.idx</c> so that <c>BeanMeta</c> can look them up directly instead of scanning the class
+ * hierarchy.
+ * <br>Each entry also holds a signature of every class in the hierarchy of the bean, so that the runtime can detect
+ * classes that changed after the index was generated (e.g. recompiled without the processor, or a superclass from
+ * another jar that gained a field) and fall back to reflection.
+ *
+ * <p>
+ * Discovery is replicated using the default bean context settings (public fields and methods, the basic property
+ * namer, no fluent setters, transient fields ignored).
+ * The runtime only uses the generated metadata when a bean context is configured the same way, and falls back to
+ * reflection for anything not covered, so classes the processor can't fully analyze (e.g. <ja>@Beanp</ja>(<js>"*"</js>)
+ * methods) are simply left out.
+ *
+ * <p>
+ * For concrete, non-generic classes annotated with <ja>@Bean</ja> whose properties are accessible from their package,
+ * a <c>&lt;Bean&gt;_BeanCodec</c> subclass of <c>BeanCodec</c> is also generated in the same package.
+ * It reads and writes the properties with straight-line calls to the bean getters, setters and fields and looks up
+ * property names with a <jk>switch</jk>, so that serializers and parsers can skip bean maps and reflection.
+ * The runtime only uses a codec if the properties it was generated for match the bean properties it discovers.
+ *
+ * <p>
+ * To enable it, add <c>juneau-apt</c> to the compile classpath with <c>provided</c> scope or to the
+ * <c>annotationProcessorPaths</c> of the <c>maven-compiler-plugin</c>.
+ */
+public class BeanMetaProcessor extends AbstractProcessor {
+
+	/** Location of the generated metadata. */
+	public static final String INDEX = "META-INF/juneau/beans.idx";
+
+	private static final String
+		BEAN = "org.apache.juneau.annotation.Bean",
+		BEANP = "org.apache.juneau.annotation.Beanp",
+		BEANPS = "org.apache.juneau.annotation.BeanpAnnotation.Array",
+		BEAN_IGNORE = "org.apache.juneau.annotation.BeanIgnore",
+		BEAN_IGNORES = "org.apache.juneau.annotation.BeanIgnoreAnnotation.Array",
+		BEAN_CODEC = "org.apache.juneau.BeanCodec",
+		NAME = "org.apache.juneau.annotation.Name",
+		REST = "org.apache.juneau.rest.annotation.Rest",
+		TRANSIENT = "java.beans.Transient";
+
+	private final Map<String,List<String>> beans = new TreeMap<>();
+	private final Set<String> visited = new HashSet<>(), sources = new HashSet<>();
+	private final LinkedList<TypeElement> queue = new LinkedList<>();
+	private Elements elements;
+	private Types types;
+
+	@Override /* Processor */
+	public Set<String> getSupportedAnnotationTypes() {
+		return new HashSet<>(Arrays.asList(BEAN, REST));
+	}
+
+	@Override /* Processor */
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override /* Processor */
+	public synchronized void init(ProcessingEnvironment env) {
+		super.init(env);
+		elements = env.getElementUtils();
+		types = env.getTypeUtils();
+	}
+
+	@Override /* Processor */
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+		for (TypeElement te : ElementFilter.typesIn(env.getRootElements()))
+			addSource(te);
+
+		for (TypeElement a : annotations) {
+			String an = a.getQualifiedName().toString();
+			for (Element e : env.getElementsAnnotatedWith(a)) {
+				if (! (e instanceof TypeElement))
+					continue;
+				TypeElement te = (TypeElement)e;
+				if (an.equals(BEAN))
+					queue.add(te);
+				else
+					for (ExecutableElement m : ElementFilter.methodsIn(te.getEnclosedElements()))
+						if (m.getModifiers().contains(PUBLIC))
+							addMethodTypes(m);
+			}
+		}
+
+		while (! queue.isEmpty()) {
+			TypeElement te = queue.removeFirst();
+			if (! visited.add(binaryName(te)) || ! isCandidate(te))
+				continue;
+			List<Member> l = analyze(te);
+			if (l != null) {
+				List<String> lines = new ArrayList<>();
+				LinkedList<TypeElement> classes = new LinkedList<>();
+				findClasses(te, classes);
+				for (TypeElement c : classes)
+					if (! isJdk(c))
+						lines.add("V\t" + binaryName(c) + "\t" + signature(c));
+				for (Member m : l)
+					lines.add(m.line);
+				String codec = has(te, BEAN) ? generateCodec(te, l) : null;
+				if (codec != null)
+					lines.add("C\t" + codec);
+				beans.put(binaryName(te), lines);
+			}
+		}
+
+		if (env.processingOver() && ! beans.isEmpty())
+			write();
+
+		return false;
+	}
+
+	private void write() {
+		try {
+			FileObject fo = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+			try (Writer w = new OutputStreamWriter(fo.openOutputStream(), StandardCharsets.UTF_8)) {
+				w.write("# Generated by " + getClass().getName() + ".  Do not edit.\n");
+				for (Map.Entry<String,List<String>> e : beans.entrySet()) {
+					w.write("bean\t" + e.getKey() + "\n");
+					for (String s : e.getValue())
+						w.write(s + "\n");
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write " + INDEX + ": " + e.getLocalizedMessage());
+		}
+	}
+
+	/*
+	 * Generates the BeanCodec subclass for a bean and returns its binary name.
+	 * Mirrors how BeanMeta merges the discovered members into properties.
+	 * Returns null if the bean has properties the generated code can't access directly.
+	 */
+	private String generateCodec(TypeElement bean, List<Member> members) {
+		PackageElement pkg = elements.getPackageOf(bean);
+		if (! isCodecCandidate(bean, pkg))
+			return null;
+
+		Map<String,Property> props = new LinkedHashMap<>();
+		for (Member m : members)
+			if (m.type == 'F')
+				props.computeIfAbsent(fieldPropertyName((VariableElement)m.element), Property::new).field = (VariableElement)m.element;
+		for (Member m : members) {
+			if (m.type == 'F')
+				continue;
+			Property p = props.computeIfAbsent(m.name, Property::new);
+			if (m.type == 'G') {
+				ExecutableElement g = (ExecutableElement)m.element;
+				if (p.getter != null) {
+					if (! has(g, BEANP) && has(p.getter, BEANP))
+						g = p.getter;
+					else if (g.getSimpleName().toString().startsWith("is") && p.getter.getSimpleName().toString().startsWith("get"))
+						g = p.getter;
+				}
+				p.getter = g;
+			}
+		}
+		for (Member m : members) {
+			if (m.type == 'S') {
+				Property p = props.get(m.name);
+				ExecutableElement s = (ExecutableElement)m.element;
+				if (matchesPropertyType(s, p))
+					p.setter = s;
+			}
+		}
+
+		String beanType = sourceName(bean.asType());
+		StringBuilder names = new StringBuilder(), typeList = new StringBuilder(), getters = new StringBuilder(), setters = new StringBuilder();
+		StringBuilder write = new StringBuilder(), indexOf = new StringBuilder(), read = new StringBuilder();
+		int i = 0;
+		for (Property p : props.values()) {
+			Element r = p.getter != null ? p.getter : p.field;
+			if (r == null || ! isAccessible(r, pkg))
+				return null;
+			TypeMirror t = p.getter != null ? p.getter.getReturnType() : p.field.asType();
+			if (t.getKind() == TypeKind.TYPEVAR || (t.getKind() == TypeKind.ARRAY && ((ArrayType)t).getComponentType().getKind() == TypeKind.TYPEVAR))
+				return null;
+			t = types.erasure(t);
+			if (! isAccessible(t, pkg))
+				return null;
+			String tn = sourceName(t), kind = simpleKind(t);
+
+			String get = p.getter != null ? "$b." + p.getter.getSimpleName() + "()" : "$b." + p.field.getSimpleName();
+			String set = null, setCode = null;
+			if (! (isSubtype(t, "java.util.Map") || isSubtype(t, "java.util.Collection"))) {
+				if (p.setter != null) {
+					VariableElement pt = p.setter.getParameters().get(0);
+					if (isAccessible(p.setter, pkg) && types.isSameType(types.erasure(pt.asType()), t)) {
+						set = p.setter.getSimpleName() + "(" + className(pt.asType()) + ")";
+						setCode = "try { $b." + p.setter.getSimpleName() + "($v); } catch (java.lang.Exception $e) { throw new java.lang.reflect.InvocationTargetException($e); }";
+					}
+				} else if (p.field != null && ! p.field.getModifiers().contains(FINAL) && isAccessible(p.field, pkg) && types.isSameType(types.erasure(p.field.asType()), t)) {
+					set = p.field.getSimpleName().toString();
+					setCode = "$b." + p.field.getSimpleName() + " = $v;";
+				}
+			}
+
+			String sep = i == 0 ? "" : ", ";
+			names.append(sep).append(quote(p.name));
+			typeList.append(sep).append(tn).append(".class");
+			getters.append(sep).append(quote(p.getter != null ? p.getter.getSimpleName() + "()" : p.field.getSimpleName().toString()));
+			setters.append(sep).append(set == null ? "null" : quote(set));
+
+			write.append("\t\t$w.write").append(kind).append('(').append(i).append(", ").append(get).append(");\n");
+			indexOf.append("\t\t\tcase ").append(quote(p.name)).append(": return ").append(i).append(";\n");
+			if (setCode != null) {
+				String value = kind.equals("Object") ? "(" + castName(t) + ")$r.readObject(" + i + ")" : "$r.read" + kind + "(" + i + ")";
+				read.append("\t\t\tcase ").append(i).append(": {\n")
+					.append("\t\t\t\t").append(tn).append(" $v = ").append(value).append(";\n")
+					.append("\t\t\t\t").append(setCode).append("\n")
+					.append("\t\t\t\treturn true;\n")
+					.append("\t\t\t}\n");
+			}
+			i++;
+		}
+		if (i == 0)
+			return null;
+
+		String simpleName = binaryName(bean).substring(pkg.isUnnamed() ? 0 : pkg.getQualifiedName().length() + 1).replace('$', '_') + "_BeanCodec";
+		String name = (pkg.isUnnamed() ? "" : pkg.getQualifiedName() + ".") + simpleName;
+
+		StringBuilder sb = new StringBuilder()
+			.append("// Generated by ").append(getClass().getName()).append(".  Do not edit.\n");
+		if (! pkg.isUnnamed())
+			sb.append("package ").append(pkg.getQualifiedName()).append(";\n");
+		sb.append("\n")
+			.append("@java.lang.SuppressWarnings(\"all\")\n")
+			.append("public final class ").append(simpleName).append(" extends ").append(BEAN_CODEC).append('<').append(beanType).append("> {\n\n")
+			.append("\tpublic ").append(simpleName).append("() {\n")
+			.append("\t\tsuper(").append(beanType).append(".class,\n")
+			.append("\t\t\tnew java.lang.String[]{").append(names).append("},\n")
+			.append("\t\t\tnew java.lang.Class<?>[]{").append(typeList).append("},\n")
+			.append("\t\t\tnew java.lang.String[]{").append(getters).append("},\n")
+			.append("\t\t\tnew java.lang.String[]{").append(setters).append("});\n")
+			.append("\t}\n\n")
+			.append("\t@java.lang.Override\n")
+			.append("\tpublic void write(").append(beanType).append(" $b, ").append(BEAN_CODEC).append(".PropertyWriter $w) throws java.lang.Exception {\n")
+			.append(write)
+			.append("\t}\n\n")
+			.append("\t@java.lang.Override\n")
+			.append("\tpublic int indexOf(java.lang.String $name) {\n")
+			.append("\t\tswitch ($name) {\n")
+			.append(indexOf)
+			.append("\t\t\tdefault: return -1;\n")
+			.append("\t\t}\n")
+			.append("\t}\n\n")
+			.append("\t@java.lang.Override\n")
+			.append("\tpublic boolean read(").append(beanType).append(" $b, int $index, ").append(BEAN_CODEC).append(".PropertyReader $r) throws java.lang.Exception {\n")
+			.append("\t\tswitch ($index) {\n")
+			.append(read)
+			.append("\t\t\tdefault: return false;\n")
+			.append("\t\t}\n")
+			.append("\t}\n")
+			.append("}\n");
+
+		try {
+			JavaFileObject fo = processingEnv.getFiler().createSourceFile(name, bean);
+			try (Writer w = fo.openWriter()) {
+				w.write(sb.toString());
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Could not generate " + name + ": " + e.getLocalizedMessage(), bean);
+			return null;
+		}
+		return name;
+	}
+
+	/*
+	 * Codecs are only generated for concrete non-generic classes that can be referenced from their own package.
+	 * The @Bean annotation must not customize the properties, since the generated code follows the default discovery.
+	 */
+	private boolean isCodecCandidate(TypeElement bean, PackageElement pkg) {
+		if (bean.getKind() != ElementKind.CLASS || bean.getModifiers().contains(ABSTRACT) || ! bean.getTypeParameters().isEmpty())
+			return false;
+		NestingKind nk = bean.getNestingKind();
+		if (! (nk == NestingKind.TOP_LEVEL || (nk == NestingKind.MEMBER && bean.getModifiers().contains(STATIC))))
+			return false;
+		if (! isAccessible(bean, pkg) || elements.getTypeElement(BEAN_CODEC) == null)
+			return false;
+		for (ExecutableElement e : find(bean, BEAN).getElementValues().keySet()) {
+			String n = e.getSimpleName().toString();
+			if (! (n.equals("typeName") || n.equals("dictionary")))
+				return false;
+		}
+		return true;
+	}
+
+	/*
+	 * Same as BeanMeta.Builder.findPropertyName() with the basic property namer.
+	 */
+	private String fieldPropertyName(VariableElement f) {
+		AnnotationMirror n = find(f, NAME), bp = find(f, BEANP);
+		String name = null;
+		if (n != null) {
+			name = String.valueOf(value(n, "value"));
+		} else if (bp != null) {
+			String v = String.valueOf(value(bp, "value")), nm = String.valueOf(value(bp, "name"));
+			name = ! nm.isEmpty() ? nm : v;
+		}
+		return name != null && ! name.isEmpty() ? name : Introspector.decapitalize(f.getSimpleName().toString());
+	}
+
+	/*
+	 * Same as BeanMeta.BeanMethod.matchesPropertyType().
+	 */
+	private boolean matchesPropertyType(ExecutableElement setter, Property p) {
+		if (p == null)
+			return false;
+		TypeMirror pt = p.getter != null ? p.getter.getReturnType() : p.field != null ? p.field.asType() : null;
+		if (pt == null)
+			return true;
+		TypeMirror st = types.erasure(setter.getParameters().get(0).asType());
+		if (! types.isAssignable(types.erasure(pt), st))
+			return false;
+		if (p.setter == null)
+			return true;
+		TypeMirror st2 = types.erasure(p.setter.getParameters().get(0).asType());
+		return types.isSubtype(st, st2) && ! types.isSameType(st, st2);
+	}
+
+	/*
+	 * Returns the method of PropertyWriter/PropertyReader used for values of the specified type.
+	 */
+	private String simpleKind(TypeMirror t) {
+		switch (t.getKind()) {
+			case BOOLEAN: return "Boolean";
+			case INT: return "Int";
+			case LONG: return "Long";
+			case FLOAT: return "Float";
+			case DOUBLE: return "Double";
+			default: return isType(t, "java.lang.String") ? "String" : "Object";
+		}
+	}
+
+	/*
+	 * Returns the type to cast the value returned by PropertyReader.readObject() to.
+	 */
+	private String castName(TypeMirror t) {
+		return t.getKind().isPrimitive() ? sourceName(types.boxedClass((PrimitiveType)t).asType()) : sourceName(t);
+	}
+
+	/*
+	 * Returns the name of the erased type as written in source code.
+	 */
+	private String sourceName(TypeMirror t) {
+		t = types.erasure(t);
+		if (t.getKind().isPrimitive())
+			return t.getKind().name().toLowerCase(Locale.ENGLISH);
+		if (t.getKind() == TypeKind.ARRAY)
+			return sourceName(((ArrayType)t).getComponentType()) + "[]";
+		return ((TypeElement)types.asElement(t)).getQualifiedName().toString();
+	}
+
+	private boolean isAccessible(TypeMirror t, PackageElement pkg) {
+		if (t.getKind() == TypeKind.ARRAY)
+			return isAccessible(((ArrayType)t).getComponentType(), pkg);
+		if (t.getKind() == TypeKind.DECLARED)
+			return isAccessible(types.asElement(t), pkg);
+		return t.getKind().isPrimitive();
+	}
+
+	/*
+	 * Returns true if the element and all its enclosing classes can be referenced from the specified package.
+	 */
+	private boolean isAccessible(Element e, PackageElement pkg) {
+		for (; e != null && e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+			Set<Modifier> mods = e.getModifiers();
+			if (mods.contains(PRIVATE))
+				return false;
+			if (! mods.contains(PUBLIC) && ! elements.getPackageOf(e).equals(pkg))
+				return false;
+		}
+		return true;
+	}
+
+	private boolean isSubtype(TypeMirror t, String name) {
+		TypeElement te = elements.getTypeElement(name);
+		return t.getKind() == TypeKind.DECLARED && te != null && types.isSubtype(t, types.erasure(te.asType()));
+	}
+
+	private static String quote(String s) {
+		StringBuilder sb = new StringBuilder("\"");
+		for (char c : s.toCharArray()) {
+			if (c == '"' || c == '\\')
+				sb.append('\\').append(c);
+			else if (c < 0x20 || c == 0x7f)
+				sb.append(String.format("\\%03o", (int)c));  // Unicode escapes of line terminators would end the literal.
+			else if (c > 0x7f)
+				sb.append(String.format("\\u%04x", (int)c));
+			else
+				sb.append(c);
+		}
+		return sb.append('"').toString();
+	}
+
+	private void addSource(TypeElement te) {
+		sources.add(binaryName(te));
+		for (TypeElement te2 : ElementFilter.typesIn(te.getEnclosedElements()))
+			addSource(te2);
+	}
+
+	private void addMethodTypes(ExecutableElement m) {
+		addType(m.getReturnType());
+		for (VariableElement p : m.getParameters())
+			addType(p.asType());
+	}
+
+	private void addType(TypeMirror t) {
+		if (t.getKind() == TypeKind.ARRAY) {
+			addType(((ArrayType)t).getComponentType());
+		} else if (t.getKind() == TypeKind.DECLARED) {
+			DeclaredType dt = (DeclaredType)t;
+			TypeElement te = (TypeElement)dt.asElement();
+			if (sources.contains(binaryName(te)))
+				queue.add(te);
+			for (TypeMirror ta : dt.getTypeArguments())
+				addType(ta);
+		}
+	}
+
+	private boolean isCandidate(TypeElement te) {
+		ElementKind k = te.getKind();
+		if (k != ElementKind.CLASS && k != ElementKind.INTERFACE)
+			return false;
+		if (isJdk(te))
+			return false;
+		return ! (isSubtype(te, "java.util.Collection") || isSubtype(te, "java.util.Map"));
+	}
+
+	/*
+	 * Mirrors BeanMeta.findBeanFields() and BeanMeta.findBeanMethods() for the default bean context settings.
+	 * Returns null if the class uses something that can only be resolved at runtime.
+	 */
+	private List<Member> analyze(TypeElement bean) {
+		List<TypeElement> classes = new LinkedList<>();
+		findClasses(bean, (LinkedList<TypeElement>)classes);
+
+		List<Member> fields = new ArrayList<>(), methods = new ArrayList<>();
+
+		for (TypeElement c : classes) {
+			List<VariableElement> ff = ElementFilter.fieldsIn(c.getEnclosedElements());
+			List<ExecutableElement> mm = ElementFilter.methodsIn(c.getEnclosedElements());
+
+			if (isJdk(c)) {
+				// Members of JDK classes depend on the runtime JDK version.
+				for (VariableElement f : ff)
+					if (! f.getModifiers().contains(STATIC))
+						return null;
+				for (ExecutableElement m : mm)
+					if (! m.getModifiers().contains(STATIC))
+						return null;
+				continue;
+			}
+
+			ff = new ArrayList<>(ff);
+			ff.sort((x,y) -> x.getSimpleName().toString().compareTo(y.getSimpleName().toString()));
+			for (VariableElement f : ff) {
+				Set<Modifier> mods = f.getModifiers();
+				if (mods.contains(STATIC) || mods.contains(Modifier.TRANSIENT))
+					continue;
+				if (has(f, BEAN_IGNORE) || has(f, BEAN_IGNORES))
+					continue;
+				if (! (mods.contains(PUBLIC) || has(f, BEANP) || has(f, BEANPS)))
+					continue;
+				fields.add(new Member('F', null, f, "F\t" + binaryName(c) + "\t" + f.getSimpleName()));
+				addType(f.asType());
+			}
+
+			mm = new ArrayList<>(mm);
+			mm.sort(this::compare);
+			for (ExecutableElement m : mm) {
+				Set<Modifier> mods = m.getModifiers();
+				if (mods.contains(STATIC))
+					continue;
+				List<? extends VariableElement> pt = m.getParameters();
+				if (pt.size() > 2)
+					continue;
+				if (has(m, BEAN_IGNORE) || has(m, BEAN_IGNORES))
+					continue;
+				AnnotationMirror t = find(m, TRANSIENT);
+				if (t != null && ! "false".equals(String.valueOf(value(t, "value"))))
+					continue;
+				if (has(m, BEANPS))
+					return null;
+				AnnotationMirror bp = find(m, BEANP);
+				if (! (mods.contains(PUBLIC) || bp != null))
+					continue;
+
+				String n = m.getSimpleName().toString();
+				TypeMirror rt = types.erasure(m.getReturnType());
+				char methodType = 0;
+
+				String bpName = null;
+				if (bp != null) {
+					bpName = "";
+					String v = String.valueOf(value(bp, "value")), nm = String.valueOf(value(bp, "name"));
+					if (! v.isEmpty())
+						bpName = v;
+					if (! nm.isEmpty())
+						bpName = nm;
+				}
+				if ("*".equals(bpName))
+					return null;
+
+				if (pt.size() == 0) {
+					if (n.startsWith("get") && rt.getKind() != TypeKind.VOID) {
+						methodType = 'G';
+						n = n.substring(3);
+					} else if (n.startsWith("is") && (rt.getKind() == TypeKind.BOOLEAN || isType(rt, "java.lang.Boolean"))) {
+						methodType = 'G';
+						n = n.substring(2);
+					} else if (bpName != null) {
+						methodType = 'G';
+						if (bpName.isEmpty()) {
+							if (n.startsWith("get"))
+								n = n.substring(3);
+							else if (n.startsWith("is"))
+								n = n.substring(2);
+							bpName = n;
+						} else {
+							n = bpName;
+						}
+					}
+				} else if (pt.size() == 1) {
+					if (n.startsWith("set") && (isParentOf(rt, bean) || rt.getKind() == TypeKind.VOID)) {
+						methodType = 'S';
+						n = n.substring(3);
+					} else if (n.startsWith("with") && isParentOf(rt, bean)) {
+						methodType = 'S';
+						n = n.substring(4);
+					} else if (bpName != null) {
+						methodType = 'S';
+						if (bpName.isEmpty()) {
+							if (n.startsWith("set"))
+								n = n.substring(3);
+							bpName = n;
+						} else {
+							n = bpName;
+						}
+					}
+				}
+				n = Introspector.decapitalize(n);
+
+				if (methodType != 0) {
+					if (bpName != null && ! bpName.isEmpty())
+						n = bpName;
+					if (! isValidName(n))
+						return null;
+					StringBuilder sb = new StringBuilder().append(methodType).append('\t').append(n).append('\t').append(binaryName(c)).append('\t').append(m.getSimpleName());
+					for (VariableElement p : pt)
+						sb.append('\t').append(className(p.asType()));
+					methods.add(new Member(methodType, n, m, sb.toString()));
+					addType(methodType == 'G' ? m.getReturnType() : pt.get(0).asType());
+				}
+			}
+		}
+
+		fields.addAll(methods);
+		return fields;
+	}
+
+	/*
+	 * Same ordering as BeanMeta.findClasses().
+	 */
+	private void findClasses(TypeElement c, LinkedList<TypeElement> l) {
+		while (c != null && ! c.getQualifiedName().contentEquals("java.lang.Object")) {
+			l.addFirst(c);
+			for (TypeMirror i : c.getInterfaces())
+				findClasses((TypeElement)types.asElement(i), l);
+			TypeMirror s = c.getSuperclass();
+			c = s.getKind() == TypeKind.DECLARED ? (TypeElement)types.asElement(s) : null;
+		}
+	}
+
+	/*
+	 * Same as BeanMetaIndex.signature().
+	 * Hashes the supertypes and the names of the declared fields and methods of a class.
+	 */
+	private String signature(TypeElement c) {
+		List<String> l = new ArrayList<>();
+		if (c.getSuperclass().getKind() == TypeKind.DECLARED)
+			l.add("S " + className(c.getSuperclass()));
+		for (TypeMirror i : c.getInterfaces())
+			l.add("I " + className(i));
+		for (VariableElement f : ElementFilter.fieldsIn(c.getEnclosedElements()))
+			l.add("F " + f.getSimpleName());
+		for (ExecutableElement m : ElementFilter.methodsIn(c.getEnclosedElements())) {
+			StringBuilder sb = new StringBuilder("M ").append(m.getSimpleName()).append('(');
+			for (VariableElement p : m.getParameters())
+				sb.append(className(p.asType())).append(',');
+			l.add(sb.append(')').toString());
+		}
+		Collections.sort(l);
+		return Integer.toHexString(String.join("\n", l).hashCode());
+	}
+
+	/*
+	 * Same ordering as MethodInfo.compareTo().
+	 */
+	private int compare(ExecutableElement m1, ExecutableElement m2) {
+		int i = m1.getSimpleName().toString().compareTo(m2.getSimpleName().toString());
+		if (i == 0) {
+			List<? extends VariableElement> p1 = m1.getParameters(), p2 = m2.getParameters();
+			i = p1.size() - p2.size();
+			for (int j = 0; j < p1.size() && i == 0; j++)
+				i = className(p1.get(j).asType()).compareTo(className(p2.get(j).asType()));
+		}
+		return i;
+	}
+
+	/*
+	 * Returns the name of the erased type as returned by Class.getName().
+	 */
+	private String className(TypeMirror t) {
+		t = types.erasure(t);
+		if (t.getKind().isPrimitive())
+			return t.getKind().name().toLowerCase(Locale.ENGLISH);
+		if (t.getKind() == TypeKind.ARRAY)
+			return "[" + descriptor(((ArrayType)t).getComponentType());
+		return binaryName((TypeElement)types.asElement(t));
+	}
+
+	private String descriptor(TypeMirror t) {
+		t = types.erasure(t);
+		switch (t.getKind()) {
+			case BOOLEAN: return "Z";
+			case BYTE: return "B";
+			case CHAR: return "C";
+			case SHORT: return "S";
+			case INT: return "I";
+			case LONG: return "J";
+			case FLOAT: return "F";
+			case DOUBLE: return "D";
+			case ARRAY: return "[" + descriptor(((ArrayType)t).getComponentType());
+			default: return "L" + binaryName((TypeElement)types.asElement(t)) + ";";
+		}
+	}
+
+	private String binaryName(TypeElement te) {
+		return elements.getBinaryName(te).toString();
+	}
+
+	private boolean isJdk(TypeElement te) {
+		String n = te.getQualifiedName().toString();
+		return n.startsWith("java.") || n.startsWith("javax.");
+	}
+
+	private boolean isSubtype(TypeElement te, String name) {
+		TypeElement t = elements.getTypeElement(name);
+		return t != null && types.isSubtype(types.erasure(te.asType()), types.erasure(t.asType()));
+	}
+
+	private boolean isType(TypeMirror t, String name) {
+		return t.getKind() == TypeKind.DECLARED && ((TypeElement)types.asElement(t)).getQualifiedName().contentEquals(name);
+	}
+
+	private boolean isParentOf(TypeMirror t, TypeElement c) {
+		return t.getKind() == TypeKind.DECLARED && types.isAssignable(types.erasure(c.asType()), t);
+	}
+
+	private static boolean isValidName(String n) {
+		return n != null && ! n.isEmpty() && n.indexOf('\t') == -1 && n.indexOf('\n') == -1 && n.indexOf('\r') == -1;
+	}
+
+	private static boolean has(Element e, String annotation) {
+		return find(e, annotation) != null;
+	}
+
+	private static AnnotationMirror find(Element e, String annotation) {
+		for (AnnotationMirror a : e.getAnnotationMirrors())
+			if (((TypeElement)a.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation))
+				return a;
+		return null;
+	}
+
+	private Object value(AnnotationMirror a, String name) {
+		for (Map.Entry<? extends ExecutableElement,? extends AnnotationValue> e : elements.getElementValuesWithDefaults(a).entrySet())
+			if (e.getKey().getSimpleName().contentEquals(name))
+				return e.getValue().getValue();
+		return null;
+	}
+
+	/*
+	 * A bean field or method, and its line in the index.
+	 */
+	private static final class Member {
+		final char type;
+		final String name;
+		final Element element;
+		final String line;
+
+		Member(char type, String name, Element element, String line) {
+			this.type = type;
+			this.name = name;
+			this.element = element;
+			this.line = line;
+		}
+	}
+
+	/*
+	 * Members of a bean property merged the same way as BeanPropertyMeta.Builder.
+	 */
+	private static final class Property {
+		final String name;
+		VariableElement field;
+		ExecutableElement getter, setter;
+
+		Property(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -20,7 +20,10 @@ import static org.apache.juneau.internal.IOUtils.*;
 import java.beans.*;
 import java.io.*;
 import java.lang.reflect.*;
+import java.math.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -405,6 +408,35 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	private final BeanSession beanSession;
 	private final List<ConfigEventListener> listeners = Collections.synchronizedList(new LinkedList<ConfigEventListener>());
 
+	// Incremented on every change so that values cached by interface proxies can be invalidated.
+	private final AtomicLong changeCount = new AtomicLong();
+
+	// Maps proxy interfaces to their getter/setter methods.
+	// Stored in a ClassValue so that interfaces loaded by other classloaders can still be unloaded.
+	private static final ClassValue<Map<Method,PropertyDescriptor>> PROXY_PROPERTIES = new ClassValue<Map<Method,PropertyDescriptor>>() {
+		@Override /* ClassValue */
+		protected Map<Method,PropertyDescriptor> computeValue(Class<?> c) {
+			Map<Method,PropertyDescriptor> m = new HashMap<>();
+			try {
+				for (PropertyDescriptor pd : Introspector.getBeanInfo(c, null).getPropertyDescriptors()) {
+					if (pd.getReadMethod() != null)
+						m.put(pd.getReadMethod(), pd);
+					if (pd.getWriteMethod() != null)
+						m.put(pd.getWriteMethod(), pd);
+				}
+			} catch (IntrospectionException e) {
+				throw new ConfigException(e, "Could not introspect interface ''{0}''", c.getName());
+			}
+			return Collections.unmodifiableMap(m);
+		}
+	};
+
+	// Getter values of these types are immutable and can be shared between calls.
+	private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+		String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+		Double.class, BigInteger.class, BigDecimal.class
+	));
+
 
 	/**
 	 * Instantiates a new clean-slate {@link ConfigBuilder} object.
@@ -590,6 +622,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		}
 
 		configMap.setEntry(sname, skey, s, null, null, null);
+		changed();
 		return this;
 	}
 
@@ -693,6 +726,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		}
 
 		configMap.setEntry(sname, skey, s, modifiers == null ? null : ConfigMod.asString(modifiers), comment, preLines);
+		changed();
 		return this;
 	}
 
@@ -708,6 +742,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		String sname = sname(key);
 		String skey = skey(key);
 		configMap.removeEntry(sname, skey);
+		changed();
 		return this;
 	}
 
@@ -731,6 +766,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 				}
 			}
 		}
+		changed();
 
 		return this;
 	}
@@ -1523,6 +1559,10 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 *
 	 * <ul class='notes'>
 	 * 	<li>Calls to setters when the configuration is read-only will cause {@link UnsupportedOperationException} to be thrown.
+	 * 	<li>Getter values of immutable types (strings, primitives and their wrappers, and enums) are parsed on first use
+	 * 		and cached until this configuration changes.  Values of other types are parsed on every call so that changes
+	 * 		made to a returned object are not seen by later calls.  Values containing variables are resolved and parsed
+	 * 		on every call.
 	 * </ul>
 	 *
 	 * @param section
@@ -1540,23 +1580,75 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		if (! c.isInterface())
 			throw new IllegalArgumentException("Class '"+c.getName()+"' passed to getSectionAsInterface() is not an interface.");
 
-		InvocationHandler h = new InvocationHandler() {
-
-			@Override
-			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-				BeanInfo bi = Introspector.getBeanInfo(c, null);
-				for (PropertyDescriptor pd : bi.getPropertyDescriptors()) {
-					Method rm = pd.getReadMethod(), wm = pd.getWriteMethod();
-					if (method.equals(rm))
-						return Config.this.getObject(section2 + '/' + pd.getName(), rm.getGenericReturnType());
-					if (method.equals(wm))
-						return Config.this.set(section2 + '/' + pd.getName(), args[0]);
-				}
+		return (T)Proxy.newProxyInstance(c.getClassLoader(), new Class[] { c }, new SectionInvocationHandler(section2, c));
+	}
+
+	/*
+	 * Invocation handler for proxies returned by getSectionAsInterface().
+	 *
+	 * The method-to-key mapping is computed once per interface, and immutable parsed getter values are cached until the
+	 * next change to this config (signaled through onConfigChange() or made through this object).
+	 * Mutable values are not cached since callers could modify them, and values containing variables are not cached since
+	 * variables can resolve differently on every call.
+	 */
+	private final class SectionInvocationHandler implements InvocationHandler {
+		private final Map<Method,String> keys = new HashMap<>();
+		private final Map<Method,Type> getters = new HashMap<>();
+		private volatile CachedValues values = new CachedValues(-1);
+
+		SectionInvocationHandler(String section, Class<?> c) {
+			for (Map.Entry<Method,PropertyDescriptor> e : PROXY_PROPERTIES.get(c).entrySet()) {
+				Method m = e.getKey();
+				keys.put(m, section + '/' + e.getValue().getName());
+				if (m.equals(e.getValue().getReadMethod()))
+					getters.put(m, m.getGenericReturnType());
+			}
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String key = keys.get(method);
+			if (key == null)
 				throw new UnsupportedOperationException("Unsupported interface method.  method='" + method + "'");
+			Type type = getters.get(method);
+			if (type == null)
+				return Config.this.set(key, args[0]);
+
+			long cc = changeCount.get();
+			CachedValues x = values;
+			if (x.changeCount != cc)
+				values = x = new CachedValues(cc);
+
+			Object o = x.get(method);
+			if (o == null) {
+				String s = get(key);
+				o = parse(s == null || varSession == null ? s : varSession.resolve(s), null, type);
+				if ((s == null || s.indexOf('$') == -1) && (o == null || o instanceof Enum || IMMUTABLE_TYPES.contains(o.getClass())))
+					x.put(method, o == null ? CachedValues.NULL : o);
 			}
-		};
+			return o == CachedValues.NULL ? null : o;
+		}
+	}
 
-		return (T)Proxy.newProxyInstance(c.getClassLoader(), new Class[] { c }, h);
+	/*
+	 * Parsed getter values of a proxy for a single change count.
+	 */
+	private static final class CachedValues {
+		static final Object NULL = new Object();
+		final long changeCount;
+		private final Map<Method,Object> values = new ConcurrentHashMap<>();
+
+		CachedValues(long changeCount) {
+			this.changeCount = changeCount;
+		}
+
+		Object get(Method m) {
+			return values.get(m);
+		}
+
+		void put(Method m, Object o) {
+			values.put(m, o);
+		}
 	}
 
 	/**
@@ -1613,6 +1705,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	public Config setSection(String name, List<String> preLines, Map<String,Object> contents) throws SerializeException {
 		checkWrite();
 		configMap.setSection(section(name), preLines);
+		changed();
 
 		if (contents != null)
 			for (Map.Entry<String,Object> e : contents.entrySet())
@@ -1631,6 +1724,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	public Config removeSection(String name) {
 		checkWrite();
 		configMap.removeSection(name);
+		changed();
 		return this;
 	}
 
@@ -1653,6 +1747,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	public Config setImport(String sectionName, String importName, List<String> preLines) {
 		checkWrite();
 		configMap.setImport(section(name), importName, preLines);
+		changed();
 		return this;
 	}
 
@@ -1672,6 +1767,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	public Config removeImport(String sectionName, String importName) {
 		checkWrite();
 		configMap.removeImport(sectionName, importName);
+		changed();
 		return this;
 	}
 
@@ -1765,6 +1861,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	public Config load(Reader contents, boolean synchronous) throws IOException, InterruptedException {
 		checkWrite();
 		configMap.load(read(contents), synchronous);
+		changed();
 		return this;
 	}
 
@@ -1781,6 +1878,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	public Config load(String contents, boolean synchronous) throws IOException, InterruptedException {
 		checkWrite();
 		configMap.load(contents, synchronous);
+		changed();
 		return this;
 	}
 
@@ -1793,6 +1891,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	public Config rollback() {
 		checkWrite();
 		configMap.rollback();
+		changed();
 		return this;
 	}
 
@@ -1845,6 +1944,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 
 	@Override /* ConfigEventListener */
 	public synchronized void onConfigChange(ConfigEvents events) {
+		changed();
 		for (ConfigEventListener l : listeners)
 			l.onConfigChange(events);
 	}
@@ -1984,6 +2084,10 @@ public final class Config extends Context implements ConfigEventListener, Writab
 			throw new UnsupportedOperationException("Cannot call this method on a read-only configuration.");
 	}
 
+	private void changed() {
+		changeCount.incrementAndGet();
+	}
+
 
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
@@ -52,8 +52,13 @@ public class ConfigMap implements ConfigStoreListener {
 	// Import statements in this config.
 	final List<Import> imports = new CopyOnWriteArrayList<>();
 
+	// Guards changes to the mutable structures above.
 	private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
+	// Immutable copy of the entries used by readers without locking.
+	// Replaced under the write lock every time the entries change.
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
 	/**
 	 * Constructor.
 	 *
@@ -74,6 +79,14 @@ public class ConfigMap implements ConfigStoreListener {
 	}
 
 	private ConfigMap load(String contents) throws IOException {
+		return load(contents, Collections.<ConfigEvent>emptyList());
+	}
+
+	/*
+	 * Parses the specified contents and reapplies the specified uncommitted changes on top of them.
+	 * Readers only ever see the final result since the snapshot is published once at the end.
+	 */
+	private ConfigMap load(String contents, List<ConfigEvent> pending) throws IOException {
 		if (contents == null)
 			contents = "";
 		this.contents = contents;
@@ -198,6 +211,9 @@ public class ConfigMap implements ConfigStoreListener {
 		 }
 
 		oentries.putAll(entries);
+		for (ConfigEvent ce : pending)
+			applyEntryChange(ce);
+		snapshot = new Snapshot(entries.values());
 		return this;
 	}
 
@@ -220,23 +236,17 @@ public class ConfigMap implements ConfigStoreListener {
 	public ConfigEntry getEntry(String section, String key) {
 		checkSectionName(section);
 		checkKeyName(key);
-		readLock();
-		try {
-			ConfigSection cs = entries.get(section);
-			ConfigEntry ce = cs == null ? null : cs.entries.get(key);
-
-			if (ce == null) {
-				for (Import i : imports) {
-					ce = i.getConfigMap().getEntry(section, key);
-					if (ce != null)
-						break;
-				}
-			}
+		ConfigEntry ce = snapshot.getEntry(section, key);
 
-			return ce;
-		} finally {
-			readUnlock();
+		if (ce == null) {
+			for (Import i : imports) {
+				ce = i.getConfigMap().getEntry(section, key);
+				if (ce != null)
+					break;
+			}
 		}
+
+		return ce;
 	}
 
 	/**
@@ -254,13 +264,8 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public List<String> getPreLines(String section) {
 		checkSectionName(section);
-		readLock();
-		try {
-			ConfigSection cs = entries.get(section);
-			return cs == null ? null : cs.preLines;
-		} finally {
-			readUnlock();
-		}
+		SectionSnapshot ss = snapshot.sections.get(section);
+		return ss == null ? null : ss.preLines;
 	}
 
 	/**
@@ -270,16 +275,15 @@ public class ConfigMap implements ConfigStoreListener {
 	 * 	An unmodifiable set of keys.
 	 */
 	public Set<String> getSections() {
-		Set<String> s = null;
-		if (imports.isEmpty()) {
-			s = entries.keySet();
-		} else {
+		Set<String> s = snapshot.sections.keySet();
+		if (! imports.isEmpty()) {
 			s = new LinkedHashSet<>();
 			for (Import ir : imports)
 				s.addAll(ir.getConfigMap().getSections());
-			s.addAll(entries.keySet());
+			s.addAll(snapshot.sections.keySet());
+			s = Collections.unmodifiableSet(s);
 		}
-		return Collections.unmodifiableSet(s);
+		return s;
 	}
 
 	/**
@@ -294,18 +298,17 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public Set<String> getKeys(String section) {
 		checkSectionName(section);
-		Set<String> s = null;
-		ConfigSection cs = entries.get(section);
-		if (imports.isEmpty()) {
-			s = cs == null ? Collections.<String>emptySet() : cs.entries.keySet();
-		} else {
+		SectionSnapshot ss = snapshot.sections.get(section);
+		Set<String> s = ss == null ? Collections.<String>emptySet() : ss.entries.keySet();
+		if (! imports.isEmpty()) {
 			s = new LinkedHashSet<>();
 			for (Import i : imports)
 				s.addAll(i.getConfigMap().getKeys(section));
-			if (cs != null)
-				s.addAll(cs.entries.keySet());
+			if (ss != null)
+				s.addAll(ss.entries.keySet());
+			s = Collections.unmodifiableSet(s);
 		}
-		return Collections.unmodifiableSet(s);
+		return s;
 	}
 
 	/**
@@ -322,7 +325,7 @@ public class ConfigMap implements ConfigStoreListener {
 		for (Import i : imports)
 			if (i.getConfigMap().hasSection(section))
 				return true;
-		return entries.get(section) != null;
+		return snapshot.sections.containsKey(section);
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -343,7 +346,7 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public ConfigMap setSection(String section, List<String> preLines) {
 		checkSectionName(section);
-		return applyChange(true, ConfigEvent.setSection(name, section, preLines));
+		return applyChange(ConfigEvent.setSection(name, section, preLines));
 	}
 
 	/**
@@ -375,7 +378,7 @@ public class ConfigMap implements ConfigStoreListener {
 		checkKeyName(key);
 		if (modifiers != null && ! MOD_CHARS.containsOnly(modifiers))
 			throw new ConfigException("Invalid modifiers: {0}", modifiers);
-		return applyChange(true, ConfigEvent.setEntry(name, section, key, value, modifiers, comment, preLines));
+		return applyChange(ConfigEvent.setEntry(name, section, key, value, modifiers, comment, preLines));
 	}
 
 
@@ -412,7 +415,7 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public ConfigMap removeSection(String section) {
 		checkSectionName(section);
-		return applyChange(true, ConfigEvent.removeSection(name, section));
+		return applyChange(ConfigEvent.removeSection(name, section));
 	}
 
 	/**
@@ -430,7 +433,7 @@ public class ConfigMap implements ConfigStoreListener {
 	public ConfigMap removeEntry(String section, String key) {
 		checkSectionName(section);
 		checkKeyName(key);
-		return applyChange(true, ConfigEvent.removeEntry(name, section, key));
+		return applyChange(ConfigEvent.removeEntry(name, section, key));
 	}
 
 	/**
@@ -449,50 +452,59 @@ public class ConfigMap implements ConfigStoreListener {
 		throw new UnsupportedOperationException();
 	}
 
-	private ConfigMap applyChange(boolean addToChangeList, ConfigEvent ce) {
+	private ConfigMap applyChange(ConfigEvent ce) {
 		if (ce == null)
 			return this;
 		writeLock();
 		try {
+			applyEntryChange(ce);
 			String section = ce.getSection();
-			ConfigSection cs = entries.get(section);
-			if (ce.getType() == SET_ENTRY) {
-				if (cs == null) {
-					cs = new ConfigSection(section);
-					entries.put(section, cs);
-				}
-				ConfigEntry oe = cs.entries.get(ce.getKey());
-				if (oe == null)
-					oe = ConfigEntry.NULL;
-				cs.addEntry(
-					ce.getKey(),
-					ce.getValue() == null ? oe.value : ce.getValue(),
-					ce.getModifiers() == null ? oe.modifiers : ce.getModifiers(),
-					ce.getComment() == null ? oe.comment : ce.getComment(),
-					ce.getPreLines() == null ? oe.preLines : ce.getPreLines()
-				);
-			} else if (ce.getType() == SET_SECTION) {
-				if (cs == null) {
-					cs = new ConfigSection(section);
-					entries.put(section, cs);
-				}
-				if (ce.getPreLines() != null)
-					cs.setPreLines(ce.getPreLines());
-			} else if (ce.getType() == REMOVE_ENTRY) {
-				if (cs != null)
-					cs.entries.remove(ce.getKey());
-			} else if (ce.getType() == REMOVE_SECTION) {
-				if (cs != null)
-					entries.remove(section);
-			}
-			if (addToChangeList)
-				changes.add(ce);
+			snapshot = snapshot.with(section, entries.get(section));
+			changes.add(ce);
 		} finally {
 			writeUnlock();
 		}
 		return this;
 	}
 
+	/*
+	 * Applies the specified change to the entries without publishing a new snapshot.
+	 * Must be called while holding the write lock.
+	 */
+	private void applyEntryChange(ConfigEvent ce) {
+		String section = ce.getSection();
+		ConfigSection cs = entries.get(section);
+		if (ce.getType() == SET_ENTRY) {
+			if (cs == null) {
+				cs = new ConfigSection(section);
+				entries.put(section, cs);
+			}
+			ConfigEntry oe = cs.entries.get(ce.getKey());
+			if (oe == null)
+				oe = ConfigEntry.NULL;
+			cs.addEntry(
+				ce.getKey(),
+				ce.getValue() == null ? oe.value : ce.getValue(),
+				ce.getModifiers() == null ? oe.modifiers : ce.getModifiers(),
+				ce.getComment() == null ? oe.comment : ce.getComment(),
+				ce.getPreLines() == null ? oe.preLines : ce.getPreLines()
+			);
+		} else if (ce.getType() == SET_SECTION) {
+			if (cs == null) {
+				cs = new ConfigSection(section);
+				entries.put(section, cs);
+			}
+			if (ce.getPreLines() != null)
+				cs.setPreLines(ce.getPreLines());
+		} else if (ce.getType() == REMOVE_ENTRY) {
+			if (cs != null)
+				cs.entries.remove(ce.getKey());
+		} else if (ce.getType() == REMOVE_SECTION) {
+			if (cs != null)
+				entries.remove(section);
+		}
+	}
+
 	/**
 	 * Overwrites the contents of the config file.
 	 *
@@ -581,9 +593,7 @@ public class ConfigMap implements ConfigStoreListener {
 	}
 
 	boolean hasEntry(String section, String key) {
-		ConfigSection cs = entries.get(section);
-		ConfigEntry ce = cs == null ? null : cs.entries.get(key);
-		return ce != null;
+		return snapshot.getEntry(section, key) != null;
 	}
 
 	/**
@@ -615,11 +625,9 @@ public class ConfigMap implements ConfigStoreListener {
 		try {
 			if (! StringUtils.isEquals(contents, newContents)) {
 				changes = findDiffs(newContents);
-				load(newContents);
 
 				// Reapply our changes on top of the modifications.
-				for (ConfigEvent ce : this.changes)
-					applyChange(false, ce);
+				load(newContents, this.changes);
 			}
 		} catch (IOException e) {
 			throw new RuntimeException(e);
@@ -653,18 +661,13 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public OMap asMap() {
 		OMap m = new OMap();
-		readLock();
-		try {
-			for (Import i : imports)
-				m.putAll(i.getConfigMap().asMap());
-			for (ConfigSection cs : entries.values()) {
-				Map<String,String> m2 = new LinkedHashMap<>();
-				for (ConfigEntry ce : cs.entries.values())
-					m2.put(ce.key, ce.value);
-				m.put(cs.name, m2);
-			}
-		} finally {
-			readUnlock();
+		for (Import i : imports)
+			m.putAll(i.getConfigMap().asMap());
+		for (Map.Entry<String,SectionSnapshot> e : snapshot.sections.entrySet()) {
+			Map<String,String> m2 = new LinkedHashMap<>();
+			for (ConfigEntry ce : e.getValue().entries.values())
+				m2.put(ce.key, ce.value);
+			m.put(e.getKey(), m2);
 		}
 		return m;
 	}
@@ -964,6 +967,58 @@ public class ConfigMap implements ConfigStoreListener {
 	}
 
 
+	//---------------------------------------------------------------------------------------------
+	// Snapshot
+	//---------------------------------------------------------------------------------------------
+
+	/*
+	 * Immutable copy of the sections and entries of this map.
+	 */
+	static final class Snapshot {
+
+		static final Snapshot EMPTY = new Snapshot(Collections.<String,SectionSnapshot>emptyMap());
+
+		final Map<String,SectionSnapshot> sections;
+
+		Snapshot(Collection<ConfigSection> sections) {
+			Map<String,SectionSnapshot> m = new LinkedHashMap<>();
+			for (ConfigSection cs : sections)
+				m.put(cs.name, new SectionSnapshot(cs));
+			this.sections = Collections.unmodifiableMap(m);
+		}
+
+		private Snapshot(Map<String,SectionSnapshot> sections) {
+			this.sections = sections;
+		}
+
+		// Returns a copy of this snapshot with the specified section replaced, added, or removed if null.
+		// Only the changed section is copied.
+		Snapshot with(String name, ConfigSection cs) {
+			Map<String,SectionSnapshot> m = new LinkedHashMap<>(sections);
+			if (cs == null)
+				m.remove(name);
+			else
+				m.put(name, new SectionSnapshot(cs));
+			return new Snapshot(Collections.unmodifiableMap(m));
+		}
+
+		ConfigEntry getEntry(String section, String key) {
+			SectionSnapshot ss = sections.get(section);
+			return ss == null ? null : ss.entries.get(key);
+		}
+	}
+
+	static final class SectionSnapshot {
+		final Map<String,ConfigEntry> entries;
+		final List<String> preLines;
+
+		SectionSnapshot(ConfigSection cs) {
+			this.entries = Collections.unmodifiableMap(new LinkedHashMap<>(cs.entries));
+			this.preLines = Collections.unmodifiableList(new ArrayList<>(cs.preLines));
+		}
+	}
+
+
 	//---------------------------------------------------------------------------------------------
 	// Import
 	//---------------------------------------------------------------------------------------------
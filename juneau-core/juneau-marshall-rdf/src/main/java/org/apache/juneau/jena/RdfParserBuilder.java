@@ -1195,6 +1195,12 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public RdfParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public RdfParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
@@ -1311,6 +1311,12 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public RdfSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public RdfSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -1347,6 +1353,12 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public RdfSerializerBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public RdfSerializerBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -1359,6 +1371,12 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public RdfSerializerBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public RdfSerializerBuilder sortCollections() {
 		super.sortCollections();
@@ -239,7 +239,7 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 			}
 
 		} else if (sType.isBean()) {
-			BeanMap bm = toBeanMap(o);
+			BeanMap bm = acquireBeanMap(o);
 			Object uri = null;
 			RdfBeanMeta rbm = getRdfBeanMeta(bm.getMeta());
 			if (rbm.hasBeanUri())
@@ -247,6 +247,7 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 			String uri2 = getUri(uri, null);
 			n = m.createResource(uri2);
 			serializeBeanMap(bm, (Resource)n, typeName);
+			returnBeanMap(bm);
 
 		} else if (sType.isCollectionOrArray() || (wType != null && wType.isCollection())) {
 
@@ -314,11 +315,10 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 	}
 
 	private void serializeBeanMap(BeanMap<?> m, Resource r, String typeName) throws IOException, SerializeException {
-		List<BeanPropertyValue> l = m.getValues(isKeepNullProperties(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null);
-		Collections.reverse(l);
-		for (BeanPropertyValue bpv : l) {
+		BeanPropertyValues l = m.readValues(isKeepNullProperties(), typeName);
+		for (int i = l.size() - 1; i >= 0; i--) {
 
-			BeanPropertyMeta bpMeta = bpv.getMeta();
+			BeanPropertyMeta bpMeta = l.getMeta(i);
 			ClassMeta<?> cMeta = bpMeta.getClassMeta();
 			RdfBeanPropertyMeta bpRdf = getRdfBeanPropertyMeta(bpMeta);
 			XmlBeanPropertyMeta bpXml = getXmlBeanPropertyMeta(bpMeta);
@@ -326,9 +326,9 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 			if (bpRdf.isBeanUri())
 				continue;
 
-			String key = bpv.getName();
-			Object value = bpv.getValue();
-			Throwable t = bpv.getThrown();
+			String key = l.getName(i);
+			Object value = l.getValue(i);
+			Throwable t = l.getThrown(i);
 			if (t != null)
 				onBeanGetterException(bpMeta, t);
 
@@ -0,0 +1,371 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Reads and writes the properties of a bean through code generated at build time by the <c>juneau-apt</c> annotation
+ * processor.
+ *
+ * <p>
+ * The processor generates a subclass of this class for every concrete class annotated with {@link org.apache.juneau.annotation.Bean @Bean}
+ * whose properties can be accessed directly from generated code.
+ * The generated code calls the getters, setters and fields of the bean with straight-line code and dispatches
+ * property names through a <jk>switch</jk>, so serializers and parsers can skip {@link BeanMap},
+ * {@link BeanPropertyMeta} lookups and reflection for these beans.
+ *
+ * <p>
+ * A codec is only attached to a {@link BeanMeta} if the properties it was generated for match the properties
+ * discovered at runtime exactly (same names, order, types and accessors, and no swaps, interceptors or other
+ * customizations that the generated code would bypass).
+ * Serializers and parsers fall back to the regular {@link BeanMap} path whenever {@link BeanMeta#getCodec()} returns
+ * <jk>null</jk>.
+ *
+ * <p>
+ * Properties are identified by their index in the bean property order.
+ *
+ * @param <T> The bean type.
+ */
+public abstract class BeanCodec<T> {
+
+	private static final Map<Class<?>,Class<?>> WRAPPERS = new HashMap<>();
+	static {
+		WRAPPERS.put(boolean.class, Boolean.class);
+		WRAPPERS.put(int.class, Integer.class);
+		WRAPPERS.put(long.class, Long.class);
+		WRAPPERS.put(float.class, Float.class);
+		WRAPPERS.put(double.class, Double.class);
+		WRAPPERS.put(String.class, String.class);
+	}
+
+	private final Class<T> beanClass;
+	private final String[] names, getters, setters;
+	private final Class<?>[] types;
+	private BeanPropertyMeta[] properties;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param beanClass The bean class.
+	 * @param names The property names in bean property order.
+	 * @param types The property types.
+	 * @param getters
+	 * 	The members used to read each property.
+	 * 	<br>Methods are identified by <js>"name()"</js>, fields by their name.
+	 * @param setters
+	 * 	The members used to write each property, or <jk>null</jk> entries for properties that are set through the
+	 * 	regular {@link BeanMap} path.
+	 * 	<br>Methods are identified by <js>"name(parameterClassName)"</js>, fields by their name.
+	 */
+	protected BeanCodec(Class<T> beanClass, String[] names, Class<?>[] types, String[] getters, String[] setters) {
+		this.beanClass = beanClass;
+		this.names = names;
+		this.types = types;
+		this.getters = getters;
+		this.setters = setters;
+	}
+
+	/**
+	 * Writes all the properties of the specified bean in bean property order.
+	 *
+	 * @param bean The bean being serialized.
+	 * @param w The property writer.
+	 * @throws Exception Thrown by the bean getters or the property writer.
+	 */
+	public abstract void write(T bean, PropertyWriter w) throws Exception;
+
+	/**
+	 * Returns the index of the specified property.
+	 *
+	 * @param name The property name.
+	 * @return The index of the property, or <c>-1</c> if the bean doesn't have a property with that name.
+	 */
+	public abstract int indexOf(String name);
+
+	/**
+	 * Reads a property value and sets it on the specified bean.
+	 *
+	 * <p>
+	 * Exceptions thrown by bean setters are wrapped in {@link InvocationTargetException}.
+	 *
+	 * @param bean The bean being parsed.
+	 * @param index The property index.
+	 * @param r The property reader.
+	 * @return
+	 * 	<jk>true</jk> if the property was set, or <jk>false</jk> without reading anything if the property must be set
+	 * 	through the regular {@link BeanMap} path.
+	 * @throws Exception Thrown by the property reader, or an {@link InvocationTargetException} thrown by a bean setter.
+	 */
+	public abstract boolean read(T bean, int index, PropertyReader r) throws Exception;
+
+	/**
+	 * Returns the bean class this codec was generated for.
+	 *
+	 * @return The bean class this codec was generated for.
+	 */
+	public final Class<T> getBeanClass() {
+		return beanClass;
+	}
+
+	/**
+	 * Returns the number of properties handled by this codec.
+	 *
+	 * @return The number of properties handled by this codec.
+	 */
+	public final int getPropertyCount() {
+		return names.length;
+	}
+
+	/**
+	 * Returns the metadata of the specified property.
+	 *
+	 * @param index The property index.
+	 * @return The metadata of the specified property.
+	 */
+	public final BeanPropertyMeta getPropertyMeta(int index) {
+		return properties[index];
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified property is a {@link String} or <jk>boolean</jk>, <jk>int</jk>,
+	 * <jk>long</jk>, <jk>float</jk> or <jk>double</jk> primitive.
+	 *
+	 * <p>
+	 * The values of these properties can be written directly without going through swaps or type lookups.
+	 *
+	 * @param index The property index.
+	 * @return <jk>true</jk> if the specified property is a string or primitive.
+	 */
+	public final boolean isSimple(int index) {
+		return WRAPPERS.containsKey(types[index]);
+	}
+
+	/**
+	 * Instantiates the specified codec class and binds it to the properties of a bean.
+	 *
+	 * @param codecClass The generated codec class.
+	 * @param beanClass The bean class.
+	 * @param ctx The bean context that discovered the properties.
+	 * @param properties The bean properties discovered at runtime.
+	 * @return A new codec, or <jk>null</jk> if the codec doesn't match the bean properties.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> BeanCodec<T> create(Class<?> codecClass, Class<T> beanClass, BeanContext ctx, Collection<BeanPropertyMeta> properties) {
+		try {
+			BeanCodec<T> c = (BeanCodec<T>)codecClass.getConstructor().newInstance();
+			return c.bind(beanClass, ctx, properties) ? c : null;
+		} catch (Exception | LinkageError e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Verifies that the generated code reads and writes the same members that the bean property metadata would.
+	 */
+	private boolean bind(Class<T> beanClass, BeanContext ctx, Collection<BeanPropertyMeta> properties) {
+		if (this.beanClass != beanClass || properties.size() != names.length || ctx.getClassMeta(String.class).hasSwaps())
+			return false;
+		BeanPropertyMeta[] pp = new BeanPropertyMeta[names.length];
+		int i = 0;
+		for (BeanPropertyMeta p : properties) {
+			ClassMeta<?> cm = p.getClassMeta();
+			if (! (p.getName().equals(names[i]) && p.isPlain() && cm.getInnerClass() == types[i]))
+				return false;
+			if (isSimple(i) && (cm.hasSwaps() || ctx.getClassMeta(WRAPPERS.get(types[i])).hasSwaps()))
+				return false;
+			Method g = p.getGetter(), s = p.getSetter();
+			Field f = p.getField();
+			if (! getters[i].equals(g != null ? g.getName() + "()" : f != null ? f.getName() : null))
+				return false;
+			if (setters[i] != null && ! setters[i].equals(s != null ? s.getName() + "(" + s.getParameterTypes()[0].getName() + ")" : f != null ? f.getName() : null))
+				return false;
+			pp[i++] = p;
+		}
+		this.properties = pp;
+		return true;
+	}
+
+	/**
+	 * Receives the property values of a bean from {@link BeanCodec#write(Object, PropertyWriter)}.
+	 *
+	 * <p>
+	 * Properties are written in index order.
+	 * The typed methods are only called for {@link BeanCodec#isSimple(int) simple} properties and box the value by
+	 * default.
+	 */
+	public interface PropertyWriter {
+
+		/**
+		 * Writes a property value.
+		 *
+		 * @param index The property index.
+		 * @param value The property value.  Can be <jk>null</jk>.
+		 * @throws Exception Thrown by the serializer.
+		 */
+		void writeObject(int index, Object value) throws Exception;
+
+		/**
+		 * Writes a {@link String} property value.
+		 *
+		 * @param index The property index.
+		 * @param value The property value.  Can be <jk>null</jk>.
+		 * @throws Exception Thrown by the serializer.
+		 */
+		default void writeString(int index, String value) throws Exception {
+			writeObject(index, value);
+		}
+
+		/**
+		 * Writes a <jk>boolean</jk> property value.
+		 *
+		 * @param index The property index.
+		 * @param value The property value.
+		 * @throws Exception Thrown by the serializer.
+		 */
+		default void writeBoolean(int index, boolean value) throws Exception {
+			writeObject(index, value);
+		}
+
+		/**
+		 * Writes an <jk>int</jk> property value.
+		 *
+		 * @param index The property index.
+		 * @param value The property value.
+		 * @throws Exception Thrown by the serializer.
+		 */
+		default void writeInt(int index, int value) throws Exception {
+			writeObject(index, value);
+		}
+
+		/**
+		 * Writes a <jk>long</jk> property value.
+		 *
+		 * @param index The property index.
+		 * @param value The property value.
+		 * @throws Exception Thrown by the serializer.
+		 */
+		default void writeLong(int index, long value) throws Exception {
+			writeObject(index, value);
+		}
+
+		/**
+		 * Writes a <jk>float</jk> property value.
+		 *
+		 * @param index The property index.
+		 * @param value The property value.
+		 * @throws Exception Thrown by the serializer.
+		 */
+		default void writeFloat(int index, float value) throws Exception {
+			writeObject(index, value);
+		}
+
+		/**
+		 * Writes a <jk>double</jk> property value.
+		 *
+		 * @param index The property index.
+		 * @param value The property value.
+		 * @throws Exception Thrown by the serializer.
+		 */
+		default void writeDouble(int index, double value) throws Exception {
+			writeObject(index, value);
+		}
+	}
+
+	/**
+	 * Supplies property values to {@link BeanCodec#read(Object, int, PropertyReader)}.
+	 *
+	 * <p>
+	 * Values are returned already converted to the property type.
+	 * The typed methods are only called for {@link BeanCodec#isSimple(int) simple} properties and unbox the value by
+	 * default.
+	 */
+	public interface PropertyReader {
+
+		/**
+		 * Reads a property value.
+		 *
+		 * @param index The property index.
+		 * @return The property value converted to the property type.
+		 * @throws Exception Thrown by the parser.
+		 */
+		Object readObject(int index) throws Exception;
+
+		/**
+		 * Reads a {@link String} property value.
+		 *
+		 * @param index The property index.
+		 * @return The property value.
+		 * @throws Exception Thrown by the parser.
+		 */
+		default String readString(int index) throws Exception {
+			return (String)readObject(index);
+		}
+
+		/**
+		 * Reads a <jk>boolean</jk> property value.
+		 *
+		 * @param index The property index.
+		 * @return The property value.
+		 * @throws Exception Thrown by the parser.
+		 */
+		default boolean readBoolean(int index) throws Exception {
+			return (Boolean)readObject(index);
+		}
+
+		/**
+		 * Reads an <jk>int</jk> property value.
+		 *
+		 * @param index The property index.
+		 * @return The property value.
+		 * @throws Exception Thrown by the parser.
+		 */
+		default int readInt(int index) throws Exception {
+			return (Integer)readObject(index);
+		}
+
+		/**
+		 * Reads a <jk>long</jk> property value.
+		 *
+		 * @param index The property index.
+		 * @return The property value.
+		 * @throws Exception Thrown by the parser.
+		 */
+		default long readLong(int index) throws Exception {
+			return (Long)readObject(index);
+		}
+
+		/**
+		 * Reads a <jk>float</jk> property value.
+		 *
+		 * @param index The property index.
+		 * @return The property value.
+		 * @throws Exception Thrown by the parser.
+		 */
+		default float readFloat(int index) throws Exception {
+			return (Float)readObject(index);
+		}
+
+		/**
+		 * Reads a <jk>double</jk> property value.
+		 *
+		 * @param index The property index.
+		 * @return The property value.
+		 * @throws Exception Thrown by the parser.
+		 */
+		default double readDouble(int index) throws Exception {
+			return (Double)readObject(index);
+		}
+	}
+}
@@ -25,6 +25,7 @@ import java.util.concurrent.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.reflect.*;
 import org.apache.juneau.serializer.*;
@@ -1983,6 +1984,57 @@ public class BeanContext extends Context implements MetaProvider {
 	 */
 	public static final String BEAN_useJavaBeanIntrospector = PREFIX + ".useJavaBeanIntrospector.b";
 
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.BeanContext#BEAN_useMethodHandles BEAN_useMethodHandles}
+	 * 	<li><b>Name:</b>  <js>"BeanContext.useMethodHandles.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>BeanContext.useMethodHandles</c>
+	 * 	<li><b>Environment variable:</b>  <c>BEANCONTEXT_USEMETHODHANDLES</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.annotation.BeanConfig#useMethodHandles()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.BeanContextBuilder#useMethodHandles()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * When enabled, bean property getters, setters and fields are accessed through accessors generated with
+	 * {@link java.lang.invoke.LambdaMetafactory} or bound {@link java.lang.invoke.MethodHandle MethodHandles} instead of
+	 * {@link Method#invoke(Object, Object...)}, {@link Field#get(Object)} and {@link Field#set(Object, Object)}.
+	 * <br>This removes reflective dispatch from every property read and write performed by serializers and parsers.
+	 *
+	 * <p>
+	 * Accessors are created once per property when the {@link BeanMeta} is built.
+	 * <br>Properties whose members cannot be bound (e.g. because access is denied) fall back to reflection.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that uses method handles for reading bean properties.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.useMethodHandles()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>BEAN_useMethodHandles</jsf>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String BEAN_useMethodHandles = PREFIX + ".useMethodHandles.b";
+
 	/*
 	 * The default package pattern exclusion list.
 	 * Any beans in packages in this list will not be considered beans.
@@ -2018,8 +2070,9 @@ public class BeanContext extends Context implements MetaProvider {
 	// This map ensures that if the BeanContext properties in the Context are the same,
 	// then we reuse the same Class->ClassMeta cache map.
 	// This significantly reduces the number of times we need to construct ClassMeta objects which can be expensive.
-	private static final ConcurrentHashMap<ContextProperties,Map<Class,ClassMeta>> cmCacheCache
-		= new ConcurrentHashMap<>();
+	// Bounded so that services that build many context variants don't grow it without limit.
+	private static final Cache<ContextProperties,Map<Class,ClassMeta>> cmCacheCache
+		= new Cache<>("BeanContext.classMetaCache", false, Integer.getInteger("juneau.BeanContext.classMetaCache.maxSize", 1000));
 
 	/** Default config.  All default settings. */
 	public static final BeanContext DEFAULT = BeanContext.create().build();
@@ -2041,6 +2094,7 @@ public class BeanContext extends Context implements MetaProvider {
 		ignoreInvocationExceptionsOnGetters,
 		ignoreInvocationExceptionsOnSetters,
 		useJavaBeanIntrospector,
+		useMethodHandles,
 		useEnumNames,
 		sortProperties,
 		findFluentSetters;
@@ -2059,6 +2113,7 @@ public class BeanContext extends Context implements MetaProvider {
 	private final PropertyNamer propertyNamer;
 	private final String typePropertyName;
 	private final ReflectionMap<Annotation> annotations;
+	private final boolean hasAppliedAnnotations;
 
 	final Map<Class,ClassMeta> cmCache;
 	private final ClassMeta<Object> cmObject;  // Reusable ClassMeta that represents general Objects.
@@ -2084,7 +2139,8 @@ public class BeanContext extends Context implements MetaProvider {
 		cp = cp.subset(new String[]{"Context","BeanContext"});
 
 		ReflectionMapBuilder<Annotation> rmb = ReflectionMap.create(Annotation.class);
-		for (Annotation a : cp.getList(BEAN_annotations, Annotation.class).orElse(emptyList())) {
+		List<Annotation> appliedAnnotations = cp.getList(BEAN_annotations, Annotation.class).orElse(emptyList());
+		for (Annotation a : appliedAnnotations) {
 			try {
 				ClassInfo ci = ClassInfo.of(a.getClass());
 
@@ -2109,6 +2165,7 @@ public class BeanContext extends Context implements MetaProvider {
 			}
 		}
 		this.annotations = rmb.build();
+		this.hasAppliedAnnotations = ! appliedAnnotations.isEmpty();
 
 		beansRequireDefaultConstructor = cp.getBoolean(BEAN_beansRequireDefaultConstructor).orElse(false);
 		beansRequireSerializable = cp.getBoolean(BEAN_beansRequireSerializable).orElse(false);
@@ -2124,6 +2181,7 @@ public class BeanContext extends Context implements MetaProvider {
 		ignoreInvocationExceptionsOnGetters = cp.getBoolean(BEAN_ignoreInvocationExceptionsOnGetters).orElse(false);
 		ignoreInvocationExceptionsOnSetters = cp.getBoolean(BEAN_ignoreInvocationExceptionsOnSetters).orElse(false);
 		useJavaBeanIntrospector = cp.getBoolean(BEAN_useJavaBeanIntrospector).orElse(false);
+		useMethodHandles = cp.getBoolean(BEAN_useMethodHandles).orElse(false);
 		sortProperties = cp.getBoolean(BEAN_sortProperties).orElse(false);
 		findFluentSetters = cp.getBoolean(BEAN_findFluentSetters).orElse(false);
 		typePropertyName = cp.getString(BEAN_typePropertyName).orElse("_type");
@@ -2164,13 +2222,14 @@ public class BeanContext extends Context implements MetaProvider {
 		}
 		swaps = lpf.toArray(new PojoSwap[lpf.size()]);
 
-		if (! cmCacheCache.containsKey(cp)) {
-			ConcurrentHashMap<Class,ClassMeta> cm = new ConcurrentHashMap<>();
+		Map<Class,ClassMeta> cm = cmCacheCache.get(cp);
+		if (cm == null) {
+			cm = new ConcurrentHashMap<>();
 			cm.putIfAbsent(String.class, new ClassMeta(String.class, this, findPojoSwaps(String.class), findChildPojoSwaps(String.class)));
 			cm.putIfAbsent(Object.class, new ClassMeta(Object.class, this, findPojoSwaps(Object.class), findChildPojoSwaps(Object.class)));
-			cmCacheCache.putIfAbsent(cp, cm);
+			cm = cmCacheCache.put(cp, cm);
 		}
-		cmCache = cmCacheCache.get(cp);
+		cmCache = cm;
 		cmString = cmCache.get(String.class);
 		cmObject = cmCache.get(Object.class);
 		cmClass = cmCache.get(Class.class);
@@ -2450,7 +2509,7 @@ public class BeanContext extends Context implements MetaProvider {
 	 */
 	private ClassMeta<?> getTypedClassMeta(ClassMeta<?>[] c, int pos) {
 		ClassMeta<?> cm = c[pos++];
-		if (cm.isCollection() || cm.isOptional()) {
+		if (cm.isCollection() || cm.isOptional() || cm.isStreamable()) {
 			ClassMeta<?> ce = c.length == pos ? object() : getTypedClassMeta(c, pos);
 			return (ce.isObject() ? cm : new ClassMeta(cm, null, null, ce));
 		} else if (cm.isMap()) {
@@ -2474,7 +2533,7 @@ public class BeanContext extends Context implements MetaProvider {
 				return cm;
 			if (cm.isMap())
 				return getClassMeta(cm.innerClass, cm.getKeyType(), cm.getValueType());
-			if (cm.isCollection() || cm.isOptional())
+			if (cm.isCollection() || cm.isOptional() || cm.isStreamable())
 				return getClassMeta(cm.innerClass, cm.getElementType());
 			return getClassMeta(cm.innerClass);
 		}
@@ -2491,7 +2550,7 @@ public class BeanContext extends Context implements MetaProvider {
 		// If this is a Map or Collection, and the parameter types aren't part
 		// of the class definition itself (e.g. class AddressBook extends List<Person>),
 		// then we need to figure out the parameters.
-		if (rawType.isMap() || rawType.isCollection() || rawType.isOptional()) {
+		if (rawType.isMap() || rawType.isCollection() || rawType.isOptional() || rawType.isStreamable()) {
 			ClassMeta[] params = findParameters(o, c);
 			if (params == null)
 				return rawType;
@@ -2502,7 +2561,7 @@ public class BeanContext extends Context implements MetaProvider {
 					return rawType;
 				return new ClassMeta(rawType, params[0], params[1], null);
 			}
-			if (rawType.isCollection() || rawType.isOptional()) {
+			if (rawType.isCollection() || rawType.isOptional() || rawType.isStreamable()) {
 				if (params.length != 1)
 					return rawType;
 				if (params[0].isObject())
@@ -2916,6 +2975,15 @@ public class BeanContext extends Context implements MetaProvider {
 		return last(getDeclaredAnnotations(a, c));
 	}
 
+	/**
+	 * Returns <jk>true</jk> if annotations were applied to classes or members through {@link #BEAN_annotations}.
+	 *
+	 * @return <jk>true</jk> if annotations were applied to classes or members through {@link #BEAN_annotations}.
+	 */
+	final boolean hasAppliedAnnotations() {
+		return hasAppliedAnnotations;
+	}
+
 	/**
 	 * Finds the specified annotations on the specified method.
 	 *
@@ -3515,6 +3583,17 @@ public class BeanContext extends Context implements MetaProvider {
 		return useJavaBeanIntrospector;
 	}
 
+	/**
+	 * Use method handles for bean property access.
+	 *
+	 * @see #BEAN_useMethodHandles
+	 * @return
+	 * 	<jk>true</jk> if bean properties are accessed through generated accessors instead of reflection.
+	 */
+	public final boolean isUseMethodHandles() {
+		return useMethodHandles;
+	}
+
 	/**
 	 * Returns the serializer to use for serializing beans when using the {@link BeanSession#convertToType(Object, Class)}
 	 * and related methods.
@@ -3566,6 +3645,7 @@ public class BeanContext extends Context implements MetaProvider {
 					.a("useEnumNames", useEnumNames)
 					.a("useInterfaceProxies", useInterfaceProxies)
 					.a("useJavaBeanIntrospector", useJavaBeanIntrospector)
+					.a("useMethodHandles", useMethodHandles)
 			);
 	}
 }
\ No newline at end of file
@@ -2972,6 +2972,41 @@ public class BeanContextBuilder extends ContextBuilder {
 		return set(BEAN_useJavaBeanIntrospector);
 	}
 
+	/**
+	 * <i><l>BeanContext</l> configuration property:&emsp;</i>  Use method handles for bean property access.
+	 *
+	 * <p>
+	 * When enabled, bean property getters, setters and fields are accessed through accessors generated with
+	 * {@link java.lang.invoke.LambdaMetafactory} or bound {@link java.lang.invoke.MethodHandle MethodHandles} instead of
+	 * reflection.
+	 * <br>Properties whose members cannot be bound fall back to reflection.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that uses method handles for reading bean properties.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.useMethodHandles()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>BEAN_useMethodHandles</jsf>)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link BeanContext#BEAN_useMethodHandles}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public BeanContextBuilder useMethodHandles() {
+		return set(BEAN_useMethodHandles);
+	}
+
 	// <FluentSetters>
 
 	@Override /* GENERATED - ContextBuilder */
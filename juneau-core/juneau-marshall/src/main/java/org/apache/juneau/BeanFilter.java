@@ -240,4 +240,14 @@ public final class BeanFilter {
 	public Object writeProperty(Object bean, String name, Object value) {
 		return interceptor.writeProperty(bean, name, value);
 	}
+
+	/**
+	 * Returns <jk>true</jk> if a bean interceptor other than the default no-op one is registered on this filter.
+	 *
+	 * @return <jk>true</jk> if {@link #readProperty(Object, String, Object)} and
+	 * 	{@link #writeProperty(Object, String, Object)} may change property values.
+	 */
+	boolean hasInterceptor() {
+		return interceptor != BeanInterceptor.DEFAULT;
+	}
 }
@@ -73,7 +73,13 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 	protected BeanMeta<T> meta;
 
 	private final BeanSession session;
-	private final String typePropertyName;
+	private String typePropertyName;
+
+	/** Buffer reused by {@link #readValues(boolean, String)}. */
+	private BeanPropertyValues values;
+
+	/** Whether this bean map was created through {@link BeanSession#acquireBeanMap(Object)}. */
+	boolean reusable;
 
 	/**
 	 * Convenience method for wrapping a bean inside a {@link BeanMap}.
@@ -102,6 +108,29 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 		this.typePropertyName = session.getBeanTypePropertyName(meta.classMeta);
 	}
 
+	/**
+	 * Points this bean map at a different bean.
+	 *
+	 * <p>
+	 * Used by {@link BeanSession#acquireBeanMap(Object)} to reuse bean maps instead of allocating one per bean.
+	 *
+	 * @param bean The bean to wrap inside this map, or <jk>null</jk> to release the current bean.
+	 * @param meta The metadata associated with the bean class.
+	 * @return This object (for method chaining).
+	 */
+	BeanMap<T> reset(T bean, BeanMeta<T> meta) {
+		this.bean = bean;
+		this.arrayPropertyCache = null;
+		if (values != null)
+			values.clear();
+		if (this.meta != meta) {
+			this.meta = meta;
+			this.typePropertyName = session.getBeanTypePropertyName(meta.classMeta);
+		}
+		this.propertyCache = bean != null && meta.constructorArgs.length > 0 ? new TreeMap<>() : null;
+		return this;
+	}
+
 	/**
 	 * Returns the metadata associated with this bean map.
 	 *
@@ -477,40 +506,74 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 	 * @return The list of all bean property values.
 	 */
 	public List<BeanPropertyValue> getValues(boolean keepNulls, BeanPropertyValue...prependVals) {
-		Collection<BeanPropertyMeta> properties = getProperties();
-		int capacity = ((! keepNulls) && properties.size() > 10) ? 10 : properties.size() + prependVals.length;
-		List<BeanPropertyValue> l = new ArrayList<>(capacity);
+		BeanPropertyValues l = new BeanPropertyValues();
 		for (BeanPropertyValue v : prependVals)
 			if (v != null)
-				l.add(v);
-		for (BeanPropertyMeta bpm : properties) {
-			if (bpm.canRead()) {
-				try {
-					if (bpm.isDyna()) {
-						Map<String,Object> dynaMap = bpm.getDynaMap(bean);
-						if (dynaMap != null) {
-							for (String pName : bpm.getDynaMap(bean).keySet()) {
-								Object val = bpm.get(this, pName);
-								if (val != null || keepNulls)
-									l.add(new BeanPropertyValue(bpm, pName, val, null));
-							}
+				l.add(v.getMeta(), v.getName(), v.getValue(), v.getThrown());
+		readValues(l, keepNulls);
+		return l.toList(new ArrayList<>(l.size()));
+	}
+
+	/**
+	 * Same as {@link #getValues(boolean, BeanPropertyValue...)} but reads the values into a buffer owned by this bean
+	 * map.
+	 *
+	 * <p>
+	 * The buffer is reused by subsequent calls on this bean map, so reading the values of beans through a bean map
+	 * obtained from {@link BeanSession#acquireBeanMap(Object)} doesn't allocate any objects per property.
+	 *
+	 * @param keepNulls
+	 * 	Also return properties whose values are null.
+	 * @param typeName
+	 * 	If not <jk>null</jk>, the bean type property is prepended to the values with this value.
+	 * @return The property values of this bean.  Only valid until the next call to this method.
+	 */
+	public BeanPropertyValues readValues(boolean keepNulls, String typeName) {
+		BeanPropertyValues l = values == null ? (values = new BeanPropertyValues()) : values.clear();
+		if (typeName != null) {
+			BeanPropertyMeta tp = getMeta().getTypeProperty();
+			l.add(tp, tp.getName(), typeName, null);
+		}
+		readValues(l, keepNulls);
+		return l;
+	}
+
+	private void readValues(BeanPropertyValues l, boolean keepNulls) {
+		if (getClass() == BeanMap.class) {
+			for (BeanPropertyMeta bpm : meta.propertyArray)
+				readValue(l, bpm, keepNulls);
+		} else {
+			for (BeanPropertyMeta bpm : getProperties())
+				readValue(l, bpm, keepNulls);
+		}
+		if (meta.sortProperties && meta.dynaProperty != null)
+			l.sort();
+	}
+
+	private void readValue(BeanPropertyValues l, BeanPropertyMeta bpm, boolean keepNulls) {
+		if (bpm.canRead()) {
+			try {
+				if (bpm.isDyna()) {
+					Map<String,Object> dynaMap = bpm.getDynaMap(bean);
+					if (dynaMap != null) {
+						for (String pName : bpm.getDynaMap(bean).keySet()) {
+							Object val = bpm.get(this, pName);
+							if (val != null || keepNulls)
+								l.add(bpm, pName, val, null);
 						}
-					} else {
-						Object val = bpm.get(this, null);
-						if (val != null || keepNulls)
-							l.add(new BeanPropertyValue(bpm, bpm.getName(), val, null));
 					}
-				} catch (Error e) {
-					// Errors should always be uncaught.
-					throw e;
-				} catch (Throwable t) {
-					l.add(new BeanPropertyValue(bpm, bpm.getName(), null, t));
+				} else {
+					Object val = bpm.get(this, null);
+					if (val != null || keepNulls)
+						l.add(bpm, bpm.getName(), val, null);
 				}
+			} catch (Error e) {
+				// Errors should always be uncaught.
+				throw e;
+			} catch (Throwable t) {
+				l.add(bpm, bpm.getName(), null, t);
 			}
 		}
-		if (meta.sortProperties && meta.dynaProperty != null)
-			Collections.sort(l);
-		return l;
 	}
 
 	/**
@@ -94,6 +94,12 @@ public class BeanMeta<T> {
 	final String typePropertyName;                         // "_type" property actual name.
 	private final BeanPropertyMeta typeProperty;           // "_type" mock bean property.
 	final BeanPropertyMeta dynaProperty;                   // "extras" property.
+	final BeanPropertyMeta[] propertyArray;                // Same as properties, for iterating without an iterator.
+	private final String[] nameTableKeys;                  // Open-addressing hash table of property and hidden property names.
+	private final BeanPropertyMeta[] nameTableValues;      // Properties matching nameTableKeys.
+	private final Map<String,Integer> ordinals;            // Property ordinals used by index-based formats.
+	private final Map<Integer,BeanPropertyMeta> ordinalProperties;  // Properties keyed by ordinal.
+	private final BeanCodec<T> codec;                      // Generated codec (if one was found and it matches the properties).
 	private final String dictionaryName;                   // The @Bean(typeName) annotation defined on this bean class.
 	final String notABeanReason;                           // Readable string explaining why this class wasn't a bean.
 	final BeanRegistry beanRegistry;
@@ -120,10 +126,23 @@ public class BeanMeta<T> {
 		this.beanFilter = beanFilter;
 		this.dictionaryName = b.dictionaryName;
 		this.properties = AMap.unmodifiable(b.properties);
+		this.propertyArray = properties.values().toArray(new BeanPropertyMeta[properties.size()]);
 		this.hiddenProperties = b.hiddenProperties.unmodifiable();
+		int cap = 2;
+		while (cap < (properties.size() + hiddenProperties.size()) * 2)
+			cap <<= 1;
+		this.nameTableKeys = new String[cap];
+		this.nameTableValues = new BeanPropertyMeta[cap];
+		for (Map.Entry<String,BeanPropertyMeta> e : properties.entrySet())
+			addToNameTable(e.getKey(), e.getValue());
+		for (Map.Entry<String,BeanPropertyMeta> e : hiddenProperties.entrySet())
+			addToNameTable(e.getKey(), e.getValue());
 		this.getterProps = b.getterProps.unmodifiable();
 		this.setterProps = b.setterProps.unmodifiable();
 		this.dynaProperty = b.dynaProperty;
+		this.ordinals = b.ordinals;
+		this.ordinalProperties = b.ordinalProperties;
+		this.codec = b.codec;
 		this.typeVarImpls = AMap.unmodifiable(b.typeVarImpls);
 		this.constructor = b.constructor;
 		this.constructorArgs = b.constructorArgs;
@@ -144,6 +163,9 @@ public class BeanMeta<T> {
 		AMap<Method,String> getterProps = AMap.create();
 		AMap<Method,String> setterProps = AMap.create();
 		BeanPropertyMeta dynaProperty;
+		Map<String,Integer> ordinals = Collections.emptyMap();
+		Map<Integer,BeanPropertyMeta> ordinalProperties = Collections.emptyMap();
+		BeanCodec<T> codec;
 
 		AMap<Class<?>,Class<?>[]> typeVarImpls;
 		ConstructorInfo constructor, implClassConstructor;
@@ -162,8 +184,9 @@ public class BeanMeta<T> {
 		}
 
 		String init(BeanMeta<T> beanMeta) {
-			Class<?> c = classMeta.getInnerClass();
+			Class<T> c = classMeta.getInnerClass();
 			ClassInfo ci = classMeta.getInfo();
+			BeanMetaIndex.Members im = null;
 
 			try {
 				Visibility
@@ -340,7 +363,11 @@ public class BeanMeta<T> {
 
 				} else /* Use 'better' introspection */ {
 
-					for (Field f : findBeanFields(ctx, c2, stopClass, fVis)) {
+					// Use the members precomputed by the annotation processor if discovery isn't customized.
+					if (c2 == c && stopClass == Object.class && mVis == Visibility.PUBLIC && fVis == Visibility.PUBLIC && ! fluentSetters && propertyNamer.getClass() == BasicPropertyNamer.class && ctx.isIgnoreTransientFields() && ! ctx.hasAppliedAnnotations())
+						im = BeanMetaIndex.find(c);
+
+					for (Field f : im != null ? im.fields : findBeanFields(ctx, c2, stopClass, fVis)) {
 						String name = findPropertyName(f);
 						if (name != null) {
 							if (! normalProps.containsKey(name))
@@ -349,7 +376,7 @@ public class BeanMeta<T> {
 						}
 					}
 
-					List<BeanMethod> bms = findBeanMethods(ctx, c2, stopClass, mVis, propertyNamer, fluentSetters);
+					List<BeanMethod> bms = im != null ? im.methods : findBeanMethods(ctx, c2, stopClass, mVis, propertyNamer, fluentSetters);
 
 					// Iterate through all the getters.
 					for (BeanMethod bm : bms) {
@@ -503,6 +530,26 @@ public class BeanMeta<T> {
 					properties = properties2;
 				}
 
+				// Assign ordinals for index-based formats.
+				// Only explicit @Beanp(index) values are used since positions change with bean versions and settings.
+				ordinals = new HashMap<>();
+				ordinalProperties = new HashMap<>();
+				for (BeanPropertyMeta p : properties.values()) {
+					int i = p.getIndex();
+					if (i < -1)
+						throw new BeanRuntimeException(c, "Invalid @Beanp(index) value {0} on property ''{1}''.", i, p.getName());
+					if (i == -1 || p.isDyna())
+						continue;
+					BeanPropertyMeta p2 = ordinalProperties.put(i, p);
+					if (p2 != null)
+						throw new BeanRuntimeException(c, "Duplicate @Beanp(index) value {0} on properties ''{1}'' and ''{2}''.", i, p2.getName(), p.getName());
+					ordinals.put(p.getName(), i);
+				}
+
+				// Use the codec generated by the annotation processor if it covers all the properties.
+				if (im != null && im.codec != null && dynaProperty == null && constructorArgs.length == 0 && (beanFilter == null || ! beanFilter.hasInterceptor()))
+					codec = BeanCodec.create(im.codec, c, ctx, properties.values());
+
 			} catch (BeanRuntimeException e) {
 				throw e;
 			} catch (Exception e) {
@@ -575,6 +622,15 @@ public class BeanMeta<T> {
 		return typeProperty;
 	}
 
+	/**
+	 * Returns the codec generated for this bean by the <c>juneau-apt</c> annotation processor.
+	 *
+	 * @return The generated codec, or <jk>null</jk> if there isn't one or it doesn't apply to this bean context.
+	 */
+	public final BeanCodec<T> getCodec() {
+		return codec;
+	}
+
 	/**
 	 * Possible property method types.
 	 */
@@ -588,7 +644,7 @@ public class BeanMeta<T> {
 	/*
 	 * Temporary getter/setter method struct.
 	 */
-	private static final class BeanMethod {
+	static final class BeanMethod {
 		String propertyName;
 		MethodType methodType;
 		Method method;
@@ -856,6 +912,80 @@ public class BeanMeta<T> {
 		return bpm;
 	}
 
+	/**
+	 * Same as {@link #getPropertyMeta(String)} but looks up the property name from a range of characters.
+	 *
+	 * <p>
+	 * Used by parsers to resolve property names directly from their input buffer without creating a string.
+	 * <br>Unlike {@link #getPropertyMeta(String)}, the dyna property is never returned.  Callers should fall back to
+	 * {@link #getPropertyMeta(String)} when this method returns <jk>null</jk>.
+	 *
+	 * @param c The characters containing the property name.
+	 * @param offset The start position of the property name in the array.
+	 * @param length The length of the property name.
+	 * @return The metadata of the property or hidden property with the specified name, or <jk>null</jk> if not found.
+	 */
+	public BeanPropertyMeta getPropertyMeta(char[] c, int offset, int length) {
+		int h = 0;
+		for (int i = offset, end = offset + length; i < end; i++)
+			h = 31 * h + c[i];
+		int mask = nameTableKeys.length - 1;
+		for (int i = spread(h) & mask; nameTableKeys[i] != null; i = (i + 1) & mask) {
+			String k = nameTableKeys[i];
+			if (k.length() == length && regionMatches(k, c, offset))
+				return nameTableValues[i];
+		}
+		return null;
+	}
+
+	private static boolean regionMatches(String k, char[] c, int offset) {
+		for (int i = 0; i < k.length(); i++)
+			if (k.charAt(i) != c[offset + i])
+				return false;
+		return true;
+	}
+
+	private static int spread(int h) {
+		return h ^ (h >>> 16);
+	}
+
+	private void addToNameTable(String name, BeanPropertyMeta p) {
+		if (name == null || p == null)
+			return;
+		int mask = nameTableKeys.length - 1;
+		int i = spread(name.hashCode()) & mask;
+		for (; nameTableKeys[i] != null; i = (i + 1) & mask)
+			if (nameTableKeys[i].equals(name))
+				return;
+		nameTableKeys[i] = name;
+		nameTableValues[i] = p;
+	}
+
+	/**
+	 * Returns the ordinal of the specified property as used by index-based formats.
+	 *
+	 * <p>
+	 * Ordinals are defined via {@link Beanp#index() @Beanp(index)}.
+	 *
+	 * @param name The name of the property on this bean.
+	 * @return The ordinal of the property, or <c>-1</c> if no such property exists on this bean or it has no index.
+	 */
+	public int getPropertyOrdinal(String name) {
+		Integer i = ordinals.get(name);
+		return i == null ? -1 : i;
+	}
+
+	/**
+	 * Returns metadata about the property with the specified ordinal.
+	 *
+	 * @param ordinal The ordinal of the property.
+	 * @return The metadata about the property, or <jk>null</jk> if no property has that ordinal.
+	 * @see #getPropertyOrdinal(String)
+	 */
+	public BeanPropertyMeta getPropertyMetaByOrdinal(int ordinal) {
+		return ordinalProperties.get(ordinal);
+	}
+
 	/**
 	 * Creates a new instance of this bean.
 	 *
@@ -0,0 +1,225 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.BeanMeta.MethodType.*;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.net.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import org.apache.juneau.BeanMeta.*;
+
+/**
+ * Bean fields and methods precomputed at build time by the <c>juneau-apt</c> annotation processor.
+ *
+ * <p>
+ * The processor writes the members that {@link BeanMeta} would otherwise discover by scanning the class hierarchy
+ * to <c>META-INF/juneau/beans.idx</c>.
+ * Each class loader's index files are read once and shared by all bean contexts.
+ *
+ * <p>
+ * Entries are only valid for the default discovery settings, so it's up to the caller to decide whether they apply.
+ * Each entry holds a signature of every class in the hierarchy of the bean.
+ * Entries whose classes no longer match their signatures (e.g. the class was recompiled without the processor, or a
+ * superclass from another jar gained a field) or that can no longer be resolved are ignored.
+ *
+ * <p>
+ * Entries can also name the {@link BeanCodec} generated for the bean.
+ */
+final class BeanMetaIndex {
+
+	static final String RESOURCE = "META-INF/juneau/beans.idx";
+
+	private static final Map<ClassLoader,BeanMetaIndex> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+	private static final BeanMetaIndex EMPTY = new BeanMetaIndex(Collections.emptyMap());
+
+	private static final Map<String,Class<?>> PRIMITIVES = new HashMap<>();
+	static {
+		for (Class<?> c : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class})
+			PRIMITIVES.put(c.getName(), c);
+	}
+
+	private static final ClassValue<String> SIGNATURES = new ClassValue<String>() {
+		@Override
+		protected String computeValue(Class<?> c) {
+			List<String> l = new ArrayList<>();
+			if (c.getSuperclass() != null)
+				l.add("S " + c.getSuperclass().getName());
+			for (Class<?> i : c.getInterfaces())
+				l.add("I " + i.getName());
+			for (Field f : c.getDeclaredFields())
+				if (! f.isSynthetic())
+					l.add("F " + f.getName());
+			for (Method m : c.getDeclaredMethods()) {
+				if (m.isSynthetic())
+					continue;
+				StringBuilder sb = new StringBuilder("M ").append(m.getName()).append('(');
+				for (Class<?> p : m.getParameterTypes())
+					sb.append(p.getName()).append(',');
+				l.add(sb.append(')').toString());
+			}
+			Collections.sort(l);
+			return Integer.toHexString(String.join("\n", l).hashCode());
+		}
+	};
+
+	private final Map<String,List<String[]>> entries;
+
+	private BeanMetaIndex(Map<String,List<String[]>> entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Returns the precomputed members of the specified class.
+	 *
+	 * @param c The bean class.
+	 * @return
+	 * 	The precomputed members, or <jk>null</jk> if the class isn't indexed or the entry is stale or couldn't be
+	 * 	resolved.
+	 */
+	static Members find(Class<?> c) {
+		ClassLoader cl = c.getClassLoader();
+		if (cl == null)
+			return null;
+		List<String[]> l = of(cl).entries.get(c.getName());
+		if (l == null)
+			return null;
+		return resolve(c, l, cl);
+	}
+
+	/*
+	 * Resolves the lines of an index entry.
+	 * Returns null if the entry has no signature for the bean class or any class doesn't match its signature.
+	 */
+	static Members resolve(Class<?> c, List<String[]> l, ClassLoader cl) {
+		try {
+			boolean validated = false;
+			for (String[] e : l) {
+				if (e[0].equals("V")) {
+					if (! e[2].equals(signature(forName(e[1], cl))))
+						return null;
+					validated |= e[1].equals(c.getName());
+				}
+			}
+			if (! validated)
+				return null;
+			List<Field> fields = new ArrayList<>();
+			List<BeanMethod> methods = new ArrayList<>();
+			Class<?> codec = null;
+			for (String[] e : l) {
+				if (e[0].equals("V"))
+					continue;
+				if (e[0].equals("C")) {
+					codec = findCodec(e[1], cl);
+					continue;
+				}
+				Class<?> dc = forName(e[0].equals("F") ? e[1] : e[2], cl);
+				if (e[0].equals("F")) {
+					fields.add(dc.getDeclaredField(e[2]));
+				} else {
+					Class<?>[] pt = new Class<?>[e.length - 4];
+					for (int i = 0; i < pt.length; i++)
+						pt[i] = forName(e[i + 4], cl);
+					methods.add(new BeanMethod(e[1], e[0].equals("G") ? GETTER : SETTER, dc.getDeclaredMethod(e[3], pt)));
+				}
+			}
+			return new Members(fields, methods, codec);
+		} catch (ClassNotFoundException | NoSuchFieldException | NoSuchMethodException | LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Bean fields and methods resolved from an index entry.
+	 */
+	static final class Members {
+		final List<Field> fields;
+		final List<BeanMethod> methods;
+		final Class<?> codec;
+
+		Members(List<Field> fields, List<BeanMethod> methods, Class<?> codec) {
+			this.fields = fields;
+			this.methods = methods;
+			this.codec = codec;
+		}
+	}
+
+	/**
+	 * Returns the signature of the specified class as written to the index by the annotation processor.
+	 *
+	 * <p>
+	 * Hashes the supertypes and the names of the declared fields and methods of the class.
+	 * Synthetic members are skipped since the compiler doesn't report them to the processor.
+	 *
+	 * @param c The class.
+	 * @return The signature of the class.
+	 */
+	static String signature(Class<?> c) {
+		return SIGNATURES.get(c);
+	}
+
+	private static BeanMetaIndex of(ClassLoader cl) {
+		BeanMetaIndex i = CACHE.get(cl);
+		if (i == null) {
+			i = load(cl);
+			CACHE.put(cl, i);
+		}
+		return i;
+	}
+
+	private static BeanMetaIndex load(ClassLoader cl) {
+		Map<String,List<String[]>> m = new HashMap<>();
+		try {
+			Enumeration<URL> e = cl.getResources(RESOURCE);
+			while (e.hasMoreElements()) {
+				try (BufferedReader r = new BufferedReader(new InputStreamReader(e.nextElement().openStream(), StandardCharsets.UTF_8))) {
+					List<String[]> l = null;
+					for (String line = r.readLine(); line != null; line = r.readLine()) {
+						if (line.isEmpty() || line.startsWith("#"))
+							continue;
+						String[] s = line.split("\t");
+						if (s[0].equals("bean")) {
+							l = new ArrayList<>();
+							m.putIfAbsent(s[1], l);
+						} else if (l != null) {
+							l.add(s);
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			return EMPTY;
+		}
+		return m.isEmpty() ? EMPTY : new BeanMetaIndex(m);
+	}
+
+	/*
+	 * The generated bean codec is optional, so a missing or incompatible class only disables the codec.
+	 */
+	private static Class<?> findCodec(String name, ClassLoader cl) {
+		try {
+			Class<?> c = Class.forName(name, false, cl);
+			return BeanCodec.class.isAssignableFrom(c) ? c : null;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return null;
+		}
+	}
+
+	private static Class<?> forName(String name, ClassLoader cl) throws ClassNotFoundException {
+		Class<?> c = PRIMITIVES.get(name);
+		return c != null ? c : Class.forName(name, false, cl);
+	}
+}
@@ -0,0 +1,225 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static java.lang.invoke.MethodType.*;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+
+import org.apache.juneau.reflect.*;
+
+/**
+ * Non-reflective getter and setter for a bean property.
+ *
+ * <p>
+ * Used by {@link BeanPropertyMeta} in place of {@link Method#invoke(Object, Object...)}, {@link Field#get(Object)} and
+ * {@link Field#set(Object, Object)} when {@link BeanContext#BEAN_useMethodHandles} is enabled.
+ *
+ * <p>
+ * Getter and setter methods on public classes visible to this class loader are bound through
+ * {@link LambdaMetafactory} so that each call is a plain interface call into a generated class.
+ * <br>Everything else (fields, non-public classes, classes from child class loaders) is bound through
+ * {@link MethodHandle MethodHandles} unreflected from the already-accessible members.
+ *
+ * <p>
+ * Exceptions thrown by the underlying members are wrapped in {@link InvocationTargetException} so that callers
+ * see the same exception types as with reflection.
+ */
+final class BeanPropertyAccessor {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType
+		GETTER_TYPE = methodType(Object.class, Object.class),
+		SETTER_TYPE = methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * Functional interface implemented by generated getters.
+	 */
+	interface PropertyGetter {
+		Object get(Object bean) throws Throwable;
+	}
+
+	/**
+	 * Functional interface implemented by generated setters.
+	 */
+	interface PropertySetter {
+		void set(Object bean, Object value) throws Throwable;
+	}
+
+	private final PropertyGetter getter;
+	private final PropertySetter setter;
+
+	/**
+	 * Creates an accessor for the specified bean property members.
+	 *
+	 * <p>
+	 * The getter method takes precedence over the field for reads, and the setter method takes precedence over the
+	 * field for writes.
+	 *
+	 * @param getter The getter method.  Can be <jk>null</jk>.
+	 * @param setter The setter method.  Can be <jk>null</jk>.
+	 * @param field The field.  Can be <jk>null</jk>.
+	 * @return
+	 * 	A new accessor, or <jk>null</jk> if the members could not be bound (e.g. access was denied), in which case the
+	 * 	caller should fall back to reflection.
+	 */
+	static BeanPropertyAccessor create(Method getter, Method setter, Field field) {
+		try {
+			PropertyGetter g = null;
+			PropertySetter s = null;
+			if (getter != null)
+				g = getter(getter);
+			else if (field != null)
+				g = getter(field);
+			if (setter != null)
+				s = setter(setter);
+			else if (field != null && ! Modifier.isFinal(field.getModifiers()))
+				s = setter(field);
+			if (g == null && s == null)
+				return null;
+			return new BeanPropertyAccessor(g, s);
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Creates a method handle that stores an unboxed primitive value into a bean property.
+	 *
+	 * <p>
+	 * The setter method takes precedence over the field.
+	 *
+	 * @param setter The setter method.  Can be <jk>null</jk>.
+	 * @param field The field.  Can be <jk>null</jk>.
+	 * @param type The primitive type of the property.
+	 * @return
+	 * 	A method handle of type <c>(Object,type)void</c>, or <jk>null</jk> if the members don't take that primitive
+	 * 	type directly or could not be bound.
+	 */
+	static MethodHandle primitiveSetter(Method setter, Field field, Class<?> type) {
+		try {
+			MethodType mt = methodType(void.class, Object.class, type);
+			if (setter != null)
+				return setter.getParameterTypes()[0] == type ? LOOKUP.unreflect(setter).asType(mt) : null;
+			if (field != null && field.getType() == type && ! Modifier.isFinal(field.getModifiers()))
+				return LOOKUP.unreflectSetter(field).asType(mt);
+			return null;
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	private BeanPropertyAccessor(PropertyGetter getter, PropertySetter setter) {
+		this.getter = getter;
+		this.setter = setter;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this accessor can read the property.
+	 *
+	 * @return <jk>true</jk> if this accessor can read the property.
+	 */
+	boolean canGet() {
+		return getter != null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this accessor can write the property.
+	 *
+	 * @return <jk>true</jk> if this accessor can write the property.
+	 */
+	boolean canSet() {
+		return setter != null;
+	}
+
+	/**
+	 * Reads the property value from the specified bean.
+	 *
+	 * @param bean The bean.
+	 * @return The property value.
+	 * @throws InvocationTargetException Thrown by the underlying getter.
+	 */
+	Object get(Object bean) throws InvocationTargetException {
+		try {
+			return getter.get(bean);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	/**
+	 * Writes the property value on the specified bean.
+	 *
+	 * @param bean The bean.
+	 * @param value The new property value.
+	 * @throws InvocationTargetException Thrown by the underlying setter.
+	 */
+	void set(Object bean, Object value) throws InvocationTargetException {
+		try {
+			setter.set(bean, value);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	private static PropertyGetter getter(Method m) throws Throwable {
+		MethodHandle mh = LOOKUP.unreflect(m);
+		if (isLinkable(m)) {
+			CallSite cs = LambdaMetafactory.metafactory(LOOKUP, "get", methodType(PropertyGetter.class), GETTER_TYPE, mh, methodType(box(m.getReturnType()), m.getDeclaringClass()));
+			return (PropertyGetter)cs.getTarget().invoke();
+		}
+		MethodHandle mh2 = mh.asType(GETTER_TYPE);
+		return x -> (Object)mh2.invokeExact(x);
+	}
+
+	private static PropertyGetter getter(Field f) throws Throwable {
+		MethodHandle mh = LOOKUP.unreflectGetter(f).asType(GETTER_TYPE);
+		return x -> (Object)mh.invokeExact(x);
+	}
+
+	private static PropertySetter setter(Method m) throws Throwable {
+		MethodHandle mh = LOOKUP.unreflect(m);
+		if (isLinkable(m)) {
+			CallSite cs = LambdaMetafactory.metafactory(LOOKUP, "set", methodType(PropertySetter.class), SETTER_TYPE, mh, methodType(void.class, m.getDeclaringClass(), box(m.getParameterTypes()[0])));
+			return (PropertySetter)cs.getTarget().invoke();
+		}
+		MethodHandle mh2 = mh.asType(SETTER_TYPE);
+		return (x,v) -> { mh2.invokeExact(x, v); };
+	}
+
+	private static PropertySetter setter(Field f) throws Throwable {
+		MethodHandle mh = LOOKUP.unreflectSetter(f).asType(SETTER_TYPE);
+		return (x,v) -> { mh.invokeExact(x, v); };
+	}
+
+	/*
+	 * Lambda classes are defined in this class's loader and must be able to link against the bean class directly.
+	 */
+	private static boolean isLinkable(Method m) {
+		Class<?> c = m.getDeclaringClass();
+		if (! (Modifier.isPublic(m.getModifiers()) && Modifier.isPublic(c.getModifiers()) && ! Modifier.isStatic(m.getModifiers())))
+			return false;
+		ClassLoader cl = c.getClassLoader();
+		if (cl == null)
+			return true;
+		for (ClassLoader l = BeanPropertyAccessor.class.getClassLoader(); l != null; l = l.getParent())
+			if (l == cl)
+				return true;
+		return false;
+	}
+
+	private static Class<?> box(Class<?> c) {
+		return ClassInfo.of(c).getWrapperIfPrimitive();
+	}
+}
@@ -19,6 +19,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import static org.apache.juneau.internal.ObjectUtils.*;
 
 import java.lang.annotation.*;
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.net.*;
 import java.net.URI;
@@ -54,6 +55,7 @@ public final class BeanPropertyMeta {
 	private final Field field;                                // The bean property field (if it has one).
 	private final Field innerField;                                // The bean property field (if it has one).
 	private final Method getter, setter, extraKeys;           // The bean property getter and setter.
+	private final BeanPropertyAccessor accessor;              // Non-reflective getter/setter (if BEAN_useMethodHandles is enabled).
 	private final boolean isUri;                              // True if this is a URL/URI or annotated with @URI.
 	private final boolean isDyna, isDynaGetterMap;            // This is a dyna property (i.e. name="*")
 
@@ -62,6 +64,7 @@ public final class BeanPropertyMeta {
 		typeMeta;                                              // The transformed class type of the bean property.
 
 	private final String[] properties;                        // The value of the @Beanp(properties) annotation.
+	private final int index;                                  // The value of the @Beanp(index) annotation, or -1.
 	private final PojoSwap swap;                              // PojoSwap defined only via @Beanp annotation.
 
 	private final BeanRegistry beanRegistry;
@@ -70,6 +73,9 @@ public final class BeanPropertyMeta {
 	private final BeanPropertyMeta delegateFor;               // The bean property that this meta is a delegate for.
 	private final boolean canRead, canWrite, readOnly, writeOnly;
 	private final int hashCode;
+	private volatile Object primitiveSetter;                  // Unboxed setter (lazily created), or NO_PRIMITIVE_SETTER.
+
+	private static final Object NO_PRIMITIVE_SETTER = new Object();
 
 	/**
 	 * Creates a builder for {@link #BeanPropertyMeta} objects.
@@ -94,6 +100,7 @@ public final class BeanPropertyMeta {
 		boolean isConstructorArg, isUri, isDyna, isDynaGetterMap;
 		ClassMeta<?> rawTypeMeta, typeMeta;
 		String[] properties;
+		int index = -1;
 		PojoSwap swap;
 		BeanRegistry beanRegistry;
 		Object overrideValue;
@@ -186,6 +193,8 @@ public final class BeanPropertyMeta {
 					if (! p.properties().isEmpty())
 						properties = split(p.properties());
 					bdClasses.a(p.dictionary());
+					if (p.index() != -1)
+						index = p.index();
 					if (! p.ro().isEmpty())
 						readOnly = Boolean.valueOf(p.ro());
 					if (! p.wo().isEmpty())
@@ -205,6 +214,8 @@ public final class BeanPropertyMeta {
 					if (properties != null && ! p.properties().isEmpty())
 						properties = split(p.properties());
 					bdClasses.a(p.dictionary());
+					if (p.index() != -1)
+						index = p.index();
 					if (! p.ro().isEmpty())
 						readOnly = Boolean.valueOf(p.ro());
 					if (! p.wo().isEmpty())
@@ -225,6 +236,8 @@ public final class BeanPropertyMeta {
 					if (properties != null && ! p.properties().isEmpty())
 						properties = split(p.properties());
 					bdClasses.a(p.dictionary());
+					if (p.index() != -1)
+						index = p.index();
 					if (! p.ro().isEmpty())
 						readOnly = Boolean.valueOf(p.ro());
 					if (! p.wo().isEmpty())
@@ -392,6 +405,7 @@ public final class BeanPropertyMeta {
 		this.rawTypeMeta = b.rawTypeMeta;
 		this.typeMeta = b.typeMeta;
 		this.properties = b.properties;
+		this.index = b.index;
 		this.swap = b.swap;
 		this.beanRegistry = b.beanRegistry;
 		this.overrideValue = b.overrideValue;
@@ -402,6 +416,7 @@ public final class BeanPropertyMeta {
 		this.canWrite = b.canWrite;
 		this.readOnly = b.readOnly;
 		this.writeOnly = b.writeOnly;
+		this.accessor = beanContext.isUseMethodHandles() && ! isDyna ? BeanPropertyAccessor.create(getter, setter, field) : null;
 		this.hashCode = HashCode.of(beanMeta,name);
 	}
 
@@ -526,6 +541,15 @@ public final class BeanPropertyMeta {
 		return properties;
 	}
 
+	/**
+	 * Returns the explicit ordinal of this property defined through a {@link Beanp#index() @Beanp(index)} annotation.
+	 *
+	 * @return The explicit ordinal of this property, or <c>-1</c> if annotation not specified.
+	 */
+	public int getIndex() {
+		return index;
+	}
+
 	/**
 	 * Returns the metadata on the property that this metadata is a delegate for.
 	 *
@@ -837,6 +861,116 @@ public final class BeanPropertyMeta {
 		}
 	}
 
+	/**
+	 * Returns the primitive type of this property if parsed numbers can be stored into it without boxing.
+	 *
+	 * <p>
+	 * When this returns a type, the value can be set with the matching {@link #setInt(BeanMap, int)},
+	 * {@link #setLong(BeanMap, long)}, {@link #setFloat(BeanMap, float)} or {@link #setDouble(BeanMap, double)} method,
+	 * which has the same effect as {@link #set(BeanMap, String, Object)} with the boxed value.
+	 * This is only the case for <jk>int</jk>, <jk>long</jk>, <jk>float</jk> and <jk>double</jk> properties with a setter
+	 * or non-final field, no swaps and no bean interceptor, on bean maps that already wrap a bean.
+	 *
+	 * @param m The bean map the value will be set on.
+	 * @return
+	 * 	<c>int.class</c>, <c>long.class</c>, <c>float.class</c> or <c>double.class</c>, or <jk>null</jk> if the value
+	 * 	must be set through {@link #set(BeanMap, String, Object)}.
+	 */
+	public Class<?> getPrimitiveNumberType(BeanMap<?> m) {
+		if (m.bean == null || getPrimitiveSetter() == null)
+			return null;
+		return rawTypeMeta.getInnerClass();
+	}
+
+	/**
+	 * Sets an <jk>int</jk> property without boxing the value.
+	 *
+	 * @param m The bean map to set the property value on.
+	 * @param value The value to set.
+	 * @throws BeanRuntimeException If property could not be set.
+	 * @see #getPrimitiveNumberType(BeanMap)
+	 */
+	public void setInt(BeanMap<?> m, int value) throws BeanRuntimeException {
+		Object bean = m.bean;
+		try {
+			getPrimitiveSetter().invokeExact(bean, value);
+		} catch (Throwable e) {
+			onPrimitiveSetterException(e);
+		}
+	}
+
+	/**
+	 * Sets a <jk>long</jk> property without boxing the value.
+	 *
+	 * @param m The bean map to set the property value on.
+	 * @param value The value to set.
+	 * @throws BeanRuntimeException If property could not be set.
+	 * @see #getPrimitiveNumberType(BeanMap)
+	 */
+	public void setLong(BeanMap<?> m, long value) throws BeanRuntimeException {
+		Object bean = m.bean;
+		try {
+			getPrimitiveSetter().invokeExact(bean, value);
+		} catch (Throwable e) {
+			onPrimitiveSetterException(e);
+		}
+	}
+
+	/**
+	 * Sets a <jk>float</jk> property without boxing the value.
+	 *
+	 * @param m The bean map to set the property value on.
+	 * @param value The value to set.
+	 * @throws BeanRuntimeException If property could not be set.
+	 * @see #getPrimitiveNumberType(BeanMap)
+	 */
+	public void setFloat(BeanMap<?> m, float value) throws BeanRuntimeException {
+		Object bean = m.bean;
+		try {
+			getPrimitiveSetter().invokeExact(bean, value);
+		} catch (Throwable e) {
+			onPrimitiveSetterException(e);
+		}
+	}
+
+	/**
+	 * Sets a <jk>double</jk> property without boxing the value.
+	 *
+	 * @param m The bean map to set the property value on.
+	 * @param value The value to set.
+	 * @throws BeanRuntimeException If property could not be set.
+	 * @see #getPrimitiveNumberType(BeanMap)
+	 */
+	public void setDouble(BeanMap<?> m, double value) throws BeanRuntimeException {
+		Object bean = m.bean;
+		try {
+			getPrimitiveSetter().invokeExact(bean, value);
+		} catch (Throwable e) {
+			onPrimitiveSetterException(e);
+		}
+	}
+
+	private MethodHandle getPrimitiveSetter() {
+		Object s = primitiveSetter;
+		if (s == null) {
+			Class<?> c = rawTypeMeta.getInnerClass();
+			boolean b =
+				(c == int.class || c == long.class || c == float.class || c == double.class)
+				&& ! (readOnly || isDyna || swap != null || delegateFor != null || overrideValue != null || rawTypeMeta.hasChildPojoSwaps())
+				&& (beanMeta.beanFilter == null || ! beanMeta.beanFilter.hasInterceptor());
+			s = b ? BeanPropertyAccessor.primitiveSetter(setter, field, c) : null;
+			if (s == null)
+				s = NO_PRIMITIVE_SETTER;
+			primitiveSetter = s;
+		}
+		return s == NO_PRIMITIVE_SETTER ? null : (MethodHandle)s;
+	}
+
+	private void onPrimitiveSetterException(Throwable e) throws BeanRuntimeException {
+		if (! beanContext.isIgnoreInvocationExceptionsOnSetters())
+			throw new BeanRuntimeException(new InvocationTargetException(e), beanMeta.c, "Error occurred trying to set property ''{0}''", name);
+	}
+
 	private Object invokeGetter(Object bean, String pName) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
 		if (isDyna) {
 			Map m = null;
@@ -851,6 +985,8 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 			return (m == null ? null : m.get(pName));
 		}
+		if (accessor != null && accessor.canGet())
+			return accessor.get(bean);
 		if (getter != null)
 			return getter.invoke(bean);
 		if (field != null)
@@ -871,6 +1007,10 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, this.getClassMeta().getInnerClass().getName(), findClassName(val));
 			return (m == null ? null : m.put(pName, val));
 		}
+		if (accessor != null && accessor.canSet()) {
+			accessor.set(bean, val);
+			return null;
+		}
 		if (setter != null)
 			return setter.invoke(bean, val);
 		if (field != null) {
@@ -1258,6 +1398,14 @@ public final class BeanPropertyMeta {
 		return writeOnly;
 	}
 
+	/*
+	 * Returns true if values are read and written as-is through the getter, setter or field, so that generated bean
+	 * codecs can bypass this class.
+	 */
+	boolean isPlain() {
+		return canRead && ! (readOnly || writeOnly || isDyna || isUri || swap != null || delegateFor != null || overrideValue != null || properties != null || rawTypeMeta.hasChildPojoSwaps() || typeMeta != rawTypeMeta);
+	}
+
 	@Override /* Object */
 	public int hashCode() {
 		return hashCode;
@@ -0,0 +1,162 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.util.*;
+
+/**
+ * A reusable buffer of the property values read from a bean.
+ *
+ * <p>
+ * Contains the same information as the list returned by {@link BeanMap#getValues(boolean, BeanPropertyValue...)}, but
+ * the values are kept in parallel arrays owned by the bean map so that reading the properties of a bean doesn't
+ * allocate a {@link BeanPropertyValue} per property.
+ *
+ * <p>
+ * Instances are obtained through {@link BeanMap#readValues(boolean, String)} and are only valid until the next call
+ * to that method on the same bean map.
+ */
+public final class BeanPropertyValues {
+
+	private BeanPropertyMeta[] metas = new BeanPropertyMeta[8];
+	private String[] names = new String[8];
+	private Object[] values = new Object[8];
+	private Throwable[] thrown = new Throwable[8];
+	private int size;
+
+	BeanPropertyValues() {}
+
+	/**
+	 * Removes all entries and releases the references to the values.
+	 *
+	 * @return This object (for method chaining).
+	 */
+	BeanPropertyValues clear() {
+		Arrays.fill(values, 0, size, null);
+		Arrays.fill(thrown, 0, size, null);
+		size = 0;
+		return this;
+	}
+
+	void add(BeanPropertyMeta pMeta, String name, Object value, Throwable t) {
+		if (size == metas.length) {
+			int n = size * 2;
+			metas = Arrays.copyOf(metas, n);
+			names = Arrays.copyOf(names, n);
+			values = Arrays.copyOf(values, n);
+			thrown = Arrays.copyOf(thrown, n);
+		}
+		metas[size] = pMeta;
+		names[size] = name;
+		values[size] = value;
+		thrown[size++] = t;
+	}
+
+	/**
+	 * Sorts the entries by property name.
+	 *
+	 * <p>
+	 * Insertion sort is stable like the {@link Collections#sort(List)} call it replaces, and beans rarely have enough
+	 * properties for anything else to pay off.
+	 */
+	void sort() {
+		for (int i = 1; i < size; i++) {
+			BeanPropertyMeta m = metas[i];
+			String n = names[i];
+			Object v = values[i];
+			Throwable t = thrown[i];
+			int j = i - 1;
+			for (; j >= 0 && names[j].compareTo(n) > 0; j--) {
+				metas[j+1] = metas[j];
+				names[j+1] = names[j];
+				values[j+1] = values[j];
+				thrown[j+1] = thrown[j];
+			}
+			metas[j+1] = m;
+			names[j+1] = n;
+			values[j+1] = v;
+			thrown[j+1] = t;
+		}
+	}
+
+	/**
+	 * Returns the number of property values in this buffer.
+	 *
+	 * @return The number of property values in this buffer.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the bean property metadata of the specified entry.
+	 *
+	 * @param i The entry index.
+	 * @return The bean property metadata.
+	 */
+	public BeanPropertyMeta getMeta(int i) {
+		return metas[i];
+	}
+
+	/**
+	 * Returns the class metadata of the specified entry.
+	 *
+	 * @param i The entry index.
+	 * @return The class metadata of the bean property.
+	 */
+	public ClassMeta<?> getClassMeta(int i) {
+		return metas[i].getClassMeta();
+	}
+
+	/**
+	 * Returns the bean property name of the specified entry.
+	 *
+	 * @param i The entry index.
+	 * @return The bean property name.
+	 */
+	public String getName(int i) {
+		return names[i];
+	}
+
+	/**
+	 * Returns the bean property value of the specified entry.
+	 *
+	 * @param i The entry index.
+	 * @return The bean property value.
+	 */
+	public Object getValue(int i) {
+		return values[i];
+	}
+
+	/**
+	 * Returns the exception thrown by calling the property getter of the specified entry.
+	 *
+	 * @param i The entry index.
+	 * @return The exception thrown by calling the property getter, or <jk>null</jk> if none was thrown.
+	 */
+	public Throwable getThrown(int i) {
+		return thrown[i];
+	}
+
+	/**
+	 * Copies the contents of this buffer into a list of {@link BeanPropertyValue} objects.
+	 *
+	 * @param l The list to add the values to.
+	 * @return The same list.
+	 */
+	List<BeanPropertyValue> toList(List<BeanPropertyValue> l) {
+		for (int i = 0; i < size; i++)
+			l.add(new BeanPropertyValue(metas[i], names[i], values[i], thrown[i]));
+		return l;
+	}
+}
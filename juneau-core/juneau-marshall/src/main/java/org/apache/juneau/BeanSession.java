@@ -49,6 +49,7 @@ public class BeanSession extends Session {
 	private final BeanContext ctx;
 	private final HttpPartSchema schema;
 	private Stack<StringBuilder> sbStack = new Stack<>();
+	private Deque<BeanMap> bmStack = new ArrayDeque<>();
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -1105,6 +1106,44 @@ public class BeanSession extends Session {
 		sbStack.push(sb);
 	}
 
+	/**
+	 * Same as {@link #toBeanMap(Object)} but reuses a bean map from an internal pool.
+	 *
+	 * <p>
+	 * Bean maps are returned to the pool by calling {@link #returnBeanMap(BeanMap)}, after which they must no longer
+	 * be used.
+	 * <br>Used by serializers to avoid allocating a bean map for every bean serialized.
+	 *
+	 * @param <T> The class of the object being wrapped.
+	 * @param o The object to wrap in a map interface.  Must not be null.
+	 * @return A new or previously returned bean map wrapping the specified object.
+	 */
+	protected final <T> BeanMap<T> acquireBeanMap(T o) {
+		if (o instanceof BeanMap)
+			return (BeanMap<T>)o;
+		BeanMeta<T> m = bmStack.isEmpty() ? null : (BeanMeta<T>)getClassMeta(o.getClass()).getBeanMeta();
+		if (m == null) {
+			BeanMap<T> bm = toBeanMap(o);
+			bm.reusable = true;
+			return bm;
+		}
+		return bmStack.pop().reset(o, m);
+	}
+
+	/**
+	 * Returns a bean map obtained from {@link #acquireBeanMap(Object)} back into the internal reuse pool.
+	 *
+	 * @param m
+	 * 	The bean map to return to the pool.
+	 * 	<br>No-op if <jk>null</jk>, not created by {@link #acquireBeanMap(Object)} on this session, or already returned.
+	 */
+	protected final void returnBeanMap(BeanMap<?> m) {
+		if (m == null || ! m.reusable || m.bean == null || m.getBeanSession() != this)
+			return;
+		((BeanMap)m).reset(null, m.meta);
+		bmStack.push(m);
+	}
+
 	/**
 	 * Returns a reusable {@link ClassMeta} representation for the class <c>Object</c>.
 	 *
@@ -1480,6 +1519,17 @@ public class BeanSession extends Session {
 		return ctx.isUseJavaBeanIntrospector();
 	}
 
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * @see BeanContext#BEAN_useMethodHandles
+	 * @return
+	 * 	<jk>true</jk> if bean properties are accessed through generated accessors instead of reflection.
+	 */
+	public final boolean isUseMethodHandles() {
+		return ctx.isUseMethodHandles();
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
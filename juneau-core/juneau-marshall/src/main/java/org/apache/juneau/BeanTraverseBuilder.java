@@ -649,6 +649,12 @@ public class BeanTraverseBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public BeanTraverseBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	// </FluentSetters>
 
 	@Override /* Context */
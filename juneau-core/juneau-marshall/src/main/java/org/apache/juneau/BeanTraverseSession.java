@@ -130,6 +130,23 @@ public class BeanTraverseSession extends BeanSession {
 		return cm;
 	}
 
+	/**
+	 * Copies the current position of this session in the model to another session.
+	 *
+	 * <p>
+	 * Used when part of the model below the current position is traversed by a separate session (e.g. on another
+	 * thread) so that indentation, the max depth, and recursion detection behave the same as in this session.
+	 *
+	 * @param session The session to copy the position to.
+	 */
+	protected final void copyPosition(BeanTraverseSession session) {
+		session.indent = indent;
+		session.depth = depth;
+		session.stack.addAll(stack);
+		if (! set.isEmpty())
+			session.set.putAll(set);
+	}
+
 	/**
 	 * Returns <jk>true</jk> if we're processing the root node.
 	 *
@@ -28,6 +28,7 @@ import java.util.*;
 import java.util.Date;
 import java.util.concurrent.*;
 import java.util.concurrent.locks.*;
+import java.util.stream.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
@@ -61,7 +62,7 @@ public final class ClassMeta<T> implements Type {
 
 	/** Class categories. */
 	enum ClassCategory {
-		MAP, COLLECTION, CLASS, METHOD, NUMBER, DECIMAL, BOOLEAN, CHAR, DATE, ARRAY, ENUM, OTHER, CHARSEQ, STR, OBJ, URI, BEANMAP, READER, INPUTSTREAM, VOID, ARGS, OPTIONAL
+		MAP, COLLECTION, CLASS, METHOD, NUMBER, DECIMAL, BOOLEAN, CHAR, DATE, ARRAY, ENUM, OTHER, CHARSEQ, STR, OBJ, URI, BEANMAP, READER, INPUTSTREAM, VOID, ARGS, OPTIONAL, STREAM
 	}
 
 	final Class<T> innerClass;                              // The class being wrapped.
@@ -420,6 +421,8 @@ public final class ClassMeta<T> implements Type {
 					cc = INPUTSTREAM;
 				else if (ci.is(Optional.class))
 					cc = OPTIONAL;
+				else if (ci.isChildOfAny(Iterator.class, Enumeration.class, BaseStream.class, Spliterator.class))
+					cc = STREAM;
 			}
 
 			isMemberClass = ci.isMemberClass() && ci.isNotStatic();
@@ -568,7 +571,7 @@ public final class ClassMeta<T> implements Type {
 				}
 
 				// If this is a COLLECTION, see if it's parameterized (e.g. AddressBook extends LinkedList<Person>)
-				else if (cc == COLLECTION || cc == OPTIONAL) {
+				else if (cc == COLLECTION || cc == OPTIONAL || cc == STREAM) {
 					ClassMeta[] parameters = findParameters();
 					if (parameters != null && parameters.length == 1) {
 						elementType = parameters[0];
@@ -672,6 +675,7 @@ public final class ClassMeta<T> implements Type {
 					case OTHER:
 					case READER:
 					case OPTIONAL:
+					case STREAM:
 					case VOID:
 						break;
 				}
@@ -709,14 +713,19 @@ public final class ClassMeta<T> implements Type {
 					l.add(createPojoSwap(swap));
 
 			PojoSwap defaultSwap = DefaultSwaps.find(ci);
-			if (defaultSwap == null)
-				defaultSwap = AutoObjectSwap.find(bc, ci);
-			if (defaultSwap == null)
-				defaultSwap = AutoNumberSwap.find(bc, ci);
-			if (defaultSwap == null)
-				defaultSwap = AutoMapSwap.find(bc, ci);
-			if (defaultSwap == null)
-				defaultSwap = AutoListSwap.find(bc, ci);
+
+			// Streams are serialized element-by-element and have methods (e.g. Stream.toList()) that would otherwise
+			// be detected as auto-swaps and consume them.
+			if (cc != STREAM) {
+				if (defaultSwap == null)
+					defaultSwap = AutoObjectSwap.find(bc, ci);
+				if (defaultSwap == null)
+					defaultSwap = AutoNumberSwap.find(bc, ci);
+				if (defaultSwap == null)
+					defaultSwap = AutoMapSwap.find(bc, ci);
+				if (defaultSwap == null)
+					defaultSwap = AutoListSwap.find(bc, ci);
+			}
 			if (defaultSwap != null)
 				l.add(defaultSwap);
 		}
@@ -847,6 +856,13 @@ public final class ClassMeta<T> implements Type {
 		return childPojoSwaps != null;
 	}
 
+	/*
+	 * Returns true if this class has any POJO swaps associated with it, regardless of media type.
+	 */
+	boolean hasSwaps() {
+		return swaps != null;
+	}
+
 	/**
 	 * Returns the {@link PojoSwap} where the specified class is the same/subclass of the normal class of one of the
 	 * child POJO swaps associated with this class.
@@ -1105,6 +1121,21 @@ public final class ClassMeta<T> implements Type {
 		return cc == OPTIONAL;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this class is a single-pass source of elements.
+	 *
+	 * <p>
+	 * This includes {@link Iterator}, {@link Enumeration}, {@link Spliterator}, and {@link BaseStream} (e.g.
+	 * {@link java.util.stream.Stream}, {@link java.util.stream.IntStream}) types.
+	 * <br>Serializers that support these types natively write them as arrays by consuming the source element-by-element
+	 * without buffering the contents in memory.
+	 *
+	 * @return <jk>true</jk> if this class is an {@link Iterator}, {@link Enumeration}, {@link Spliterator}, or {@link BaseStream}.
+	 */
+	public boolean isStreamable() {
+		return cc == STREAM;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if this class is a subclass of {@link Collection} or is an array.
 	 *
@@ -1840,7 +1871,7 @@ public final class ClassMeta<T> implements Type {
 			return sb.append(n).append(keyType.isObject() && valueType.isObject() ? "" : "<"+keyType.toString(simple)+","+valueType.toString(simple)+">");
 		if (cc == BEANMAP)
 			return sb.append(BeanMap.class.getName()).append('<').append(n).append('>');
-		if (cc == COLLECTION || cc == OPTIONAL)
+		if (cc == COLLECTION || cc == OPTIONAL || cc == STREAM)
 			return sb.append(n).append(elementType.isObject() ? "" : "<"+elementType.toString(simple)+">");
 		return sb.append(n);
 	}
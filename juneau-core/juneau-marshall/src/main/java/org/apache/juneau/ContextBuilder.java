@@ -19,6 +19,8 @@ import java.util.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.assertions.*;
+import org.apache.juneau.cbor.annotation.*;
+import org.apache.juneau.compact.annotation.*;
 import org.apache.juneau.csv.annotation.*;
 import org.apache.juneau.html.annotation.*;
 import org.apache.juneau.http.header.*;
@@ -174,6 +176,8 @@ public abstract class ContextBuilder {
 	 * applied as properties to this builder.  These annotations include:
 	 * <ul class='javatree'>
 	 * 	<li class ='ja'>{@link BeanConfig}
+	 * 	<li class ='ja'>{@link CborConfig}
+	 * 	<li class ='ja'>{@link CompactConfig}
 	 * 	<li class ='ja'>{@link CsvConfig}
 	 * 	<li class ='ja'>{@link HtmlConfig}
 	 * 	<li class ='ja'>{@link HtmlDocConfig}
@@ -235,6 +239,8 @@ public abstract class ContextBuilder {
 	 * applied as properties to this builder.  These annotations include:
 	 * <ul class='javatree'>
 	 * 	<li class ='ja'>{@link BeanConfig}
+	 * 	<li class ='ja'>{@link CborConfig}
+	 * 	<li class ='ja'>{@link CompactConfig}
 	 * 	<li class ='ja'>{@link CsvConfig}
 	 * 	<li class ='ja'>{@link HtmlConfig}
 	 * 	<li class ='ja'>{@link HtmlDocConfig}
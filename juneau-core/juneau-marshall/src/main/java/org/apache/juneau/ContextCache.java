@@ -13,11 +13,12 @@
 package org.apache.juneau;
 
 import static org.apache.juneau.internal.ClassUtils.*;
-import java.util.*;
 import java.util.concurrent.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.mstat.*;
 import org.apache.juneau.reflect.*;
 
 /**
@@ -33,57 +34,63 @@ import org.apache.juneau.reflect.*;
 @SuppressWarnings("unchecked")
 public class ContextCache {
 
+	/**
+	 * Maximum number of cached context instances.
+	 *
+	 * <p>
+	 * Defined by the <js>"juneau.ContextCache.maxSize"</js> system property (default <c>1000</c>).
+	 * <br>Least-recently-used instances are evicted once the limit is exceeded.
+	 */
+	public static final int MAX_SIZE = Integer.getInteger("juneau.ContextCache.maxSize", 1000);
+
 	/**
 	 * Reusable cache instance.
 	 */
 	public static final ContextCache INSTANCE = new ContextCache();
 
-	private final ConcurrentHashMap<Class<?>,ConcurrentHashMap<ContextProperties,Context>> contextCache = new ConcurrentHashMap<>();
+	private final Cache<Key,Context> contextCache = new Cache<>("ContextCache", false, MAX_SIZE);
 	private final ConcurrentHashMap<Class<?>,String[]> prefixCache = new ConcurrentHashMap<>();
 
-	// When enabled, this will spit out cache-hit metrics to the console on shutdown.
+	// When enabled, this will spit out cache metrics to the console on shutdown.
 	private static final boolean TRACK_CACHE_HITS = Boolean.getBoolean("juneau.trackCacheHits");
-	static final Map<String,CacheHit> CACHE_HITS = new ConcurrentHashMap<>();
 	static {
 		if (TRACK_CACHE_HITS) {
 			Runtime.getRuntime().addShutdownHook(
 				new Thread() {
 					@Override
 					public void run() {
-						int creates=0, cached=0;
-						System.out.println("Cache Hits:  [CacheObject] = [numCreated,numCached,cacheHitPercentage]");
-						for (Map.Entry<String,CacheHit> e : CACHE_HITS.entrySet()) {
-							CacheHit ch = e.getValue();
-							System.out.println("["+e.getKey()+"] = ["+ch.creates+","+ch.cached+","+((ch.cached*100)/(ch.creates+ch.cached))+"%]");
-							creates += ch.creates;
-							cached += ch.cached;
-						}
-						if (creates + cached > 0)
-							System.out.println("[total] = ["+creates+","+cached+","+((cached*100)/(creates+cached))+"%]");
+						System.out.println("Cache Stats:");
+						for (CacheStats cs : CacheStats.getAll())
+							System.out.println(cs);
 					}
 				}
 			);
 		}
 	}
 
-	static void logCache(Class<?> contextClass, boolean wasCached) {
-		if (TRACK_CACHE_HITS) {
-			synchronized(ContextCache.class) {
-				String c = contextClass.getSimpleName();
-				CacheHit ch = CACHE_HITS.get(c);
-				if (ch == null)
-					ch = new CacheHit();
-				if (wasCached)
-					ch.cached++;
-				else
-					ch.creates++;
-				ch = CACHE_HITS.put(c, ch);
-			}
+	private static final class Key {
+		private final Class<?> c;
+		private final ContextProperties cp;
+		private final int hashCode;
+
+		Key(Class<?> c, ContextProperties cp) {
+			this.c = c;
+			this.cp = cp;
+			this.hashCode = HashCode.of(c, cp);
 		}
-	}
 
-	static class CacheHit {
-		public int creates, cached;
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (! (o instanceof Key))
+				return false;
+			Key k = (Key)o;
+			return c == k.c && cp.equals(k.cp);
+		}
 	}
 
 	ContextCache() {}
@@ -102,22 +109,26 @@ public class ContextCache {
 		if (prefixes == null)
 			return instantiate(c, cp);
 
-		ConcurrentHashMap<ContextProperties,Context> m = getContextCache(c);
-
 		cp = cp.subset(prefixes);
+		Key key = new Key(c, cp);
 
-		Context context = m.get(cp);
-
-		logCache(c, context != null);
+		Context context = contextCache.get(key);
 
-		if (context == null) {
-			context = instantiate(c, cp);
-			m.putIfAbsent(cp, context);
-		}
+		if (context == null)
+			context = contextCache.put(key, instantiate(c, cp));
 
 		return (T)context;
 	}
 
+	/**
+	 * Returns a snapshot of the statistics of this cache.
+	 *
+	 * @return A snapshot of the statistics of this cache.
+	 */
+	public CacheStats getStats() {
+		return contextCache.getStats();
+	}
+
 	private <T extends Context> T instantiate(Class<T> c, ContextProperties cp) {
 		try {
 			return newInstance(c, cp);
@@ -128,17 +139,6 @@ public class ContextCache {
 		}
 	}
 
-	private ConcurrentHashMap<ContextProperties,Context> getContextCache(Class<?> c) {
-		ConcurrentHashMap<ContextProperties,Context> m = contextCache.get(c);
-		if (m == null) {
-			m = new ConcurrentHashMap<>();
-			ConcurrentHashMap<ContextProperties,Context> m2 = contextCache.putIfAbsent(c, m);
-			if (m2 != null)
-				m = m2;
-		}
-		return m;
-	}
-
 	private String[] getPrefixes(Class<?> c) {
 		String[] prefixes = prefixCache.get(c);
 		if (prefixes == null) {
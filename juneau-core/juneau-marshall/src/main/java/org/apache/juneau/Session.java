@@ -129,9 +129,28 @@ public abstract class Session {
 	 * @param args Optional {@link MessageFormat}-style arguments.
 	 */
 	public void addWarning(String msg, Object... args) {
+		addFormattedWarning(format(msg, args));
+	}
+
+	/**
+	 * Adds the warnings of the specified session to this session.
+	 *
+	 * <p>
+	 * Used to collect the warnings of sessions that did part of the work of this session on other threads.
+	 *
+	 * @param session The session whose warnings should be added to this session.
+	 */
+	protected final void addWarnings(Session session) {
+		List<String> l = session.getWarnings();
+		if (l != null)
+			for (String w : l)
+				addFormattedWarning(w.substring(w.indexOf(": ") + 2));
+	}
+
+	private void addFormattedWarning(String msg) {
 		if (warnings == null)
 			warnings = new LinkedList<>();
-		warnings.add((warnings.size() + 1) + ": " + format(msg, args));
+		warnings.add((warnings.size() + 1) + ": " + msg);
 	}
 
 	/**
@@ -888,6 +888,30 @@ public @interface BeanConfig {
 	 */
 	String useJavaBeanIntrospector() default "";
 
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * <p>
+	 * When enabled, bean property getters, setters and fields are accessed through generated accessors instead of
+	 * reflection.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 *		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link BeanContext#BEAN_useMethodHandles}
+	 * </ul>
+	 */
+	String useMethodHandles() default "";
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// BeanTraverseContext
 	//-----------------------------------------------------------------------------------------------------------------
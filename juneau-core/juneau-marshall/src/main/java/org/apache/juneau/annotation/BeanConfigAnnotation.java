@@ -82,6 +82,7 @@ public class BeanConfigAnnotation {
 			cpb.setIfNotEmpty(BEAN_useEnumNames, bool(a.useEnumNames()));
 			cpb.setIfNotEmpty(BEAN_disableInterfaceProxies, bool(a.disableInterfaceProxies()));
 			cpb.setIfNotEmpty(BEAN_useJavaBeanIntrospector, bool(a.useJavaBeanIntrospector()));
+			cpb.setIfNotEmpty(BEAN_useMethodHandles, bool(a.useMethodHandles()));
 			cpb.setIfNotEmpty(BEANTRAVERSE_detectRecursions, bool(a.detectRecursions()));
 			cpb.setIfNotEmpty(BEANTRAVERSE_ignoreRecursions, bool(a.ignoreRecursions()));
 			cpb.setIfNotEmpty(BEANTRAVERSE_initialDepth, integer(a.initialDepth(), "initialDepth"));
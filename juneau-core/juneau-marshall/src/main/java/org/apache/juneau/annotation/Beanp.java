@@ -93,6 +93,36 @@ public @interface Beanp {
 	 */
 	String format() default "";
 
+	/**
+	 * Identifies the stable ordinal of this property in index-based serialization formats.
+	 *
+	 * <p>
+	 * Formats such as {@link org.apache.juneau.compact.CompactSerializer} identify bean properties with an index on the
+	 * wire by ordinal instead of by name.
+	 * <br>Indexes keep the wire format stable when properties are added, removed, or reordered.
+	 *
+	 * <p>
+	 * Properties without an index have no ordinal and are identified by name.
+	 * <br>Indexes must be unique within a bean.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>public class</jk> MyBean {
+	 *
+	 * 		<ja>@Beanp</ja>(index=0)
+	 * 		<jk>public</jk> String <jf>name</jf>;
+	 *
+	 * 		<ja>@Beanp</ja>(index=1)
+	 * 		<jk>public int</jk> <jf>age</jf>;
+	 * 	}
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jm'>{@link BeanMeta#getPropertyOrdinal(String)}
+	 * </ul>
+	 */
+	int index() default -1;
+
 	/**
 	 * Identifies the name of the property.
 	 *
@@ -63,6 +63,7 @@ public class BeanpAnnotation {
 			create()
 			.dictionary(a.dictionary())
 			.format(r.resolve(a.format()))
+			.index(a.index())
 			.name(r.resolve(a.name()))
 			.on(r.resolve(a.on()))
 			.params(a.params())
@@ -86,6 +87,7 @@ public class BeanpAnnotation {
 		Class<?> type=Null.class;
 		Class<?>[] dictionary=new Class[0], params=new Class[0];
 		String format="", name="", properties="", ro="", value="", wo="";
+		int index=-1;
 
 		/**
 		 * Constructor.
@@ -125,6 +127,17 @@ public class BeanpAnnotation {
 			return this;
 		}
 
+		/**
+		 * Sets the {@link Beanp#index()} property on this annotation.
+		 *
+		 * @param value The new value for this property.
+		 * @return This object (for method chaining).
+		 */
+		public Builder index(int value) {
+			this.index = value;
+			return this;
+		}
+
 		/**
 		 * Sets the {@link Beanp#name()} property on this annotation.
 		 *
@@ -230,11 +243,13 @@ public class BeanpAnnotation {
 		private final Class<?> type;
 		private final Class<?>[] params, dictionary;
 		private final String name, value, properties, format, ro, wo;
+		private final int index;
 
 		Impl(Builder b) {
 			super(b);
 			this.dictionary = copyOf(b.dictionary);
 			this.format = b.format;
+			this.index = b.index;
 			this.name = b.name;
 			this.params = copyOf(b.params);
 			this.properties = b.properties;
@@ -255,6 +270,11 @@ public class BeanpAnnotation {
 			return format;
 		}
 
+		@Override /* Beanp */
+		public int index() {
+			return index;
+		}
+
 		@Override /* Beanp */
 		public String name() {
 			return name;
@@ -0,0 +1,314 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.cbor.DataType.*;
+import static org.apache.juneau.internal.IOUtils.*;
+
+import java.io.*;
+import java.math.*;
+import java.util.*;
+
+import org.apache.juneau.parser.*;
+
+/**
+ * Specialized input stream for parsing CBOR streams.
+ *
+ * <p>
+ * Tags are resolved while reading data types.
+ * <br>Bignums (tags 2 and 3) and decimal fractions (tag 4) are read as {@link DataType#BIGINTEGER} and
+ * {@link DataType#BIGDECIMAL} values, and all other tags are skipped.
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		This class is not intended for external use.
+ * </ul>
+ */
+public final class CborInputStream extends ParserInputStream {
+
+	private DataType currentDataType;
+	private int majorType;
+	private long length;    // Number of bytes or entries in strings, arrays and maps.  -1 if indefinite.
+	private long value;     // Integer values, booleans, and the raw bits of floats and doubles.
+	private Number number;  // Bignums and decimal fractions.
+	private boolean unread;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param pipe The parser input.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	protected CborInputStream(ParserPipe pipe) throws IOException {
+		super(pipe);
+	}
+
+	/**
+	 * Reads the initial byte (and any tags) of the next data item from the stream.
+	 *
+	 * <p>
+	 * Integers, floats and bignums are read in full.
+	 * <br>For strings, arrays and maps, only the header is read.
+	 */
+	DataType readDataType() throws IOException {
+		if (unread) {
+			unread = false;
+			return currentDataType;
+		}
+		return readDataType(0);
+	}
+
+	/*
+	 * Tags that don't change how the enclosed data item is read are skipped in a loop.
+	 * Bignums and decimal fractions read their content through a nested call (depth + 1).  A decimal fraction can
+	 * contain a bignum, but anything nested deeper is rejected instead of recursing further.
+	 */
+	private DataType readDataType(int depth) throws IOException {
+		while (true) {
+			int i = read();
+			if (i == -1)
+				throw new IOException("Unexpected end of file found at position " + getPosition());
+			int mt = i >>> 5, ai = i & 0x1F;
+			switch (mt) {
+				case MT_UINT:
+				case MT_NINT:
+					return readInteger(readArgument(ai), mt == MT_NINT);
+				case MT_BYTES:
+				case MT_TEXT:
+				case MT_ARRAY:
+				case MT_MAP: {
+					majorType = mt;
+					length = ai == AI_INDEFINITE ? -1 : readArgument(ai);
+					if (length < -1 || length > Integer.MAX_VALUE)
+						throw new IOException("Length too large at position " + getPosition());
+					return currentDataType = (mt == MT_BYTES ? BIN : mt == MT_TEXT ? STRING : mt == MT_ARRAY ? ARRAY : MAP);
+				}
+				case MT_TAG: {
+					long tag = readArgument(ai);
+					if (tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) {
+						if (depth > 1)
+							throw new IOException("Invalid nested bignum tag at position " + getPosition());
+						if (readDataType(depth + 1) != BIN)
+							throw new IOException("Bignum tag not followed by a byte string at position " + getPosition());
+						BigInteger b = new BigInteger(1, readBinary());
+						number = tag == TAG_NEGATIVE_BIGNUM ? b.not() : b;
+						return currentDataType = BIGINTEGER;
+					}
+					if (tag == TAG_DECIMAL_FRACTION) {
+						if (depth > 0)
+							throw new IOException("Invalid nested decimal fraction tag at position " + getPosition());
+						if (readDataType(depth + 1) != ARRAY || length != 2)
+							throw new IOException("Decimal fraction tag not followed by a two-entry array at position " + getPosition());
+						DataType dt = readDataType(depth + 1);
+						if (dt != INT && dt != LONG)
+							throw new IOException("Invalid decimal fraction exponent at position " + getPosition());
+						long scale = -value;
+						if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE)
+							throw new IOException("Decimal fraction exponent out of range at position " + getPosition());
+						dt = readDataType(depth + 1);
+						BigInteger mantissa;
+						if (dt == INT || dt == LONG)
+							mantissa = BigInteger.valueOf(value);
+						else if (dt == BIGINTEGER)
+							mantissa = (BigInteger)number;
+						else
+							throw new IOException("Invalid decimal fraction mantissa at position " + getPosition());
+						number = new BigDecimal(mantissa, (int)scale);
+						return currentDataType = BIGDECIMAL;
+					}
+					// Other tags don't change how the enclosed data item is read.
+					continue;
+				}
+				default: {
+					switch (i) {
+						case FALSE:
+						case TRUE:
+							value = i == TRUE ? 1 : 0;
+							return currentDataType = BOOLEAN;
+						case NIL:
+						case UNDEFINED:
+							return currentDataType = NULL;
+						case FLOAT16:
+							value = Float.floatToIntBits(toFloat((int)readArgument(AI_UINT16)));
+							return currentDataType = FLOAT;
+						case FLOAT32:
+							value = readArgument(AI_UINT32);
+							return currentDataType = FLOAT;
+						case FLOAT64:
+							value = readArgument(AI_UINT64);
+							return currentDataType = DOUBLE;
+						case BREAK_CODE:
+							return currentDataType = BREAK;
+						default:
+							throw new IOException("Unsupported simple value 0x" + Integer.toHexString(i) + " at position " + getPosition());
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the next data item is the "break" stop code that ends an indefinite-length item.
+	 *
+	 * <p>
+	 * If it isn't, the next call to {@link #readDataType()} returns the data item that was just read.
+	 */
+	boolean readBreak() throws IOException {
+		if (readDataType() == BREAK)
+			return true;
+		unread = true;
+		return false;
+	}
+
+	/**
+	 * Returns the length of the string, array or map whose header was last read, or <c>-1</c> if it has an indefinite
+	 * length.
+	 */
+	long readLength() {
+		return length;
+	}
+
+	/**
+	 * Read a boolean from the stream.
+	 */
+	boolean readBoolean() {
+		return value == 1;
+	}
+
+	/**
+	 * Read an integer from the stream.
+	 */
+	int readInt() {
+		return (int)value;
+	}
+
+	/**
+	 * Read 64-bit long from the stream.
+	 */
+	long readLong() {
+		return value;
+	}
+
+	/**
+	 * Read a float from the stream.
+	 */
+	float readFloat() {
+		return Float.intBitsToFloat((int)value);
+	}
+
+	/**
+	 * Read a double from the stream.
+	 */
+	double readDouble() {
+		return Double.longBitsToDouble(value);
+	}
+
+	/**
+	 * Read a {@link BigInteger} or {@link BigDecimal} from the stream.
+	 */
+	Number readBigNumber() {
+		return number;
+	}
+
+	/**
+	 * Read a text string from the stream.
+	 */
+	String readString() throws IOException {
+		return new String(readBinary(), UTF8);
+	}
+
+	/**
+	 * Read a byte string from the stream.
+	 *
+	 * <p>
+	 * Indefinite-length strings are read by concatenating their chunks.
+	 */
+	byte[] readBinary() throws IOException {
+		if (length >= 0)
+			return readFully((int)length);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		while (true) {
+			int i = read();
+			if (i == BREAK_CODE)
+				break;
+			if (i == -1 || (i >>> 5) != majorType || (i & 0x1F) == AI_INDEFINITE)
+				throw new IOException("Invalid chunk in indefinite-length string at position " + getPosition());
+			long n = readArgument(i & 0x1F);
+			if (n < 0 || n > Integer.MAX_VALUE)
+				throw new IOException("Length too large at position " + getPosition());
+			baos.write(readFully((int)n));
+		}
+		return baos.toByteArray();
+	}
+
+	/*
+	 * Reads the argument of a data item given the additional information in its initial byte.
+	 * 64-bit arguments are returned as unsigned values (i.e. negative if they don't fit in a long).
+	 */
+	private long readArgument(int ai) throws IOException {
+		if (ai < AI_UINT8)
+			return ai;
+		int n = ai == AI_UINT8 ? 1 : ai == AI_UINT16 ? 2 : ai == AI_UINT32 ? 4 : ai == AI_UINT64 ? 8 : 0;
+		if (n == 0)
+			throw new IOException("Invalid additional information " + ai + " at position " + getPosition());
+		byte[] b = readFully(n);
+		long l = 0;
+		for (int i = 0; i < n; i++)
+			l = (l << 8) | (b[i] & 0xFF);
+		return l;
+	}
+
+	private DataType readInteger(long n, boolean negative) {
+		if (n < 0) {
+			// Doesn't fit in a signed long.
+			BigInteger b = new BigInteger(Long.toUnsignedString(n));
+			number = negative ? b.not() : b;
+			return currentDataType = BIGINTEGER;
+		}
+		value = negative ? -1 - n : n;
+		return currentDataType = (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? INT : LONG);
+	}
+
+	/*
+	 * Reads exactly n bytes.
+	 * The buffer grows as bytes arrive so that a bogus length header can't force a large allocation up front.
+	 */
+	private byte[] readFully(int n) throws IOException {
+		byte[] b = new byte[Math.min(n, 8192)];
+		int off = 0;
+		while (off < n) {
+			if (off == b.length)
+				b = Arrays.copyOf(b, (int)Math.min(n, b.length * 2L));
+			int r = read(b, off, b.length - off);
+			if (r <= 0)
+				throw new IOException("Unexpected end of file found at position " + getPosition());
+			off += r;
+		}
+		return b;
+	}
+
+	/*
+	 * Converts an IEEE 754 half-precision float to a float.
+	 */
+	private static float toFloat(int h) {
+		int exp = (h >> 10) & 0x1F, mant = h & 0x3FF;
+		float f;
+		if (exp == 0)
+			f = Math.scalb((float)mant, -24);
+		else if (exp == 31)
+			f = mant == 0 ? Float.POSITIVE_INFINITY : Float.NaN;
+		else
+			f = Math.scalb(1 + mant / 1024f, exp - 15);
+		return (h & 0x8000) == 0 ? f : -f;
+	}
+}
@@ -0,0 +1,240 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.cbor.DataType.*;
+
+import java.io.*;
+import java.math.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.internal.*;
+
+/**
+ * Specialized output stream for serializing CBOR streams.
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		This class is not intended for external use.
+ * </ul>
+ */
+public final class CborOutputStream extends OutputStream {
+
+	private final OutputStream os;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param os The output stream being wrapped.
+	 */
+	protected CborOutputStream(OutputStream os) {
+		this.os = os;
+	}
+
+	@Override /* OutputStream */
+	public void write(int b) throws IOException {
+		os.write(b);
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		os.flush();
+	}
+
+	/**
+	 * Same as {@link #write(byte[])}.
+	 */
+	final CborOutputStream append(byte[] b) throws IOException {
+		os.write(b);
+		return this;
+	}
+
+	/**
+	 * Appends one byte to the stream.
+	 */
+	final CborOutputStream append1(int i) throws IOException {
+		os.write(i);
+		return this;
+	}
+
+	/**
+	 * Appends two bytes to the stream.
+	 */
+	final CborOutputStream append2(int i) throws IOException {
+		return append1(i>>8).append1(i);
+	}
+
+	/**
+	 * Appends four bytes to the stream.
+	 */
+	final CborOutputStream append4(int i) throws IOException {
+		return append1(i>>24).append1(i>>16).append1(i>>8).append1(i);
+	}
+
+	/**
+	 * Appends eight bytes to the stream.
+	 */
+	final CborOutputStream append8(long l) throws IOException {
+		return append4((int)(l>>32)).append4((int)l);
+	}
+
+	/**
+	 * Appends the initial byte and argument of a data item using the shortest possible encoding.
+	 *
+	 * <p>
+	 * The argument is treated as an unsigned 64-bit value.
+	 */
+	final CborOutputStream appendHead(int majorType, long n) throws IOException {
+		int mt = majorType << 5;
+		if (n >= 0 && n < AI_UINT8)
+			return append1(mt | (int)n);
+		if (n >= 0 && n < (1L<<8))
+			return append1(mt | AI_UINT8).append1((int)n);
+		if (n >= 0 && n < (1L<<16))
+			return append1(mt | AI_UINT16).append2((int)n);
+		if (n >= 0 && n < (1L<<32))
+			return append1(mt | AI_UINT32).append4((int)n);
+		return append1(mt | AI_UINT64).append8(n);
+	}
+
+	/**
+	 * Appends a NULL flag to the stream.
+	 */
+	final CborOutputStream appendNull() throws IOException {
+		return append1(NIL);
+	}
+
+	/**
+	 * Appends a boolean to the stream.
+	 */
+	final CborOutputStream appendBoolean(boolean b) throws IOException {
+		return append1(b ? TRUE : FALSE);
+	}
+
+	/**
+	 * Appends a long to the stream.
+	 */
+	final CborOutputStream appendLong(long l) throws IOException {
+		// Negative integers are encoded as -1 minus the argument.
+		if (l >= 0)
+			return appendHead(MT_UINT, l);
+		return appendHead(MT_NINT, -1 - l);
+	}
+
+	/**
+	 * Appends a big integer to the stream.
+	 *
+	 * <p>
+	 * Values that don't fit in 64 bits are written as bignums (tags 2 and 3).
+	 */
+	final CborOutputStream appendBigInteger(BigInteger b) throws IOException {
+		boolean negative = b.signum() < 0;
+		BigInteger n = negative ? b.not() : b;  // -1 - b
+		if (n.bitLength() <= 64)
+			return appendHead(negative ? MT_NINT : MT_UINT, n.longValue());
+		byte[] bytes = n.toByteArray();
+		int off = bytes[0] == 0 ? 1 : 0;  // Drop the sign byte.
+		appendHead(MT_TAG, negative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+		appendHead(MT_BYTES, bytes.length - off);
+		os.write(bytes, off, bytes.length - off);
+		return this;
+	}
+
+	/**
+	 * Appends a big decimal to the stream as a decimal fraction (tag 4).
+	 */
+	final CborOutputStream appendBigDecimal(BigDecimal d) throws IOException {
+		appendHead(MT_TAG, TAG_DECIMAL_FRACTION);
+		startArray(2);
+		appendLong(-(long)d.scale());
+		return appendBigInteger(d.unscaledValue());
+	}
+
+	/**
+	 * Appends a generic Number to the stream.
+	 */
+	final CborOutputStream appendNumber(Number n) throws IOException {
+		Class<?> c = n.getClass();
+		if (c == Integer.class || c == Long.class || c == Short.class || c == Byte.class || c == AtomicInteger.class || c == AtomicLong.class)
+			return appendLong(n.longValue());
+		if (c == Float.class)
+			return appendFloat(n.floatValue());
+		if (c == Double.class)
+			return appendDouble(n.doubleValue());
+		if (c == BigInteger.class)
+			return appendBigInteger((BigInteger)n);
+		if (c == BigDecimal.class)
+			return appendBigDecimal((BigDecimal)n);
+		return appendDouble(n.doubleValue());
+	}
+
+	/**
+	 * Appends a float to the stream.
+	 */
+	final CborOutputStream appendFloat(float f) throws IOException {
+		return append1(FLOAT32).append4(Float.floatToIntBits(f));
+	}
+
+	/**
+	 * Appends a double to the stream.
+	 */
+	final CborOutputStream appendDouble(double d) throws IOException {
+		return append1(FLOAT64).append8(Double.doubleToLongBits(d));
+	}
+
+	/**
+	 * Appends a text string to the stream.
+	 */
+	final CborOutputStream appendString(CharSequence cs) throws IOException {
+		byte[] b = cs.toString().getBytes(IOUtils.UTF8);
+		return appendHead(MT_TEXT, b.length).append(b);
+	}
+
+	/**
+	 * Appends a byte string to the stream.
+	 */
+	final CborOutputStream appendBinary(byte[] b) throws IOException {
+		return appendHead(MT_BYTES, b.length).append(b);
+	}
+
+	/**
+	 * Appends a definite-length array header to the stream.
+	 */
+	final CborOutputStream startArray(long size) throws IOException {
+		return appendHead(MT_ARRAY, size);
+	}
+
+	/**
+	 * Appends an indefinite-length array header to the stream.
+	 *
+	 * <p>
+	 * The array entries must be followed by a call to {@link #appendBreak()}.
+	 */
+	final CborOutputStream startIndefiniteArray() throws IOException {
+		return append1((MT_ARRAY << 5) | AI_INDEFINITE);
+	}
+
+	/**
+	 * Appends a definite-length map header to the stream.
+	 */
+	final CborOutputStream startMap(long size) throws IOException {
+		return appendHead(MT_MAP, size);
+	}
+
+	/**
+	 * Appends the "break" stop code that ends an indefinite-length item.
+	 */
+	final CborOutputStream appendBreak() throws IOException {
+		return append1(BREAK_CODE);
+	}
+}
@@ -0,0 +1,148 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Parses a CBOR (Concise Binary Object Representation) stream as defined in RFC 8949 into a POJO model.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <c>Content-Type</c> types:  <bc>application/cbor</bc>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * Both definite-length and indefinite-length strings, arrays and maps are supported.
+ * <br>Bignums (tags 2 and 3) are parsed as {@link java.math.BigInteger BigIntegers} and decimal fractions (tag 4)
+ * as {@link java.math.BigDecimal BigDecimals}.
+ * <br>Other tags are ignored and the enclosed data item is parsed as-is.
+ */
+@ConfigurableContext
+public class CborParser extends InputStreamParser {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Configurable properties
+	//-------------------------------------------------------------------------------------------------------------------
+
+	static final String PREFIX = "CborParser";
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default parser, all default settings.*/
+	public static final CborParser DEFAULT = new CborParser(ContextProperties.DEFAULT);
+
+	/** Default parser, all default settings, string input encoded as spaced-hex.*/
+	public static final CborParser DEFAULT_SPACED_HEX = new SpacedHex(ContextProperties.DEFAULT);
+
+	/** Default parser, all default settings, string input encoded as BASE64.*/
+	public static final CborParser DEFAULT_BASE64 = new Base64(ContextProperties.DEFAULT);
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined subclasses
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default parser, string input encoded as spaced-hex. */
+	public static class SpacedHex extends CborParser {
+
+		/**
+		 * Constructor.
+		 *
+		 * @param cp The property store containing all the settings for this object.
+		 */
+		public SpacedHex(ContextProperties cp) {
+			super(
+				cp.builder().setDefault(ISPARSER_binaryFormat, BinaryFormat.SPACED_HEX).build()
+			);
+		}
+	}
+
+	/** Default parser, string input encoded as BASE64. */
+	public static class Base64 extends CborParser {
+
+		/**
+		 * Constructor.
+		 *
+		 * @param cp The property store containing all the settings for this object.
+		 */
+		public Base64(ContextProperties cp) {
+			super(
+				cp.builder().setDefault(ISPARSER_binaryFormat, BinaryFormat.BASE64).build()
+			);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cp The property store containing all the settings for this object.
+	 */
+	public CborParser(ContextProperties cp) {
+		super(cp, "application/cbor");
+	}
+
+	@Override /* Context */
+	public CborParserBuilder builder() {
+		return new CborParserBuilder(getContextProperties());
+	}
+
+	/**
+	 * Instantiates a new clean-slate {@link CborParserBuilder} object.
+	 *
+	 * <p>
+	 * This is equivalent to simply calling <code><jk>new</jk> CborParserBuilder()</code>.
+	 *
+	 * <p>
+	 * Note that this method creates a builder initialized to all default settings, whereas {@link #builder()} copies
+	 * the settings of the object called on.
+	 *
+	 * @return A new {@link CborParserBuilder} object.
+	 */
+	public static CborParserBuilder create() {
+		return new CborParserBuilder();
+	}
+
+	@Override /* Parser */
+	public CborParserSession createSession() {
+		return createSession(createDefaultSessionArgs());
+	}
+
+	@Override /* Parser */
+	public CborParserSession createSession(ParserSessionArgs args) {
+		return new CborParserSession(this, args);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Context */
+	public OMap toMap() {
+		return super.toMap()
+			.a(
+				"CborParser",
+				OMap
+					.create()
+					.filtered()
+			);
+	}
+}
@@ -0,0 +1,269 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.cbor.DataType.*;
+
+import java.io.IOException;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.transform.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link CborParser}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused against multiple inputs.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public final class CborParserSession extends InputStreamParserSession {
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime session arguments.
+	 */
+	protected CborParserSession(CborParser ctx, ParserSessionArgs args) {
+		super(ctx, args);
+	}
+
+	@Override /* ParserSession */
+	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
+		try (CborInputStream is = new CborInputStream(pipe)) {
+			return parseAnything(type, is, getOuter(), null);
+		}
+	}
+
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, final ClassMeta<E> elementType) throws IOException, ParseException {
+		final CborInputStream is = new CborInputStream(pipe);
+		DataType dt = is.readDataType();
+		final long length = is.readLength();
+		if (dt != DataType.NULL && dt != ARRAY)
+			throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, getClassMeta(List.class, elementType));
+		return new ParserIterator<E>(this, pipe) {
+			long remaining = dt == ARRAY ? length : 0;
+
+			@Override /* ParserIterator */
+			protected boolean advance() throws IOException {
+				return remaining < 0 ? ! is.readBreak() : remaining > 0;
+			}
+
+			@Override /* ParserIterator */
+			protected E read() throws Exception {
+				if (remaining > 0)
+					remaining--;
+				return parseAnything(elementType, is, null, null);
+			}
+		};
+	}
+
+	/*
+	 * Workhorse method.
+	 */
+	private <T> T parseAnything(ClassMeta<?> eType, CborInputStream is, Object outer, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
+
+		if (eType == null)
+			eType = object();
+		PojoSwap<T,Object> swap = (PojoSwap<T,Object>)eType.getSwap(this);
+		BuilderSwap<T,Object> builder = (BuilderSwap<T,Object>)eType.getBuilderSwap(this);
+		ClassMeta<?> sType = null;
+		if (builder != null)
+			sType = builder.getBuilderClassMeta(this);
+		else if (swap != null)
+			sType = swap.getSwapClassMeta(this);
+		else
+			sType = eType;
+
+		if (sType.isOptional())
+			return (T)Optional.ofNullable(parseAnything(eType.getElementType(), is, outer, pMeta));
+
+		setCurrentClass(sType);
+
+		Object o = null;
+		DataType dt = is.readDataType();
+		long length = is.readLength();
+
+		if (dt == BREAK)
+			throw new ParseException(this, "Unexpected break stop code encountered for parse type {0}", sType);
+
+		if (dt != DataType.NULL) {
+			if (dt == BOOLEAN)
+				o = is.readBoolean();
+			else if (dt == INT)
+				o = is.readInt();
+			else if (dt == LONG)
+				o = is.readLong();
+			else if (dt == BIGINTEGER || dt == BIGDECIMAL)
+				o = is.readBigNumber();
+			else if (dt == FLOAT)
+				o = is.readFloat();
+			else if (dt == DOUBLE)
+				o = is.readDouble();
+			else if (dt == STRING)
+				o = trim(is.readString());
+			else if (dt == BIN)
+				o = is.readBinary();
+			else if (dt == ARRAY && sType.isObject()) {
+				OList ol = new OList(this);
+				for (int i = 0; hasNext(is, length, i); i++)
+					ol.add(parseAnything(object(), is, outer, pMeta));
+				o = ol;
+			} else if (dt == MAP && sType.isObject()) {
+				OMap om = new OMap(this);
+				for (int i = 0; hasNext(is, length, i); i++)
+					om.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, om, pMeta));
+				o = cast(om, pMeta, eType);
+			}
+
+			if (sType.isObject()) {
+				// Do nothing.
+			} else if (sType.isBoolean() || sType.isCharSequence() || sType.isChar() || sType.isNumber()) {
+				o = convertToType(o, sType);
+			} else if (sType.isMap()) {
+				if (dt == MAP) {
+					Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : newGenericMap(sType));
+					for (int i = 0; hasNext(is, length, i); i++) {
+						Object key = parseAnything(sType.getKeyType(), is, outer, pMeta);
+						ClassMeta<?> vt = sType.getValueType();
+						Object value = parseAnything(vt, is, m, pMeta);
+						setName(vt, value, key);
+						m.put(key, value);
+					}
+					o = m;
+				} else {
+					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (builder != null || sType.canCreateNewBean(outer)) {
+				if (dt == MAP) {
+					BeanMap m = builder == null ? newBeanMap(outer, sType.getInnerClass()) : toBeanMap(builder.create(this, eType));
+					for (int i = 0; hasNext(is, length, i); i++) {
+						String pName = parseAnything(string(), is, m.getBean(false), null);
+						BeanPropertyMeta bpm = m.getPropertyMeta(pName);
+						if (bpm == null) {
+							if (pName.equals(getBeanTypePropertyName(eType)))
+								parseAnything(string(), is, null, null);
+							else
+								onUnknownProperty(pName, m, parseAnything(object(), is, null, null));
+						} else {
+							ClassMeta<?> cm = bpm.getClassMeta();
+							Object value = parseAnything(cm, is, m.getBean(false), bpm);
+							setName(cm, value, pName);
+							try {
+								bpm.set(m, pName, value);
+							} catch (BeanRuntimeException e) {
+								onBeanSetterException(pMeta, e);
+								throw e;
+							}
+						}
+					}
+					o = builder == null ? m.getBean() : builder.build(this, m.getBean(), eType);
+				} else {
+					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (sType.canCreateNewInstanceFromString(outer) && dt == STRING) {
+				o = sType.newInstanceFromString(outer, o == null ? "" : o.toString());
+			} else if (sType.isCollection()) {
+				if (dt == MAP) {
+					OMap m = new OMap(this);
+					for (int i = 0; hasNext(is, length, i); i++)
+						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+					o = cast(m, pMeta, eType);
+				} else if (dt == ARRAY) {
+					Collection l = (
+						sType.canCreateNewInstance(outer)
+						? (Collection)sType.newInstance()
+						: new OList(this)
+					);
+					for (int i = 0; hasNext(is, length, i); i++)
+						l.add(parseAnything(sType.getElementType(), is, l, pMeta));
+					o = l;
+				} else {
+					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (sType.isArray() || sType.isArgs()) {
+				if (dt == MAP) {
+					OMap m = new OMap(this);
+					for (int i = 0; hasNext(is, length, i); i++)
+						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+					o = cast(m, pMeta, eType);
+				} else if (dt == ARRAY) {
+					Collection l = (
+						sType.isCollection() && sType.canCreateNewInstance(outer)
+						? (Collection)sType.newInstance()
+						: new OList(this)
+					);
+					for (int i = 0; hasNext(is, length, i); i++)
+						l.add(parseAnything(sType.isArgs() ? sType.getArg(i) : sType.getElementType(), is, l, pMeta));
+					o = toArray(sType, l);
+				} else if (dt == BIN && sType.getInnerClass() == byte[].class) {
+					// Byte strings are already byte arrays.
+				} else {
+					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (dt == MAP) {
+				OMap m = new OMap(this);
+				for (int i = 0; hasNext(is, length, i); i++)
+					m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+				if (m.containsKey(getBeanTypePropertyName(eType)))
+					o = cast(m, pMeta, eType);
+				else if (sType.getProxyInvocationHandler() != null)
+					o = newBeanMap(outer, sType.getInnerClass()).load(m).getBean();
+				else
+					throw new ParseException(this, "Class ''{0}'' could not be instantiated.  Reason: ''{1}''",
+						sType.getInnerClass().getName(), sType.getNotABeanReason());
+			} else {
+				throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+			}
+		}
+
+		if (swap != null && o != null)
+			o = unswap(swap, o, eType);
+
+		if (outer != null)
+			setParent(eType, o, outer);
+
+		return (T)o;
+	}
+
+	/*
+	 * Returns true if there's another entry in an array or map.
+	 * Indefinite-length items (length -1) end with a break stop code.
+	 */
+	private static boolean hasNext(CborInputStream is, long length, int i) throws IOException {
+		return length < 0 ? ! is.readBreak() : i < length;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Session */
+	public OMap toMap() {
+		return super.toMap()
+			.a(
+				"CborParserSession",
+				OMap
+					.create()
+					.filtered()
+			);
+	}
+}
@@ -0,0 +1,347 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.internal.IOUtils.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link CborSerializer}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused within the same thread.
+ */
+public final class CborSerializerSession extends OutputStreamSerializerSession {
+
+	private final CborSerializer ctx;
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime arguments.
+	 * 	These specify session-level information such as locale and URI context.
+	 * 	It also include session-level properties that override the properties defined on the bean and
+	 * 	serializer contexts.
+	 */
+	protected CborSerializerSession(CborSerializer ctx, SerializerSessionArgs args) {
+		super(ctx, args);
+		this.ctx = ctx;
+	}
+
+	@Override /* SerializerSession */
+	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
+		serializeAnything(getCborOutputStream(out), o, getExpectedRootType(o), "root", null);
+	}
+
+	/*
+	 * Converts the specified output target object to an {@link CborOutputStream}.
+	 */
+	private static final CborOutputStream getCborOutputStream(SerializerPipe out) throws IOException {
+		Object output = out.getRawOutput();
+		if (output instanceof CborOutputStream)
+			return (CborOutputStream)output;
+		CborOutputStream os = new CborOutputStream(out.getOutputStream());
+		out.setOutputStream(os);
+		return os;
+	}
+
+	/*
+	 * Workhorse method.
+	 * Determines the type of object, and then calls the appropriate type-specific serialization method.
+	 */
+	@SuppressWarnings({ "rawtypes" })
+	private CborOutputStream serializeAnything(CborOutputStream out, Object o, ClassMeta<?> eType, String attrName, BeanPropertyMeta pMeta) throws IOException, SerializeException {
+
+		if (o == null)
+			return out.appendNull();
+
+		if (eType == null)
+			eType = object();
+
+		ClassMeta<?> aType;			// The actual type
+		ClassMeta<?> sType;			// The serialized type
+
+		aType = push2(attrName, o, eType);
+		boolean isRecursion = aType == null;
+
+		// Handle recursion
+		if (aType == null)
+			return out.appendNull();
+
+		// Handle Optional<X>
+		if (isOptional(aType)) {
+			o = getOptionalValue(o);
+			eType = getOptionalType(eType);
+			aType = getClassMetaForObject(o, object());
+		}
+
+		sType = aType;
+		String typeName = getBeanTypeName(this, eType, aType, pMeta);
+
+		// Swap if necessary
+		PojoSwap swap = aType.getSwap(this);
+		if (isStreamable(aType, swap))
+			swap = null;
+		if (swap != null) {
+			o = swap(swap, o);
+			sType = swap.getSwapClassMeta(this);
+
+			// If the getSwapClass() method returns Object, we need to figure out
+			// the actual type now.
+			if (sType.isObject())
+				sType = getClassMetaForObject(o);
+		}
+
+		// '\0' characters are considered null.
+		if (o == null || (sType.isChar() && ((Character)o).charValue() == 0))
+			out.appendNull();
+		else if (sType.isBoolean())
+			out.appendBoolean((Boolean)o);
+		else if (sType.isNumber())
+			out.appendNumber((Number)o);
+		else if (sType.isBean()) {
+			BeanMap<?> m = acquireBeanMap(o);
+			serializeBeanMap(out, m, typeName);
+			returnBeanMap(m);
+		} else if (sType.isUri() || (pMeta != null && pMeta.isUri()))
+			out.appendString(resolveUri(o.toString()));
+		else if (sType.isMap()) {
+			if (o instanceof BeanMap)
+				serializeBeanMap(out, (BeanMap)o, typeName);
+			else
+				serializeMap(out, (Map)o, eType);
+		}
+		else if (sType.isCollection()) {
+			serializeCollection(out, (Collection) o, eType);
+		}
+		else if (sType.isArray()) {
+			if (isPrimitiveNumberArray(sType))
+				serializePrimitiveArray(out, o);
+			else
+				serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+		}
+		else if (sType.isStreamable()) {
+			serializeStream(out, o, eType);
+		}
+		else if (sType.isReader()) {
+			out.appendString(read((Reader)o));
+		}
+		else if (sType.isInputStream()) {
+			out.appendBinary(readBytes((InputStream)o));
+		}
+		else
+			out.appendString(toString(o));
+
+		if (! isRecursion)
+			pop();
+		return out;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void serializeMap(CborOutputStream out, Map m, ClassMeta<?> type) throws IOException, SerializeException {
+
+		ClassMeta<?> keyType = type.getKeyType(), valueType = type.getValueType();
+
+		m = sort(m);
+
+		List<SimpleMapEntry> entries = new ArrayList<>(m.size());
+		for (Map.Entry e : (Set<Map.Entry>)m.entrySet())
+			entries.add(new SimpleMapEntry(e.getKey(), e.getValue()));
+
+		out.startMap(entries.size());
+
+		for (SimpleMapEntry e : entries) {
+			Object value = e.value;
+			Object key = generalize(e.key, keyType);
+
+			serializeAnything(out, key, keyType, null, null);
+			serializeAnything(out, value, valueType, null, null);
+		}
+	}
+
+	private void serializeBeanMap(CborOutputStream out, final BeanMap<?> m, String typeName) throws IOException, SerializeException {
+
+		BeanPropertyValues values = m.readValues(isKeepNullProperties(), typeName);
+
+		int size = values.size();
+		for (int i = 0; i < values.size(); i++) {
+			if (values.getThrown(i) != null)
+				size--;
+			// Must handle the case where recursion occurs and property is not serialized.
+			if ((! isKeepNullProperties()) && willRecurse(values, i))
+				size--;
+		}
+
+		out.startMap(size);
+
+		for (int i = 0; i < values.size(); i++) {
+			BeanPropertyMeta pMeta = values.getMeta(i);
+			if (pMeta.canRead()) {
+				ClassMeta<?> cMeta = values.getClassMeta(i);
+				String key = values.getName(i);
+				Object value = values.getValue(i);
+				Throwable t = values.getThrown(i);
+				if (t != null) {
+					onBeanGetterException(pMeta, t);
+				} else if ((! isKeepNullProperties()) && willRecurse(values, i)) {
+					/* Ignored */
+				} else {
+					out.appendString(key);
+					serializeAnything(out, value, cMeta, key, pMeta);
+				}
+			}
+		}
+	}
+
+	private boolean willRecurse(BeanPropertyValues values, int i) throws SerializeException {
+		ClassMeta<?> aType = push2(values.getName(i), values.getValue(i), values.getClassMeta(i));
+		if (aType != null)
+			pop();
+		return aType == null;
+	}
+
+	private static final class SimpleMapEntry {
+		final Object key;
+		final Object value;
+
+		SimpleMapEntry(Object key, Object value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private void serializeCollection(CborOutputStream out, Collection c, ClassMeta<?> type) throws IOException, SerializeException {
+
+		ClassMeta<?> elementType = type.getElementType();
+		List<Object> l = new ArrayList<>(c.size());
+
+		c = sort(c);
+		l.addAll(c);
+
+		out.startArray(l.size());
+
+		for (Object o : l)
+			serializeAnything(out, o, elementType, "<iterator>", null);
+	}
+
+	/*
+	 * Writes the elements of an int/long/short/byte/float/double array without boxing them.
+	 * Produces the same output as serializeCollection().
+	 */
+	private static void serializePrimitiveArray(CborOutputStream out, Object array) throws IOException {
+		if (array instanceof int[]) {
+			int[] a = (int[])array;
+			out.startArray(a.length);
+			for (int i : a)
+				out.appendLong(i);
+		} else if (array instanceof long[]) {
+			long[] a = (long[])array;
+			out.startArray(a.length);
+			for (long l : a)
+				out.appendLong(l);
+		} else if (array instanceof double[]) {
+			double[] a = (double[])array;
+			out.startArray(a.length);
+			for (double d : a)
+				out.appendDouble(d);
+		} else if (array instanceof float[]) {
+			float[] a = (float[])array;
+			out.startArray(a.length);
+			for (float f : a)
+				out.appendFloat(f);
+		} else if (array instanceof short[]) {
+			short[] a = (short[])array;
+			out.startArray(a.length);
+			for (short s : a)
+				out.appendLong(s);
+		} else {
+			byte[] a = (byte[])array;
+			out.startArray(a.length);
+			for (byte b : a)
+				out.appendLong(b);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private void serializeStream(CborOutputStream out, Object o, ClassMeta<?> type) throws IOException, SerializeException {
+
+		ClassMeta<?> elementType = type.isStreamable() ? type.getElementType() : object();
+
+		try {
+			// Sources that know their size up front are written as definite-length arrays.
+			// Otherwise an indefinite-length array is written so that elements are written as they're consumed.
+			Spliterator s = null;
+			if (o instanceof BaseStream)
+				s = ((BaseStream)o).spliterator();
+			else if (o instanceof Spliterator)
+				s = (Spliterator)o;
+
+			long size = s == null ? -1 : s.getExactSizeIfKnown();
+			Iterator i = s == null ? toIterator(o) : Spliterators.iterator(s);
+
+			if (size >= 0)
+				out.startArray(size);
+			else
+				out.startIndefiniteArray();
+
+			int count = 0;
+			while (i.hasNext()) {
+				serializeAnything(out, i.next(), elementType, "<iterator>", null);
+				flushStreamed(out, ++count);
+			}
+
+			if (size < 0)
+				out.appendBreak();
+		} finally {
+			closeStreamable(o);
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Properties
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override
+	protected final boolean isAddBeanTypes() {
+		return ctx.isAddBeanTypes();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Session */
+	public OMap toMap() {
+		return super.toMap()
+			.a(
+				"CborSerializerSession",
+				OMap
+					.create()
+					.filtered()
+			);
+	}
+}
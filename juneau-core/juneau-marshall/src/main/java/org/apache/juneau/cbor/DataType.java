@@ -0,0 +1,56 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+/**
+ * Constants for the CBOR format.
+ */
+enum DataType {
+	NULL, BOOLEAN, INT, LONG, BIGINTEGER, FLOAT, DOUBLE, BIGDECIMAL, STRING, BIN, ARRAY, MAP, BREAK;
+
+	// Major types (the high-order 3 bits of the initial byte).
+	static final int
+		MT_UINT      = 0,     //   unsigned integer
+		MT_NINT      = 1,     //   negative integer
+		MT_BYTES     = 2,     //   byte string
+		MT_TEXT      = 3,     //   text string
+		MT_ARRAY     = 4,     //   array of data items
+		MT_MAP       = 5,     //   map of pairs of data items
+		MT_TAG       = 6,     //   tagged data item
+		MT_SIMPLE    = 7;     //   floats and simple values
+
+	// Additional information (the low-order 5 bits of the initial byte).
+	static final int
+		AI_UINT8     = 24,    //   argument in following 1 byte
+		AI_UINT16    = 25,    //   argument in following 2 bytes
+		AI_UINT32    = 26,    //   argument in following 4 bytes
+		AI_UINT64    = 27,    //   argument in following 8 bytes
+		AI_INDEFINITE = 31;   //   indefinite length
+
+	// Complete initial bytes of major type 7.
+	static final int
+		FALSE        = 0xF4,  //   simple value 20
+		TRUE         = 0xF5,  //   simple value 21
+		NIL          = 0xF6,  //   simple value 22
+		UNDEFINED    = 0xF7,  //   simple value 23
+		FLOAT16      = 0xF9,  //   half-precision float
+		FLOAT32      = 0xFA,  //   single-precision float
+		FLOAT64      = 0xFB,  //   double-precision float
+		BREAK_CODE   = 0xFF;  //   "break" stop code for indefinite-length items
+
+	// Tag numbers.
+	static final int
+		TAG_POSITIVE_BIGNUM  = 2,
+		TAG_NEGATIVE_BIGNUM  = 3,
+		TAG_DECIMAL_FRACTION = 4;
+}
@@ -0,0 +1,48 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor.annotation;
+
+import static org.apache.juneau.cbor.CborSerializer.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.reflect.*;
+import org.apache.juneau.svl.*;
+
+/**
+ * Utility classes and methods for the {@link CborConfig @CborConfig} annotation.
+ */
+public class CborConfigAnnotation {
+
+	/**
+	 * Applies {@link CborConfig} annotations to a {@link ContextPropertiesBuilder}.
+	 */
+	public static class Apply extends ConfigApply<CborConfig> {
+
+		/**
+		 * Constructor.
+		 *
+		 * @param c The annotation class.
+		 * @param vr The resolver for resolving values in annotations.
+		 */
+		public Apply(Class<CborConfig> c, VarResolverSession vr) {
+			super(c, vr);
+		}
+
+		@Override
+		public void apply(AnnotationInfo<CborConfig> ai, ContextPropertiesBuilder cpb, VarResolverSession vr) {
+			CborConfig a = ai.getAnnotation();
+
+			cpb.setIfNotEmpty(CBOR_addBeanTypes, bool(a.addBeanTypes()));
+		}
+	}
+}
\ No newline at end of file
@@ -10,9 +10,9 @@
 // * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
 // * specific language governing permissions and limitations under the License.                                              *
 // ***************************************************************************************************************************
-package org.apache.juneau.server.config.repository;
 
-@SuppressWarnings("javadoc")
-public interface GetValue<T> {
-	T get();
-}
+/**
+ * CBOR Marshalling Annotations
+ */
+package org.apache.juneau.cbor.annotation;
+
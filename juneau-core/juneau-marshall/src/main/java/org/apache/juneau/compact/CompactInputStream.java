@@ -0,0 +1,260 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.compact;
+
+import static org.apache.juneau.compact.DataType.*;
+import static org.apache.juneau.internal.IOUtils.*;
+
+import java.io.*;
+import java.math.*;
+import java.util.*;
+
+import org.apache.juneau.parser.*;
+
+/**
+ * Specialized input stream for parsing compact binary streams.
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		This class is not intended for external use.
+ * </ul>
+ */
+public final class CompactInputStream extends ParserInputStream {
+
+	private DataType currentDataType;
+	private long length;    // Number of bytes or entries in strings, arrays and maps.
+	private long value;     // Integer values and the raw bits of floats and doubles.
+	private boolean unread;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param pipe The parser input.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	protected CompactInputStream(ParserPipe pipe) throws IOException {
+		super(pipe);
+	}
+
+	/**
+	 * Reads the data type of the next value from the stream.
+	 *
+	 * <p>
+	 * Integers, floats and doubles are read in full.
+	 * <br>For strings, binaries, big numbers, arrays and maps, only the length is read.
+	 */
+	DataType readDataType() throws IOException {
+		if (unread) {
+			unread = false;
+			return currentDataType;
+		}
+		int i = read();
+		if (i == -1)
+			throw new IOException("Unexpected end of file found at position " + getPosition());
+		DataType dt = DataType.fromCode(i);
+		if (dt == null)
+			throw new IOException("Invalid data type code 0x" + Integer.toHexString(i) + " at position " + getPosition());
+		switch (dt) {
+			case INT:
+				long l = readVarint();
+				value = (l >>> 1) ^ -(l & 1);
+				break;
+			case FLOAT:
+				value = readFixed(4);
+				break;
+			case DOUBLE:
+				value = readFixed(8);
+				break;
+			case STRING:
+			case BIN:
+			case BIGNUMBER:
+			case ARRAY:
+			case MAP:
+				length = readVarint();
+				if (length < 0 || length > Integer.MAX_VALUE)
+					throw new IOException("Length too large at position " + getPosition());
+				break;
+			default:
+				break;
+		}
+		return currentDataType = dt;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the next value is the code that ends a stream.
+	 *
+	 * <p>
+	 * If it isn't, the next call to {@link #readDataType()} returns the data type that was just read.
+	 */
+	boolean readEnd() throws IOException {
+		if (readDataType() == END)
+			return true;
+		unread = true;
+		return false;
+	}
+
+	/**
+	 * Reads a bean property key from the stream.
+	 *
+	 * <p>
+	 * Ordinal keys range up to {@link Integer#MAX_VALUE} plus {@link DataType#KEY_ORDINAL}, so keys are returned as longs.
+	 *
+	 * @see DataType#KEY_ORDINAL
+	 */
+	long readKey() throws IOException {
+		long l = readVarint();
+		if (l < 0 || l > (long)Integer.MAX_VALUE + KEY_ORDINAL)
+			throw new IOException("Invalid bean property key at position " + getPosition());
+		return l;
+	}
+
+	/**
+	 * Returns the length of the string, binary, array or map whose header was last read.
+	 */
+	int readLength() {
+		return (int)length;
+	}
+
+	/**
+	 * Read a zigzag-encoded integer from the stream.
+	 *
+	 * @return The value as an {@link Integer} if it fits, otherwise a {@link Long}.
+	 */
+	Number readInteger() {
+		if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE)
+			return (int)value;
+		return value;
+	}
+
+	/**
+	 * Read a float from the stream.
+	 */
+	float readFloat() {
+		return Float.intBitsToFloat((int)value);
+	}
+
+	/**
+	 * Read a double from the stream.
+	 */
+	double readDouble() {
+		return Double.longBitsToDouble(value);
+	}
+
+	/**
+	 * Read a {@link BigInteger} or {@link BigDecimal} from the stream.
+	 */
+	Number readBigNumber() throws IOException {
+		String s = readString();
+		if (s.indexOf('.') == -1 && s.indexOf('E') == -1 && s.indexOf('e') == -1)
+			return new BigInteger(s);
+		return new BigDecimal(s);
+	}
+
+	/**
+	 * Read a string from the stream.
+	 */
+	String readString() throws IOException {
+		return new String(readBinary(), UTF8);
+	}
+
+	/**
+	 * Read a binary field from the stream.
+	 *
+	 * <p>
+	 * The buffer grows as bytes arrive so that a bogus length header can't force a large allocation up front.
+	 */
+	byte[] readBinary() throws IOException {
+		if (length < 0 || length > Integer.MAX_VALUE)
+			throw new IOException("Invalid length " + length + " at position " + getPosition());
+		int n = (int)length;
+		byte[] b = new byte[Math.min(n, 8192)];
+		int off = 0;
+		while (off < n) {
+			if (off == b.length)
+				b = Arrays.copyOf(b, (int)Math.min(n, b.length * 2L));
+			int r = read(b, off, b.length - off);
+			if (r <= 0)
+				throw new IOException("Unexpected end of file found at position " + getPosition());
+			off += r;
+		}
+		return b;
+	}
+
+	/**
+	 * Skips over the remainder of the value whose data type was last read.
+	 *
+	 * <p>
+	 * Used for skipping the values of bean properties that aren't known to this version of the bean.
+	 */
+	void skipValue(DataType dt) throws IOException {
+		switch (dt) {
+			case STRING:
+			case BIN:
+			case BIGNUMBER:
+				for (long n = length; n > 0; n--)
+					if (read() == -1)
+						throw new IOException("Unexpected end of file found at position " + getPosition());
+				break;
+			case ARRAY:
+				for (long n = length; n > 0; n--)
+					skipValue(readDataType());
+				break;
+			case MAP:
+				for (long n = length * 2; n > 0; n--)
+					skipValue(readDataType());
+				break;
+			case BEAN:
+				for (long key = readKey(); key != KEY_END; key = readKey()) {
+					if (key == KEY_NAME)
+						skipValue(readDataType());
+					skipValue(readDataType());
+				}
+				break;
+			case STREAM:
+				while (! readEnd())
+					skipValue(readDataType());
+				break;
+			case END:
+				throw new IOException("Unexpected end of stream code found at position " + getPosition());
+			default:
+				break;
+		}
+	}
+
+	/*
+	 * Reads an unsigned varint.
+	 */
+	private long readVarint() throws IOException {
+		long l = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int i = read();
+			if (i == -1)
+				throw new IOException("Unexpected end of file found at position " + getPosition());
+			l |= (long)(i & 0x7F) << shift;
+			if ((i & 0x80) == 0)
+				return l;
+		}
+		throw new IOException("Malformed varint at position " + getPosition());
+	}
+
+	private long readFixed(int n) throws IOException {
+		long l = 0;
+		for (int j = 0; j < n; j++) {
+			int i = read();
+			if (i == -1)
+				throw new IOException("Unexpected end of file found at position " + getPosition());
+			l = (l << 8) | i;
+		}
+		return l;
+	}
+}
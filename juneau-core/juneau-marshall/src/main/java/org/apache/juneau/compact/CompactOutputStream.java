@@ -0,0 +1,246 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.compact;
+
+import static org.apache.juneau.compact.DataType.*;
+
+import java.io.*;
+import java.math.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.internal.*;
+
+/**
+ * Specialized output stream for serializing compact binary streams.
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		This class is not intended for external use.
+ * </ul>
+ */
+public final class CompactOutputStream extends OutputStream {
+
+	private final OutputStream os;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param os The output stream being wrapped.
+	 */
+	protected CompactOutputStream(OutputStream os) {
+		this.os = os;
+	}
+
+	@Override /* OutputStream */
+	public void write(int b) throws IOException {
+		os.write(b);
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		os.flush();
+	}
+
+	/**
+	 * Same as {@link #write(byte[])}.
+	 */
+	final CompactOutputStream append(byte[] b) throws IOException {
+		os.write(b);
+		return this;
+	}
+
+	/**
+	 * Appends one byte to the stream.
+	 */
+	final CompactOutputStream append1(int i) throws IOException {
+		os.write(i);
+		return this;
+	}
+
+	/**
+	 * Appends four bytes to the stream.
+	 */
+	final CompactOutputStream append4(int i) throws IOException {
+		return append1(i>>24).append1(i>>16).append1(i>>8).append1(i);
+	}
+
+	/**
+	 * Appends eight bytes to the stream.
+	 */
+	final CompactOutputStream append8(long l) throws IOException {
+		return append4((int)(l>>32)).append4((int)l);
+	}
+
+	/**
+	 * Appends a data type code to the stream.
+	 */
+	final CompactOutputStream appendType(DataType dt) throws IOException {
+		return append1(dt.ordinal());
+	}
+
+	/**
+	 * Appends an unsigned varint to the stream.
+	 *
+	 * <p>
+	 * Seven bits are written per byte, least-significant group first, with the high bit set on all but the last byte.
+	 */
+	final CompactOutputStream appendVarint(long l) throws IOException {
+		while ((l & ~0x7FL) != 0) {
+			os.write((int)((l & 0x7F) | 0x80));
+			l >>>= 7;
+		}
+		os.write((int)l);
+		return this;
+	}
+
+	/**
+	 * Appends a NULL flag to the stream.
+	 */
+	final CompactOutputStream appendNull() throws IOException {
+		return appendType(NULL);
+	}
+
+	/**
+	 * Appends a boolean to the stream.
+	 */
+	final CompactOutputStream appendBoolean(boolean b) throws IOException {
+		return appendType(b ? TRUE : FALSE);
+	}
+
+	/**
+	 * Appends a long to the stream.
+	 *
+	 * <p>
+	 * Values are zigzag-encoded so that small negative numbers are written in as few bytes as small positive ones.
+	 */
+	final CompactOutputStream appendLong(long l) throws IOException {
+		return appendType(INT).appendVarint((l << 1) ^ (l >> 63));
+	}
+
+	/**
+	 * Appends a generic Number to the stream.
+	 */
+	final CompactOutputStream appendNumber(Number n) throws IOException {
+		Class<?> c = n.getClass();
+		if (c == Integer.class || c == Long.class || c == Short.class || c == Byte.class || c == AtomicInteger.class || c == AtomicLong.class)
+			return appendLong(n.longValue());
+		if (c == Float.class)
+			return appendFloat(n.floatValue());
+		if (c == Double.class)
+			return appendDouble(n.doubleValue());
+		if (c == BigInteger.class || c == BigDecimal.class)
+			return appendBytes(BIGNUMBER, n.toString().getBytes(IOUtils.UTF8));
+		return appendDouble(n.doubleValue());
+	}
+
+	/**
+	 * Appends a float to the stream.
+	 */
+	final CompactOutputStream appendFloat(float f) throws IOException {
+		return appendType(FLOAT).append4(Float.floatToIntBits(f));
+	}
+
+	/**
+	 * Appends a double to the stream.
+	 */
+	final CompactOutputStream appendDouble(double d) throws IOException {
+		return appendType(DOUBLE).append8(Double.doubleToLongBits(d));
+	}
+
+	/**
+	 * Appends a string to the stream.
+	 */
+	final CompactOutputStream appendString(CharSequence cs) throws IOException {
+		return appendBytes(STRING, cs.toString().getBytes(IOUtils.UTF8));
+	}
+
+	/**
+	 * Appends a binary field to the stream.
+	 */
+	final CompactOutputStream appendBinary(byte[] b) throws IOException {
+		return appendBytes(BIN, b);
+	}
+
+	/**
+	 * Appends an array header to the stream.
+	 */
+	final CompactOutputStream startArray(int size) throws IOException {
+		return appendType(ARRAY).appendVarint(size);
+	}
+
+	/**
+	 * Appends a map header to the stream.
+	 */
+	final CompactOutputStream startMap(int size) throws IOException {
+		return appendType(MAP).appendVarint(size);
+	}
+
+	/**
+	 * Appends a bean header to the stream.
+	 *
+	 * <p>
+	 * The bean properties must be followed by a call to {@link #endBean()}.
+	 */
+	final CompactOutputStream startBean() throws IOException {
+		return appendType(BEAN);
+	}
+
+	/**
+	 * Appends the key of the bean property with the specified ordinal.
+	 */
+	final CompactOutputStream appendOrdinal(int ordinal) throws IOException {
+		return appendVarint((long)ordinal + KEY_ORDINAL);
+	}
+
+	/**
+	 * Appends the key of a bean property that's identified by name instead of ordinal.
+	 */
+	final CompactOutputStream appendPropertyName(String name) throws IOException {
+		return appendVarint(KEY_NAME).appendString(name);
+	}
+
+	/**
+	 * Appends the bean type name key and value.
+	 */
+	final CompactOutputStream appendTypeName(String typeName) throws IOException {
+		return appendVarint(KEY_TYPE).appendString(typeName);
+	}
+
+	/**
+	 * Appends the key that ends a bean.
+	 */
+	final CompactOutputStream endBean() throws IOException {
+		return appendVarint(KEY_END);
+	}
+
+	/**
+	 * Appends a stream header to the stream.
+	 *
+	 * <p>
+	 * The stream entries must be followed by a call to {@link #endStream()}.
+	 */
+	final CompactOutputStream startStream() throws IOException {
+		return appendType(STREAM);
+	}
+
+	/**
+	 * Appends the code that ends a stream.
+	 */
+	final CompactOutputStream endStream() throws IOException {
+		return appendType(END);
+	}
+
+	private CompactOutputStream appendBytes(DataType dt, byte[] b) throws IOException {
+		return appendType(dt).appendVarint(b.length).append(b);
+	}
+}
@@ -0,0 +1,147 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.compact;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Parses the compact binary format produced by {@link CompactSerializer} into a POJO model.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <c>Content-Type</c> types:  <bc>octal/compact</bc>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * Bean properties are matched by ordinal, or by name for properties written without one.
+ * <br>Values of ordinals that don't map to a property on the bean are skipped so that data written by newer versions
+ * of a bean can be read by older ones.
+ */
+@ConfigurableContext
+public class CompactParser extends InputStreamParser {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Configurable properties
+	//-------------------------------------------------------------------------------------------------------------------
+
+	static final String PREFIX = "CompactParser";
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default parser, all default settings.*/
+	public static final CompactParser DEFAULT = new CompactParser(ContextProperties.DEFAULT);
+
+	/** Default parser, all default settings, string input encoded as spaced-hex.*/
+	public static final CompactParser DEFAULT_SPACED_HEX = new SpacedHex(ContextProperties.DEFAULT);
+
+	/** Default parser, all default settings, string input encoded as BASE64.*/
+	public static final CompactParser DEFAULT_BASE64 = new Base64(ContextProperties.DEFAULT);
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined subclasses
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default parser, string input encoded as spaced-hex. */
+	public static class SpacedHex extends CompactParser {
+
+		/**
+		 * Constructor.
+		 *
+		 * @param cp The property store containing all the settings for this object.
+		 */
+		public SpacedHex(ContextProperties cp) {
+			super(
+				cp.builder().setDefault(ISPARSER_binaryFormat, BinaryFormat.SPACED_HEX).build()
+			);
+		}
+	}
+
+	/** Default parser, string input encoded as BASE64. */
+	public static class Base64 extends CompactParser {
+
+		/**
+		 * Constructor.
+		 *
+		 * @param cp The property store containing all the settings for this object.
+		 */
+		public Base64(ContextProperties cp) {
+			super(
+				cp.builder().setDefault(ISPARSER_binaryFormat, BinaryFormat.BASE64).build()
+			);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cp The property store containing all the settings for this object.
+	 */
+	public CompactParser(ContextProperties cp) {
+		super(cp, "octal/compact");
+	}
+
+	@Override /* Context */
+	public CompactParserBuilder builder() {
+		return new CompactParserBuilder(getContextProperties());
+	}
+
+	/**
+	 * Instantiates a new clean-slate {@link CompactParserBuilder} object.
+	 *
+	 * <p>
+	 * This is equivalent to simply calling <code><jk>new</jk> CompactParserBuilder()</code>.
+	 *
+	 * <p>
+	 * Note that this method creates a builder initialized to all default settings, whereas {@link #builder()} copies
+	 * the settings of the object called on.
+	 *
+	 * @return A new {@link CompactParserBuilder} object.
+	 */
+	public static CompactParserBuilder create() {
+		return new CompactParserBuilder();
+	}
+
+	@Override /* Parser */
+	public CompactParserSession createSession() {
+		return createSession(createDefaultSessionArgs());
+	}
+
+	@Override /* Parser */
+	public CompactParserSession createSession(ParserSessionArgs args) {
+		return new CompactParserSession(this, args);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Context */
+	public OMap toMap() {
+		return super.toMap()
+			.a(
+				"CompactParser",
+				OMap
+					.create()
+					.filtered()
+			);
+	}
+}
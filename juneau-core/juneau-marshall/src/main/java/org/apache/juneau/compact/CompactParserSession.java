@@ -0,0 +1,320 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.compact;
+
+import static org.apache.juneau.compact.DataType.*;
+
+import java.io.IOException;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.transform.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link CompactParser}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused against multiple inputs.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public final class CompactParserSession extends InputStreamParserSession {
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime session arguments.
+	 */
+	protected CompactParserSession(CompactParser ctx, ParserSessionArgs args) {
+		super(ctx, args);
+	}
+
+	@Override /* ParserSession */
+	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
+		try (CompactInputStream is = new CompactInputStream(pipe)) {
+			return parseAnything(type, is, getOuter(), null);
+		}
+	}
+
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, final ClassMeta<E> elementType) throws IOException, ParseException {
+		final CompactInputStream is = new CompactInputStream(pipe);
+		final DataType dt = is.readDataType();
+		if (dt != DataType.NULL && dt != ARRAY && dt != STREAM)
+			throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, getClassMeta(List.class, elementType));
+		return new ParserIterator<E>(this, pipe) {
+			long remaining = dt == ARRAY ? is.readLength() : 0;
+
+			@Override /* ParserIterator */
+			protected boolean advance() throws IOException {
+				return dt == STREAM ? ! is.readEnd() : remaining > 0;
+			}
+
+			@Override /* ParserIterator */
+			protected E read() throws Exception {
+				remaining--;
+				return parseAnything(elementType, is, null, null);
+			}
+		};
+	}
+
+	/*
+	 * Workhorse method.
+	 */
+	private <T> T parseAnything(ClassMeta<?> eType, CompactInputStream is, Object outer, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
+
+		if (eType == null)
+			eType = object();
+		PojoSwap<T,Object> swap = (PojoSwap<T,Object>)eType.getSwap(this);
+		BuilderSwap<T,Object> builder = (BuilderSwap<T,Object>)eType.getBuilderSwap(this);
+		ClassMeta<?> sType = null;
+		if (builder != null)
+			sType = builder.getBuilderClassMeta(this);
+		else if (swap != null)
+			sType = swap.getSwapClassMeta(this);
+		else
+			sType = eType;
+
+		if (sType.isOptional())
+			return (T)Optional.ofNullable(parseAnything(eType.getElementType(), is, outer, pMeta));
+
+		setCurrentClass(sType);
+
+		Object o = null;
+		DataType dt = is.readDataType();
+		int length = is.readLength();
+		long key = KEY_END;
+		String typeName = null;
+
+		if (dt == END)
+			throw new ParseException(this, "Unexpected end of stream code encountered for parse type {0}", sType);
+
+		if (dt == BEAN) {
+			// Resolve the bean type name if one was written.
+			key = is.readKey();
+			if (key == KEY_TYPE) {
+				typeName = parseAnything(string(), is, null, null);
+				ClassMeta<?> cm = getClassMeta(typeName, pMeta, eType);
+				if (cm != null && swap == null && builder == null)
+					sType = eType = cm;
+				key = is.readKey();
+			}
+		}
+
+		if (dt != DataType.NULL) {
+			if (dt == TRUE || dt == FALSE)
+				o = dt == TRUE;
+			else if (dt == INT)
+				o = is.readInteger();
+			else if (dt == FLOAT)
+				o = is.readFloat();
+			else if (dt == DOUBLE)
+				o = is.readDouble();
+			else if (dt == BIGNUMBER)
+				o = is.readBigNumber();
+			else if (dt == STRING)
+				o = trim(is.readString());
+			else if (dt == BIN)
+				o = is.readBinary();
+			else if ((dt == ARRAY || dt == STREAM) && sType.isObject()) {
+				OList ol = new OList(this);
+				for (int i = 0; hasNext(is, dt, length, i); i++)
+					ol.add(parseAnything(object(), is, outer, pMeta));
+				o = ol;
+			} else if (dt == MAP && sType.isObject()) {
+				OMap om = new OMap(this);
+				for (int i = 0; i < length; i++)
+					om.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, om, pMeta));
+				o = cast(om, pMeta, eType);
+			} else if (dt == BEAN && ! sType.canCreateNewBean(outer) && builder == null && sType.getProxyInvocationHandler() == null) {
+				OMap om = new OMap(this);
+				if (typeName != null)
+					om.put(getBeanTypePropertyName(eType), typeName);
+				o = parseIntoMap(is, key, om);
+			}
+
+			if (sType.isObject()) {
+				// Do nothing.
+			} else if (sType.isBoolean() || sType.isCharSequence() || sType.isChar() || sType.isNumber()) {
+				o = convertToType(o, sType);
+			} else if (sType.isMap()) {
+				if (dt == MAP) {
+					Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : newGenericMap(sType));
+					for (int i = 0; i < length; i++) {
+						Object k = parseAnything(sType.getKeyType(), is, outer, pMeta);
+						ClassMeta<?> vt = sType.getValueType();
+						Object value = parseAnything(vt, is, m, pMeta);
+						setName(vt, value, k);
+						m.put(k, value);
+					}
+					o = m;
+				} else if (dt == BEAN) {
+					// Already parsed into an OMap above.
+				} else {
+					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (builder != null || sType.canCreateNewBean(outer)) {
+				if (dt == BEAN) {
+					BeanMap m = builder == null ? newBeanMap(outer, sType.getInnerClass()) : toBeanMap(builder.create(this, eType));
+					parseIntoBeanMap(is, key, m, eType, pMeta);
+					o = builder == null ? m.getBean() : builder.build(this, m.getBean(), eType);
+				} else {
+					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (sType.canCreateNewInstanceFromString(outer) && dt == STRING) {
+				o = sType.newInstanceFromString(outer, o == null ? "" : o.toString());
+			} else if (sType.isCollection()) {
+				if (dt == MAP) {
+					OMap m = new OMap(this);
+					for (int i = 0; i < length; i++)
+						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+					o = cast(m, pMeta, eType);
+				} else if (dt == ARRAY || dt == STREAM) {
+					Collection l = (
+						sType.canCreateNewInstance(outer)
+						? (Collection)sType.newInstance()
+						: new OList(this)
+					);
+					for (int i = 0; hasNext(is, dt, length, i); i++)
+						l.add(parseAnything(sType.getElementType(), is, l, pMeta));
+					o = l;
+				} else {
+					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (sType.isArray() || sType.isArgs()) {
+				if (dt == MAP) {
+					OMap m = new OMap(this);
+					for (int i = 0; i < length; i++)
+						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+					o = cast(m, pMeta, eType);
+				} else if (dt == ARRAY || dt == STREAM) {
+					Collection l = (
+						sType.isCollection() && sType.canCreateNewInstance(outer)
+						? (Collection)sType.newInstance()
+						: new OList(this)
+					);
+					for (int i = 0; hasNext(is, dt, length, i); i++)
+						l.add(parseAnything(sType.isArgs() ? sType.getArg(i) : sType.getElementType(), is, l, pMeta));
+					o = toArray(sType, l);
+				} else if (dt == BIN && sType.getInnerClass() == byte[].class) {
+					// Binary fields are already byte arrays.
+				} else {
+					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+				}
+			} else if (dt == BEAN && sType.getProxyInvocationHandler() != null) {
+				BeanMap m = newBeanMap(outer, sType.getInnerClass());
+				parseIntoBeanMap(is, key, m, eType, pMeta);
+				o = m.getBean();
+			} else if (dt == MAP) {
+				OMap m = new OMap(this);
+				for (int i = 0; i < length; i++)
+					m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+				if (m.containsKey(getBeanTypePropertyName(eType)))
+					o = cast(m, pMeta, eType);
+				else
+					throw new ParseException(this, "Class ''{0}'' could not be instantiated.  Reason: ''{1}''",
+						sType.getInnerClass().getName(), sType.getNotABeanReason());
+			} else {
+				throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
+			}
+		}
+
+		if (swap != null && o != null)
+			o = unswap(swap, o, eType);
+
+		if (outer != null)
+			setParent(eType, o, outer);
+
+		return (T)o;
+	}
+
+	/*
+	 * Parses the properties of a bean into a bean map.
+	 * Values of ordinals that don't exist on the bean are skipped.
+	 */
+	private void parseIntoBeanMap(CompactInputStream is, long key, BeanMap m, ClassMeta<?> eType, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
+		BeanMeta<?> bm = m.getMeta();
+		for (; key != KEY_END; key = is.readKey()) {
+			if (key == KEY_TYPE) {
+				parseAnything(string(), is, null, null);
+				continue;
+			}
+			BeanPropertyMeta bpm;
+			String pName;
+			if (key == KEY_NAME) {
+				pName = parseAnything(string(), is, m.getBean(false), null);
+				bpm = m.getPropertyMeta(pName);
+				if (bpm == null) {
+					onUnknownProperty(pName, m, parseAnything(object(), is, null, null));
+					continue;
+				}
+			} else {
+				bpm = bm.getPropertyMetaByOrdinal((int)(key - KEY_ORDINAL));
+				if (bpm == null) {
+					is.skipValue(is.readDataType());
+					continue;
+				}
+				pName = bpm.getName();
+			}
+			ClassMeta<?> cm = bpm.getClassMeta();
+			Object value = parseAnything(cm, is, m.getBean(false), bpm);
+			setName(cm, value, pName);
+			try {
+				bpm.set(m, pName, value);
+			} catch (BeanRuntimeException e) {
+				onBeanSetterException(pMeta, e);
+				throw e;
+			}
+		}
+	}
+
+	/*
+	 * Parses the properties of a bean whose class is not known into a map.
+	 * Properties written by ordinal are keyed by their ordinals since their names aren't on the wire.
+	 */
+	private OMap parseIntoMap(CompactInputStream is, long key, OMap m) throws IOException, ParseException, ExecutableException {
+		for (; key != KEY_END; key = is.readKey()) {
+			String k = key == KEY_TYPE ? getBeanTypePropertyName(null) : key == KEY_NAME ? (String)parseAnything(string(), is, null, null) : String.valueOf(key - KEY_ORDINAL);
+			m.put(k, parseAnything(object(), is, m, null));
+		}
+		return m;
+	}
+
+	/*
+	 * Returns true if there's another entry in an array or stream.
+	 */
+	private static boolean hasNext(CompactInputStream is, DataType dt, int length, int i) throws IOException {
+		return dt == STREAM ? ! is.readEnd() : i < length;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Session */
+	public OMap toMap() {
+		return super.toMap()
+			.a(
+				"CompactParserSession",
+				OMap
+					.create()
+					.filtered()
+			);
+	}
+}
@@ -0,0 +1,200 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.compact;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Serializes POJO models to a compact binary format that identifies bean properties by ordinal.
+ *
+ * <h5 class='section'>Media types:</h5>
+ *
+ * Handles <c>Accept</c> types:  <bc>octal/compact</bc>
+ * <p>
+ * Produces <c>Content-Type</c> types: <bc>octal/compact</bc>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * Similar to MessagePack, except that the names of bean properties with an {@link Beanp#index() @Beanp(index)} are not
+ * written.
+ * <br>Instead, each such property is identified by its ordinal as returned by
+ * {@link BeanMeta#getPropertyOrdinal(String)}, which keeps the format stable as beans evolve.
+ * <br>Properties without an index are identified by name.
+ * <br>Integers are written as zigzag-encoded varints, and lengths as unsigned varints.
+ */
+@ConfigurableContext
+public class CompactSerializer extends OutputStreamSerializer {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Configurable properties
+	//-------------------------------------------------------------------------------------------------------------------
+
+	static final String PREFIX = "CompactSerializer";
+
+	/**
+	 * Configuration property:  Add <js>"_type"</js> properties when needed.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.compact.CompactSerializer#COMPACT_addBeanTypes COMPACT_addBeanTypes}
+	 * 	<li><b>Name:</b>  <js>"CompactSerializer.addBeanTypes.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>CompactSerializer.addBeanTypes</c>
+	 * 	<li><b>Environment variable:</b>  <c>COMPACTSERIALIZER_ADDBEANTYPES</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.compact.annotation.CompactConfig#addBeanTypes()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.compact.CompactSerializerBuilder#addBeanTypes()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, then <js>"_type"</js> properties will be added to beans if their type cannot be inferred
+	 * through reflection.
+	 *
+	 * <p>
+	 * When present, this value overrides the {@link #SERIALIZER_addBeanTypes} setting and is
+	 * provided to customize the behavior of specific serializers in a {@link SerializerGroup}.
+	 */
+	public static final String COMPACT_addBeanTypes = PREFIX + ".addBeanTypes.b";
+
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default serializer, all default settings.*/
+	public static final CompactSerializer DEFAULT = new CompactSerializer(ContextProperties.DEFAULT);
+
+	/** Default serializer, all default settings, spaced-hex string output.*/
+	public static final CompactSerializer DEFAULT_SPACED_HEX = new SpacedHex(ContextProperties.DEFAULT);
+
+	/** Default serializer, all default settings, BASE64 string output.*/
+	public static final CompactSerializer DEFAULT_BASE64 = new Base64(ContextProperties.DEFAULT);
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined subclasses
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default serializer, spaced-hex string output. */
+	public static class SpacedHex extends CompactSerializer {
+
+		/**
+		 * Constructor.
+		 *
+		 * @param cp The property store containing all the settings for this object.
+		 */
+		public SpacedHex(ContextProperties cp) {
+			super(
+				cp.builder().setDefault(OSSERIALIZER_binaryFormat, BinaryFormat.SPACED_HEX).build()
+			);
+		}
+	}
+
+	/** Default serializer, BASE64 string output. */
+	public static class Base64 extends CompactSerializer {
+
+		/**
+		 * Constructor.
+		 *
+		 * @param cp The property store containing all the settings for this object.
+		 */
+		public Base64(ContextProperties cp) {
+			super(
+				cp.builder().setDefault(OSSERIALIZER_binaryFormat, BinaryFormat.BASE64).build()
+			);
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	private final boolean
+		addBeanTypes;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cp The property store containing all the settings for this object.
+	 */
+	public CompactSerializer(ContextProperties cp) {
+		super(cp, "octal/compact", null);
+		this.addBeanTypes = cp.getFirstBoolean(COMPACT_addBeanTypes, SERIALIZER_addBeanTypes).orElse(false);
+	}
+
+	@Override /* Context */
+	public CompactSerializerBuilder builder() {
+		return new CompactSerializerBuilder(getContextProperties());
+	}
+
+	/**
+	 * Instantiates a new clean-slate {@link CompactSerializerBuilder} object.
+	 *
+	 * <p>
+	 * This is equivalent to simply calling <code><jk>new</jk> CompactSerializerBuilder()</code>.
+	 *
+	 * <p>
+	 * Note that this method creates a builder initialized to all default settings, whereas {@link #builder()} copies
+	 * the settings of the object called on.
+	 *
+	 * @return A new {@link CompactSerializerBuilder} object.
+	 */
+	public static CompactSerializerBuilder create() {
+		return new CompactSerializerBuilder();
+	}
+
+	@Override /* Context */
+	public CompactSerializerSession createSession() {
+		return createSession(createDefaultSessionArgs());
+	}
+
+	@Override /* Serializer */
+	public CompactSerializerSession createSession(SerializerSessionArgs args) {
+		return new CompactSerializerSession(this, args);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Properties
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override
+	protected final boolean isAddBeanTypes() {
+		return addBeanTypes;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Context */
+	public OMap toMap() {
+		return super.toMap()
+			.a(
+				"CompactSerializer",
+				OMap
+					.create()
+					.filtered()
+					.a("addBeanTypes", addBeanTypes)
+			);
+	}
+}
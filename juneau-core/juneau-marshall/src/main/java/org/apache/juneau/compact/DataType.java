@@ -0,0 +1,57 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.compact;
+
+/**
+ * Data types of the compact binary format.
+ *
+ * <p>
+ * Every value on the wire starts with a single byte containing the ordinal of one of these constants.
+ * <br>Since every value is self-describing, values of unknown bean properties can be skipped without knowing their
+ * types.
+ */
+enum DataType {
+	NULL,           // No payload.
+	FALSE,          // No payload.
+	TRUE,           // No payload.
+	INT,            // Zigzag-encoded varint.
+	FLOAT,          // 4-byte IEEE 754 single-precision float.
+	DOUBLE,         // 8-byte IEEE 754 double-precision float.
+	STRING,         // Varint byte length followed by UTF-8 bytes.
+	BIN,            // Varint byte length followed by raw bytes.
+	ARRAY,          // Varint entry count followed by entries.
+	MAP,            // Varint entry count followed by key/value pairs.
+	BEAN,           // Property keys and values terminated by KEY_END.
+	BIGNUMBER,      // Varint byte length followed by the UTF-8 decimal representation of the number.
+	STREAM,         // Entries terminated by END.
+	END;            // Terminates a STREAM.
+
+	private static final DataType[] VALUES = values();
+
+	// Bean property keys (written as unsigned varints).
+	static final int
+		KEY_END      = 0,     //   end of bean
+		KEY_TYPE     = 1,     //   followed by the bean type name value
+		KEY_NAME     = 2,     //   followed by the property name value and the property value
+		KEY_ORDINAL  = 3;     //   offset added to property ordinals
+
+	/**
+	 * Returns the data type with the specified wire code.
+	 *
+	 * @param code The wire code.
+	 * @return The data type, or <jk>null</jk> if the code is not valid.
+	 */
+	static DataType fromCode(int code) {
+		return code >= 0 && code < VALUES.length ? VALUES[code] : null;
+	}
+}
@@ -0,0 +1,48 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.compact.annotation;
+
+import static org.apache.juneau.compact.CompactSerializer.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.reflect.*;
+import org.apache.juneau.svl.*;
+
+/**
+ * Utility classes and methods for the {@link CompactConfig @CompactConfig} annotation.
+ */
+public class CompactConfigAnnotation {
+
+	/**
+	 * Applies {@link CompactConfig} annotations to a {@link ContextPropertiesBuilder}.
+	 */
+	public static class Apply extends ConfigApply<CompactConfig> {
+
+		/**
+		 * Constructor.
+		 *
+		 * @param c The annotation class.
+		 * @param vr The resolver for resolving values in annotations.
+		 */
+		public Apply(Class<CompactConfig> c, VarResolverSession vr) {
+			super(c, vr);
+		}
+
+		@Override
+		public void apply(AnnotationInfo<CompactConfig> ai, ContextPropertiesBuilder cpb, VarResolverSession vr) {
+			CompactConfig a = ai.getAnnotation();
+
+			cpb.setIfNotEmpty(COMPACT_addBeanTypes, bool(a.addBeanTypes()));
+		}
+	}
+}
\ No newline at end of file
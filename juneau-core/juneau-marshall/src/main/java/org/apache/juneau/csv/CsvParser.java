@@ -21,7 +21,34 @@ import org.apache.juneau.collections.*;
 import org.apache.juneau.parser.*;
 
 /**
- * TODO - Work in progress.  CSV parser.
+ * Parses RFC 4180 CSV text into lists of beans or maps.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <c>Content-Type</c> types:  <bc>text/csv</bc>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * The first row is treated as a header whose column names are mapped to bean properties (or map keys).
+ * <br>Each following row is converted into an instance of the element type.
+ * <br>Fields containing commas, whitespace, or quotes are enclosed in double quotes, and embedded quotes are escaped
+ * by doubling them.
+ * <br>The unquoted value <js>"null"</js> is treated as <jk>null</jk>.
+ *
+ * <p>
+ * Use {@link #parseIterator(Object, Class)} to read rows lazily so that large inputs can be consumed in constant
+ * memory.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Read all rows into memory.</jc>
+ * 	List&lt;MyBean&gt; l = CsvParser.<jsf>DEFAULT</jsf>.parse(<jv>csv</jv>, List.<jk>class</jk>, MyBean.<jk>class</jk>);
+ *
+ * 	<jc>// Stream rows one at a time.</jc>
+ * 	<jk>try</jk> (Stream&lt;MyBean&gt; s = CsvParser.<jsf>DEFAULT</jsf>.parseIterator(<jv>reader</jv>, MyBean.<jk>class</jk>).stream()) {
+ * 		s.forEach(x -&gt; process(x));
+ * 	}
+ * </p>
  */
 @ConfigurableContext
 public class CsvParser extends ReaderParser implements CsvMetaProvider, CsvCommon {
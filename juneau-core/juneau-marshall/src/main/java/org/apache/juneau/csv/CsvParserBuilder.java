@@ -489,6 +489,12 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public CsvParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public CsvParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
@@ -13,9 +13,11 @@
 package org.apache.juneau.csv;
 
 import java.io.IOException;
+import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 
 /**
@@ -25,8 +27,12 @@ import org.apache.juneau.parser.*;
  * This class is NOT thread safe.
  * It is typically discarded after one-time use although it can be reused against multiple inputs.
  */
+@SuppressWarnings({ "unchecked", "rawtypes" })
 public final class CsvParserSession extends ReaderParserSession {
 
+	// The character that terminated the last field read (',', '\n', or -1).
+	private int fieldEnd;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -41,17 +47,215 @@ public final class CsvParserSession extends ReaderParserSession {
 	}
 
 	@Override /* ParserSession */
-	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException {
+	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
 		try (ParserReader r = pipe.getParserReader()) {
 			if (r == null)
 				return null;
-			return parseAnything(type, r, getOuter(), null);
+			return parseAnything(type, r, getOuter());
 		}
 	}
 
-	@SuppressWarnings({})
-	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws ParseException {
-		throw new ParseException("Not implemented.");
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws Exception {
+		final RowParser rp = new RowParser(pipe.getParserReader(), elementType, getOuter());
+		return new ParserIterator<E>(this, pipe) {
+			@Override /* ParserIterator */
+			protected boolean advance() throws Exception {
+				return rp.hasNext();
+			}
+			@Override /* ParserIterator */
+			protected E read() throws Exception {
+				return (E)rp.next();
+			}
+		};
+	}
+
+	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer) throws IOException, ParseException, ExecutableException {
+
+		if (eType == null)
+			eType = (ClassMeta<T>)object();
+
+		if (eType.isObject() || eType.isCollectionOrArray()) {
+			ClassMeta<?> rowType = eType.isObject() ? object() : eType.getElementType();
+			Collection c = (eType.isObject() || eType.isArray() || ! eType.canCreateNewInstance(outer)) ? new OList(this) : (Collection)eType.newInstance(outer);
+			RowParser rp = new RowParser(r, rowType, outer);
+			while (rp.hasNext())
+				c.add(rp.next());
+			if (eType.isArray())
+				return (T)ArrayUtils.toArray(c, rowType.getInnerClass());
+			return (T)c;
+		}
+
+		// A single bean or map is read from the first row.
+		RowParser rp = new RowParser(r, eType, outer);
+		return rp.hasNext() ? (T)rp.next() : null;
+	}
+
+	/*
+	 * Converts rows into beans or maps.
+	 * The header is read and resolved to bean properties once, then each row is read straight into its target object.
+	 */
+	private final class RowParser {
+		private final ParserReader r;
+		private final ClassMeta<?> rowType;
+		private final Object outer;
+		private final String[] header;
+		private final BeanPropertyMeta[] properties;
+
+		RowParser(ParserReader r, ClassMeta<?> rowType, Object outer) throws IOException, ParseException {
+			this.r = r;
+			this.rowType = rowType;
+			this.outer = outer;
+			if (! (rowType.isObject() || rowType.isMap() || rowType.canCreateNewBean(outer))) {
+				if (rowType.getNotABeanReason() != null)
+					throw new ParseException(CsvParserSession.this, "Class ''{0}'' could not be instantiated as a CSV row.  Reason: ''{1}''", rowType, rowType.getNotABeanReason());
+				throw new ParseException(CsvParserSession.this, "Class ''{0}'' cannot be used as a CSV row.", rowType);
+			}
+			if (r != null && r.peek() == '\uFEFF')
+				r.read();
+			if (r == null || ! skipBlankLines(r)) {
+				header = new String[0];
+			} else {
+				List<String> l = new ArrayList<>();
+				do {
+					l.add(trim(parseField(r, false)));
+				} while (fieldEnd == ',');
+				header = l.toArray(new String[l.size()]);
+			}
+			properties = new BeanPropertyMeta[header.length];
+			if (rowType.isBean()) {
+				BeanMeta<?> bm = rowType.getBeanMeta();
+				for (int i = 0; i < header.length; i++)
+					properties[i] = bm.getPropertyMeta(header[i]);
+			}
+		}
+
+		boolean hasNext() throws IOException {
+			return r != null && header.length > 0 && skipBlankLines(r);
+		}
+
+		Object next() throws IOException, ParseException, ExecutableException {
+			if (rowType.isBean())
+				return nextBean();
+			return nextMap();
+		}
+
+		private Object nextBean() throws IOException, ParseException, ExecutableException {
+			BeanMap m = newBeanMap(outer, rowType.getInnerClass());
+			int i = 0;
+			do {
+				String s = trim(parseField(r, true));
+				if (i >= header.length) {
+					if (isStrict())
+						throw new ParseException(CsvParserSession.this, "Row contains more fields than the header.");
+				} else {
+					BeanPropertyMeta pMeta = properties[i];
+					if (pMeta == null) {
+						onUnknownProperty(header[i], m, s);
+					} else {
+						setCurrentProperty(pMeta);
+						Object value = convertField(m.getBean(false), s, pMeta.getClassMeta());
+						try {
+							pMeta.set(m, header[i], value);
+						} catch (BeanRuntimeException e) {
+							onBeanSetterException(pMeta, e);
+							throw e;
+						}
+						setCurrentProperty(null);
+					}
+				}
+				i++;
+			} while (fieldEnd == ',');
+			return m.getBean();
+		}
+
+		private Object nextMap() throws IOException, ParseException, ExecutableException {
+			Map m;
+			if (rowType.isObject())
+				m = new OMap(CsvParserSession.this);
+			else
+				m = rowType.canCreateNewInstance(outer) ? (Map)rowType.newInstance(outer) : newGenericMap(rowType);
+			ClassMeta<?> keyType = rowType.isObject() ? string() : rowType.getKeyType(), valueType = rowType.isObject() ? object() : rowType.getValueType();
+			int i = 0;
+			do {
+				String s = trim(parseField(r, true));
+				if (i >= header.length) {
+					if (isStrict())
+						throw new ParseException(CsvParserSession.this, "Row contains more fields than the header.");
+				} else {
+					m.put(convertAttrToType(m, header[i], keyType), convertField(m, s, valueType));
+				}
+				i++;
+			} while (fieldEnd == ',');
+			return m;
+		}
+	}
+
+	/*
+	 * Converts a field value to the specified type.
+	 * Empty unquoted values become null for anything other than strings.
+	 */
+	private Object convertField(Object outer, String s, ClassMeta<?> type) throws IOException, ParseException, ExecutableException {
+		if (s == null)
+			return null;
+		if (type.isOptional())
+			return Optional.ofNullable(convertField(outer, s, type.getElementType()));
+		if (s.isEmpty() && ! (type.isCharSequence() || type.isObject()))
+			return null;
+		return convertAttrToType(outer, s, type);
+	}
+
+	/*
+	 * Skips over empty lines.
+	 * Returns true if there are more characters to read.
+	 */
+	private static boolean skipBlankLines(ParserReader r) throws IOException {
+		int c = r.peek();
+		while (c == '\n' || c == '\r') {
+			r.read();
+			c = r.peek();
+		}
+		return c != -1;
+	}
+
+	/*
+	 * Reads a single field using RFC 4180 quoting rules and records the character that terminated it in fieldEnd.
+	 * The unquoted value null is returned as a null unless the field is part of the header.
+	 */
+	private String parseField(ParserReader r, boolean convertNull) throws IOException, ParseException {
+		r.mark();
+		int c = r.read();
+		String s;
+		if (c == '"') {
+			while (true) {
+				c = r.read();
+				if (c == -1)
+					throw new ParseException(this, "Unterminated quoted field.");
+				if (c == '"') {
+					if (r.peek() != '"')
+						break;
+					r.read();
+					r.delete();
+				}
+			}
+			s = r.getMarked(1, -1);
+			c = r.read();
+			if (c != ',' && c != '\n' && c != '\r' && c != -1)
+				throw new ParseException(this, "Unexpected character ''{0}'' found after quoted field.", (char)c);
+		} else {
+			while (c != ',' && c != '\n' && c != '\r' && c != -1)
+				c = r.read();
+			s = c == -1 ? r.getMarked() : r.getMarked(0, -1);
+			if (convertNull && "null".equals(s))
+				s = null;
+		}
+		if (c == '\r') {
+			if (r.peek() == '\n')
+				r.read();
+			c = '\n';
+		}
+		fieldEnd = c;
+		return s;
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
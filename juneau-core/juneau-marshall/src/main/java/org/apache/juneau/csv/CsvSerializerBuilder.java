@@ -489,6 +489,12 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public CsvSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public CsvSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -525,6 +531,12 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public CsvSerializerBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public CsvSerializerBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -537,6 +549,12 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public CsvSerializerBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public CsvSerializerBuilder sortCollections() {
 		super.sortCollections();
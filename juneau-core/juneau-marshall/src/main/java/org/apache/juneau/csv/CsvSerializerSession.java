@@ -48,17 +48,24 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 	protected final void doSerialize(SerializerPipe pipe, Object o) throws IOException, SerializeException {
 		try (Writer w = pipe.getWriter()) {
 			ClassMeta<?> cm = getClassMetaForObject(o);
-			Collection<?> l = null;
-			if (cm.isArray()) {
-				l = Arrays.asList((Object[])o);
+			boolean isStream = cm.isStreamable();
+			List<?> l = toParallelList(o);
+			Iterator<?> rows;
+			if (l != null) {
+				rows = l.iterator();
+			} else if (cm.isArray()) {
+				rows = Arrays.asList((Object[])o).iterator();
+			} else if (isStream) {
+				rows = toIterator(o);
 			} else {
-				l = (Collection<?>)o;
+				rows = ((Collection<?>)o).iterator();
 			}
 			// TODO - Doesn't support DynaBeans.
-			if (l.size() > 0) {
-				ClassMeta<?> entryType = getClassMetaForObject(l.iterator().next());
+			if (rows.hasNext()) {
+				Object row = rows.next();
+				ClassMeta<?> entryType = getClassMetaForObject(row);
 				if (entryType.isBean()) {
-					BeanMeta<?> bm = entryType.getBeanMeta();
+					final BeanMeta<?> bm = entryType.getBeanMeta();
 					int i = 0;
 					for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
 						if (pm.canRead()) {
@@ -68,21 +75,48 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 						}
 					}
 					w.append('\n');
-					for (Object o2 : l) {
-						i = 0;
-						BeanMap<?> bean = toBeanMap(o2);
-						for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
-							if (pm.canRead()) {
-								if (i++ > 0)
-									w.append(',');
-								append(w, pm.get(bean, pm.getName()));
+					if (l != null) {
+						serializeChunks(l, CharArrayWriter::new,
+							(session, b, chunk, offset) -> {
+								CsvSerializerSession s = (CsvSerializerSession)session;
+								for (Object r : chunk)
+									s.serializeRow(b, bm, r);
+							},
+							b -> {
+								b.writeTo(w);
+								b.reset();
 							}
-						}
-						w.append('\n');
+						);
+						return;
+					}
+					int count = 0;
+					while (true) {
+						serializeRow(w, bm, row);
+						if (isStream)
+							flushStreamed(w, ++count);
+						if (! rows.hasNext())
+							break;
+						row = rows.next();
 					}
 				}
 			}
+		} finally {
+			closeStreamable(o);
+		}
+	}
+
+	private void serializeRow(Writer w, BeanMeta<?> bm, Object row) throws IOException {
+		int i = 0;
+		BeanMap<?> bean = acquireBeanMap(row);
+		for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
+			if (pm.canRead()) {
+				if (i++ > 0)
+					w.append(',');
+				append(w, pm.get(bean, pm.getName()));
+			}
 		}
+		returnBeanMap(bean);
+		w.append('\n');
 	}
 
 	private static void append(Writer w, Object o) throws IOException {
@@ -90,13 +124,17 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 			w.append("null");
 		else {
 			String s = o.toString();
-			boolean mustQuote = false;
-			for (int i = 0; i < s.length() && ! mustQuote; i++) {
+			boolean mustQuote = s.equals("null"), hasQuote = false;
+			for (int i = 0; i < s.length(); i++) {
 				char c = s.charAt(i);
 				if (Character.isWhitespace(c) || c == ',')
 					mustQuote = true;
+				else if (c == '"')
+					hasQuote = true;
 			}
-			if (mustQuote)
+			if (hasQuote)
+				w.append('"').append(s.replace("\"", "\"\"")).append('"');
+			else if (mustQuote)
 				w.append('"').append(s).append('"');
 			else
 				w.append(s);
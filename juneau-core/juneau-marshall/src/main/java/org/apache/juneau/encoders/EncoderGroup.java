@@ -15,10 +15,11 @@ package org.apache.juneau.encoders;
 import static org.apache.juneau.http.HttpHeaders.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.collections.*;
 import org.apache.juneau.http.header.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.mstat.*;
 
 /**
  * Represents the group of {@link Encoder encoders} keyed by codings.
@@ -63,7 +64,7 @@ public final class EncoderGroup {
 	public static final EncoderGroup DEFAULT = create().append(IdentityEncoder.class, GzipEncoder.class).build();
 
 	// Maps Accept-Encoding headers to matching encoders.
-	private final ConcurrentHashMap<String,EncoderMatch> cache = new ConcurrentHashMap<>();
+	private final NegotiationCache<EncoderMatch> cache;
 
 	private final List<String> encodings;
 	private final Encoder[] encodingsEncoders;
@@ -109,6 +110,7 @@ public final class EncoderGroup {
 
 		this.encodings = lc.unmodifiable();
 		this.encodingsEncoders = l.asArrayOf(Encoder.class);
+		this.cache = new NegotiationCache<>(encodings, this::findEncoderMatch);
 	}
 
 	/**
@@ -121,23 +123,32 @@ public final class EncoderGroup {
 	 * <p>
 	 * This method is fully compliant with the RFC2616/14.3 and 14.11 specifications.
 	 *
+	 * <p>
+	 * Results are cached in a bounded cache keyed on the normalized header value.
+	 * <br>The codings supported by this group are resolved when the group is created.
+	 *
 	 * @param acceptEncoding The <c>Accept-Encoding</c> or <c>Content-Encoding</c> value.
 	 * @return The coding value (e.g. <js>"gzip"</js>).
 	 */
 	public EncoderMatch getEncoderMatch(String acceptEncoding) {
-		EncoderMatch em = cache.get(acceptEncoding);
-		if (em != null)
-			return em;
-
-		AcceptEncoding ae = acceptEncoding(acceptEncoding);
-		int match = ae.match(encodings);
+		return cache.get(acceptEncoding);
+	}
 
-		if (match >= 0) {
-			em = new EncoderMatch(encodings.get(match), encodingsEncoders[match]);
-			cache.putIfAbsent(acceptEncoding, em);
-		}
+	private EncoderMatch findEncoderMatch(String acceptEncoding) {
+		int match = acceptEncoding(acceptEncoding).match(encodings);
+		return match >= 0 ? new EncoderMatch(encodings.get(match), encodingsEncoders[match]) : null;
+	}
 
-		return cache.get(acceptEncoding);
+	/**
+	 * Returns a snapshot of the statistics of the <l>Accept-Encoding</l> header negotiation cache of this group.
+	 *
+	 * <p>
+	 * Lookups of codings resolved when the group was created are not counted.
+	 *
+	 * @return A snapshot of the statistics of the negotiation cache of this group.
+	 */
+	public CacheStats getNegotiationCacheStats() {
+		return cache.getStats();
 	}
 
 	/**
@@ -1014,6 +1014,12 @@ public class HtmlDocSerializerBuilder extends HtmlStrippedDocSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public HtmlDocSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public HtmlDocSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -1050,6 +1056,12 @@ public class HtmlDocSerializerBuilder extends HtmlStrippedDocSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public HtmlDocSerializerBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public HtmlDocSerializerBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -1062,6 +1074,12 @@ public class HtmlDocSerializerBuilder extends HtmlStrippedDocSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public HtmlDocSerializerBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public HtmlDocSerializerBuilder sortCollections() {
 		super.sortCollections();
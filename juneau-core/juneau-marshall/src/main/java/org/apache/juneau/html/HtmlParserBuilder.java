@@ -492,6 +492,12 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public HtmlParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public HtmlParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
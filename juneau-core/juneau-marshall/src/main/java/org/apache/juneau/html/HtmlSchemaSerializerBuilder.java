@@ -668,6 +668,12 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public HtmlSchemaSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public HtmlSchemaSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -704,6 +710,12 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public HtmlSchemaSerializerBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public HtmlSchemaSerializerBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -716,6 +728,12 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public HtmlSchemaSerializerBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public HtmlSchemaSerializerBuilder sortCollections() {
 		super.sortCollections();
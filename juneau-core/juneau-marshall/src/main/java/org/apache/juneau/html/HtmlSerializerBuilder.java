@@ -584,6 +584,12 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public HtmlSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public HtmlSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -620,6 +626,12 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public HtmlSerializerBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public HtmlSerializerBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -632,6 +644,12 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public HtmlSerializerBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public HtmlSerializerBuilder sortCollections() {
 		super.sortCollections();
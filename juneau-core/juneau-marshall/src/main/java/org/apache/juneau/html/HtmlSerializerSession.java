@@ -284,6 +284,20 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 					sType = getClassMetaForObject(o);
 			}
 
+			// Iterators and streams are rendered as lists or tables, and table headers are derived from all the
+			// rows, so the elements need to be collected first.
+			if (sType.isStreamable()) {
+				List<Object> l = new ArrayList<>();
+				try {
+					for (Iterator<?> i = toIterator(o); i.hasNext();)
+						l.add(i.next());
+				} finally {
+					closeStreamable(o);
+				}
+				o = l;
+				sType = getClassMetaForObject(o);
+			}
+
 			// Handle the case where we're serializing a raw stream.
 			if (sType.isReader() || sType.isInputStream()) {
 				pop();
@@ -349,7 +363,7 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 					serializeMap(out, (Map)o, sType, eType.getKeyType(), eType.getValueType(), typeName, pMeta);
 
 			} else if (sType.isBean()) {
-				BeanMap m = toBeanMap(o);
+				BeanMap m = acquireBeanMap(o);
 				if (aType.hasAnnotation(HtmlLink.class)) {
 					String uriProperty = "", nameProperty = "";
 					for (HtmlLink a : aType.getAnnotations(HtmlLink.class)) {
@@ -367,6 +381,7 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 					out.nlIf(! isRoot, xIndent+2);
 					serializeBeanMap(out, m, eType, pMeta);
 				}
+				returnBeanMap(m);
 
 			} else if (sType.isCollection() || sType.isArray() || (wType != null && wType.isCollection())) {
 				out.nlIf(! isRoot, xIndent+1);
@@ -479,13 +494,16 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 			out.ie(i+1).eTag("tr").nl(i+1);
 		}
 
-		for (BeanPropertyValue p : m.getValues(isKeepNullProperties())) {
-			BeanPropertyMeta pMeta = p.getMeta();
-			ClassMeta<?> cMeta = p.getClassMeta();
+		SerializerPlan plan = getSerializerPlan(m);
 
-			String key = p.getName();
-			Object value = p.getValue();
-			Throwable t = p.getThrown();
+		BeanPropertyValues values = m.readValues(isKeepNullProperties(), null);
+		for (int j = 0; j < values.size(); j++) {
+			BeanPropertyMeta pMeta = values.getMeta(j);
+			ClassMeta<?> cMeta = values.getClassMeta(j);
+
+			String key = values.getName(j);
+			Object value = values.getValue(j);
+			Throwable t = values.getThrown(j);
 			if (t != null)
 				onBeanGetterException(pMeta, t);
 
@@ -502,7 +520,11 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 				value = anchorText;
 
 			out.sTag(i+1, "tr").nl(i+1);
-			out.sTag(i+2, "td").text(key).eTag("td").nl(i+2);
+			SerializerPlan.Property pp = plan == null ? null : plan.getProperty(pMeta);
+			if (pp != null)
+				out.sTag(i+2, "td").append((String)pp.getFormatMeta()).eTag("td").nl(i+2);
+			else
+				out.sTag(i+2, "td").text(key).eTag("td").nl(i+2);
 			out.oTag(i+2, "td");
 			String style = getStyle(this, pMeta, value);
 			if (style != null)
@@ -531,6 +553,23 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 		out.ie(i).eTag("table").nl(i);
 	}
 
+	@Override /* SerializerSession */
+	protected Object createPlanFormatMeta(BeanPropertyMeta pMeta) throws SerializeException {
+		try {
+			StringWriter w = new StringWriter();
+			new HtmlWriter(w, false, getMaxIndent(), isTrimStrings(), getQuoteChar(), getUriResolver()).text(pMeta.getName());
+			return w.toString();
+		} catch (IOException e) {
+			throw new SerializeException(this, e);
+		}
+	}
+
+	@Override /* SerializerSession */
+	protected boolean isPlanScalar(ClassMeta<?> sType) {
+		// Values are rendered through the HTML-specific logic in serializeAnything().
+		return false;
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private void serializeCollection(XmlWriter out, Object in, ClassMeta<?> sType, ClassMeta<?> eType, String name, BeanPropertyMeta ppMeta) throws IOException, SerializeException {
 
@@ -616,7 +655,7 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 						out.eTag("td").nl(i+2);
 					}
 				} else {
-					BeanMap m2 = toBeanMap(o);
+					BeanMap m2 = acquireBeanMap(o);
 
 					if (th == null)
 						th = m2.keySet().toArray(new Object[m2.size()]);
@@ -651,6 +690,7 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 							out.eTag("td").nl(i+2);
 						}
 					}
+					returnBeanMap(m2);
 				}
 				out.ie(i+1).eTag("tr").nl(i+1);
 			}
@@ -782,8 +822,10 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 			}
 		}
 
-		BeanMap<?> bm = toBeanMap(o1);
-		return bm.keySet().toArray(new String[bm.size()]);
+		BeanMap<?> bm = acquireBeanMap(o1);
+		String[] th = bm.keySet().toArray(new String[bm.size()]);
+		returnBeanMap(bm);
+		return th;
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -97,7 +97,7 @@ public class AcceptEncoding extends BasicStringRangeArrayHeader {
 
 	private static final long serialVersionUID = 1L;
 
-	private static final Cache<String,AcceptEncoding> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,AcceptEncoding> CACHE = new Cache<>("AcceptEncoding", NOCACHE, CACHE_MAX_SIZE);
 
 	/**
 	 * Returns a parsed and cached header.
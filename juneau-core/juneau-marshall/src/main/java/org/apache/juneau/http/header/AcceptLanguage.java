@@ -109,7 +109,7 @@ public class AcceptLanguage extends BasicStringRangeArrayHeader {
 
 	private static final long serialVersionUID = 1L;
 
-	private static final Cache<String,AcceptLanguage> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,AcceptLanguage> CACHE = new Cache<>("AcceptLanguage", NOCACHE, CACHE_MAX_SIZE);
 
 	/**
 	 * Returns a parsed and cached header.
@@ -39,7 +39,7 @@ public class ClientVersion extends BasicStringHeader {
 
 	private static final long serialVersionUID = 1L;
 
-	private static final Cache<String,ClientVersion> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,ClientVersion> CACHE = new Cache<>("ClientVersion", NOCACHE, CACHE_MAX_SIZE);
 
 	/**
 	 * Returns a parsed and cached header.
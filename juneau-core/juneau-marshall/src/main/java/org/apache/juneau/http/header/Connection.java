@@ -84,7 +84,7 @@ public class Connection extends BasicStringHeader {
 
 	private static final long serialVersionUID = 1L;
 
-	private static final Cache<String,Connection> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,Connection> CACHE = new Cache<>("Connection", NOCACHE, CACHE_MAX_SIZE);
 
 	/**
 	 * Returns a parsed and cached header.
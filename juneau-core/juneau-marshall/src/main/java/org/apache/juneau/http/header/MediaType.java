@@ -40,7 +40,7 @@ public class MediaType implements Comparable<MediaType>  {
 	/** Represents an empty media type object. */
 	public static final MediaType EMPTY = new MediaType("/*");
 
-	private static final Cache<String,MediaType> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,MediaType> CACHE = new Cache<>("MediaType", NOCACHE, CACHE_MAX_SIZE);
 
 	/** Reusable predefined media type */
 	@SuppressWarnings("javadoc")
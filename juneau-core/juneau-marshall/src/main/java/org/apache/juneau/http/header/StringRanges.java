@@ -57,7 +57,7 @@ public class StringRanges {
 	/** Represents an empty string ranges object. */
 	public static final StringRanges EMPTY = new StringRanges("");
 
-	private static final Cache<String,StringRanges> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,StringRanges> CACHE = new Cache<>("StringRanges", NOCACHE, CACHE_MAX_SIZE);
 
 	private final StringRange[] ranges;
 	private final String string;
@@ -12,35 +12,89 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.internal;
 
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import org.apache.juneau.mstat.*;
 
 /**
- * Simple in-memory cache of objects.
+ * Bounded in-memory cache of objects.
+ *
+ * <p>
+ * Backed by a {@link ConcurrentHashMap} so that reads never block.
+ * <br>When the number of entries exceeds the maximum size, entries are evicted using a second-chance (CLOCK)
+ * approximation of least-recently-used ordering:  every read marks its entry as referenced, and the eviction hand
+ * skips (and clears) referenced entries before removing unreferenced ones.
  *
  * <p>
- * Essentially just a wrapper around a ConcurrentHashMap.
+ * Hits, misses and evictions are counted and can be retrieved through {@link #getStats()}.
+ * <br>Named caches are registered globally and their statistics are available through {@link CacheStats#getAll()}.
  *
  * @param <K> The key type.
  * @param <V> The value type.
  */
 public class Cache<K,V> {
+
+	private static final Map<String,Cache<?,?>> CACHES = new ConcurrentSkipListMap<>();
+
+	private final String name;
 	private final boolean nocache;
 	private final int maxSize;
-	private final ConcurrentHashMap<K,V> cache;
+	private final ConcurrentHashMap<K,Entry<V>> cache;
+	private final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder();
+	private Iterator<Map.Entry<K,Entry<V>>> hand;
+
+	private static final class Entry<V> {
+		final V value;
+		volatile boolean referenced;
+
+		Entry(V value) {
+			this.value = value;
+		}
+	}
 
 	/**
 	 * Constructor.
 	 *
 	 * @param disabled If <jk>true</jk> then the cache is disabled.
-	 * @param maxSize The maximum size of the cache.  If this threshold is reached, the cache is flushed.
+	 * @param maxSize The maximum size of the cache.  If this threshold is exceeded, entries are evicted.
 	 */
 	public Cache(boolean disabled, int maxSize) {
+		this(null, disabled, maxSize);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param name
+	 * 	The name of this cache.
+	 * 	<br>If not <jk>null</jk>, this cache is registered globally so that its statistics are reported by
+	 * 	{@link CacheStats#getAll()}.
+	 * 	<br>Registering a cache with the same name as an existing cache replaces the existing one.
+	 * @param disabled If <jk>true</jk> then the cache is disabled.
+	 * @param maxSize The maximum size of the cache.  If this threshold is exceeded, entries are evicted.
+	 */
+	public Cache(String name, boolean disabled, int maxSize) {
+		this.name = name;
 		this.nocache = disabled;
 		this.maxSize = maxSize;
 		if (! nocache)
 			cache = new ConcurrentHashMap<>();
 		else
 			cache = null;
+		if (name != null)
+			CACHES.put(name, this);
+	}
+
+	/**
+	 * Returns all registered (named) caches ordered by name.
+	 *
+	 * @return All registered caches.
+	 */
+	public static List<Cache<?,?>> getAll() {
+		return CACHES.values().stream().collect(Collectors.toList());
 	}
 
 	/**
@@ -52,7 +106,15 @@ public class Cache<K,V> {
 	public V get(K key) {
 		if (nocache || key == null)
 			return null;
-		return cache.get(key);
+		Entry<V> e = cache.get(key);
+		if (e == null) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		if (! e.referenced)
+			e.referenced = true;
+		return e.value;
 	}
 
 	/**
@@ -68,16 +130,100 @@ public class Cache<K,V> {
 		if (nocache || key == null)
 			return value;
 
+		Entry<V> e = cache.putIfAbsent(key, new Entry<>(value));
+		if (e != null)
+			return e.value;
+
 		// Prevent OOM in case of DDOS
 		if (cache.size() > maxSize)
-			cache.clear();
+			evict();
 
-		while (true) {
-			V v = cache.get(key);
-			if (v != null)
-				return v;
-			cache.putIfAbsent(key, value);
-			return value;
+		return value;
+	}
+
+	private synchronized void evict() {
+		while (cache.size() > maxSize) {
+			if (hand == null || ! hand.hasNext()) {
+				hand = cache.entrySet().iterator();
+				if (! hand.hasNext())
+					return;
+			}
+			Map.Entry<K,Entry<V>> x = hand.next();
+			Entry<V> e = x.getValue();
+			if (e.referenced)
+				e.referenced = false;
+			else if (cache.remove(x.getKey(), e))
+				evictions.increment();
 		}
 	}
+
+	/**
+	 * Returns a snapshot of the values in this cache.
+	 *
+	 * <p>
+	 * Does not affect eviction order.
+	 *
+	 * @return A snapshot of the values in this cache.  Never <jk>null</jk>.
+	 */
+	public List<V> values() {
+		if (nocache)
+			return Collections.emptyList();
+		return cache.values().stream().map(x -> x.value).collect(Collectors.toList());
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 *
+	 * <p>
+	 * Statistics are not reset.
+	 */
+	public void clear() {
+		if (! nocache)
+			cache.clear();
+	}
+
+	/**
+	 * Returns the name of this cache.
+	 *
+	 * @return The name of this cache, or <jk>null</jk> if it's not a registered cache.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of entries in this cache.
+	 *
+	 * @return The number of entries in this cache.
+	 */
+	public int size() {
+		return nocache ? 0 : cache.size();
+	}
+
+	/**
+	 * Returns the maximum number of entries in this cache.
+	 *
+	 * @return The maximum number of entries in this cache.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this cache is disabled.
+	 *
+	 * @return <jk>true</jk> if this cache is disabled.
+	 */
+	public boolean isDisabled() {
+		return nocache;
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of this cache.
+	 *
+	 * @return A snapshot of the statistics of this cache.
+	 */
+	public CacheStats getStats() {
+		return new CacheStats(name, size(), maxSize, hits.sum(), misses.sum(), evictions.sum());
+	}
 }
@@ -0,0 +1,197 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.apache.juneau.mstat.*;
+
+/**
+ * Bounded cache of content-negotiation results keyed by HTTP header value.
+ *
+ * <p>
+ * Used by serializer, parser and encoder groups to map <c>Accept</c>, <c>Content-Type</c> and
+ * <c>Accept-Encoding</c> header values to their matches.
+ *
+ * <p>
+ * Lookups happen in three steps:
+ * <ol>
+ * 	<li>Header values are normalized by removing whitespace around the <js>','</js>, <js>';'</js> and <js>'='</js>
+ * 		separators so that insignificant formatting differences share the same entry.
+ * 		<br>Values that are already normalized are used as-is without allocating a new string.
+ * 	<li>The normalized value is looked up in an immutable table precomputed when the group is created from the
+ * 		values the group itself supports (e.g. <js>"application/json"</js>).
+ * 		<br>These lookups never contend and never evict.
+ * 	<li>All other values go through a bounded {@link Cache} so that clients sending many distinct header values
+ * 		cannot grow memory without limit.
+ * 		<br>Values that don't match anything are cached as well so that they're not re-parsed on every request.
+ * </ol>
+ *
+ * <p>
+ * The size of the bounded cache is controlled by the <js>"juneau.negotiation.cache.maxSize"</js> system property
+ * (default <c>1000</c>) and caching can be disabled through the <js>"juneau.negotiation.cache.disable"</js> system
+ * property.
+ *
+ * @param <T> The match type.
+ */
+public final class NegotiationCache<T> {
+
+	private static final boolean NOCACHE = Boolean.getBoolean("juneau.negotiation.cache.disable");
+	private static final int CACHE_MAX_SIZE = Integer.getInteger("juneau.negotiation.cache.maxSize", 1000);
+
+	private static final Object NO_MATCH = new Object();
+
+	private final Function<String,T> resolver;
+	private final Map<String,Object> table;
+	private final Cache<String,Object> cache;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param keys The header values to precompute matches for.
+	 * @param resolver The function that computes the match for a header value.  Can return <jk>null</jk>.
+	 */
+	public NegotiationCache(Collection<String> keys, Function<String,T> resolver) {
+		this(keys, resolver, NOCACHE, CACHE_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param keys The header values to precompute matches for.
+	 * @param resolver The function that computes the match for a header value.  Can return <jk>null</jk>.
+	 * @param disabled If <jk>true</jk> then values not in the precomputed table are not cached.
+	 * @param maxSize The maximum number of values cached in addition to the precomputed table.
+	 */
+	public NegotiationCache(Collection<String> keys, Function<String,T> resolver, boolean disabled, int maxSize) {
+		this.resolver = resolver;
+		Map<String,Object> m = new HashMap<>();
+		for (String k : keys) {
+			String k2 = normalize(k);
+			if (k2 != null && ! m.containsKey(k2))
+				m.put(k2, wrap(resolver.apply(k2)));
+		}
+		this.table = m.isEmpty() ? Collections.emptyMap() : m;
+		this.cache = new Cache<>(disabled, maxSize);
+	}
+
+	/**
+	 * Returns the match for the specified header value.
+	 *
+	 * @param value The header value.
+	 * @return The match, or <jk>null</jk> if the value was <jk>null</jk> or didn't match anything.
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(String value) {
+		value = normalize(value);
+		if (value == null)
+			return null;
+		Object o = table.get(value);
+		if (o == null) {
+			o = cache.get(value);
+			if (o == null)
+				o = cache.put(value, wrap(resolver.apply(value)));
+		}
+		return o == NO_MATCH ? null : (T)o;
+	}
+
+	/**
+	 * Returns the number of entries in the precomputed lookup table.
+	 *
+	 * @return The number of entries in the precomputed lookup table.
+	 */
+	public int getTableSize() {
+		return table.size();
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of the bounded portion of this cache.
+	 *
+	 * <p>
+	 * Lookups resolved through the precomputed table are not counted.
+	 *
+	 * @return A snapshot of the statistics of the bounded portion of this cache.
+	 */
+	public CacheStats getStats() {
+		return cache.getStats();
+	}
+
+	private static Object wrap(Object o) {
+		return o == null ? NO_MATCH : o;
+	}
+
+	/**
+	 * Normalizes an HTTP header value for use as a cache key.
+	 *
+	 * <p>
+	 * Leading and trailing whitespace and whitespace around the <js>','</js>, <js>';'</js> and <js>'='</js>
+	 * separators is removed.
+	 * <br>Whitespace inside tokens and quoted strings is left untouched.
+	 *
+	 * @param s The header value.
+	 * @return
+	 * 	The normalized value, the same instance if the value was already normalized, or <jk>null</jk> if the value
+	 * 	was <jk>null</jk> or blank.
+	 */
+	public static String normalize(String s) {
+		if (s == null)
+			return null;
+		int len = s.length();
+		boolean quoted = false;
+		for (int i = 0; i < len; i++) {
+			char c = s.charAt(i);
+			if (c == '"')
+				quoted = ! quoted;
+			else if (! quoted && Character.isWhitespace(c) && isRemovable(s, i))
+				return normalize(s, i);
+		}
+		return len == 0 ? null : s;
+	}
+
+	private static String normalize(String s, int start) {
+		int len = s.length();
+		StringBuilder sb = new StringBuilder(len).append(s, 0, start);
+		boolean quoted = false;
+		for (int i = 0; i < start; i++)
+			if (s.charAt(i) == '"')
+				quoted = ! quoted;
+		for (int i = start; i < len; i++) {
+			char c = s.charAt(i);
+			if (c == '"')
+				quoted = ! quoted;
+			else if (! quoted && Character.isWhitespace(c) && isRemovable(s, i))
+				continue;
+			sb.append(c);
+		}
+		return sb.length() == 0 ? null : sb.toString();
+	}
+
+	// Whitespace is removable if it's at either end or if it borders a separator (skipping over other whitespace).
+	private static boolean isRemovable(String s, int i) {
+		int len = s.length();
+		int j = i;
+		while (j > 0 && Character.isWhitespace(s.charAt(j-1)))
+			j--;
+		if (j == 0 || isSeparator(s.charAt(j-1)))
+			return true;
+		j = i;
+		while (j < len-1 && Character.isWhitespace(s.charAt(j+1)))
+			j++;
+		return j == len-1 || isSeparator(s.charAt(j+1));
+	}
+
+	private static boolean isSeparator(char c) {
+		return c == ',' || c == ';' || c == '=';
+	}
+}
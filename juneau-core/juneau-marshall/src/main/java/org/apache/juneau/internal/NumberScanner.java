@@ -0,0 +1,319 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.math.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.parser.*;
+
+/**
+ * Scans plain decimal number literals straight out of a {@link ParserReader} without creating intermediate strings.
+ *
+ * <p>
+ * Handles literals of the form <c>-?(0|[1-9][0-9]*)(\.[0-9]+)?([eE][+-]?[0-9]+)?</c> (i.e. standard JSON numbers)
+ * whose significant digits fit in a <jk>long</jk>.
+ * The digits are accumulated into a <jk>long</jk> mantissa and a power-of-ten exponent, from which <jk>int</jk>,
+ * <jk>long</jk>, <jk>float</jk> and <jk>double</jk> values are computed exactly.
+ *
+ * <p>
+ * Anything else (hexadecimal and octal forms, type suffixes, leading <js>'+'</js> or <js>'.'</js>, too many digits,
+ * values that can't be converted exactly) is left to {@link StringUtils#parseNumber(String, Class)}:
+ * {@link #scan(ParserReader, AsciiSet)} then returns <jk>false</jk> or {@link #toNumber(Class)} returns <jk>null</jk>,
+ * and {@link #reset(ParserReader)} puts the reader back where the literal started.
+ * Results are therefore always identical to the string-based parse.
+ *
+ * <p>
+ * Instances are reusable but not thread safe.
+ */
+public final class NumberScanner {
+
+	private static final long LIMIT = (Long.MAX_VALUE - 9) / 10;
+
+	private static final double[] POW10 = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	private static final float[] FPOW10 = {
+		1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	};
+
+	private long mantissa;     // Significant digits, without sign.
+	private int exponent;      // Power of ten to apply to the mantissa.
+	private int length;        // Number of characters consumed from the reader.
+	private boolean negative, integer;
+
+	/**
+	 * Scans a number literal from the reader.
+	 *
+	 * @param r The reader positioned on the first character of the literal.
+	 * @param endChars
+	 * 	The characters that can follow the literal, in addition to whitespace and end of input.
+	 * 	<br>If <jk>null</jk>, the literal can be followed by any character that can't be part of a number, the same
+	 * 	boundary used by {@link StringUtils#parseNumberString(ParserReader)}.
+	 * @return
+	 * 	<jk>true</jk> if a plain decimal literal was consumed.
+	 * 	<br><jk>false</jk> if the literal needs the string-based parser, in which case the reader is left untouched.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public boolean scan(ParserReader r, AsciiSet endChars) throws IOException {
+		mantissa = 0;
+		exponent = 0;
+		length = 0;
+		negative = false;
+		integer = true;
+		r.mark();
+		boolean b = scanInner(r, endChars);
+		r.unmark();
+		if (! b)
+			reset(r);
+		return b;
+	}
+
+	private boolean scanInner(ParserReader r, AsciiSet endChars) throws IOException {
+		int c = read(r);
+		if (c == '-') {
+			negative = true;
+			c = read(r);
+		}
+
+		if (c == '0') {
+			c = read(r);
+			if (isDigit(c))
+				return false;  // Octal.
+		} else if (isDigit(c)) {
+			do {
+				if (mantissa > LIMIT)
+					return false;
+				mantissa = mantissa * 10 + (c - '0');
+				c = read(r);
+			} while (isDigit(c));
+		} else {
+			return false;
+		}
+
+		if (c == '.') {
+			integer = false;
+			c = read(r);
+			if (! isDigit(c))
+				return false;
+			do {
+				if (mantissa > LIMIT)
+					return false;
+				mantissa = mantissa * 10 + (c - '0');
+				exponent--;
+				c = read(r);
+			} while (isDigit(c));
+		}
+
+		if (c == 'e' || c == 'E') {
+			integer = false;
+			c = read(r);
+			boolean negativeExponent = (c == '-');
+			if (c == '-' || c == '+')
+				c = read(r);
+			if (! isDigit(c))
+				return false;
+			int e = 0;
+			do {
+				if (e > 9999)
+					return false;
+				e = e * 10 + (c - '0');
+				c = read(r);
+			} while (isDigit(c));
+			exponent += (negativeExponent ? -e : e);
+		}
+
+		if (c == -1)
+			return true;
+		if (endChars == null ? ! StringUtils.isNumberChar(c) : (Character.isWhitespace(c) || endChars.contains(c))) {
+			r.unread();
+			length--;
+			return true;
+		}
+		return false;
+	}
+
+	private int read(ParserReader r) throws IOException {
+		int c = r.read();
+		if (c != -1)
+			length++;
+		return c;
+	}
+
+	private static boolean isDigit(int c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Pushes the characters consumed by the last successful {@link #scan(ParserReader, AsciiSet)} back into the reader.
+	 *
+	 * <p>
+	 * Must be called before anything else is read from the reader.
+	 *
+	 * @param r The reader that was scanned.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public void reset(ParserReader r) throws IOException {
+		for (int i = 0; i < length; i++)
+			r.unread();
+		length = 0;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the scanned literal is an integer within the range of an <jk>int</jk>.
+	 *
+	 * @return <jk>true</jk> if {@link #intValue()} can be called.
+	 */
+	public boolean isInt() {
+		return integer && mantissa <= (negative ? 0x80000000L : Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the scanned literal is an integer.
+	 *
+	 * @return <jk>true</jk> if {@link #longValue()} can be called.
+	 */
+	public boolean isLong() {
+		return integer;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the scanned literal is an integer within the range of a <jk>short</jk>.
+	 *
+	 * @return <jk>true</jk> if {@link #longValue()} can be cast to a <jk>short</jk>.
+	 */
+	public boolean isShort() {
+		return integer && mantissa <= (negative ? 32768 : Short.MAX_VALUE);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the scanned literal is an integer within the range of a <jk>byte</jk>.
+	 *
+	 * @return <jk>true</jk> if {@link #longValue()} can be cast to a <jk>byte</jk>.
+	 */
+	public boolean isByte() {
+		return integer && mantissa <= (negative ? 128 : Byte.MAX_VALUE);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the scanned literal can be converted exactly to the nearest <jk>double</jk>.
+	 *
+	 * @return <jk>true</jk> if {@link #doubleValue()} can be called.
+	 */
+	public boolean isDouble() {
+		return mantissa <= (1L << 53) && exponent >= -22 && exponent <= 22;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the scanned literal can be converted exactly to the nearest <jk>float</jk>.
+	 *
+	 * @return <jk>true</jk> if {@link #floatValue()} can be called.
+	 */
+	public boolean isFloat() {
+		return mantissa <= (1L << 24) && exponent >= -10 && exponent <= 10;
+	}
+
+	/**
+	 * Returns the scanned literal as an <jk>int</jk>.
+	 *
+	 * @return The scanned value.
+	 */
+	public int intValue() {
+		return (int)longValue();
+	}
+
+	/**
+	 * Returns the scanned literal as a <jk>long</jk>.
+	 *
+	 * @return The scanned value.
+	 */
+	public long longValue() {
+		return negative ? -mantissa : mantissa;
+	}
+
+	/**
+	 * Returns the scanned literal as a <jk>double</jk>.
+	 *
+	 * <p>
+	 * Both the mantissa and the power of ten are exactly representable, so a single multiplication or division
+	 * rounds correctly.
+	 *
+	 * @return The scanned value.
+	 */
+	public double doubleValue() {
+		double d = mantissa;
+		if (exponent < 0)
+			d /= POW10[-exponent];
+		else if (exponent > 0)
+			d *= POW10[exponent];
+		return negative ? -d : d;
+	}
+
+	/**
+	 * Returns the scanned literal as a <jk>float</jk>.
+	 *
+	 * @return The scanned value.
+	 */
+	public float floatValue() {
+		float f = mantissa;
+		if (exponent < 0)
+			f /= FPOW10[-exponent];
+		else if (exponent > 0)
+			f *= FPOW10[exponent];
+		return negative ? -f : f;
+	}
+
+	/**
+	 * Converts the scanned literal to the specified number type.
+	 *
+	 * <p>
+	 * Follows the same rules as {@link StringUtils#parseNumber(String, Class)}.
+	 *
+	 * @param type The number type to create, or <jk>null</jk> or <c>Number</c> to use the best guess.
+	 * @return
+	 * 	The number, or <jk>null</jk> if the literal must go through {@link StringUtils#parseNumber(String, Class)}
+	 * 	instead (including auto-detected decimals, whose <c>Float</c>-or-<c>Double</c> choice is made on their
+	 * 	string form).
+	 */
+	public Number toNumber(Class<? extends Number> type) {
+		if (type == null || type == Number.class) {
+			if (! integer)
+				return null;
+			return isInt() ? (Number)Integer.valueOf(intValue()) : (Number)Long.valueOf(longValue());
+		}
+		if (type == Integer.class || type == Integer.TYPE)
+			return isInt() ? Integer.valueOf(intValue()) : null;
+		if (type == Long.class || type == Long.TYPE)
+			return integer ? Long.valueOf(longValue()) : null;
+		if (type == Double.class || type == Double.TYPE)
+			return isDouble() ? Double.valueOf(doubleValue()) : null;
+		if (type == Float.class || type == Float.TYPE)
+			return isFloat() ? Float.valueOf(floatValue()) : null;
+		if (type == Short.class || type == Short.TYPE)
+			return isShort() ? Short.valueOf((short)longValue()) : null;
+		if (type == Byte.class || type == Byte.TYPE)
+			return isByte() ? Byte.valueOf((byte)longValue()) : null;
+		if (type == BigDecimal.class)
+			return BigDecimal.valueOf(longValue(), -exponent);
+		if (type == BigInteger.class)
+			return integer ? BigInteger.valueOf(longValue()) : null;
+		if (type == AtomicInteger.class)
+			return isInt() ? new AtomicInteger(intValue()) : null;
+		if (type == AtomicLong.class)
+			return integer ? new AtomicLong(longValue()) : null;
+		return null;
+	}
+}
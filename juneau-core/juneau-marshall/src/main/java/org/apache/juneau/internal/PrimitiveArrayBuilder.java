@@ -0,0 +1,248 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+
+/**
+ * Collects parsed numbers into a growable primitive array without boxing them.
+ *
+ * <p>
+ * Supports arrays of <jk>int</jk>, <jk>long</jk>, <jk>short</jk>, <jk>byte</jk>, <jk>float</jk> and <jk>double</jk>.
+ * Numbers scanned by a {@link NumberScanner} are stored directly, and any other value (e.g. one that went through the
+ * regular parser) can be added as a {@link Number}, <jk>null</jk> being stored as <c>0</c>.
+ *
+ * <p>
+ * Implements {@link Collection} so that it can be passed to the collection-parsing methods of parser sessions in
+ * place of the intermediate list that's normally converted into the array afterwards.
+ *
+ * <p>
+ * Not thread safe.
+ */
+public final class PrimitiveArrayBuilder extends AbstractList<Number> {
+
+	private static final int INT=0, LONG=1, SHORT=2, BYTE=3, FLOAT=4, DOUBLE=5;
+
+	private final int type;
+	private int[] ints;
+	private long[] longs;
+	private short[] shorts;
+	private byte[] bytes;
+	private float[] floats;
+	private double[] doubles;
+	private int size;
+
+	/**
+	 * Returns <jk>true</jk> if the specified array component type is supported by this class.
+	 *
+	 * @param componentType The array component type.
+	 * @return <jk>true</jk> if the specified type is one of the supported primitive number types.
+	 */
+	public static boolean isSupported(Class<?> componentType) {
+		return typeOf(componentType) != -1;
+	}
+
+	private static int typeOf(Class<?> c) {
+		if (c == int.class)
+			return INT;
+		if (c == long.class)
+			return LONG;
+		if (c == short.class)
+			return SHORT;
+		if (c == byte.class)
+			return BYTE;
+		if (c == float.class)
+			return FLOAT;
+		if (c == double.class)
+			return DOUBLE;
+		return -1;
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param componentType The array component type.  Must be one of the types accepted by {@link #isSupported(Class)}.
+	 */
+	public PrimitiveArrayBuilder(Class<?> componentType) {
+		type = typeOf(componentType);
+		switch (type) {
+			case INT: ints = new int[16]; break;
+			case LONG: longs = new long[16]; break;
+			case SHORT: shorts = new short[16]; break;
+			case BYTE: bytes = new byte[16]; break;
+			case FLOAT: floats = new float[16]; break;
+			case DOUBLE: doubles = new double[16]; break;
+			default: throw new IllegalArgumentException("Unsupported array component type: " + componentType);
+		}
+	}
+
+	/**
+	 * Adds the number last scanned by the specified scanner.
+	 *
+	 * @param ns The scanner that just scanned a number.
+	 * @return
+	 * 	<jk>true</jk> if the number was added.
+	 * 	<br><jk>false</jk> if it can't be converted exactly to the component type, in which case it must go through the
+	 * 	regular parser.
+	 */
+	public boolean add(NumberScanner ns) {
+		switch (type) {
+			case INT:
+				if (! ns.isInt())
+					return false;
+				ensureCapacity();
+				ints[size++] = ns.intValue();
+				return true;
+			case LONG:
+				if (! ns.isLong())
+					return false;
+				ensureCapacity();
+				longs[size++] = ns.longValue();
+				return true;
+			case SHORT:
+				if (! ns.isShort())
+					return false;
+				ensureCapacity();
+				shorts[size++] = (short)ns.longValue();
+				return true;
+			case BYTE:
+				if (! ns.isByte())
+					return false;
+				ensureCapacity();
+				bytes[size++] = (byte)ns.longValue();
+				return true;
+			case FLOAT:
+				if (! ns.isFloat())
+					return false;
+				ensureCapacity();
+				floats[size++] = ns.floatValue();
+				return true;
+			default:
+				if (! ns.isDouble())
+					return false;
+				ensureCapacity();
+				doubles[size++] = ns.doubleValue();
+				return true;
+		}
+	}
+
+	/**
+	 * Adds a number.
+	 *
+	 * @param n The number to add.  <jk>null</jk> is added as <c>0</c>.
+	 * @return Always <jk>true</jk>.
+	 */
+	@Override /* List */
+	public boolean add(Number n) {
+		ensureCapacity();
+		switch (type) {
+			case INT: ints[size++] = n == null ? 0 : n.intValue(); break;
+			case LONG: longs[size++] = n == null ? 0 : n.longValue(); break;
+			case SHORT: shorts[size++] = n == null ? 0 : n.shortValue(); break;
+			case BYTE: bytes[size++] = n == null ? 0 : n.byteValue(); break;
+			case FLOAT: floats[size++] = n == null ? 0 : n.floatValue(); break;
+			default: doubles[size++] = n == null ? 0 : n.doubleValue(); break;
+		}
+		return true;
+	}
+
+	/**
+	 * Adds an integral value, narrowing it to the component type.
+	 *
+	 * @param v The value to add.
+	 */
+	public void addLong(long v) {
+		ensureCapacity();
+		switch (type) {
+			case INT: ints[size++] = (int)v; break;
+			case LONG: longs[size++] = v; break;
+			case SHORT: shorts[size++] = (short)v; break;
+			case BYTE: bytes[size++] = (byte)v; break;
+			case FLOAT: floats[size++] = v; break;
+			default: doubles[size++] = v; break;
+		}
+	}
+
+	/**
+	 * Adds a floating-point value, narrowing it to the component type.
+	 *
+	 * @param v The value to add.
+	 */
+	public void addDouble(double v) {
+		ensureCapacity();
+		switch (type) {
+			case INT: ints[size++] = (int)v; break;
+			case LONG: longs[size++] = (long)v; break;
+			case SHORT: shorts[size++] = (short)(long)v; break;
+			case BYTE: bytes[size++] = (byte)(long)v; break;
+			case FLOAT: floats[size++] = (float)v; break;
+			default: doubles[size++] = v; break;
+		}
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the component type is <jk>float</jk> or <jk>double</jk>.
+	 *
+	 * @return <jk>true</jk> if the component type is <jk>float</jk> or <jk>double</jk>.
+	 */
+	public boolean isFloatingPoint() {
+		return type == FLOAT || type == DOUBLE;
+	}
+
+	@Override /* List */
+	public Number get(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		switch (type) {
+			case INT: return ints[index];
+			case LONG: return longs[index];
+			case SHORT: return shorts[index];
+			case BYTE: return bytes[index];
+			case FLOAT: return floats[index];
+			default: return doubles[index];
+		}
+	}
+
+	@Override /* List */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns a new primitive array containing the numbers added to this builder.
+	 *
+	 * @return A new <jk>int</jk>[], <jk>long</jk>[], <jk>short</jk>[], <jk>byte</jk>[], <jk>float</jk>[] or
+	 * 	<jk>double</jk>[] array.
+	 */
+	public Object getArray() {
+		switch (type) {
+			case INT: return Arrays.copyOf(ints, size);
+			case LONG: return Arrays.copyOf(longs, size);
+			case SHORT: return Arrays.copyOf(shorts, size);
+			case BYTE: return Arrays.copyOf(bytes, size);
+			case FLOAT: return Arrays.copyOf(floats, size);
+			default: return Arrays.copyOf(doubles, size);
+		}
+	}
+
+	private void ensureCapacity() {
+		switch (type) {
+			case INT: if (size == ints.length) ints = Arrays.copyOf(ints, size * 2); break;
+			case LONG: if (size == longs.length) longs = Arrays.copyOf(longs, size * 2); break;
+			case SHORT: if (size == shorts.length) shorts = Arrays.copyOf(shorts, size * 2); break;
+			case BYTE: if (size == bytes.length) bytes = Arrays.copyOf(bytes, size * 2); break;
+			case FLOAT: if (size == floats.length) floats = Arrays.copyOf(floats, size * 2); break;
+			default: if (size == doubles.length) doubles = Arrays.copyOf(doubles, size * 2); break;
+		}
+	}
+}
@@ -97,6 +97,31 @@ public final class StringUtils {
 	 * @throws ParseException Malformed input encountered.
 	 */
 	public static Number parseNumber(ParserReader r, Class<? extends Number> type) throws ParseException, IOException {
+		return parseNumber(r, type, null);
+	}
+
+	/**
+	 * Same as {@link #parseNumber(ParserReader, Class)} but scans plain decimal literals straight from the reader
+	 * buffer using the specified reusable scanner instead of first reading them into a string.
+	 *
+	 * @param r The reader to parse the string from.
+	 * @param type
+	 * 	The number type to created.
+	 * 	<br>If <jk>null</jk>, uses the best guess.
+	 * @param ns
+	 * 	The scanner to use, typically the one returned by <c>ParserSession.getNumberScanner()</c>.
+	 * 	<br>If <jk>null</jk>, the number is always read into a string first.
+	 * @return The parsed number.
+	 * @throws IOException If a problem occurred trying to read from the reader.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public static Number parseNumber(ParserReader r, Class<? extends Number> type, NumberScanner ns) throws ParseException, IOException {
+		if (ns != null && ns.scan(r, null)) {
+			Number n = ns.toNumber(type);
+			if (n != null)
+				return n;
+			ns.reset(r);
+		}
 		return parseNumber(parseNumberString(r), type);
 	}
 
@@ -256,6 +281,17 @@ public final class StringUtils {
 		return isDecimal(s) || isFloat(s);
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the specified character can be part of a number string read by
+	 * {@link #parseNumberString(ParserReader)}.
+	 *
+	 * @param c The character to test.
+	 * @return <jk>true</jk> if the specified character can be part of a number string.
+	 */
+	public static boolean isNumberChar(int c) {
+		return numberChars.contains(c);
+	}
+
 	/**
 	 * Returns <jk>true</jk> if the specified character is a valid first character for a number.
 	 *
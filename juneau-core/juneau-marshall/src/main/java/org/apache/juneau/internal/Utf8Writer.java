@@ -0,0 +1,185 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+
+/**
+ * A writer that encodes characters as UTF-8 directly into an internal byte buffer.
+ *
+ * <p>
+ * Equivalent to an {@link OutputStreamWriter} using the UTF-8 charset, but avoids the overhead of the general-purpose
+ * charset encoder and its intermediate buffers, and allows pre-encoded bytes to be written directly through
+ * {@link #writeRaw(byte[])}.
+ *
+ * <p>
+ * Malformed surrogate characters are replaced with <js>'?'</js> the same as {@link OutputStreamWriter}.
+ *
+ * <p>
+ * Note that this class is NOT thread safe.
+ */
+public final class Utf8Writer extends Writer {
+
+	private final OutputStream out;
+	private final byte[] buf;
+	private int count;
+	private char highSurrogate;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The output stream being wrapped.
+	 */
+	public Utf8Writer(OutputStream out) {
+		this(out, 8192);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The output stream being wrapped.
+	 * @param bufferSize The size of the internal byte buffer.  Must be at least <c>4</c>.
+	 */
+	public Utf8Writer(OutputStream out, int bufferSize) {
+		this.out = out;
+		this.buf = new byte[Math.max(bufferSize, 4)];
+	}
+
+	/**
+	 * Writes bytes that are already UTF-8 encoded.
+	 *
+	 * @param b The bytes to write.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public void writeRaw(byte[] b) throws IOException {
+		if (highSurrogate != 0)
+			writeMalformed();
+		int len = b.length;
+		if (len > buf.length - count) {
+			flushBuffer();
+			if (len > buf.length) {
+				out.write(b);
+				return;
+			}
+		}
+		System.arraycopy(b, 0, buf, count, len);
+		count += len;
+	}
+
+	@Override /* Writer */
+	public void write(int c) throws IOException {
+		encode((char)c);
+	}
+
+	@Override /* Writer */
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		for (int i = off, end = off + len; i < end; i++)
+			encode(cbuf[i]);
+	}
+
+	@Override /* Writer */
+	public void write(String str) throws IOException {
+		write(str, 0, str.length());
+	}
+
+	@Override /* Writer */
+	public void write(String str, int off, int len) throws IOException {
+		for (int i = off, end = off + len; i < end; i++) {
+			char c = str.charAt(i);
+			if (c < 0x80 && highSurrogate == 0) {
+				if (count == buf.length)
+					flushBuffer();
+				buf[count++] = (byte)c;
+			} else {
+				encode(c);
+			}
+		}
+	}
+
+	@Override /* Writer */
+	public Writer append(char c) throws IOException {
+		encode(c);
+		return this;
+	}
+
+	@Override /* Writer */
+	public Writer append(CharSequence csq) throws IOException {
+		write(String.valueOf(csq));
+		return this;
+	}
+
+	@Override /* Writer */
+	public Writer append(CharSequence csq, int start, int end) throws IOException {
+		write(String.valueOf(csq).substring(start, end));
+		return this;
+	}
+
+	private void encode(char c) throws IOException {
+		if (buf.length - count < 4)
+			flushBuffer();
+		if (highSurrogate != 0) {
+			if (Character.isLowSurrogate(c)) {
+				int cp = Character.toCodePoint(highSurrogate, c);
+				highSurrogate = 0;
+				buf[count++] = (byte)(0xF0 | (cp >> 18));
+				buf[count++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+				buf[count++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+				buf[count++] = (byte)(0x80 | (cp & 0x3F));
+				return;
+			}
+			writeMalformed();
+		}
+		if (c < 0x80) {
+			buf[count++] = (byte)c;
+		} else if (c < 0x800) {
+			buf[count++] = (byte)(0xC0 | (c >> 6));
+			buf[count++] = (byte)(0x80 | (c & 0x3F));
+		} else if (Character.isHighSurrogate(c)) {
+			highSurrogate = c;
+		} else if (Character.isLowSurrogate(c)) {
+			buf[count++] = '?';
+		} else {
+			buf[count++] = (byte)(0xE0 | (c >> 12));
+			buf[count++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+			buf[count++] = (byte)(0x80 | (c & 0x3F));
+		}
+	}
+
+	private void writeMalformed() throws IOException {
+		highSurrogate = 0;
+		if (count == buf.length)
+			flushBuffer();
+		buf[count++] = '?';
+	}
+
+	private void flushBuffer() throws IOException {
+		if (count > 0) {
+			out.write(buf, 0, count);
+			count = 0;
+		}
+	}
+
+	@Override /* Writer */
+	public void flush() throws IOException {
+		flushBuffer();
+		out.flush();
+	}
+
+	@Override /* Writer */
+	public void close() throws IOException {
+		if (highSurrogate != 0)
+			writeMalformed();
+		flush();
+		out.close();
+	}
+}
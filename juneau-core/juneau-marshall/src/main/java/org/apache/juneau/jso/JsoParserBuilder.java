@@ -488,6 +488,12 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public JsoParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public JsoParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
@@ -12,6 +12,10 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.json;
 
+import static org.apache.juneau.internal.IOUtils.*;
+
+import java.io.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.json.annotation.*;
 
@@ -26,6 +30,8 @@ public final class JsonBeanPropertyMeta extends ExtendedBeanPropertyMeta {
 	 */
 	public static final JsonBeanPropertyMeta DEFAULT = new JsonBeanPropertyMeta();
 
+	private volatile EncodedName encodedName;
+
 	/**
 	 * Constructor.
 	 *
@@ -39,4 +45,41 @@ public final class JsonBeanPropertyMeta extends ExtendedBeanPropertyMeta {
 	private JsonBeanPropertyMeta() {
 		super(null);
 	}
+
+	/**
+	 * Returns the property name escaped and quoted as a JSON attribute name for the specified writer.
+	 *
+	 * <p>
+	 * The value is computed on first use and reused for as long as the same name and writer settings are used.
+	 *
+	 * @param name The property name.
+	 * @param w The writer the name will be written to.
+	 * @return The encoded name.
+	 * @throws IOException Should never happen.
+	 */
+	EncodedName getEncodedName(String name, JsonWriter w) throws IOException {
+		EncodedName x = encodedName;
+		if (x == null || x.name != name || x.flavor != w.getFlavor()) {
+			x = new EncodedName(name, w.getFlavor(), w.encodeAttr(name));
+			if (this != DEFAULT)
+				encodedName = x;
+		}
+		return x;
+	}
+
+	/**
+	 * A property name encoded as a JSON attribute name as both characters and UTF-8 bytes.
+	 */
+	static final class EncodedName {
+		final String name, chars;
+		final int flavor;
+		final byte[] bytes;
+
+		EncodedName(String name, int flavor, String chars) {
+			this.name = name;
+			this.flavor = flavor;
+			this.chars = chars;
+			this.bytes = chars.getBytes(UTF8);
+		}
+	}
 }
@@ -0,0 +1,455 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.lang.reflect.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Pull-style cursor over the tokens of a JSON document.
+ *
+ * <p>
+ * Created through {@link JsonParser#createCursor(Object)} or {@link JsonParserSession#createCursor(Object)}.
+ *
+ * <p>
+ * The cursor reads the input one token at a time so that documents of arbitrary size can be processed with bounded
+ * memory.
+ * <br>At any point, the value at the current position can be bound to a POJO using one of the <c>read(...)</c>
+ * methods, which delegates to the same logic used by {@link JsonParser#parse(Object, ClassMeta)}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Input:  {"total":2,"items":[{...},{...}]}</jc>
+ * 	<jk>try</jk> (JsonCursor <jv>c</jv> = JsonParser.<jsf>DEFAULT</jsf>.createCursor(<jv>reader</jv>)) {
+ * 		<jv>c</jv>.next();                              <jc>// START_OBJECT</jc>
+ * 		<jk>while</jk> (<jv>c</jv>.next() == Token.<jsf>FIELD_NAME</jsf>) {
+ * 			<jk>if</jk> (<jv>c</jv>.getFieldName().equals(<js>"items"</js>)) {
+ * 				<jv>c</jv>.next();                      <jc>// START_ARRAY</jc>
+ * 				<jk>while</jk> (<jv>c</jv>.peek() != Token.<jsf>END_ARRAY</jsf>)
+ * 					process(<jv>c</jv>.read(MyBean.<jk>class</jk>));
+ * 				<jv>c</jv>.next();                      <jc>// END_ARRAY</jc>
+ * 			} <jk>else</jk> {
+ * 				<jv>c</jv>.next();
+ * 				<jv>c</jv>.skipChildren();
+ * 			}
+ * 		}
+ * 	}
+ * </p>
+ *
+ * <p>
+ * This class is NOT thread safe.
+ */
+public final class JsonCursor implements Closeable {
+
+	/**
+	 * The token types returned by {@link JsonCursor#next()}.
+	 */
+	public static enum Token {
+
+		/** Start of a JSON object: <js>'{'</js> */
+		START_OBJECT,
+
+		/** End of a JSON object: <js>'}'</js> */
+		END_OBJECT,
+
+		/** Start of a JSON array: <js>'['</js> */
+		START_ARRAY,
+
+		/** End of a JSON array: <js>']'</js> */
+		END_ARRAY,
+
+		/** A field name inside a JSON object.  Available through {@link JsonCursor#getFieldName()}. */
+		FIELD_NAME,
+
+		/** A string value.  Available through {@link JsonCursor#getString()}. */
+		STRING,
+
+		/** A number value.  Available through {@link JsonCursor#getNumber()}. */
+		NUMBER,
+
+		/** A boolean value.  Available through {@link JsonCursor#getBoolean()}. */
+		BOOLEAN,
+
+		/** A <jk>null</jk> value. */
+		NULL;
+
+		/**
+		 * Returns <jk>true</jk> if this token starts a value.
+		 *
+		 * @return <jk>true</jk> if this token starts a value.
+		 */
+		public boolean isValue() {
+			return this != END_OBJECT && this != END_ARRAY && this != FIELD_NAME;
+		}
+	}
+
+	// Parser states.
+	private static final int
+		S_VALUE = 0,          // Looking for a value.
+		S_FIRST_ELEMENT = 1,  // Found '[', looking for a value or ']'.
+		S_FIRST_FIELD = 2,    // Found '{', looking for a field name or '}'.
+		S_FIELD = 3,          // Found ',' in an object, looking for a field name.
+		S_AFTER_FIELD = 4,    // Found a field name, looking for ':'.
+		S_AFTER_VALUE = 5;    // Found a complete value, looking for ',' or the end of the enclosing container.
+
+	private final JsonParserSession session;
+	private final ParserPipe pipe;
+	private final ParserReader r;
+
+	private boolean[] stack = new boolean[16];  // true = object, false = array
+	private int depth, state = S_VALUE;
+	private boolean closed;
+
+	private Token token;
+	private String fieldName;
+	private Object value;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param session The session that created this cursor.
+	 * @param pipe The parser input.  Closed when this cursor is closed.
+	 * @param r The reader over the parser input.  Can be <jk>null</jk> if the input was <jk>null</jk>.
+	 */
+	protected JsonCursor(JsonParserSession session, ParserPipe pipe, ParserReader r) {
+		this.session = session;
+		this.pipe = pipe;
+		this.r = r;
+	}
+
+	/**
+	 * Returns the type of the next token without consuming it.
+	 *
+	 * @return The type of the next token, or <jk>null</jk> if the end of the input has been reached.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public Token peek() throws IOException, ParseException {
+		if (r == null || closed)
+			return null;
+		int c = position();
+		switch (state) {
+			case S_FIRST_FIELD:
+				return c == '}' ? Token.END_OBJECT : Token.FIELD_NAME;
+			case S_FIELD:
+				if (c == '}')
+					throw new ParseException(session, "Unexpected trailing comma in object.");
+				return Token.FIELD_NAME;
+			case S_FIRST_ELEMENT:
+				return c == ']' ? Token.END_ARRAY : valueToken(c);
+			case S_AFTER_VALUE:
+				return c == '}' ? Token.END_OBJECT : c == ']' ? Token.END_ARRAY : null;
+			default:
+				if (c == -1 && depth == 0)
+					return null;
+				if (c == ']' || c == '}')
+					throw new ParseException(session, depth == 0 ? "Unexpected character ''{0}'' found." : "Missing value detected.", (char)c);
+				return valueToken(c);
+		}
+	}
+
+	/**
+	 * Advances to the next token.
+	 *
+	 * <p>
+	 * Scalar values are parsed as part of this call and are available through {@link #getString()},
+	 * {@link #getNumber()}, {@link #getBoolean()}, or {@link #getValue()}.
+	 *
+	 * @return The type of the token, or <jk>null</jk> if the end of the input has been reached.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public Token next() throws IOException, ParseException {
+		Token t = peek();
+		value = null;
+		if (t == null) {
+			token = null;
+			return null;
+		}
+		switch (t) {
+			case START_OBJECT:
+				r.read();
+				push(true);
+				state = S_FIRST_FIELD;
+				break;
+			case START_ARRAY:
+				r.read();
+				push(false);
+				state = S_FIRST_ELEMENT;
+				break;
+			case END_OBJECT:
+			case END_ARRAY:
+				r.read();
+				depth--;
+				state = S_AFTER_VALUE;
+				break;
+			case FIELD_NAME:
+				fieldName = session.parseFieldName(r);
+				state = S_AFTER_FIELD;
+				break;
+			case STRING:
+				value = session.parseString(r);
+				state = S_AFTER_VALUE;
+				break;
+			case NUMBER:
+				value = session.parseNumber(r, null);
+				state = S_AFTER_VALUE;
+				break;
+			case BOOLEAN:
+				value = session.parseBoolean(r);
+				state = S_AFTER_VALUE;
+				break;
+			default:
+				session.parseKeyword("null", r);
+				state = S_AFTER_VALUE;
+				break;
+		}
+		token = t;
+		return t;
+	}
+
+	/**
+	 * Parses the value at the current position into the specified type.
+	 *
+	 * <p>
+	 * The value must not have been started yet (i.e. {@link #peek()} must return a value token).
+	 * <br>The entire value, including any nested objects or arrays, is consumed.
+	 *
+	 * @param <T> The class type of the object to create.
+	 * @param type The object type to create.
+	 * @return The parsed object.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public <T> T read(ClassMeta<T> type) throws IOException, ParseException {
+		Token t = peek();
+		if (t == null || ! t.isValue())
+			throw new ParseException(session, "Expected a value but found ''{0}''.", t == null ? "end-of-file" : t);
+		try {
+			T o = session.parseAnything(type, r, null, null);
+			state = S_AFTER_VALUE;
+			token = null;
+			value = o;
+			return o;
+		} catch (ExecutableException e) {
+			throw new ParseException(session, e);
+		}
+	}
+
+	/**
+	 * Same as {@link #read(ClassMeta)} except optimized for a non-parameterized class.
+	 *
+	 * @param <T> The class type of the object to create.
+	 * @param type The object type to create.
+	 * @return The parsed object.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public <T> T read(Class<T> type) throws IOException, ParseException {
+		return read(session.getClassMeta(type));
+	}
+
+	/**
+	 * Same as {@link #read(ClassMeta)} except allows you to specify parameterized types.
+	 *
+	 * @param <T> The class type of the object to create.
+	 * @param type
+	 * 	The object type to create.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @param args
+	 * 	The type arguments of the class if it's a collection or map.
+	 * @return The parsed object.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T read(Type type, Type...args) throws IOException, ParseException {
+		return (T)read(session.getClassMeta(type, args));
+	}
+
+	/**
+	 * Skips over the contents of the object or array just started.
+	 *
+	 * <p>
+	 * If the current token is {@link Token#START_OBJECT} or {@link Token#START_ARRAY}, advances past the matching end
+	 * token.
+	 * <br>Otherwise does nothing.
+	 *
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public JsonCursor skipChildren() throws IOException, ParseException {
+		if (token == Token.START_OBJECT || token == Token.START_ARRAY) {
+			int d = depth;
+			while (depth >= d)
+				if (next() == null)
+					throw new ParseException(session, "Unexpected end-of-file.");
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the token returned by the last call to {@link #next()}.
+	 *
+	 * @return The current token, or <jk>null</jk> if at the start or end of input or after a call to <c>read(...)</c>.
+	 */
+	public Token getToken() {
+		return token;
+	}
+
+	/**
+	 * Returns the most recently read field name.
+	 *
+	 * <p>
+	 * Remains set while the value of the field is being read.
+	 *
+	 * @return The most recently read field name, or <jk>null</jk> if no field name has been read.
+	 */
+	public String getFieldName() {
+		return fieldName;
+	}
+
+	/**
+	 * Returns the current scalar value.
+	 *
+	 * @return
+	 * 	The current scalar value, or the object returned by the last call to <c>read(...)</c>.
+	 * 	<br><jk>null</jk> if the current token is not a scalar.
+	 */
+	public Object getValue() {
+		return value;
+	}
+
+	/**
+	 * Returns the current value as a string.
+	 *
+	 * @return The current value as a string, or <jk>null</jk> if there is no current value.
+	 */
+	public String getString() {
+		return value == null ? null : value.toString();
+	}
+
+	/**
+	 * Returns the current value as a number.
+	 *
+	 * @return The current value as a number.
+	 * @throws ParseException If the current token is not a {@link Token#NUMBER}.
+	 */
+	public Number getNumber() throws ParseException {
+		if (token != Token.NUMBER)
+			throw new ParseException(session, "Current token ''{0}'' is not a number.", token);
+		return (Number)value;
+	}
+
+	/**
+	 * Returns the current value as a boolean.
+	 *
+	 * @return The current value as a boolean.
+	 * @throws ParseException If the current token is not a {@link Token#BOOLEAN}.
+	 */
+	public boolean getBoolean() throws ParseException {
+		if (token != Token.BOOLEAN)
+			throw new ParseException(session, "Current token ''{0}'' is not a boolean.", token);
+		return (Boolean)value;
+	}
+
+	/**
+	 * Returns the nesting depth of the current position.
+	 *
+	 * @return The number of objects and arrays that have been started but not ended.
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Returns the current position in the input.
+	 *
+	 * @return The current position in the input.
+	 */
+	public Position getPosition() {
+		return session.getPosition();
+	}
+
+	@Override /* Closeable */
+	public void close() {
+		if (! closed) {
+			closed = true;
+			pipe.close();
+			session.checkForWarnings();
+		}
+	}
+
+	/*
+	 * Consumes whitespace, comments and separators up to the start of the next token and returns the first character
+	 * of that token without consuming it.
+	 */
+	private int position() throws IOException, ParseException {
+		while (true) {
+			session.skipCommentsAndSpace(r);
+			int c = r.peek();
+			if (state == S_AFTER_FIELD) {
+				if (c != ':')
+					throw new ParseException(session, "Could not find ':' following attribute name on JSON object.");
+				r.read();
+				state = S_VALUE;
+			} else if (state == S_AFTER_VALUE) {
+				if (depth == 0) {
+					if (c != -1 && c != ';')
+						throw new ParseException(session, "Remainder after parse: ''{0}''.", (char)c);
+					return -1;
+				}
+				boolean inObject = stack[depth-1];
+				if (c == ',') {
+					r.read();
+					state = inObject ? S_FIELD : S_VALUE;
+				} else if (c == (inObject ? '}' : ']')) {
+					return c;
+				} else {
+					throw new ParseException(session, inObject ? "Expected ',' or '}'." : "Expected ',' or ']'.");
+				}
+			} else {
+				return c;
+			}
+		}
+	}
+
+	private Token valueToken(int c) throws ParseException {
+		if (c == -1)
+			throw new ParseException(session, "Unexpected end-of-file.");
+		if (c == '{')
+			return Token.START_OBJECT;
+		if (c == '[')
+			return Token.START_ARRAY;
+		if (c == '-' || c == '.' || (c >= '0' && c <= '9'))
+			return Token.NUMBER;
+		if (c == 't' || c == 'f')
+			return Token.BOOLEAN;
+		if (c == 'n')
+			return Token.NULL;
+		return Token.STRING;
+	}
+
+	private void push(boolean isObject) {
+		if (depth == stack.length) {
+			boolean[] s = new boolean[depth*2];
+			System.arraycopy(stack, 0, s, 0, depth);
+			stack = s;
+		}
+		stack[depth++] = isObject;
+	}
+}
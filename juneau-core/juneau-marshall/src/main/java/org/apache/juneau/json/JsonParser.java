@@ -249,6 +249,32 @@ public class JsonParser extends ReaderParser implements JsonMetaProvider, JsonCo
 		return new JsonParserSession(this, args);
 	}
 
+	/**
+	 * Creates a pull-style cursor over the tokens in the specified input.
+	 *
+	 * <p>
+	 * Allows very large documents to be processed incrementally instead of being materialized in memory.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Process a large array of beans one element at a time.</jc>
+	 * 	<jk>try</jk> (JsonCursor <jv>c</jv> = JsonParser.<jsf>DEFAULT</jsf>.createCursor(<jv>reader</jv>)) {
+	 * 		<jv>c</jv>.next();  <jc>// START_ARRAY</jc>
+	 * 		<jk>while</jk> (<jv>c</jv>.peek() != JsonCursor.Token.<jsf>END_ARRAY</jsf>)
+	 * 			process(<jv>c</jv>.read(MyBean.<jk>class</jk>));
+	 * 	}
+	 * </p>
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @return A new cursor.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public JsonCursor createCursor(Object input) throws ParseException {
+		return createSession().createCursor(input);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Extended metadata
 	//-----------------------------------------------------------------------------------------------------------------
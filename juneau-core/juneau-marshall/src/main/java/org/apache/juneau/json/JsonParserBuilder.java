@@ -508,6 +508,12 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public JsonParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public JsonParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
@@ -32,7 +32,7 @@ import org.apache.juneau.transform.*;
  * It is typically discarded after one-time use although it can be reused against multiple inputs.
  */
 @SuppressWarnings({ "unchecked", "rawtypes" })
-public final class JsonParserSession extends ReaderParserSession {
+public class JsonParserSession extends ReaderParserSession {
 
 	private static final AsciiSet decChars = AsciiSet.create().ranges("0-9").build();
 
@@ -83,6 +83,29 @@ public final class JsonParserSession extends ReaderParserSession {
 		return Character.isWhitespace(cp);
 	}
 
+	/**
+	 * Creates a pull-style cursor over the tokens in the specified input.
+	 *
+	 * <p>
+	 * The input is held open until the cursor is closed.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @return A new cursor.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public JsonCursor createCursor(Object input) throws ParseException {
+		ParserPipe pipe = createPipe(input);
+		try {
+			return new JsonCursor(this, pipe, pipe.getParserReader());
+		} catch (IOException e) {
+			pipe.close();
+			throw new ParseException(this, e, "I/O exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		}
+	}
+
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
 		try (ParserReader r = pipe.getParserReader()) {
@@ -112,7 +135,32 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
-	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, final ClassMeta<E> elementType) throws IOException, ParseException {
+		final JsonCursor c = new JsonCursor(this, pipe, pipe.getParserReader());
+		final JsonCursor.Token t = c.next();
+		if (t != null && t != JsonCursor.Token.START_ARRAY)
+			throw new ParseException(this, "Expected '[' at beginning of JSON array.");
+		return new ParserIterator<E>(this, pipe) {
+			@Override /* ParserIterator */
+			protected boolean advance() throws Exception {
+				if (t == null)
+					return false;
+				if (c.peek() != JsonCursor.Token.END_ARRAY)
+					return true;
+				c.next();
+				if (isValidateEnd())
+					c.next();
+				return false;
+			}
+			@Override /* ParserIterator */
+			protected E read() throws Exception {
+				return c.read(elementType);
+			}
+		};
+	}
+
+	<T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
 
 		if (eType == null)
 			eType = object();
@@ -203,8 +251,14 @@ public final class JsonParserSession extends ReaderParserSession {
 				parseIntoMap2(r, m, string(), object(), pMeta);
 				o = cast(m, pMeta, eType);
 			} else {
-				ArrayList l = (ArrayList)parseIntoCollection2(r, new ArrayList(), sType, pMeta);
-				o = toArray(sType, l);
+				PrimitiveArrayBuilder b = newPrimitiveArrayBuilder(sType);
+				if (b != null && getJsonClassMeta(sType.getElementType()).getWrapperAttr() == null) {
+					parseIntoCollection2(r, b, sType, pMeta);
+					o = b.getArray();
+				} else {
+					ArrayList l = (ArrayList)parseIntoCollection2(r, new ArrayList(), sType, pMeta);
+					o = toArray(sType, l);
+				}
 			}
 		} else if (c == '{') {
 			Map m = new OMap(this);
@@ -235,13 +289,37 @@ public final class JsonParserSession extends ReaderParserSession {
 		return (T)o;
 	}
 
-	private Number parseNumber(ParserReader r, Class<? extends Number> type) throws IOException, ParseException {
+	Number parseNumber(ParserReader r, Class<? extends Number> type) throws IOException, ParseException {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
 			return parseNumber(r, parseString(r), type);
+		NumberScanner ns = getNumberScanner();
+		if (ns.scan(r, null)) {
+			Number n = ns.toNumber(type);
+			if (n != null)
+				return n;
+			ns.reset(r);
+		}
 		return parseNumber(r, parseNumberString(r), type);
 	}
 
+	/*
+	 * Parses a plain number literal straight into a primitive int/long/float/double bean property without boxing it.
+	 * Returns false with the reader left untouched if the value has to go through parseAnything().
+	 */
+	private boolean parseIntoPrimitiveProperty(ParserReader r, BeanMap<?> m, BeanPropertyMeta pMeta, ClassMeta<?> cm) throws IOException {
+		Class<?> pc = pMeta.getPrimitiveNumberType(m);
+		if (pc == null || cm.getInnerClass() != pc || cm.getSwap(this) != null || getJsonClassMeta(cm).getWrapperAttr() != null)
+			return false;
+		NumberScanner ns = getNumberScanner();
+		if (! ns.scan(r, null))
+			return false;
+		if (setPrimitiveProperty(m, pMeta, pc))
+			return true;
+		ns.reset(r);
+		return false;
+	}
+
 	private Number parseNumber(ParserReader r, String s, Class<? extends Number> type) throws ParseException {
 
 		// JSON has slightly different number rules from Java.
@@ -282,7 +360,7 @@ public final class JsonParserSession extends ReaderParserSession {
 		return StringUtils.parseNumber(s, type);
 	}
 
-	private Boolean parseBoolean(ParserReader r) throws IOException, ParseException {
+	Boolean parseBoolean(ParserReader r) throws IOException, ParseException {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
 			return Boolean.valueOf(parseString(r));
@@ -384,10 +462,17 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Parse a JSON attribute from the character array at the specified position, then
 	 * set the position marker to the last character in the field name.
 	 */
-	private String parseFieldName(ParserReader r) throws IOException, ParseException {
+	String parseFieldName(ParserReader r) throws IOException, ParseException {
+		return parseFieldName(r, null);
+	}
+
+	/*
+	 * Same as above, but resolves names matching properties on the specified bean without creating new strings.
+	 */
+	private String parseFieldName(ParserReader r, BeanMeta<?> beanMeta) throws IOException, ParseException {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
-			return parseString(r);
+			return parseString(r, beanMeta);
 		if (isStrict())
 			throw new ParseException(this, "Unquoted attribute detected.");
 		if (! VALID_BARE_CHARS.contains(c))
@@ -398,6 +483,9 @@ public final class JsonParserSession extends ReaderParserSession {
 			c = r.read();
 			if (! VALID_BARE_CHARS.contains(c)) {
 				r.unread();
+				BeanPropertyMeta pMeta = beanMeta == null ? null : r.getMarkedPropertyMeta(beanMeta, 0, 0);
+				if (pMeta != null)
+					return pMeta.getName();
 				String s = r.getMarked().intern();
 				return s.equals("null") ? null : s;
 			}
@@ -416,6 +504,8 @@ public final class JsonParserSession extends ReaderParserSession {
 		int S3=3; // Looking for starting [ or { or " or ' or LITERAL
 
 		int argIndex = 0;
+		List<String> columnNames = null;
+		BeanPropertyMeta[] columns = null;
 
 		int state = S0;
 		int c = 0;
@@ -433,8 +523,13 @@ public final class JsonParserSession extends ReaderParserSession {
 					return l;
 				} else if (isCommentOrWhitespace(c)) {
 					skipCommentsAndSpace(r.unread());
+				} else if (c == '[' && ! type.isArgs() && isColumnarType(type.getElementType())) {
+					columnNames = new ArrayList<>();
+					parseIntoCollection2(r.unread(), columnNames, getClassMeta(String[].class), null);
+					columns = getColumnarProperties(type.getElementType(), columnNames);
+					state = S2;
 				} else if (c != -1) {
-					l.add((E)parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), r.unread(), l, pMeta));
+					parseEntry(r.unread(), l, type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), pMeta);
 					state = S2;
 				}
 			} else if (state == S2) {
@@ -452,8 +547,11 @@ public final class JsonParserSession extends ReaderParserSession {
 					skipCommentsAndSpace(r.unread());
 				} else if (c == ']') {
 					break;
+				} else if (c != -1 && columns != null) {
+					l.add((E)parseColumnarRow(r.unread(), type.getElementType(), columnNames, columns, l));
+					state = S2;
 				} else if (c != -1) {
-					l.add((E)parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), r.unread(), l, pMeta));
+					parseEntry(r.unread(), l, type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), pMeta);
 					state = S2;
 				}
 			}
@@ -470,6 +568,93 @@ public final class JsonParserSession extends ReaderParserSession {
 		return null;  // Unreachable.
 	}
 
+	/*
+	 * Parses an array entry into the collection.
+	 * Plain number literals are scanned straight into primitive array builders without boxing them.
+	 */
+	private <E> void parseEntry(ParserReader r, Collection<E> l, ClassMeta<?> type, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
+		if (l instanceof PrimitiveArrayBuilder) {
+			NumberScanner ns = getNumberScanner();
+			if (ns.scan(r, null)) {
+				if (((PrimitiveArrayBuilder)l).add(ns))
+					return;
+				ns.reset(r);
+			}
+		}
+		l.add((E)parseAnything(type, r, l, pMeta));
+	}
+
+	/*
+	 * Parses a row of a collection of beans serialized in columnar form.
+	 * Null values are treated as absent properties, and rows not in array form are parsed as regular beans.
+	 */
+	private Object parseColumnarRow(ParserReader r, ClassMeta<?> type, List<String> names, BeanPropertyMeta[] columns, Object outer) throws IOException, ParseException, ExecutableException {
+
+		skipCommentsAndSpace(r);
+		if (r.peek() != '[')
+			return parseAnything(type, r, outer, null);
+
+		int S0=0; // Looking for outer [
+		int S1=1; // Looking for starting [ or { or " or ' or LITERAL or ]
+		int S2=2; // Looking for , or ]
+		int S3=3; // Looking for starting [ or { or " or ' or LITERAL
+
+		BeanMap<?> m = newBeanMap(outer, type.getInnerClass());
+		int i = 0;
+
+		int state = S0;
+		int c = 0;
+		while (c != -1) {
+			c = r.read();
+			if (state == S0) {
+				state = S1;
+			} else if (isCommentOrWhitespace(c)) {
+				skipCommentsAndSpace(r.unread());
+			} else if (c == ']') {
+				if (state == S3)
+					break;  // Trailing comma found.
+				Object o = m.getBean();
+				setParent(type, o, outer);
+				return o;
+			} else if (state == S2) {
+				if (c == ',')
+					state = S3;
+				else
+					break;  // Invalid character found.
+			} else if (c != -1) {
+				if (i == columns.length)
+					throw new ParseException(this, "Row contains more values than the header row.");
+				String name = names.get(i);
+				BeanPropertyMeta pMeta = columns[i++];
+				setCurrentProperty(pMeta);
+				if (pMeta == null) {
+					onUnknownProperty(name, m, parseAnything(object(), r.unread(), m.getBean(false), null));
+				} else {
+					ClassMeta<?> cm = pMeta.getClassMeta();
+					if (! parseIntoPrimitiveProperty(r.unread(), m, pMeta, cm)) {
+						Object value = parseAnything(cm, r, m.getBean(false), pMeta);
+						if (value != null) {
+							setName(cm, value, name);
+							try {
+								pMeta.set(m, name, value);
+							} catch (BeanRuntimeException e) {
+								onBeanSetterException(pMeta, e);
+								throw e;
+							}
+						}
+					}
+				}
+				setCurrentProperty(null);
+				state = S2;
+			}
+		}
+		if (state == S1)
+			throw new ParseException(this, "Expected one of the following characters: {,[,',\",LITERAL.");
+		if (state == S2)
+			throw new ParseException(this, "Expected ',' or ']'.");
+		throw new ParseException(this, "Unexpected trailing comma in array.");
+	}
+
 	private <T> BeanMap<T> parseIntoBeanMap2(ParserReader r, BeanMap<T> m) throws IOException, ParseException, ExecutableException {
 
 		int S0=0; // Looking for outer {
@@ -481,6 +666,8 @@ public final class JsonParserSession extends ReaderParserSession {
 		int state = S0;
 		String currAttr = "";
 		int c = 0;
+		BeanCodec<Object> codec = getBeanCodec(m);
+		JsonPropertyReader cr = codec == null ? null : new JsonPropertyReader(r, m, codec);
 		mark();
 		try {
 			while (c != -1) {
@@ -501,7 +688,7 @@ public final class JsonParserSession extends ReaderParserSession {
 					} else {
 						r.unread();
 						mark();
-						currAttr = parseFieldName(r);
+						currAttr = parseFieldName(r, m.getMeta());
 						state = S3;
 					}
 				} else if (state == S3) {
@@ -512,7 +699,8 @@ public final class JsonParserSession extends ReaderParserSession {
 						skipCommentsAndSpace(r.unread());
 					} else {
 						if (! currAttr.equals(getBeanTypePropertyName(m.getClassMeta()))) {
-							BeanPropertyMeta pMeta = m.getPropertyMeta(currAttr);
+							int ci = codec == null ? -1 : codec.indexOf(currAttr);
+							BeanPropertyMeta pMeta = ci == -1 ? m.getPropertyMeta(currAttr) : codec.getPropertyMeta(ci);
 							setCurrentProperty(pMeta);
 							if (pMeta == null) {
 								onUnknownProperty(currAttr, m, parseAnything(object(), r.unread(), m.getBean(false), null));
@@ -520,13 +708,16 @@ public final class JsonParserSession extends ReaderParserSession {
 							} else {
 								unmark();
 								ClassMeta<?> cm = pMeta.getClassMeta();
-								Object value = parseAnything(cm, r.unread(), m.getBean(false), pMeta);
-								setName(cm, value, currAttr);
-								try {
-									pMeta.set(m, currAttr, value);
-								} catch (BeanRuntimeException e) {
-									onBeanSetterException(pMeta, e);
-									throw e;
+								r.unread();
+								if (! (ci != -1 && readBeanProperty(m, codec, ci, cr)) && ! parseIntoPrimitiveProperty(r, m, pMeta, cm)) {
+									Object value = parseAnything(cm, r, m.getBean(false), pMeta);
+									setName(cm, value, currAttr);
+									try {
+										pMeta.set(m, currAttr, value);
+									} catch (BeanRuntimeException e) {
+										onBeanSetterException(pMeta, e);
+										throw e;
+									}
 								}
 							}
 							setCurrentProperty(null);
@@ -560,13 +751,94 @@ public final class JsonParserSession extends ReaderParserSession {
 		return null; // Unreachable.
 	}
 
+	/*
+	 * Parses the property values requested by a generated bean codec.
+	 */
+	private final class JsonPropertyReader implements BeanCodec.PropertyReader {
+		private final ParserReader r;
+		private final BeanMap<?> m;
+		private final BeanCodec<Object> codec;
+
+		JsonPropertyReader(ParserReader r, BeanMap<?> m, BeanCodec<Object> codec) {
+			this.r = r;
+			this.m = m;
+			this.codec = codec;
+		}
+
+		@Override /* PropertyReader */
+		public Object readObject(int index) throws IOException, ParseException, ExecutableException {
+			BeanPropertyMeta pMeta = codec.getPropertyMeta(index);
+			ClassMeta<?> cm = pMeta.getClassMeta();
+			Object value = parseAnything(cm, r, m.getBean(false), pMeta);
+			setName(cm, value, pMeta.getName());
+			return convertToPropertyType(pMeta, value);
+		}
+
+		@Override /* PropertyReader */
+		public int readInt(int index) throws IOException, ParseException, ExecutableException {
+			NumberScanner ns = scan();
+			if (ns != null) {
+				if (ns.isInt())
+					return ns.intValue();
+				ns.reset(r);
+			}
+			return (Integer)readObject(index);
+		}
+
+		@Override /* PropertyReader */
+		public long readLong(int index) throws IOException, ParseException, ExecutableException {
+			NumberScanner ns = scan();
+			if (ns != null) {
+				if (ns.isLong())
+					return ns.longValue();
+				ns.reset(r);
+			}
+			return (Long)readObject(index);
+		}
+
+		@Override /* PropertyReader */
+		public float readFloat(int index) throws IOException, ParseException, ExecutableException {
+			NumberScanner ns = scan();
+			if (ns != null) {
+				if (ns.isFloat())
+					return ns.floatValue();
+				ns.reset(r);
+			}
+			return (Float)readObject(index);
+		}
+
+		@Override /* PropertyReader */
+		public double readDouble(int index) throws IOException, ParseException, ExecutableException {
+			NumberScanner ns = scan();
+			if (ns != null) {
+				if (ns.isDouble())
+					return ns.doubleValue();
+				ns.reset(r);
+			}
+			return (Double)readObject(index);
+		}
+
+		private NumberScanner scan() throws IOException {
+			NumberScanner ns = getNumberScanner();
+			return ns.scan(r, null) ? ns : null;
+		}
+	}
+
 	/*
 	 * Starting from the specified position in the character array, returns the
 	 * position of the character " or '.
 	 * If the string consists of a concatenation of strings (e.g. 'AAA' + "BBB"), this method
 	 * will automatically concatenate the strings and return the result.
 	 */
-	private String parseString(ParserReader r) throws IOException, ParseException {
+	String parseString(ParserReader r) throws IOException, ParseException {
+		return parseString(r, null);
+	}
+
+	/*
+	 * Same as above, but if the string is a quoted name of a property on the specified bean, returns the property name
+	 * without creating a new string.
+	 */
+	private String parseString(ParserReader r, BeanMeta<?> beanMeta) throws IOException, ParseException {
 		r.mark();
 		int qc = r.read();		// The quote character being used (" or ')
 		if (qc != '"' && isStrict()) {
@@ -616,7 +888,8 @@ public final class JsonParserSession extends ReaderParserSession {
 					r.delete();
 				} else if (isQuoted) {
 					if (c == qc) {
-						s = r.getMarked(1, -1);
+						BeanPropertyMeta pMeta = beanMeta == null ? null : r.getMarkedPropertyMeta(beanMeta, 1, -1);
+						s = pMeta == null ? r.getMarked(1, -1) : pMeta.getName();
 						break;
 					}
 				} else {
@@ -650,7 +923,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Looks for the keywords true, false, or null.
 	 * Throws an exception if any of these keywords are not found at the specified position.
 	 */
-	private void parseKeyword(String keyword, ParserReader r) throws IOException, ParseException {
+	void parseKeyword(String keyword, ParserReader r) throws IOException, ParseException {
 		try {
 			String s = r.read(keyword.length());
 			if (s.equals(keyword))
@@ -667,7 +940,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * the comments and whitespace.  Otherwise, the cursor will be set to the last position of
 	 * the comments and whitespace.
 	 */
-	private void skipCommentsAndSpace(ParserReader r) throws IOException, ParseException {
+	void skipCommentsAndSpace(ParserReader r) throws IOException, ParseException {
 		int c = 0;
 		while ((c = r.read()) != -1) {
 			if (! isWhitespace(c)) {
@@ -667,6 +667,12 @@ public class JsonSchemaSerializerBuilder extends JsonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public JsonSchemaSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public JsonSchemaSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -703,6 +709,12 @@ public class JsonSchemaSerializerBuilder extends JsonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public JsonSchemaSerializerBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public JsonSchemaSerializerBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -715,6 +727,12 @@ public class JsonSchemaSerializerBuilder extends JsonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public JsonSchemaSerializerBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public JsonSchemaSerializerBuilder sortCollections() {
 		super.sortCollections();
@@ -805,6 +823,12 @@ public class JsonSchemaSerializerBuilder extends JsonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - JsonSerializerBuilder */
+	public JsonSchemaSerializerBuilder columnar() {
+		super.columnar();
+		return this;
+	}
+
 	@Override /* GENERATED - JsonSerializerBuilder */
 	public JsonSchemaSerializerBuilder escapeSolidus() {
 		super.escapeSolidus();
@@ -131,6 +131,62 @@ public class JsonSerializer extends WriterSerializer implements JsonMetaProvider
 	 */
 	public static final String JSON_addBeanTypes = PREFIX + ".addBeanTypes.b";
 
+	/**
+	 * Configuration property:  Columnar mode.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.json.JsonSerializer#JSON_columnar JSON_columnar}
+	 * 	<li><b>Name:</b>  <js>"JsonSerializer.columnar.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>JsonSerializer.columnar</c>
+	 * 	<li><b>Environment variable:</b>  <c>JSONSERIALIZER_COLUMNAR</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.json.annotation.JsonConfig#columnar()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.json.JsonSerializerBuilder#columnar()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, collections and arrays of beans are serialized as an array whose first entry is an array of
+	 * the bean property names followed by one array of property values per bean.
+	 * <br>This avoids repeating the property names on every row of large tabular responses.
+	 *
+	 * <p>
+	 * Only applies when every entry is an instance of the declared element type (i.e. no <js>"_type"</js> properties
+	 * are needed).
+	 * <br>Values that would normally be omitted (e.g. <jk>null</jk> values) are written as <jk>null</jk>.
+	 * <br>{@link JsonParser} recognizes this format automatically when parsing into collections and arrays of beans.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a JSON serializer that writes lists of beans in columnar form.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.simple()
+	 * 		.columnar()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.simple()
+	 * 		.set(<jsf>JSON_columnar</jsf>)
+	 * 		.build();
+	 *
+	 * 	<jc>// Produces: "[['name','age'],['John',21],['Jane',22]]"</jc>
+	 * 	String json = s.serialize(AList.<jsm>of</jsm>(<jk>new</jk> Person(<js>"John"</js>, 21), <jk>new</jk> Person(<js>"Jane"</js>, 22)));
+	 * </p>
+	 */
+	public static final String JSON_columnar = PREFIX + ".columnar.b";
+
 	/**
 	 * Configuration property:  Prefix solidus <js>'/'</js> characters with escapes.
 	 *
@@ -333,7 +389,8 @@ public class JsonSerializer extends WriterSerializer implements JsonMetaProvider
 	private final boolean
 		simpleMode,
 		escapeSolidus,
-		addBeanTypes;
+		addBeanTypes,
+		columnar;
 	private final Map<ClassMeta<?>,JsonClassMeta> jsonClassMetas = new ConcurrentHashMap<>();
 	private final Map<BeanPropertyMeta,JsonBeanPropertyMeta> jsonBeanPropertyMetas = new ConcurrentHashMap<>();
 
@@ -381,6 +438,7 @@ public class JsonSerializer extends WriterSerializer implements JsonMetaProvider
 		simpleMode = cp.getBoolean(JSON_simpleMode).orElse(false);
 		escapeSolidus = cp.getBoolean(JSON_escapeSolidus).orElse(false);
 		addBeanTypes = cp.getFirstBoolean(JSON_addBeanTypes, SERIALIZER_addBeanTypes).orElse(false);
+		columnar = cp.getBoolean(JSON_columnar).orElse(false);
 	}
 
 	@Override /* Context */
@@ -472,6 +530,17 @@ public class JsonSerializer extends WriterSerializer implements JsonMetaProvider
 		return addBeanTypes;
 	}
 
+	/**
+	 * Columnar mode.
+	 *
+	 * @see #JSON_columnar
+	 * @return
+	 * 	<jk>true</jk> if collections and arrays of beans are serialized as a header row followed by value rows.
+	 */
+	protected final boolean isColumnar() {
+		return columnar;
+	}
+
 	/**
 	 * Prefix solidus <js>'/'</js> characters with escapes.
 	 *
@@ -510,6 +579,7 @@ public class JsonSerializer extends WriterSerializer implements JsonMetaProvider
 					.a("simpleMode", simpleMode)
 					.a("escapeSolidus", escapeSolidus)
 					.a("addBeanTypes", addBeanTypes)
+					.a("columnar", columnar)
 			);
 	}
 }
\ No newline at end of file
@@ -58,6 +58,24 @@ public class JsonSerializerBuilder extends WriterSerializerBuilder {
 	//-----------------------------------------------------------------------------------------------------------------
 
 
+	/**
+	 * <i><l>JsonSerializer</l> configuration property:&emsp;</i>  Columnar mode.
+	 *
+	 * <p>
+	 * Collections and arrays of beans are serialized as a header row of property names followed by one row of values
+	 * per bean.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link JsonSerializer#JSON_columnar}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public JsonSerializerBuilder columnar() {
+		return set(JSON_columnar);
+	}
+
 	/**
 	 * <i><l>JsonSerializer</l> configuration property:&emsp;</i>  Prefix solidus <js>'/'</js> characters with escapes.
 	 *
@@ -544,6 +562,12 @@ public class JsonSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public JsonSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public JsonSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -580,6 +604,12 @@ public class JsonSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public JsonSerializerBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public JsonSerializerBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -592,6 +622,12 @@ public class JsonSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public JsonSerializerBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public JsonSerializerBuilder sortCollections() {
 		super.sortCollections();
@@ -15,10 +15,13 @@ package org.apache.juneau.json;
 import static org.apache.juneau.internal.IOUtils.*;
 
 import java.io.*;
+import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.reflect.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.transform.*;
 
@@ -52,7 +55,49 @@ public class JsonSerializerSession extends WriterSerializerSession {
 
 	@Override /* SerializerSesssion */
 	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
-		serializeAnything(getJsonWriter(out).i(getInitialDepth()), o, getExpectedRootType(o), "root", null);
+		JsonWriter w = getJsonWriter(out).i(getInitialDepth());
+		List<?> l = isUseWhitespace() || isColumnar() ? null : toParallelList(o);
+		if (l != null && getJsonClassMeta(getClassMetaForObject(o)).getWrapperAttr() == null)
+			serializeParallel(w, o, l, getExpectedRootType(o));
+		else
+			serializeAnything(w, o, getExpectedRootType(o), "root", null);
+	}
+
+	/*
+	 * Writes a large top-level list as a JSON array whose elements are serialized in chunks on other threads.
+	 */
+	private void serializeParallel(final JsonWriter out, Object o, List<?> l, ClassMeta<?> type) throws IOException, SerializeException {
+		try {
+			if (push2("root", o, type) == null) {
+				out.append("null");
+				return;
+			}
+			serializeParallel(out, l, type);
+		} finally {
+			pop();
+		}
+	}
+
+	private void serializeParallel(final JsonWriter out, List<?> l, ClassMeta<?> type) throws IOException, SerializeException {
+		final ClassMeta<?> elementType = type.getElementType();
+		out.append('[');
+		serializeChunks(l, CharArrayWriter::new,
+			(session, b, chunk, offset) -> {
+				JsonSerializerSession s = (JsonSerializerSession)session;
+				JsonWriter w = s.getJsonWriter(s.createPipe(b));
+				for (int i = 0; i < chunk.size(); i++) {
+					if (offset + i > 0)
+						w.append(',');
+					s.serializeAnything(w, chunk.get(i), elementType, "<iterator>", null);
+				}
+				w.flush();
+			},
+			b -> {
+				b.writeTo(out);
+				b.reset();
+			}
+		);
+		out.append(']');
 	}
 
 	/**
@@ -119,6 +164,8 @@ public class JsonSerializerSession extends WriterSerializerSession {
 
 		// Swap if necessary
 		PojoSwap swap = aType.getSwap(this);
+		if (isStreamable(aType, swap))
+			swap = null;
 		if (swap != null) {
 			o = swap(swap, o);
 			sType = swap.getSwapClassMeta(this);
@@ -138,10 +185,19 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		// '\0' characters are considered null.
 		if (o == null || (sType.isChar() && ((Character)o).charValue() == 0)) {
 			out.append("null");
-		} else if (sType.isNumber() || sType.isBoolean()) {
+		} else if (sType.isNumber()) {
+			out.numberValue((Number)o);
+		} else if (sType.isBoolean()) {
 			out.append(o);
 		} else if (sType.isBean()) {
-			serializeBeanMap(out, toBeanMap(o), typeName);
+			BeanCodec<Object> codec = typeName == null ? getBeanCodec(sType, o) : null;
+			if (codec != null) {
+				serializeBean(out, o, codec);
+			} else {
+				BeanMap<?> m = acquireBeanMap(o);
+				serializeBeanMap(out, m, typeName);
+				returnBeanMap(m);
+			}
 		} else if (sType.isUri() || (pMeta != null && pMeta.isUri())) {
 			out.uriValue(o);
 		} else if (sType.isMap()) {
@@ -152,7 +208,12 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		} else if (sType.isCollection()) {
 			serializeCollection(out, (Collection) o, eType);
 		} else if (sType.isArray()) {
-			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+			if (isPrimitiveNumberArray(sType) && getJsonClassMeta(getClassMeta(ClassInfo.of(sType.getElementType().getInnerClass()).getWrapperIfPrimitive())).getWrapperAttr() == null)
+				serializePrimitiveArray(out, o);
+			else
+				serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+		} else if (sType.isStreamable()) {
+			serializeStream(out, o, eType);
 		} else if (sType.isReader()) {
 			pipe((Reader)o, out);
 		} else if (sType.isInputStream()) {
@@ -203,17 +264,22 @@ public class JsonSerializerSession extends WriterSerializerSession {
 	}
 
 	private SerializerWriter serializeBeanMap(JsonWriter out, BeanMap<?> m, String typeName) throws IOException, SerializeException {
+		SerializerPlan plan = getSerializerPlan(m);
+		if (plan != null)
+			return serializeBeanMap(out, m, typeName, plan);
+
 		int i = indent;
 		out.append('{');
 
 		boolean addComma = false;
-		for (BeanPropertyValue p : m.getValues(isKeepNullProperties(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null)) {
-			BeanPropertyMeta pMeta = p.getMeta();
+		BeanPropertyValues values = m.readValues(isKeepNullProperties(), typeName);
+		for (int j = 0; j < values.size(); j++) {
+			BeanPropertyMeta pMeta = values.getMeta(j);
 			if (pMeta.canRead()) {
-				ClassMeta<?> cMeta = p.getClassMeta();
-				String key = p.getName();
-				Object value = p.getValue();
-				Throwable t = p.getThrown();
+				ClassMeta<?> cMeta = values.getClassMeta(j);
+				String key = values.getName(j);
+				Object value = values.getValue(j);
+				Throwable t = values.getThrown(j);
 				if (t != null)
 					onBeanGetterException(pMeta, t);
 
@@ -223,7 +289,12 @@ public class JsonSerializerSession extends WriterSerializerSession {
 				if (addComma)
 					out.append(',').smi(i);
 
-				out.cr(i).attr(key).append(':').s(i);
+				out.cr(i);
+				if (key == pMeta.getName())
+					out.attr(getJsonBeanPropertyMeta(pMeta), key);
+				else
+					out.attr(key);
+				out.append(':').s(i);
 
 				serializeAnything(out, value, cMeta, key, pMeta);
 
@@ -234,6 +305,165 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return out;
 	}
 
+	/*
+	 * Same as serializeBeanMap() but uses the precomputed serialization plan of the bean.
+	 */
+	private SerializerWriter serializeBeanMap(JsonWriter out, BeanMap<?> m, String typeName, SerializerPlan plan) throws IOException, SerializeException {
+		int i = indent;
+		out.append('{');
+
+		boolean addComma = false;
+		if (typeName != null)
+			addComma = serializeBeanProperty(out, plan.getTypeProperty(), typeName, addComma, i);
+		for (SerializerPlan.Property p : plan.getProperties())
+			addComma = serializeBeanProperty(out, p, getPlanValue(m, p), addComma, i);
+		out.cre(i-1).append('}');
+		return out;
+	}
+
+	/*
+	 * Serializes a single bean property using its serialization plan.
+	 * Returns true if a comma is needed before the next property.
+	 */
+	private boolean serializeBeanProperty(JsonWriter out, SerializerPlan.Property p, Object value, boolean addComma, int i) throws IOException, SerializeException {
+		if (canIgnoreValue(p, value))
+			return addComma;
+
+		if (addComma)
+			out.append(',').smi(i);
+
+		out.cr(i).attr((JsonBeanPropertyMeta)p.getFormatMeta(), p.getName()).append(':').s(i);
+
+		SerializerPlan.Kind k = p.getKind(value);
+		if (k == SerializerPlan.Kind.OTHER) {
+			serializeAnything(out, value, p.getClassMeta(), p.getName(), p.getMeta());
+			return true;
+		}
+
+		Object o = value == null ? null : swap(p.getSwap(), value);
+		if (o == null)
+			out.append("null");
+		else if (k == SerializerPlan.Kind.STRING)
+			out.stringValue(toString(o));
+		else if (k == SerializerPlan.Kind.NUMBER)
+			out.numberValue((Number)o);
+		else
+			out.append(o);
+		return true;
+	}
+
+	@Override /* SerializerSession */
+	protected Object createPlanFormatMeta(BeanPropertyMeta pMeta) {
+		return getJsonBeanPropertyMeta(pMeta);
+	}
+
+	@Override /* SerializerSession */
+	protected boolean isPlanScalar(ClassMeta<?> sType) {
+		return getJsonClassMeta(sType).getWrapperAttr() == null;
+	}
+
+	/*
+	 * Same as serializeBeanMap() but reads the properties through the generated bean codec.
+	 */
+	private SerializerWriter serializeBean(JsonWriter out, Object o, BeanCodec<Object> codec) throws IOException, SerializeException {
+		int i = indent;
+		out.append('{');
+		JsonPropertyWriter w = new JsonPropertyWriter(out, codec, i);
+		try {
+			codec.write(o, w);
+		} catch (Exception e) {
+			throw onBeanCodecException(codec, w.writing ? -1 : w.next, e);
+		}
+		out.cre(i-1).append('}');
+		return out;
+	}
+
+	/*
+	 * Writes the property values passed in by a generated bean codec.
+	 */
+	private final class JsonPropertyWriter implements BeanCodec.PropertyWriter {
+		private final JsonWriter out;
+		private final BeanCodec<Object> codec;
+		private final int i;
+		private boolean addComma;
+		boolean writing;
+		int next;
+
+		JsonPropertyWriter(JsonWriter out, BeanCodec<Object> codec, int i) {
+			this.out = out;
+			this.codec = codec;
+			this.i = i;
+		}
+
+		@Override /* PropertyWriter */
+		public void writeObject(int index, Object value) throws IOException, SerializeException {
+			writing = true;
+			BeanPropertyMeta pMeta = codec.getPropertyMeta(index);
+			ClassMeta<?> cMeta = pMeta.getClassMeta();
+			if (! canIgnoreValue(cMeta, pMeta.getName(), value))
+				serializeAnything(key(pMeta), value, cMeta, pMeta.getName(), pMeta);
+			done(index);
+		}
+
+		@Override /* PropertyWriter */
+		public void writeString(int index, String value) throws IOException {
+			writing = true;
+			if (value != null)
+				key(codec.getPropertyMeta(index)).stringValue(JsonSerializerSession.this.toString(value));
+			else if (isKeepNullProperties())
+				key(codec.getPropertyMeta(index)).append("null");
+			done(index);
+		}
+
+		@Override /* PropertyWriter */
+		public void writeBoolean(int index, boolean value) throws IOException {
+			writing = true;
+			key(codec.getPropertyMeta(index)).append(value ? "true" : "false");
+			done(index);
+		}
+
+		@Override /* PropertyWriter */
+		public void writeInt(int index, int value) throws IOException {
+			writing = true;
+			key(codec.getPropertyMeta(index)).numberValue((long)value);
+			done(index);
+		}
+
+		@Override /* PropertyWriter */
+		public void writeLong(int index, long value) throws IOException {
+			writing = true;
+			key(codec.getPropertyMeta(index)).numberValue(value);
+			done(index);
+		}
+
+		@Override /* PropertyWriter */
+		public void writeFloat(int index, float value) throws IOException {
+			writing = true;
+			key(codec.getPropertyMeta(index)).numberValue(value);
+			done(index);
+		}
+
+		@Override /* PropertyWriter */
+		public void writeDouble(int index, double value) throws IOException {
+			writing = true;
+			key(codec.getPropertyMeta(index)).numberValue(value);
+			done(index);
+		}
+
+		private JsonWriter key(BeanPropertyMeta pMeta) throws IOException {
+			if (addComma)
+				out.append(',').smi(i);
+			out.cr(i).attr(getJsonBeanPropertyMeta(pMeta), pMeta.getName()).append(':').s(i);
+			addComma = true;
+			return out;
+		}
+
+		private void done(int index) {
+			writing = false;
+			next = index + 1;
+		}
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private SerializerWriter serializeCollection(JsonWriter out, Collection c, ClassMeta<?> type) throws IOException, SerializeException {
 
@@ -241,6 +471,12 @@ public class JsonSerializerSession extends WriterSerializerSession {
 
 		c = sort(c);
 
+		if (isColumnar()) {
+			BeanPropertyMeta[] columns = getColumnarProperties(c, elementType);
+			if (columns != null)
+				return serializeColumnar(out, c, elementType, columns);
+		}
+
 		out.append('[');
 
 		for (Iterator i = c.iterator(); i.hasNext();) {
@@ -254,9 +490,118 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return out;
 	}
 
+	/*
+	 * Writes a collection of beans of the same class as a header row of property names followed by one row of values
+	 * per bean.
+	 */
+	private SerializerWriter serializeColumnar(JsonWriter out, Collection<?> c, ClassMeta<?> type, BeanPropertyMeta[] columns) throws IOException, SerializeException {
+		out.append('[').cr(indent).append('[');
+		for (int j = 0; j < columns.length; j++) {
+			if (j > 0)
+				out.append(',').s();
+			out.stringValue(columns[j].getName());
+		}
+		out.append(']');
+
+		for (Object o : c) {
+			out.append(',').smi(indent).cr(indent);
+			if (o == null || push2("<iterator>", o, type) == null) {
+				out.append("null");
+				continue;
+			}
+			BeanMap<?> m = acquireBeanMap(o);
+			out.append('[');
+			for (int j = 0; j < columns.length; j++) {
+				BeanPropertyMeta pMeta = columns[j];
+				ClassMeta<?> cMeta = pMeta.getClassMeta();
+				String key = pMeta.getName();
+				Object value = null;
+				try {
+					value = pMeta.get(m, null);
+				} catch (Error e) {
+					throw e;
+				} catch (Throwable t) {
+					onBeanGetterException(pMeta, t);
+				}
+				if (j > 0)
+					out.append(',').s();
+				if (canIgnoreValue(cMeta, key, value))
+					out.append("null");
+				else
+					serializeAnything(out, value, cMeta, key, pMeta);
+			}
+			out.append(']');
+			returnBeanMap(m);
+			pop();
+		}
+		out.cre(indent-1).append(']');
+		return out;
+	}
+
+	/*
+	 * Writes the elements of an int/long/short/byte/float/double array without boxing them.
+	 * Produces the same output as serializeCollection().
+	 */
+	private SerializerWriter serializePrimitiveArray(JsonWriter out, Object array) throws IOException {
+		int length = Array.getLength(array);
+		out.append('[');
+		for (int i = 0; i < length; i++) {
+			if (i > 0)
+				out.append(',').smi(indent);
+			out.cr(indent);
+			if (array instanceof int[])
+				out.numberValue(((int[])array)[i]);
+			else if (array instanceof long[])
+				out.numberValue(((long[])array)[i]);
+			else if (array instanceof double[])
+				out.numberValue(((double[])array)[i]);
+			else if (array instanceof float[])
+				out.numberValue(((float[])array)[i]);
+			else if (array instanceof short[])
+				out.numberValue(((short[])array)[i]);
+			else
+				out.numberValue(((byte[])array)[i]);
+		}
+		out.cre(indent-1).append(']');
+		return out;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private SerializerWriter serializeStream(JsonWriter out, Object o, ClassMeta<?> type) throws IOException, SerializeException {
+
+		ClassMeta<?> elementType = type.isStreamable() ? type.getElementType() : object();
+
+		out.append('[');
+
+		int count = 0;
+		try {
+			for (Iterator i = toIterator(o); i.hasNext();) {
+				Object value = i.next();
+				out.cr(indent);
+				serializeAnything(out, value, elementType, "<iterator>", null);
+				if (i.hasNext())
+					out.append(',').smi(indent);
+				flushStreamed(out, ++count);
+			}
+		} finally {
+			closeStreamable(o);
+		}
+		out.cre(indent-1).append(']');
+		return out;
+	}
+
+	@Override /* WriterSerializerSession */
+	public boolean isDirectUtf8Output() {
+		return true;
+	}
+
 	/**
 	 * Converts the specified output target object to an {@link JsonWriter}.
 	 *
+	 * <p>
+	 * When the output is an {@link OutputStream} and the stream charset is UTF-8, characters are encoded directly
+	 * into the stream through a {@link Utf8Writer} instead of an {@link OutputStreamWriter}.
+	 *
 	 * @param out The output target object.
 	 * @return The output target object wrapped in an {@link JsonWriter}.
 	 * @throws IOException Thrown by underlying stream.
@@ -265,7 +610,8 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		Object output = out.getRawOutput();
 		if (output instanceof JsonWriter)
 			return (JsonWriter)output;
-		JsonWriter w = new JsonWriter(out.getWriter(), isUseWhitespace(), getMaxIndent(), isEscapeSolidus(), getQuoteChar(),
+		Writer w2 = output instanceof OutputStream && UTF8.equals(out.getCharset()) ? new Utf8Writer(out.getOutputStream()) : out.getWriter();
+		JsonWriter w = new JsonWriter(w2, isUseWhitespace(), getMaxIndent(), isEscapeSolidus(), getQuoteChar(),
 			isSimpleMode(), isTrimStrings(), getUriResolver());
 		out.setWriter(w);
 		return w;
@@ -288,6 +634,17 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return ctx.isAddBeanTypes();
 	}
 
+	/**
+	 * Configuration property:  Columnar mode.
+	 *
+	 * @see JsonSerializer#JSON_columnar
+	 * @return
+	 * 	<jk>true</jk> if collections and arrays of beans are serialized as a header row followed by value rows.
+	 */
+	protected final boolean isColumnar() {
+		return ctx.isColumnar();
+	}
+
 	/**
 	 * Configuration property:  Prefix solidus <js>'/'</js> characters with escapes.
 	 *
@@ -325,6 +682,16 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return ctx.getJsonClassMeta(cm);
 	}
 
+	/**
+	 * Returns the language-specific metadata on the specified bean property.
+	 *
+	 * @param bpm The bean property to return the metadata on.
+	 * @return The metadata.
+	 */
+	protected JsonBeanPropertyMeta getJsonBeanPropertyMeta(BeanPropertyMeta bpm) {
+		return ctx.getJsonBeanPropertyMeta(bpm);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -52,6 +52,9 @@ public final class JsonWriter extends SerializerWriter {
 	private static final AsciiSet validFirstAttrChars = AsciiSet.create().ranges("a-z","A-Z").chars("_").build();
 
 	private final AsciiSet ec;
+	private final int flavor;
+	private final Utf8Writer utf8;
+	private final char[] numBuf = new char[20];
 
 	/**
 	 * Constructor.
@@ -71,6 +74,8 @@ public final class JsonWriter extends SerializerWriter {
 		this.simpleMode = simpleMode;
 		this.escapeSolidus = escapeSolidus;
 		this.ec = escapeSolidus ? encodedChars2 : encodedChars;
+		this.flavor = (simpleMode ? 1 : 0) | (escapeSolidus ? 2 : 0) | (trimStrings ? 4 : 0) | (quoteChar << 3);
+		this.utf8 = out instanceof Utf8Writer ? (Utf8Writer)out : null;
 	}
 
 	/**
@@ -172,6 +177,116 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Serializes the specified bean property name as a JSON attribute name.
+	 *
+	 * <p>
+	 * Same as {@link #attr(String)} but reuses the name escaped on a previous call.
+	 * <br>When writing directly to a UTF-8 stream, the pre-encoded bytes of the name are written as-is.
+	 *
+	 * @param m The JSON metadata of the bean property.
+	 * @param s The property name.
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public JsonWriter attr(JsonBeanPropertyMeta m, String s) throws IOException {
+		JsonBeanPropertyMeta.EncodedName x = m.getEncodedName(s, this);
+		if (utf8 != null)
+			utf8.writeRaw(x.bytes);
+		else
+			out.write(x.chars);
+		return this;
+	}
+
+	/**
+	 * Serializes the specified number as a JSON number.
+	 *
+	 * <p>
+	 * Integral primitive wrappers are written digit-by-digit without creating an intermediate string.
+	 *
+	 * @param n The number being serialized.
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public JsonWriter numberValue(Number n) throws IOException {
+		if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte)
+			return numberValue(n.longValue());
+		out.write(n.toString());
+		return this;
+	}
+
+	/**
+	 * Serializes the specified integral value as a JSON number without creating an intermediate string.
+	 *
+	 * @param v The value being serialized.
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public JsonWriter numberValue(long v) throws IOException {
+		if (v == Long.MIN_VALUE) {
+			out.write("-9223372036854775808");
+			return this;
+		}
+		boolean neg = v < 0;
+		if (neg)
+			v = -v;
+		int i = numBuf.length;
+		do {
+			numBuf[--i] = (char)('0' + (v % 10));
+			v /= 10;
+		} while (v != 0);
+		if (neg)
+			numBuf[--i] = '-';
+		out.write(numBuf, i, numBuf.length - i);
+		return this;
+	}
+
+	/**
+	 * Serializes the specified <jk>float</jk> as a JSON number.
+	 *
+	 * @param v The value being serialized.
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public JsonWriter numberValue(float v) throws IOException {
+		out.write(Float.toString(v));
+		return this;
+	}
+
+	/**
+	 * Serializes the specified <jk>double</jk> as a JSON number.
+	 *
+	 * @param v The value being serialized.
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public JsonWriter numberValue(double v) throws IOException {
+		out.write(Double.toString(v));
+		return this;
+	}
+
+	/**
+	 * Returns an identifier for the settings that affect how attribute names are encoded by this writer.
+	 *
+	 * @return An identifier for the settings that affect how attribute names are encoded by this writer.
+	 */
+	int getFlavor() {
+		return flavor;
+	}
+
+	/**
+	 * Returns the specified string encoded as an attribute name using the settings of this writer.
+	 *
+	 * @param s The attribute name.
+	 * @return The encoded attribute name.
+	 * @throws IOException Should never happen.
+	 */
+	String encodeAttr(String s) throws IOException {
+		StringBuilderWriter w = new StringBuilderWriter();
+		new JsonWriter(w, false, 0, escapeSolidus, quoteChar, simpleMode, trimStrings, uriResolver).attr(s);
+		return w.toString();
+	}
+
 	/**
 	 * Appends a URI to the output.
 	 *
@@ -0,0 +1,165 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Parses NDJSON (newline-delimited JSON, also known as JSON Lines) into POJO models.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <c>Content-Type</c> types:  <bc>application/x-ndjson</bc>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * When parsing into a collection, array, or <c>Object</c>, each non-blank line of the input is parsed as a separate
+ * JSON value and becomes one element of the result.
+ * <br>Any other type is parsed as a single JSON value.
+ *
+ * <p>
+ * Large inputs are split on line boundaries into chunks of {@link #NDJSON_chunkSize} lines that are parsed
+ * concurrently on the common {@link java.util.concurrent.ForkJoinPool}.
+ * <br>The elements in the result are always in the same order as the lines in the input.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	List&lt;MyBean&gt; <jv>l</jv> = NdJsonParser.<jsf>DEFAULT</jsf>.parse(<jv>reader</jv>, List.<jk>class</jk>, MyBean.<jk>class</jk>);
+ * </p>
+ */
+@ConfigurableContext
+public class NdJsonParser extends JsonParser {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Configurable properties
+	//-------------------------------------------------------------------------------------------------------------------
+
+	static final String PREFIX = "NdJsonParser";
+
+	/**
+	 * Configuration property:  Chunk size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.json.NdJsonParser#NDJSON_chunkSize NDJSON_chunkSize}
+	 * 	<li><b>Name:</b>  <js>"NdJsonParser.chunkSize.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>System property:</b>  <c>NdJsonParser.chunkSize</c>
+	 * 	<li><b>Environment variable:</b>  <c>NDJSONPARSER_CHUNKSIZE</c>
+	 * 	<li><b>Default:</b>  <c>1000</c>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.json.NdJsonParserBuilder#chunkSize(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The number of lines parsed together as a single task when parsing a top-level collection.
+	 *
+	 * <p>
+	 * Inputs with more lines than this are parsed in parallel.
+	 * <br>Values of <c>0</c> or less cause all lines to be parsed sequentially on the calling thread.
+	 */
+	public static final String NDJSON_chunkSize = PREFIX + ".chunkSize.i";
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default parser, all default settings.*/
+	public static final NdJsonParser DEFAULT = new NdJsonParser(ContextProperties.DEFAULT);
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	private final int chunkSize;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cp The property store containing all the settings for this object.
+	 */
+	public NdJsonParser(ContextProperties cp) {
+		super(cp, "application/x-ndjson");
+		chunkSize = cp.getInteger(NDJSON_chunkSize).orElse(1000);
+	}
+
+	@Override /* Context */
+	public NdJsonParserBuilder builder() {
+		return new NdJsonParserBuilder(getContextProperties());
+	}
+
+	/**
+	 * Instantiates a new clean-slate {@link NdJsonParserBuilder} object.
+	 *
+	 * <p>
+	 * This is equivalent to simply calling <code><jk>new</jk> NdJsonParserBuilder()</code>.
+	 *
+	 * <p>
+	 * Note that this method creates a builder initialized to all default settings, whereas {@link #builder()} copies
+	 * the settings of the object called on.
+	 *
+	 * @return A new {@link NdJsonParserBuilder} object.
+	 */
+	public static NdJsonParserBuilder create() {
+		return new NdJsonParserBuilder();
+	}
+
+	@Override /* Parser */
+	public NdJsonParserSession createSession() {
+		return createSession(createDefaultSessionArgs());
+	}
+
+	@Override /* Parser */
+	public NdJsonParserSession createSession(ParserSessionArgs args) {
+		return new NdJsonParserSession(this, args);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Properties
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Chunk size.
+	 *
+	 * @see #NDJSON_chunkSize
+	 * @return
+	 * 	The number of lines parsed together as a single task, or <c>0</c> or less if lines are always parsed
+	 * 	sequentially.
+	 */
+	protected final int getChunkSize() {
+		return chunkSize;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Context */
+	public OMap toMap() {
+		return super.toMap()
+			.a(
+				"NdJsonParser",
+				OMap
+					.create()
+					.filtered()
+					.a("chunkSize", chunkSize)
+			);
+	}
+}
@@ -0,0 +1,240 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link NdJsonParser}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused within the same thread.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class NdJsonParserSession extends JsonParserSession {
+
+	private final NdJsonParser ctx;
+	private final ParserSessionArgs args;
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime session arguments.
+	 */
+	protected NdJsonParserSession(NdJsonParser ctx, ParserSessionArgs args) {
+		super(ctx, args);
+		this.ctx = ctx;
+		this.args = args;
+	}
+
+	@Override /* ParserSession */
+	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
+		if (! isRecordType(type))
+			return super.doParse(pipe, type);
+		List<Object> l = parseLines(pipe, type.isObject() ? object() : type.getElementType());
+		if (l == null)
+			return null;
+		if (type.isArray())
+			return (T)toArray(type, l);
+		Collection c = type.canCreateNewInstance(getOuter()) ? (Collection)type.newInstance() : new OList(this);
+		c.addAll(l);
+		return (T)c;
+	}
+
+	@Override /* ParserSession */
+	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, Type elementType) throws IOException, ParseException, ExecutableException {
+		List<Object> l = parseLines(pipe, getClassMeta(elementType));
+		if (l != null)
+			c.addAll((List<E>)l);
+		return c;
+	}
+
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, final ClassMeta<E> elementType) throws IOException, ParseException {
+		final BufferedReader r = getLineReader(pipe);
+		final JsonParserSession s = new JsonParserSession(ctx, args);
+		return new ParserIterator<E>(this, pipe) {
+			private String line;
+			private int lineNumber;
+
+			@Override /* ParserIterator */
+			protected boolean advance() throws Exception {
+				if (r == null)
+					return false;
+				while ((line = r.readLine()) != null) {
+					lineNumber++;
+					if (! line.trim().isEmpty())
+						return true;
+				}
+				return false;
+			}
+
+			@Override /* ParserIterator */
+			protected E read() throws Exception {
+				return parseLine(s, line, lineNumber, elementType);
+			}
+		};
+	}
+
+	/*
+	 * Returns true if each line of the input should become a separate element of the parsed object.
+	 */
+	private boolean isRecordType(ClassMeta<?> type) {
+		if (type.getSwap(this) != null || type.getBuilderSwap(this) != null)
+			return false;
+		return type.isObject() || type.isCollection() || type.isArray();
+	}
+
+	/*
+	 * Reads all non-blank lines from the input and parses them in order.
+	 *
+	 * Lines are read in chunks that are parsed concurrently, each with its own session since sessions are not thread
+	 * safe.  Only a bounded number of chunks are read ahead of the one being collected, so the input is never held in
+	 * memory all at once.
+	 */
+	private List<Object> parseLines(ParserPipe pipe, final ClassMeta<?> elementType) throws IOException, ParseException {
+		BufferedReader r = getLineReader(pipe);
+		if (r == null)
+			return null;
+
+		List<Object> l = new ArrayList<>();
+		LineReader lr = new LineReader(r);
+		int chunkSize = ctx.getChunkSize();
+
+		if (chunkSize <= 0) {
+			Chunk c = new Chunk();
+			for (String line = lr.next(); line != null; line = lr.next())
+				l.add(parseLine(c.session, line, lr.lineNumber, elementType));
+			addWarnings(c.session);
+			return l;
+		}
+
+		int maxPending = Math.max(2, ForkJoinPool.getCommonPoolParallelism() * 2);
+		Deque<ForkJoinTask<Chunk>> pending = new ArrayDeque<>();
+		try {
+			for (Chunk c = new Chunk().read(lr, chunkSize); ! c.lines.isEmpty(); c = new Chunk().read(lr, chunkSize)) {
+				if (pending.isEmpty() && c.lines.size() < chunkSize) {
+					collect(c.parse(elementType), l);
+					break;
+				}
+				final Chunk c2 = c;
+				pending.add(ForkJoinPool.commonPool().submit(()->c2.parse(elementType)));
+				if (pending.size() >= maxPending)
+					collect(pending.poll().get(), l);
+			}
+			while (! pending.isEmpty())
+				collect(pending.poll().get(), l);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ParseException(this, e);
+		} catch (ExecutionException e) {
+			Throwable t = e.getCause();
+			if (t instanceof ParseException)
+				throw (ParseException)t;
+			if (t instanceof RuntimeException)
+				throw (RuntimeException)t;
+			if (t instanceof Error)
+				throw (Error)t;
+			throw new ParseException(this, (Exception)t);
+		} finally {
+			for (ForkJoinTask<Chunk> t : pending)
+				t.cancel(false);
+		}
+
+		return l;
+	}
+
+	/*
+	 * Adds the values and warnings of a parsed chunk to the results of this session.
+	 */
+	private void collect(Chunk c, List<Object> l) {
+		l.addAll(Arrays.asList(c.values));
+		addWarnings(c.session);
+	}
+
+	/*
+	 * A run of consecutive non-blank lines of the input along with their parsed values.
+	 */
+	private final class Chunk {
+		final List<String> lines = new ArrayList<>();
+		final List<Integer> lineNumbers = new ArrayList<>();
+		final JsonParserSession session = initChunkSession(new JsonParserSession(ctx, args));
+		Object[] values;
+
+		Chunk read(LineReader r, int size) throws IOException {
+			while (lines.size() < size) {
+				String line = r.next();
+				if (line == null)
+					break;
+				lines.add(line);
+				lineNumbers.add(r.lineNumber);
+			}
+			return this;
+		}
+
+		Chunk parse(ClassMeta<?> elementType) throws ParseException {
+			values = new Object[lines.size()];
+			for (int i = 0; i < values.length; i++)
+				values[i] = parseLine(session, lines.get(i), lineNumbers.get(i), elementType);
+			return this;
+		}
+	}
+
+	/*
+	 * Reads the non-blank lines of the input and keeps track of their line numbers.
+	 */
+	private static final class LineReader {
+		private final BufferedReader r;
+		int lineNumber;
+
+		LineReader(BufferedReader r) {
+			this.r = r;
+		}
+
+		String next() throws IOException {
+			for (String line = r.readLine(); line != null; line = r.readLine()) {
+				lineNumber++;
+				if (! line.trim().isEmpty())
+					return line;
+			}
+			return null;
+		}
+	}
+
+	private static <E> E parseLine(JsonParserSession s, String line, int lineNumber, ClassMeta<E> elementType) throws ParseException {
+		try {
+			return s.parse(line, elementType);
+		} catch (ParseException e) {
+			throw new ParseException(e, "Could not parse line {0}.  {1}", lineNumber, e.getLocalizedMessage());
+		}
+	}
+
+	private static BufferedReader getLineReader(ParserPipe pipe) throws IOException {
+		Reader r = pipe.getReader();
+		if (r == null)
+			return null;
+		return r instanceof BufferedReader ? (BufferedReader)r : new BufferedReader(r);
+	}
+}
@@ -0,0 +1,114 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import org.apache.juneau.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Serializes POJO models to NDJSON (newline-delimited JSON, also known as JSON Lines).
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <c>Accept</c> types:  <bc>application/x-ndjson</bc>
+ * <p>
+ * Produces <c>Content-Type</c> types:  <bc>application/x-ndjson</bc>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * When the object being serialized is a collection, array, {@link java.util.Iterator}, {@link java.util.Enumeration},
+ * or {@link java.util.stream.Stream}, each element is serialized as a single line of compact JSON terminated by a
+ * newline character.
+ * <br>Any other object is serialized as a single line.
+ *
+ * <p>
+ * The output is flushed after every record by default (see {@link Serializer#SERIALIZER_flushInterval}) so that
+ * streamed sources such as REST responses returning a {@link java.util.stream.Stream} are delivered incrementally.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Produces "{"a":1}\n{"a":2}\n"</jc>
+ * 	String <jv>ndjson</jv> = NdJsonSerializer.<jsf>DEFAULT</jsf>.serialize(<jv>listOfBeans</jv>);
+ * </p>
+ */
+public class NdJsonSerializer extends JsonSerializer {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default serializer, all default settings.*/
+	public static final NdJsonSerializer DEFAULT = new NdJsonSerializer(ContextProperties.DEFAULT);
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cp The property store containing all the settings for this object.
+	 */
+	public NdJsonSerializer(ContextProperties cp) {
+		super(
+			cp.builder()
+				.setDefault(SERIALIZER_flushInterval, 1)
+				.set(WSERIALIZER_useWhitespace, false)
+				.build(),
+			"application/x-ndjson", "application/x-ndjson"
+		);
+	}
+
+	@Override /* Context */
+	public NdJsonSerializerBuilder builder() {
+		return new NdJsonSerializerBuilder(getContextProperties());
+	}
+
+	/**
+	 * Instantiates a new clean-slate {@link NdJsonSerializerBuilder} object.
+	 *
+	 * <p>
+	 * This is equivalent to simply calling <code><jk>new</jk> NdJsonSerializerBuilder()</code>.
+	 *
+	 * @return A new {@link NdJsonSerializerBuilder} object.
+	 */
+	public static NdJsonSerializerBuilder create() {
+		return new NdJsonSerializerBuilder();
+	}
+
+	@Override /* Serializer */
+	public NdJsonSerializerSession createSession() {
+		return createSession(createDefaultSessionArgs());
+	}
+
+	@Override /* Serializer */
+	public NdJsonSerializerSession createSession(SerializerSessionArgs args) {
+		return new NdJsonSerializerSession(this, args);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Context */
+	public OMap toMap() {
+		return super.toMap()
+			.a(
+				"NdJsonSerializer",
+				OMap
+					.create()
+					.filtered()
+			);
+	}
+}
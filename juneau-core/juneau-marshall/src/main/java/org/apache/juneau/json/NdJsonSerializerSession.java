@@ -0,0 +1,106 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.internal.IOUtils.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link NdJsonSerializer}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused within the same thread.
+ */
+public class NdJsonSerializerSession extends JsonSerializerSession {
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime arguments.
+	 * 	These specify session-level information such as locale and URI context.
+	 * 	It also include session-level properties that override the properties defined on the bean and
+	 * 	serializer contexts.
+	 */
+	protected NdJsonSerializerSession(NdJsonSerializer ctx, SerializerSessionArgs args) {
+		super(ctx, args);
+	}
+
+	@Override /* SerializerSession */
+	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
+		JsonWriter w = getLineWriter(out);
+		Iterator<?> i = toRecords(o);
+		if (i == null) {
+			serializeAnything(w, o, getExpectedRootType(o), "root", null);
+			w.append('\n');
+			return;
+		}
+		ClassMeta<?> cm = getClassMetaForObject(o);
+		ClassMeta<?> elementType = cm.getElementType() == null ? object() : cm.getElementType();
+		int count = 0;
+		try {
+			while (i.hasNext()) {
+				serializeAnything(w, i.next(), elementType, "root", null);
+				w.append('\n');
+				flushStreamed(w, ++count);
+			}
+		} finally {
+			closeStreamable(o);
+		}
+	}
+
+	/*
+	 * Returns an iterator over the top-level records, or null if the object should be written as a single line.
+	 */
+	@SuppressWarnings("rawtypes")
+	private Iterator<?> toRecords(Object o) {
+		if (o == null)
+			return null;
+		ClassMeta<?> cm = getClassMetaForObject(o);
+		PojoSwap<?,?> swap = cm.getSwap(this);
+		if (isStreamable(cm, swap))
+			return toIterator(o);
+		if (swap != null)
+			return null;
+		if (cm.isCollection())
+			return sort((Collection)o).iterator();
+		if (cm.isArray())
+			return toList(cm.getInnerClass(), o).iterator();
+		return null;
+	}
+
+	/*
+	 * Same as getJsonWriter(SerializerPipe) but never adds whitespace, since each record must fit on a single line.
+	 */
+	private JsonWriter getLineWriter(SerializerPipe out) throws IOException {
+		Object output = out.getRawOutput();
+		if (output instanceof JsonWriter)
+			return (JsonWriter)output;
+		Writer w2 = output instanceof OutputStream && UTF8.equals(out.getCharset()) ? new Utf8Writer(out.getOutputStream()) : out.getWriter();
+		JsonWriter w = new JsonWriter(w2, false, getMaxIndent(), isEscapeSolidus(), getQuoteChar(), isSimpleMode(),
+			isTrimStrings(), getUriResolver());
+		out.setWriter(w);
+		return w;
+	}
+}
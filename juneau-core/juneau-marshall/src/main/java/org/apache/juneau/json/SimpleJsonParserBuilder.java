@@ -488,6 +488,12 @@ public class SimpleJsonParserBuilder extends JsonParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public SimpleJsonParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public SimpleJsonParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
@@ -488,6 +488,12 @@ public class SimpleJsonSerializerBuilder extends JsonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public SimpleJsonSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public SimpleJsonSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -524,6 +530,12 @@ public class SimpleJsonSerializerBuilder extends JsonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public SimpleJsonSerializerBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public SimpleJsonSerializerBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -536,6 +548,12 @@ public class SimpleJsonSerializerBuilder extends JsonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public SimpleJsonSerializerBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public SimpleJsonSerializerBuilder sortCollections() {
 		super.sortCollections();
@@ -626,6 +644,12 @@ public class SimpleJsonSerializerBuilder extends JsonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - JsonSerializerBuilder */
+	public SimpleJsonSerializerBuilder columnar() {
+		super.columnar();
+		return this;
+	}
+
 	@Override /* GENERATED - JsonSerializerBuilder */
 	public SimpleJsonSerializerBuilder escapeSolidus() {
 		super.escapeSolidus();
@@ -106,6 +106,30 @@ public @interface JsonConfig {
 	 */
 	String addBeanTypes() default "";
 
+	/**
+	 * Configuration property:  Columnar mode.
+	 *
+	 * <p>
+	 * If <js>"true"</js>, collections and arrays of beans are serialized as an array whose first entry is an array of
+	 * the bean property names followed by one array of property values per bean.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link JsonSerializer#JSON_columnar}
+	 * </ul>
+	 */
+	String columnar() default "";
+
 	/**
 	 * Configuration property:  Prefix solidus <js>'/'</js> characters with escapes.
 	 *
@@ -44,6 +44,7 @@ public class JsonConfigAnnotation {
 			JsonConfig a = ai.getAnnotation();
 
 			cpb.setIfNotEmpty(JSON_addBeanTypes, bool(a.addBeanTypes()));
+			cpb.setIfNotEmpty(JSON_columnar, bool(a.columnar()));
 			cpb.setIfNotEmpty(JSON_escapeSolidus, bool(a.escapeSolidus()));
 			cpb.setIfNotEmpty(JSON_simpleMode, bool(a.simpleMode()));
 			cpb.setIfNotEmpty(JSON_validateEnd, bool(a.validateEnd()));
@@ -17,6 +17,7 @@ import static org.apache.juneau.msgpack.DataType.*;
 
 import java.io.*;
 
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 
 /**
@@ -33,6 +34,8 @@ public final class MsgPackInputStream extends ParserInputStream {
 	private long length;
 	private int lastByte;
 	private int extType;
+	private boolean unread;
+	private final byte[] buf = new byte[8];
 	int pos = 0;
 
 	// Data type quick-lookup table.
@@ -72,6 +75,10 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 * This is the byte that indicates what kind of data follows.
 	 */
 	DataType readDataType() throws IOException {
+		if (unread) {
+			unread = false;
+			return currentDataType;
+		}
 		int i = read();
 		if (i == -1)
 			throw new IOException("Unexpected end of file found at position " + pos);
@@ -370,6 +377,23 @@ public final class MsgPackInputStream extends ParserInputStream {
 		return currentDataType;
 	}
 
+	/**
+	 * Returns the data type of the field whose flag was last read by {@link #readDataType()}.
+	 */
+	DataType getDataType() {
+		return currentDataType;
+	}
+
+	/**
+	 * Causes the next call to {@link #readDataType()} to return the data type and length that were just read.
+	 *
+	 * <p>
+	 * Must only be called after {@link #readDataType()} and before any of the field contents are read.
+	 */
+	void unreadDataType() {
+		unread = true;
+	}
+
 	/**
 	 * Returns the length value for the field.
 	 *
@@ -411,12 +435,14 @@ public final class MsgPackInputStream extends ParserInputStream {
 	int readInt() throws IOException {
 		if (length == 0)
 			return lastByte;
+		if (length == -1)
+			return (byte)lastByte;
 		if (length == 1)
-			return read();
+			return lastByte == INT8 ? (byte)read() : read();
 		if (length == 2)
-			return (read() << 8) | read();
-		int i = read(); i <<= 8; i |= read(); i <<= 8; i |= read(); i <<= 8; i |= read();
-		return i;
+			return lastByte == INT16 ? (short)readUInt2() : readUInt2();
+		byte[] b = readFully(4);
+		return (b[0] << 24) | ((b[1] & 0xFF) << 16) | ((b[2] & 0xFF) << 8) | (b[3] & 0xFF);
 	}
 
 	/**
@@ -439,8 +465,77 @@ public final class MsgPackInputStream extends ParserInputStream {
 	long readLong() throws IOException {
 		if (length == 4)
 			return readUInt4();
-		long l = read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read();
-		return l;
+		byte[] b = readFully(8);
+		long hi = (b[0] << 24) | ((b[1] & 0xFF) << 16) | ((b[2] & 0xFF) << 8) | (b[3] & 0xFF);
+		long lo = (b[4] << 24) | ((b[5] & 0xFF) << 16) | ((b[6] & 0xFF) << 8) | (b[7] & 0xFF);
+		return (hi << 32) | (lo & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Reads the entries of an array into a primitive <jk>int</jk>, <jk>long</jk>, <jk>short</jk>, <jk>byte</jk>,
+	 * <jk>float</jk> or <jk>double</jk> array builder.
+	 *
+	 * <p>
+	 * Numeric entries are decoded straight into the builder without boxing them, and nulls are stored as <c>0</c>.
+	 * Reading stops at the first entry of any other data type, whose data type flag has then already been read so
+	 * that the caller can convert the entry itself before resuming.
+	 *
+	 * @param b The builder to populate.
+	 * @param count The maximum number of entries to read.
+	 * @return The number of entries read.
+	 */
+	int readNumbers(PrimitiveArrayBuilder b, int count) throws IOException {
+		boolean fp = b.isFloatingPoint();
+		for (int i = 0; i < count; i++) {
+			DataType dt = readDataType();
+			if (! isNumber(dt))
+				return i;
+			if (fp)
+				b.addDouble(readNumber(dt));
+			else
+				b.addLong(readIntegral(dt));
+		}
+		return count;
+	}
+
+	private static boolean isNumber(DataType dt) {
+		return dt == INT || dt == LONG || dt == FLOAT || dt == DOUBLE || dt == DataType.NULL;
+	}
+
+	/*
+	 * Reads the value of a numeric or null entry whose data type flag has just been read.
+	 */
+	private long readIntegral(DataType dt) throws IOException {
+		if (dt == INT)
+			return readInt();
+		if (dt == LONG)
+			return readLong();
+		if (dt == FLOAT)
+			return (long)readFloat();
+		if (dt == DOUBLE)
+			return (long)readDouble();
+		return 0;
+	}
+
+	private double readNumber(DataType dt) throws IOException {
+		if (dt == INT)
+			return readInt();
+		if (dt == LONG)
+			return readLong();
+		if (dt == FLOAT)
+			return readFloat();
+		if (dt == DOUBLE)
+			return readDouble();
+		return 0;
+	}
+
+	/*
+	 * Reads the specified number of bytes (up to 8) into the scratch buffer.
+	 */
+	private byte[] readFully(int n) throws IOException {
+		if (read(buf, 0, n) != n)
+			throw new IOException("Unexpected end of file found at position " + getPosition());
+		return buf;
 	}
 
 	/**
@@ -29,6 +29,7 @@ import java.util.concurrent.atomic.*;
 public final class MsgPackOutputStream extends OutputStream {
 
 	private final OutputStream os;
+	private byte[] buf;  // Scratch buffer for bulk array writes, created on first use.
 
 	/**
 	 * Constructor.
@@ -44,6 +45,16 @@ public final class MsgPackOutputStream extends OutputStream {
 		os.write(b);
 	}
 
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		os.write(b, off, len);
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		os.flush();
+	}
+
 	/**
 	 * Same as {@link #write(int)}.
 	 */
@@ -126,8 +137,8 @@ public final class MsgPackOutputStream extends OutputStream {
 				return append1(INT16).append2(i);
 			return append1(INT32).append4(i);
 		}
-		if (i > -(1<<6))
-			return append((byte)(0xE0 | -i));
+		if (i >= -(1<<5))
+			return append1(i);
 		if (i > -(1<<7))
 			return append1(INT8).append1(i);
 		if (i > -(1<<15))
@@ -183,6 +194,200 @@ public final class MsgPackOutputStream extends OutputStream {
 		return append1(FLOAT64).append8(Double.doubleToLongBits(d));
 	}
 
+	/**
+	 * Appends an array of ints to the stream.
+	 *
+	 * <p>
+	 * Produces the same bytes as calling {@link #startArray(int)} followed by {@link #appendInt(int)} for each entry,
+	 * but encodes the entries into a scratch buffer that's written to the underlying stream in bulk.
+	 */
+	final MsgPackOutputStream appendInts(int[] a) throws IOException {
+		startArray(a.length);
+		byte[] b = buffer();
+		int p = 0;
+		for (int i = 0; i < a.length; i++) {
+			if (p > b.length - 9) {
+				os.write(b, 0, p);
+				p = 0;
+			}
+			p = putInt(b, p, a[i]);
+		}
+		os.write(b, 0, p);
+		return this;
+	}
+
+	/**
+	 * Appends an array of shorts to the stream.
+	 *
+	 * <p>
+	 * Entries are encoded the same as {@link #appendInt(int)}.
+	 */
+	final MsgPackOutputStream appendShorts(short[] a) throws IOException {
+		startArray(a.length);
+		byte[] b = buffer();
+		int p = 0;
+		for (int i = 0; i < a.length; i++) {
+			if (p > b.length - 9) {
+				os.write(b, 0, p);
+				p = 0;
+			}
+			p = putInt(b, p, a[i]);
+		}
+		os.write(b, 0, p);
+		return this;
+	}
+
+	/**
+	 * Appends an array of bytes to the stream as an array of numbers (as opposed to {@link #appendBinary(byte[])}).
+	 *
+	 * <p>
+	 * Entries are encoded the same as {@link #appendInt(int)}.
+	 */
+	final MsgPackOutputStream appendBytes(byte[] a) throws IOException {
+		startArray(a.length);
+		byte[] b = buffer();
+		int p = 0;
+		for (int i = 0; i < a.length; i++) {
+			if (p > b.length - 9) {
+				os.write(b, 0, p);
+				p = 0;
+			}
+			p = putInt(b, p, a[i]);
+		}
+		os.write(b, 0, p);
+		return this;
+	}
+
+	/**
+	 * Appends an array of longs to the stream.
+	 *
+	 * <p>
+	 * Entries are encoded the same as {@link #appendLong(long)}.
+	 */
+	final MsgPackOutputStream appendLongs(long[] a) throws IOException {
+		startArray(a.length);
+		byte[] b = buffer();
+		int p = 0;
+		for (int i = 0; i < a.length; i++) {
+			if (p > b.length - 9) {
+				os.write(b, 0, p);
+				p = 0;
+			}
+			long l = a[i];
+			if (l < L2X31 && l > -(L2X31))
+				p = putInt(b, p, (int)l);
+			else {
+				b[p++] = (byte)INT64;
+				p = put8(b, p, l);
+			}
+		}
+		os.write(b, 0, p);
+		return this;
+	}
+
+	/**
+	 * Appends an array of floats to the stream.
+	 *
+	 * <p>
+	 * Entries are encoded the same as {@link #appendFloat(float)}.
+	 */
+	final MsgPackOutputStream appendFloats(float[] a) throws IOException {
+		startArray(a.length);
+		byte[] b = buffer();
+		int p = 0;
+		for (int i = 0; i < a.length; i++) {
+			if (p > b.length - 9) {
+				os.write(b, 0, p);
+				p = 0;
+			}
+			b[p++] = (byte)FLOAT32;
+			p = put4(b, p, Float.floatToIntBits(a[i]));
+		}
+		os.write(b, 0, p);
+		return this;
+	}
+
+	/**
+	 * Appends an array of doubles to the stream.
+	 *
+	 * <p>
+	 * Entries are encoded the same as {@link #appendDouble(double)}.
+	 */
+	final MsgPackOutputStream appendDoubles(double[] a) throws IOException {
+		startArray(a.length);
+		byte[] b = buffer();
+		int p = 0;
+		for (int i = 0; i < a.length; i++) {
+			if (p > b.length - 9) {
+				os.write(b, 0, p);
+				p = 0;
+			}
+			b[p++] = (byte)FLOAT64;
+			p = put8(b, p, Double.doubleToLongBits(a[i]));
+		}
+		os.write(b, 0, p);
+		return this;
+	}
+
+	private byte[] buffer() {
+		if (buf == null)
+			buf = new byte[8192];
+		return buf;
+	}
+
+	/*
+	 * Encodes an integer into the buffer the same way as appendInt(int).
+	 * Writes at most 5 bytes and returns the new buffer position.
+	 */
+	private static int putInt(byte[] b, int p, int i) {
+		if (i >= 0) {
+			if (i < (1<<7)) {
+				b[p++] = (byte)i;
+				return p;
+			}
+			if (i < (1<<15)) {
+				b[p++] = (byte)INT16;
+				return put2(b, p, i);
+			}
+			b[p++] = (byte)INT32;
+			return put4(b, p, i);
+		}
+		if (i >= -(1<<5)) {
+			b[p++] = (byte)i;
+			return p;
+		}
+		if (i > -(1<<7)) {
+			b[p++] = (byte)INT8;
+			b[p++] = (byte)i;
+			return p;
+		}
+		if (i > -(1<<15)) {
+			b[p++] = (byte)INT16;
+			return put2(b, p, i);
+		}
+		b[p++] = (byte)INT32;
+		return put4(b, p, i);
+	}
+
+	private static int put2(byte[] b, int p, int i) {
+		b[p++] = (byte)(i>>8);
+		b[p++] = (byte)i;
+		return p;
+	}
+
+	private static int put4(byte[] b, int p, int i) {
+		b[p++] = (byte)(i>>24);
+		b[p++] = (byte)(i>>16);
+		b[p++] = (byte)(i>>8);
+		b[p++] = (byte)i;
+		return p;
+	}
+
+	private static int put8(byte[] b, int p, long l) {
+		p = put4(b, p, (int)(l>>32));
+		return put4(b, p, (int)l);
+	}
+
 	/**
 	 * Appends a string to the stream.
 	 */
@@ -19,6 +19,7 @@ import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.transform.*;
 
@@ -52,6 +53,29 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 		}
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, final ClassMeta<E> elementType) throws IOException, ParseException {
+		final MsgPackInputStream is = new MsgPackInputStream(pipe);
+		DataType dt = is.readDataType();
+		final long length = is.readLength();
+		if (dt != DataType.NULL && dt != ARRAY)
+			throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, getClassMeta(List.class, elementType));
+		return new ParserIterator<E>(this, pipe) {
+			long remaining = dt == ARRAY ? length : 0;
+
+			@Override /* ParserIterator */
+			protected boolean advance() {
+				return remaining > 0;
+			}
+
+			@Override /* ParserIterator */
+			protected E read() throws Exception {
+				remaining--;
+				return parseAnything(elementType, is, null, null);
+			}
+		};
+	}
+
 	/*
 	 * Workhorse method.
 	 */
@@ -126,14 +150,19 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 			} else if (builder != null || sType.canCreateNewBean(outer)) {
 				if (dt == MAP) {
 					BeanMap m = builder == null ? newBeanMap(outer, sType.getInnerClass()) : toBeanMap(builder.create(this, eType));
+					BeanCodec<Object> codec = getBeanCodec(m);
+					MsgPackPropertyReader cr = codec == null ? null : new MsgPackPropertyReader(is, m, codec);
 					for (int i = 0; i < length; i++) {
 						String pName = parseAnything(string(), is, m.getBean(false), null);
-						BeanPropertyMeta bpm = m.getPropertyMeta(pName);
+						int ci = codec == null ? -1 : codec.indexOf(pName);
+						BeanPropertyMeta bpm = ci == -1 ? m.getPropertyMeta(pName) : codec.getPropertyMeta(ci);
 						if (bpm == null) {
 							if (pName.equals(getBeanTypePropertyName(eType)))
 								parseAnything(string(), is, null, null);
 							else
 								onUnknownProperty(pName, m, parseAnything(string(), is, null, null));
+						} else if (ci != -1 && readBeanProperty(m, codec, ci, cr)) {
+							/* Set by the generated codec. */
 						} else {
 							ClassMeta<?> cm = bpm.getClassMeta();
 							Object value = parseAnything(cm, is, m.getBean(false), bpm);
@@ -164,8 +193,9 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 						? (Collection)sType.newInstance()
 						: new OList(this)
 					);
-					for (int i = 0; i < length; i++)
-						l.add(parseAnything(sType.getElementType(), is, l, pMeta));
+					if (! parseColumnar(l, sType.getElementType(), is, length))
+						for (int i = 0; i < length; i++)
+							l.add(parseAnything(sType.getElementType(), is, l, pMeta));
 					o = l;
 				} else {
 					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
@@ -176,14 +206,17 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 					for (int i = 0; i < length; i++)
 						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
 					o = cast(m, pMeta, eType);
+				} else if (dt == ARRAY && isPrimitiveNumberArray(sType)) {
+					o = parsePrimitiveArray(sType, is, length);
 				} else if (dt == ARRAY) {
 					Collection l = (
 						sType.isCollection() && sType.canCreateNewInstance(outer)
 						? (Collection)sType.newInstance()
 						: new OList(this)
 					);
-					for (int i = 0; i < length; i++)
-						l.add(parseAnything(sType.isArgs() ? sType.getArg(i) : sType.getElementType(), is, l, pMeta));
+					if (sType.isArgs() || ! parseColumnar(l, sType.getElementType(), is, length))
+						for (int i = 0; i < length; i++)
+							l.add(parseAnything(sType.isArgs() ? sType.getArg(i) : sType.getElementType(), is, l, pMeta));
 					o = toArray(sType, l);
 				} else {
 					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
@@ -213,6 +246,110 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 		return (T)o;
 	}
 
+	/*
+	 * Parses the property values requested by a generated bean codec.
+	 */
+	private final class MsgPackPropertyReader implements BeanCodec.PropertyReader {
+		private final MsgPackInputStream is;
+		private final BeanMap<?> m;
+		private final BeanCodec<Object> codec;
+
+		MsgPackPropertyReader(MsgPackInputStream is, BeanMap<?> m, BeanCodec<Object> codec) {
+			this.is = is;
+			this.m = m;
+			this.codec = codec;
+		}
+
+		@Override /* PropertyReader */
+		public Object readObject(int index) throws IOException, ParseException, ExecutableException {
+			BeanPropertyMeta pMeta = codec.getPropertyMeta(index);
+			ClassMeta<?> cm = pMeta.getClassMeta();
+			Object value = parseAnything(cm, is, m.getBean(false), pMeta);
+			setName(cm, value, pMeta.getName());
+			return convertToPropertyType(pMeta, value);
+		}
+	}
+
+	/*
+	 * Reads the entries of a collection of beans serialized in columnar form.
+	 * Returns false with the stream left untouched if the first entry isn't a header row.
+	 * Null values are treated as absent properties, and rows not in array form are parsed as regular beans.
+	 */
+	private <E> boolean parseColumnar(Collection<E> l, ClassMeta<?> type, MsgPackInputStream is, int length) throws IOException, ParseException, ExecutableException {
+		if (length == 0 || ! isColumnarType(type))
+			return false;
+		if (is.readDataType() != ARRAY) {
+			is.unreadDataType();
+			return false;
+		}
+
+		List<String> names = new ArrayList<>();
+		for (int i = 0, n = (int)is.readLength(); i < n; i++)
+			names.add(parseAnything(string(), is, null, null));
+		BeanPropertyMeta[] columns = getColumnarProperties(type, names);
+
+		for (int i = 1; i < length; i++) {
+			if (is.readDataType() != ARRAY) {
+				is.unreadDataType();
+				l.add(parseAnything(type, is, l, null));
+				continue;
+			}
+			int n = (int)is.readLength();
+			if (n > columns.length)
+				throw new ParseException(this, "Row contains more values than the header row.");
+			BeanMap<?> m = newBeanMap(l, type.getInnerClass());
+			for (int j = 0; j < n; j++) {
+				String name = names.get(j);
+				BeanPropertyMeta pMeta = columns[j];
+				if (pMeta == null) {
+					onUnknownProperty(name, m, parseAnything(object(), is, null, null));
+				} else {
+					ClassMeta<?> cm = pMeta.getClassMeta();
+					Object value = parseAnything(cm, is, m.getBean(false), pMeta);
+					if (value != null) {
+						setName(cm, value, name);
+						try {
+							pMeta.set(m, name, value);
+						} catch (BeanRuntimeException e) {
+							onBeanSetterException(pMeta, e);
+							throw e;
+						}
+					}
+				}
+			}
+			Object o = m.getBean();
+			setParent(type, o, l);
+			l.add((E)o);
+		}
+		return true;
+	}
+
+	/*
+	 * Reads the entries of an array straight into an int/long/short/byte/float/double array.
+	 * Entries that aren't numbers are converted individually the same way parseAnything() does.
+	 * The array grows as entries are read, so a bogus length in the header can't force a large allocation.
+	 */
+	private Object parsePrimitiveArray(ClassMeta<?> type, MsgPackInputStream is, int length) throws IOException, ParseException {
+		if (length < 0)
+			throw new ParseException(this, "Invalid array length {0} encountered.", length & 0xFFFFFFFFL);
+		ClassMeta<?> et = type.getElementType();
+		PrimitiveArrayBuilder b = newPrimitiveArrayBuilder(type);
+		int i = 0;
+		while ((i += is.readNumbers(b, length - i)) < length) {
+			DataType dt = is.getDataType();
+			Object o;
+			if (dt == BOOLEAN)
+				o = is.readBoolean();
+			else if (dt == STRING)
+				o = trim(is.readString());
+			else
+				throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, et);
+			b.add((Number)convertToType(o, et));
+			i++;
+		}
+		return b.getArray();
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -71,6 +71,40 @@ public class MsgPackSerializer extends OutputStreamSerializer implements MsgPack
 	 */
 	public static final String MSGPACK_addBeanTypes = PREFIX + ".addBeanTypes.b";
 
+	/**
+	 * Configuration property:  Columnar mode.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.msgpack.MsgPackSerializer#MSGPACK_columnar MSGPACK_columnar}
+	 * 	<li><b>Name:</b>  <js>"MsgPackSerializer.columnar.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>MsgPackSerializer.columnar</c>
+	 * 	<li><b>Environment variable:</b>  <c>MSGPACKSERIALIZER_COLUMNAR</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.msgpack.annotation.MsgPackConfig#columnar()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.msgpack.MsgPackSerializerBuilder#columnar()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, collections and arrays of beans are serialized as an array whose first entry is an array of
+	 * the bean property names followed by one array of property values per bean.
+	 *
+	 * <p>
+	 * Only applies when every entry is an instance of the declared element type.
+	 * <br>Values that would normally be omitted (e.g. <jk>null</jk> values) are written as <jk>nil</jk>.
+	 * <br>{@link MsgPackParser} recognizes this format automatically when parsing into collections and arrays of beans.
+	 */
+	public static final String MSGPACK_columnar = PREFIX + ".columnar.b";
+
 
 	//-------------------------------------------------------------------------------------------------------------------
 	// Predefined instances
@@ -124,7 +158,8 @@ public class MsgPackSerializer extends OutputStreamSerializer implements MsgPack
 	//-------------------------------------------------------------------------------------------------------------------
 
 	private final boolean
-		addBeanTypes;
+		addBeanTypes,
+		columnar;
 	private final Map<ClassMeta<?>,MsgPackClassMeta> msgPackClassMetas = new ConcurrentHashMap<>();
 	private final Map<BeanPropertyMeta,MsgPackBeanPropertyMeta> msgPackBeanPropertyMetas = new ConcurrentHashMap<>();
 
@@ -136,6 +171,7 @@ public class MsgPackSerializer extends OutputStreamSerializer implements MsgPack
 	public MsgPackSerializer(ContextProperties cp) {
 		super(cp, "octal/msgpack", null);
 		this.addBeanTypes = cp.getFirstBoolean(MSGPACK_addBeanTypes, SERIALIZER_addBeanTypes).orElse(false);
+		this.columnar = cp.getBoolean(MSGPACK_columnar).orElse(false);
 	}
 
 	@Override /* Context */
@@ -204,6 +240,17 @@ public class MsgPackSerializer extends OutputStreamSerializer implements MsgPack
 		return addBeanTypes;
 	}
 
+	/**
+	 * Columnar mode.
+	 *
+	 * @see #MSGPACK_columnar
+	 * @return
+	 * 	<jk>true</jk> if collections and arrays of beans are serialized as a header row followed by value rows.
+	 */
+	protected final boolean isColumnar() {
+		return columnar;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -217,6 +264,7 @@ public class MsgPackSerializer extends OutputStreamSerializer implements MsgPack
 					.create()
 					.filtered()
 					.a("addBeanTypes", addBeanTypes)
+					.a("columnar", columnar)
 			);
 	}
 }
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
+import static org.apache.juneau.msgpack.MsgPackSerializer.*;
+
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.util.*;
@@ -54,6 +56,24 @@ public class MsgPackSerializerBuilder extends OutputStreamSerializerBuilder {
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * <i><l>MsgPackSerializer</l> configuration property:&emsp;</i>  Columnar mode.
+	 *
+	 * <p>
+	 * Collections and arrays of beans are serialized as a header row of property names followed by one row of values
+	 * per bean.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link MsgPackSerializer#MSGPACK_columnar}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public MsgPackSerializerBuilder columnar() {
+		return set(MSGPACK_columnar);
+	}
+
 	// <FluentSetters>
 
 	@Override /* GENERATED - ContextBuilder */
@@ -488,6 +508,12 @@ public class MsgPackSerializerBuilder extends OutputStreamSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public MsgPackSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public MsgPackSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -524,6 +550,12 @@ public class MsgPackSerializerBuilder extends OutputStreamSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public MsgPackSerializerBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public MsgPackSerializerBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -536,6 +568,12 @@ public class MsgPackSerializerBuilder extends OutputStreamSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public MsgPackSerializerBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public MsgPackSerializerBuilder sortCollections() {
 		super.sortCollections();
@@ -16,6 +16,7 @@ import static org.apache.juneau.internal.IOUtils.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
@@ -52,7 +53,44 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 
 	@Override /* SerializerSession */
 	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
-		serializeAnything(getMsgPackOutputStream(out), o, getExpectedRootType(o), "root", null);
+		MsgPackOutputStream os = getMsgPackOutputStream(out);
+		List<?> l = isColumnar() ? null : toParallelList(o);
+		if (l != null)
+			serializeParallel(os, o, l, getExpectedRootType(o));
+		else
+			serializeAnything(os, o, getExpectedRootType(o), "root", null);
+	}
+
+	/*
+	 * Writes a large top-level list as an array whose elements are serialized in chunks on other threads.
+	 */
+	private void serializeParallel(final MsgPackOutputStream out, Object o, List<?> l, ClassMeta<?> type) throws IOException, SerializeException {
+		try {
+			if (push2("root", o, type) == null) {
+				out.appendNull();
+				return;
+			}
+			serializeParallel(out, l, type);
+		} finally {
+			pop();
+		}
+	}
+
+	private void serializeParallel(final MsgPackOutputStream out, List<?> l, ClassMeta<?> type) throws IOException, SerializeException {
+		final ClassMeta<?> elementType = type.getElementType();
+		out.startArray(l.size());
+		serializeChunks(l, ByteArrayOutputStream::new,
+			(session, b, chunk, offset) -> {
+				MsgPackSerializerSession s = (MsgPackSerializerSession)session;
+				MsgPackOutputStream os = new MsgPackOutputStream(b);
+				for (Object o : chunk)
+					s.serializeAnything(os, o, elementType, "<iterator>", null);
+			},
+			b -> {
+				b.writeTo(out);
+				b.reset();
+			}
+		);
 	}
 
 	/*
@@ -87,8 +125,10 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 		boolean isRecursion = aType == null;
 
 		// Handle recursion
-		if (aType == null)
+		if (aType == null) {
+			pop();
 			return out.appendNull();
+		}
 
 		// Handle Optional<X>
 		if (isOptional(aType)) {
@@ -102,6 +142,8 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 
 		// Swap if necessary
 		PojoSwap swap = aType.getSwap(this);
+		if (isStreamable(aType, swap))
+			swap = null;
 		if (swap != null) {
 			o = swap(swap, o);
 			sType = swap.getSwapClassMeta(this);
@@ -119,8 +161,16 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 			out.appendBoolean((Boolean)o);
 		else if (sType.isNumber())
 			out.appendNumber((Number)o);
-		else if (sType.isBean())
-			serializeBeanMap(out, toBeanMap(o), typeName);
+		else if (sType.isBean()) {
+			BeanCodec<Object> codec = typeName == null ? getBeanCodec(sType, o) : null;
+			if (codec != null) {
+				serializeBean(out, o, codec);
+			} else {
+				BeanMap<?> m = acquireBeanMap(o);
+				serializeBeanMap(out, m, typeName);
+				returnBeanMap(m);
+			}
+		}
 		else if (sType.isUri() || (pMeta != null && pMeta.isUri()))
 			out.appendString(resolveUri(o.toString()));
 		else if (sType.isMap()) {
@@ -133,7 +183,13 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 			serializeCollection(out, (Collection) o, eType);
 		}
 		else if (sType.isArray()) {
-			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+			if (isPrimitiveNumberArray(sType))
+				serializePrimitiveArray(out, o);
+			else
+				serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+		}
+		else if (sType.isStreamable()) {
+			serializeStream(out, o, eType);
 		}
 		else if (sType.isReader()) {
 			pipe((Reader)o, out);
@@ -175,29 +231,35 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 
 	private void serializeBeanMap(MsgPackOutputStream out, final BeanMap<?> m, String typeName) throws IOException, SerializeException {
 
-		List<BeanPropertyValue> values = m.getValues(isKeepNullProperties(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null);
+		SerializerPlan plan = getSerializerPlan(m);
+		if (plan != null) {
+			serializeBeanMap(out, m, typeName, plan);
+			return;
+		}
+
+		BeanPropertyValues values = m.readValues(isKeepNullProperties(), typeName);
 
 		int size = values.size();
-		for (BeanPropertyValue p : values) {
-			if (p.getThrown() != null)
+		for (int i = 0; i < values.size(); i++) {
+			if (values.getThrown(i) != null)
 				size--;
 			// Must handle the case where recursion occurs and property is not serialized.
-			if ((! isKeepNullProperties()) && willRecurse(p))
+			if ((! isKeepNullProperties()) && willRecurse(values, i))
 				size--;
 		}
 
 		out.startMap(size);
 
-		for (BeanPropertyValue p : values) {
-			BeanPropertyMeta pMeta = p.getMeta();
+		for (int i = 0; i < values.size(); i++) {
+			BeanPropertyMeta pMeta = values.getMeta(i);
 			if (pMeta.canRead()) {
-				ClassMeta<?> cMeta = p.getClassMeta();
-				String key = p.getName();
-				Object value = p.getValue();
-				Throwable t = p.getThrown();
+				ClassMeta<?> cMeta = values.getClassMeta(i);
+				String key = values.getName(i);
+				Object value = values.getValue(i);
+				Throwable t = values.getThrown(i);
 				if (t != null) {
 					onBeanGetterException(pMeta, t);
-				} else if ((! isKeepNullProperties()) && willRecurse(p)) {
+				} else if ((! isKeepNullProperties()) && willRecurse(values, i)) {
 					/* Ignored */
 				} else {
 					serializeAnything(out, key, null, null, null);
@@ -207,11 +269,156 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 		}
 	}
 
-	private boolean willRecurse(BeanPropertyValue v) throws SerializeException {
-		ClassMeta<?> aType = push2(v.getName(), v.getValue(), v.getClassMeta());
-		 if (aType != null)
-			 pop();
-		 return aType == null;
+	/*
+	 * Same as serializeBeanMap() but reads the properties through the generated bean codec.
+	 * The values are collected first since the map size must be written before the entries.
+	 */
+	private void serializeBean(MsgPackOutputStream out, Object o, BeanCodec<Object> codec) throws IOException, SerializeException {
+
+		PropertyCollector c = new PropertyCollector(codec.getPropertyCount());
+		try {
+			codec.write(o, c);
+		} catch (Exception e) {
+			throw onBeanCodecException(codec, c.next, e);
+		}
+		Object[] values = c.values;
+
+		int size = 0;
+		for (int i = 0; i < values.length; i++)
+			if (canWrite(codec.getPropertyMeta(i), values[i]))
+				size++;
+
+		out.startMap(size);
+
+		for (int i = 0; i < values.length; i++) {
+			BeanPropertyMeta pMeta = codec.getPropertyMeta(i);
+			Object value = values[i];
+			if (canWrite(pMeta, value)) {
+				out.appendString(toString(pMeta.getName()));
+				if (value == null)
+					out.appendNull();
+				else if (! codec.isSimple(i))
+					serializeAnything(out, value, pMeta.getClassMeta(), pMeta.getName(), pMeta);
+				else if (value instanceof Number)
+					out.appendNumber((Number)value);
+				else if (value instanceof Boolean)
+					out.appendBoolean((Boolean)value);
+				else
+					out.appendString(toString(value));
+			}
+		}
+	}
+
+	/*
+	 * Same as serializeBeanMap() but uses the precomputed serialization plan of the bean.
+	 * The values are collected first since the map size must be written before the entries.
+	 */
+	private void serializeBeanMap(MsgPackOutputStream out, BeanMap<?> m, String typeName, SerializerPlan plan) throws IOException, SerializeException {
+
+		SerializerPlan.Property[] pp = plan.getProperties();
+		Object[] values = new Object[pp.length];
+
+		int size = typeName == null ? 0 : 1;
+		for (int i = 0; i < pp.length; i++) {
+			values[i] = getPlanValue(m, pp[i]);
+			if (canWrite(pp[i], values[i]))
+				size++;
+		}
+
+		out.startMap(size);
+
+		if (typeName != null)
+			serializeBeanProperty(out, plan.getTypeProperty(), typeName);
+		for (int i = 0; i < pp.length; i++)
+			if (canWrite(pp[i], values[i]))
+				serializeBeanProperty(out, pp[i], values[i]);
+	}
+
+	/*
+	 * Serializes a single bean property using its serialization plan.
+	 */
+	private void serializeBeanProperty(MsgPackOutputStream out, SerializerPlan.Property p, Object value) throws IOException, SerializeException {
+		byte[] key = (byte[])p.getFormatMeta();
+		if (key != null)
+			out.append(key);
+		else
+			serializeAnything(out, p.getName(), null, null, null);
+
+		SerializerPlan.Kind k = p.getKind(value);
+		if (k == SerializerPlan.Kind.OTHER) {
+			serializeAnything(out, value, p.getClassMeta(), p.getName(), p.getMeta());
+			return;
+		}
+
+		Object o = value == null ? null : swap(p.getSwap(), value);
+		if (o == null)
+			out.appendNull();
+		else if (k == SerializerPlan.Kind.STRING)
+			out.appendString(toString(o));
+		else if (k == SerializerPlan.Kind.NUMBER)
+			out.appendNumber((Number)o);
+		else
+			out.appendBoolean((Boolean)o);
+	}
+
+	/*
+	 * Same as canWrite(BeanPropertyMeta,Object) for a property in a serialization plan.
+	 */
+	private boolean canWrite(SerializerPlan.Property p, Object value) throws SerializeException {
+		if (p.getKind(value) == SerializerPlan.Kind.OTHER)
+			return canWrite(p.getMeta(), value);
+		return value != null || isKeepNullProperties();
+	}
+
+	@Override /* SerializerSession */
+	protected Object createPlanFormatMeta(BeanPropertyMeta pMeta) throws SerializeException {
+		// Property names are written through the string swap if there is one.
+		if (string().getSwap(this) != null)
+			return null;
+		try {
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			new MsgPackOutputStream(baos).appendString(toString(pMeta.getName()));
+			return baos.toByteArray();
+		} catch (IOException e) {
+			throw new SerializeException(this, e);
+		}
+	}
+
+	/*
+	 * Collects the property values passed in by a generated bean codec.
+	 */
+	private static final class PropertyCollector implements BeanCodec.PropertyWriter {
+		final Object[] values;
+		int next;
+
+		PropertyCollector(int size) {
+			values = new Object[size];
+		}
+
+		@Override /* PropertyWriter */
+		public void writeObject(int index, Object value) {
+			values[index] = value;
+			next = index + 1;
+		}
+	}
+
+	private boolean willRecurse(BeanPropertyValues values, int i) throws SerializeException {
+		return isRecursion(values.getName(i), values.getValue(i), values.getClassMeta(i));
+	}
+
+	/*
+	 * Same rules as BeanMap.getValues() followed by the recursion check in serializeBeanMap().
+	 */
+	private boolean canWrite(BeanPropertyMeta pMeta, Object value) throws SerializeException {
+		if (isKeepNullProperties())
+			return true;
+		return value != null && ! isRecursion(pMeta.getName(), value, pMeta.getClassMeta());
+	}
+
+	private boolean isRecursion(String name, Object value, ClassMeta<?> cm) throws SerializeException {
+		ClassMeta<?> aType = push2(name, value, cm);
+		pop();
+		return aType == null;
 	}
 
 	private static final class SimpleMapEntry {
@@ -233,12 +440,119 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 		c = sort(c);
 		l.addAll(c);
 
+		if (isColumnar()) {
+			BeanPropertyMeta[] columns = getColumnarProperties(l, elementType);
+			if (columns != null) {
+				serializeColumnar(out, l, elementType, columns);
+				return;
+			}
+		}
+
 		out.startArray(l.size());
 
 		for (Object o : l)
 			serializeAnything(out, o, elementType, "<iterator>", null);
 	}
 
+	/*
+	 * Writes a collection of beans of the same class as a header row of property names followed by one row of values
+	 * per bean.
+	 */
+	private void serializeColumnar(MsgPackOutputStream out, List<Object> l, ClassMeta<?> type, BeanPropertyMeta[] columns) throws IOException, SerializeException {
+		out.startArray(l.size() + 1);
+
+		out.startArray(columns.length);
+		for (BeanPropertyMeta pMeta : columns)
+			out.appendString(pMeta.getName());
+
+		for (Object o : l) {
+			if (o == null || push2("<iterator>", o, type) == null) {
+				out.appendNull();
+				continue;
+			}
+			BeanMap<?> m = acquireBeanMap(o);
+			out.startArray(columns.length);
+			for (BeanPropertyMeta pMeta : columns) {
+				ClassMeta<?> cMeta = pMeta.getClassMeta();
+				String key = pMeta.getName();
+				Object value = null;
+				try {
+					value = pMeta.get(m, null);
+				} catch (Error e) {
+					throw e;
+				} catch (Throwable t) {
+					onBeanGetterException(pMeta, t);
+				}
+				if (canIgnoreValue(cMeta, key, value))
+					out.appendNull();
+				else
+					serializeAnything(out, value, cMeta, key, pMeta);
+			}
+			returnBeanMap(m);
+			pop();
+		}
+	}
+
+	/*
+	 * Writes the elements of an int/long/short/byte/float/double array in bulk without boxing them.
+	 * Produces the same output as serializeCollection().
+	 */
+	private static void serializePrimitiveArray(MsgPackOutputStream out, Object array) throws IOException {
+		if (array instanceof int[])
+			out.appendInts((int[])array);
+		else if (array instanceof long[])
+			out.appendLongs((long[])array);
+		else if (array instanceof double[])
+			out.appendDoubles((double[])array);
+		else if (array instanceof float[])
+			out.appendFloats((float[])array);
+		else if (array instanceof short[])
+			out.appendShorts((short[])array);
+		else
+			out.appendBytes((byte[])array);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private void serializeStream(MsgPackOutputStream out, Object o, ClassMeta<?> type) throws IOException, SerializeException {
+
+		ClassMeta<?> elementType = type.isStreamable() ? type.getElementType() : object();
+
+		try {
+			// MessagePack arrays are length-prefixed, so elements can only be written as they're consumed when the
+			// source knows its size up front.  Otherwise the elements (but not their serialized form) are buffered.
+			Spliterator s = null;
+			if (o instanceof BaseStream)
+				s = ((BaseStream)o).spliterator();
+			else if (o instanceof Spliterator)
+				s = (Spliterator)o;
+
+			Iterator i;
+			long size = s == null ? -1 : s.getExactSizeIfKnown();
+			if (size >= 0) {
+				i = Spliterators.iterator(s);
+			} else {
+				List<Object> l = new ArrayList<>();
+				for (Iterator i2 = s == null ? toIterator(o) : Spliterators.iterator(s); i2.hasNext();)
+					l.add(i2.next());
+				size = l.size();
+				i = l.iterator();
+			}
+
+			if (size > Integer.MAX_VALUE)
+				throw new SerializeException(this, "Stream of {0} elements is too large to serialize.", size);
+
+			out.startArray((int)size);
+
+			int count = 0;
+			while (i.hasNext()) {
+				serializeAnything(out, i.next(), elementType, "<iterator>", null);
+				flushStreamed(out, ++count);
+			}
+		} finally {
+			closeStreamable(o);
+		}
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -248,6 +562,17 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 		return ctx.isAddBeanTypes();
 	}
 
+	/**
+	 * Configuration property:  Columnar mode.
+	 *
+	 * @see MsgPackSerializer#MSGPACK_columnar
+	 * @return
+	 * 	<jk>true</jk> if collections and arrays of beans are serialized as a header row followed by value rows.
+	 */
+	protected final boolean isColumnar() {
+		return ctx.isColumnar();
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -43,6 +43,7 @@ public class MsgPackConfigAnnotation {
 			MsgPackConfig a = ai.getAnnotation();
 
 			cpb.setIfNotEmpty(MSGPACK_addBeanTypes, bool(a.addBeanTypes()));
+			cpb.setIfNotEmpty(MSGPACK_columnar, bool(a.columnar()));
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.mstat;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.marshall.*;
+
+/**
+ * A snapshot of the statistics of an internal cache.
+ *
+ * <p>
+ * Juneau caches parsed HTTP headers, serializer/parser instances and bean metadata in bounded caches.
+ * <br>Use {@link #getAll()} to monitor their sizes and effectiveness in long-running services.
+ */
+@Bean(properties="name,size,maxSize,hits,misses,evictions,hitRatio")
+public class CacheStats {
+
+	private final String name;
+	private final int size, maxSize;
+	private final long hits, misses, evictions;
+
+	/**
+	 * Returns a snapshot of the statistics of all registered caches ordered by name.
+	 *
+	 * @return A snapshot of the statistics of all registered caches.
+	 */
+	public static List<CacheStats> getAll() {
+		return Cache.getAll().stream().map(Cache::getStats).collect(Collectors.toList());
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param name The cache name.
+	 * @param size The number of entries in the cache.
+	 * @param maxSize The maximum number of entries in the cache.
+	 * @param hits The number of lookups that found an entry.
+	 * @param misses The number of lookups that did not find an entry.
+	 * @param evictions The number of entries evicted because the cache was full.
+	 */
+	public CacheStats(String name, int size, int maxSize, long hits, long misses, long evictions) {
+		this.name = name;
+		this.size = size;
+		this.maxSize = maxSize;
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+	}
+
+	/**
+	 * Returns the cache name.
+	 *
+	 * @return The cache name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of entries in the cache.
+	 *
+	 * @return The number of entries in the cache.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the maximum number of entries in the cache.
+	 *
+	 * @return The maximum number of entries in the cache.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the number of lookups that found an entry.
+	 *
+	 * @return The number of lookups that found an entry.
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of lookups that did not find an entry.
+	 *
+	 * @return The number of lookups that did not find an entry.
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of entries evicted because the cache was full.
+	 *
+	 * @return The number of entries evicted because the cache was full.
+	 */
+	public long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the percentage of lookups that found an entry.
+	 *
+	 * @return The percentage of lookups that found an entry, or <c>0</c> if there were no lookups.
+	 */
+	public int getHitRatio() {
+		long total = hits + misses;
+		return total == 0 ? 0 : (int)((hits * 100) / total);
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return SimpleJson.DEFAULT.toString(this);
+	}
+}
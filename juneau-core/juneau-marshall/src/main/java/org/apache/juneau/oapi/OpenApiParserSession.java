@@ -104,6 +104,11 @@ public class OpenApiParserSession extends UonParserSession {
 		return parseInner(null, HttpPartSchema.DEFAULT, pipe.asString(), type);
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) {
+		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
+	}
+
 	@SuppressWarnings({ "unchecked" })
 	private<T> T parseInner(HttpPartType partType, HttpPartSchema schema, String in, ClassMeta<T> type) throws SchemaValidationException, ParseException {
 		schema.validateInput(in);
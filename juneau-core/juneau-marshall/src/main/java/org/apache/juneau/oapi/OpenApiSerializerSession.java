@@ -232,13 +232,16 @@ public class OpenApiSerializerSession extends UonSerializerSession {
 
 				} else if (type.isBean()) {
 					OapiStringBuilder sb = new OapiStringBuilder(cf);
-					for (BeanPropertyValue p : toBeanMap(value).getValues(isKeepNullProperties())) {
-						if (p.getMeta().canRead()) {
-							Throwable x = p.getThrown();
+					BeanMap<?> bm = acquireBeanMap(value);
+					BeanPropertyValues values = bm.readValues(isKeepNullProperties(), null);
+					for (int i = 0; i < values.size(); i++) {
+						if (values.getMeta(i).canRead()) {
+							Throwable x = values.getThrown(i);
 							if (x == null)
-								sb.append(p.getName(), serialize(partType, schema.getProperty(p.getName()), p.getValue()));
+								sb.append(values.getName(i), serialize(partType, schema.getProperty(values.getName(i)), values.getValue(i)));
 						}
 					}
+					returnBeanMap(bm);
 					out = sb.toString();
 
 				} else if (type.isMap()) {
@@ -332,13 +335,16 @@ public class OpenApiSerializerSession extends UonSerializerSession {
 			s = DEFAULT_SCHEMA;
 		OMap m = new OMap();
 		if (type.isBean()) {
-			for (BeanPropertyValue p : toBeanMap(o).getValues(isKeepNullProperties())) {
-				if (p.getMeta().canRead()) {
-					Throwable t = p.getThrown();
+			BeanMap<?> bm = acquireBeanMap(o);
+			BeanPropertyValues values = bm.readValues(isKeepNullProperties(), null);
+			for (int i = 0; i < values.size(); i++) {
+				if (values.getMeta(i).canRead()) {
+					Throwable t = values.getThrown(i);
 					if (t == null)
-						m.put(p.getName(), toObject(partType, p.getValue(), s.getProperty(p.getName())));
+						m.put(values.getName(i), toObject(partType, values.getValue(i), s.getProperty(values.getName(i))));
 				}
 			}
+			returnBeanMap(bm);
 		} else {
 			for (Map.Entry e : (Set<Map.Entry>)((Map)o).entrySet())
 				m.put(stringify(e.getKey()), toObject(partType, e.getValue(), s.getProperty(stringify(e.getKey()))));
@@ -858,6 +858,24 @@ public abstract class Parser extends BeanContext {
 		return createSession().parseIntoCollection(input, c, elementType);
 	}
 
+	/**
+	 * Returns an iterator that lazily parses the elements of a top-level collection in the specified input.
+	 *
+	 * <p>
+	 * Elements are parsed one at a time as the iterator is advanced so that large inputs can be consumed in
+	 * constant memory.
+	 *
+	 * @param <E> The element class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the elements.
+	 * @return A new iterator.  Must be closed if not read to the end.
+	 * @throws ParseException Malformed input encountered.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	public final <E> ParserIterator<E> parseIterator(Object input, Class<E> elementType) throws ParseException {
+		return createSession().parseIterator(input, elementType);
+	}
+
 	/**
 	 * Parses the specified array input with each entry in the object defined by the {@code argTypes}
 	 * argument.
@@ -766,6 +766,12 @@ public class ParserBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public ParserBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	// </FluentSetters>
 
 	@Override /* Context */
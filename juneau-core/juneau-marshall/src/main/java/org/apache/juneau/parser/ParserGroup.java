@@ -15,12 +15,13 @@ package org.apache.juneau.parser;
 import static org.apache.juneau.http.HttpHeaders.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.http.header.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.mstat.*;
 
 /**
  * Represents a group of {@link Parser Parsers} that can be looked up by media type.
@@ -82,7 +83,7 @@ public final class ParserGroup extends BeanContext {
 	public static final ParserGroup EMPTY = create().build();
 
 	// Maps Content-Type headers to matches.
-	private final ConcurrentHashMap<String,ParserMatch> cache = new ConcurrentHashMap<>();
+	private final NegotiationCache<ParserMatch> cache;
 
 	private final List<MediaType> mediaTypes;
 	private final List<Parser> mediaTypeParsers;
@@ -136,6 +137,11 @@ public final class ParserGroup extends BeanContext {
 
 		this.mediaTypes = lmt.unmodifiable();
 		this.mediaTypeParsers = l.unmodifiable();
+
+		ASet<String> keys = ASet.of();
+		for (MediaType m : mediaTypes)
+			keys.add(m.toString());
+		this.cache = new NegotiationCache<>(keys, this::findParserMatch);
 	}
 
 	/**
@@ -144,23 +150,32 @@ public final class ParserGroup extends BeanContext {
 	 * <p>
 	 * The returned object includes both the parser and media type that matched.
 	 *
+	 * <p>
+	 * Results are cached in a bounded cache keyed on the normalized header value.
+	 * <br>The media types supported by this group are resolved when the group is created.
+	 *
 	 * @param contentTypeHeader The HTTP <l>Content-Type</l> header value.
 	 * @return The parser and media type that matched the content type header, or <jk>null</jk> if no match was made.
 	 */
 	public ParserMatch getParserMatch(String contentTypeHeader) {
-		ParserMatch pm = cache.get(contentTypeHeader);
-		if (pm != null)
-			return pm;
-
-		ContentType ct = contentType(contentTypeHeader);
-		int match = ct.match(mediaTypes);
+		return cache.get(contentTypeHeader);
+	}
 
-		if (match >= 0) {
-			pm = new ParserMatch(mediaTypes.get(match), mediaTypeParsers.get(match));
-			cache.putIfAbsent(contentTypeHeader, pm);
-		}
+	private ParserMatch findParserMatch(String contentTypeHeader) {
+		int match = contentType(contentTypeHeader).match(mediaTypes);
+		return match >= 0 ? new ParserMatch(mediaTypes.get(match), mediaTypeParsers.get(match)) : null;
+	}
 
-		return cache.get(contentTypeHeader);
+	/**
+	 * Returns a snapshot of the statistics of the <l>Content-Type</l> header negotiation cache of this group.
+	 *
+	 * <p>
+	 * Lookups of media types resolved when the group was created are not counted.
+	 *
+	 * @return A snapshot of the statistics of the negotiation cache of this group.
+	 */
+	public CacheStats getNegotiationCacheStats() {
+		return cache.getStats();
 	}
 
 	/**
@@ -805,5 +805,11 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public ParserGroupBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	// </FluentSetters>
 }
@@ -47,6 +47,26 @@ public class ParserInputStream extends InputStream implements Positionable {
 		return i;
 	}
 
+	/**
+	 * Reads bytes in bulk from the underlying stream.
+	 *
+	 * <p>
+	 * Unlike the underlying stream, blocks until the requested number of bytes has been read or the end of the
+	 * stream has been reached.
+	 */
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) throws IOException {
+		int n = 0;
+		while (n < len) {
+			int i = is.read(b, off + n, len - n);
+			if (i == -1)
+				break;
+			n += i;
+		}
+		pos += n;
+		return n == 0 && len > 0 ? -1 : n;
+	}
+
 	@Override /* Positionable */
 	public Position getPosition() {
 		return new Position(pos);
@@ -0,0 +1,180 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Lazily parses a sequence of elements from a parser input.
+ *
+ * <p>
+ * Returned by {@link ParserSession#parseIterator(Object, Class)} and {@link Parser#parseIterator(Object, Class)}.
+ * <br>Elements are parsed one at a time as the iterator is advanced so that arbitrarily large inputs can be consumed
+ * in constant memory.
+ *
+ * <p>
+ * The underlying input is closed when the last element has been read, when an error occurs, or when {@link #close()}
+ * is called.
+ * <br>Errors encountered while parsing are thrown as {@link BasicRuntimeException BasicRuntimeExceptions} whose
+ * cause is the original {@link ParseException}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; i = CsvParser.<jsf>DEFAULT</jsf>.parseIterator(<jv>reader</jv>, MyBean.<jk>class</jk>)) {
+ * 		<jk>while</jk> (i.hasNext())
+ * 			process(i.next());
+ * 	}
+ * </p>
+ *
+ * <p>
+ * This class is NOT thread safe.
+ *
+ * @param <E> The element type.
+ */
+public abstract class ParserIterator<E> implements Iterator<E>, Closeable {
+
+	private final ParserSession session;
+	private final ParserPipe pipe;
+	private final List<Closeable> resources = new ArrayList<>(1);
+	private boolean fetched, hasNext, closed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param session The session that created this iterator.
+	 * @param pipe The parser input.  Closed when this iterator is closed.
+	 */
+	protected ParserIterator(ParserSession session, ParserPipe pipe) {
+		this.session = session;
+		this.pipe = pipe;
+	}
+
+	/**
+	 * Positions the input at the start of the next element.
+	 *
+	 * @return <jk>true</jk> if there is another element to read.
+	 * @throws Exception If thrown from underlying stream, or if the input contains a syntax error or is malformed.
+	 */
+	protected abstract boolean advance() throws Exception;
+
+	/**
+	 * Parses the element at the current position.
+	 *
+	 * <p>
+	 * Only called after {@link #advance()} has returned <jk>true</jk>.
+	 *
+	 * @return The parsed element.
+	 * @throws Exception If thrown from underlying stream, or if the input contains a syntax error or is malformed.
+	 */
+	protected abstract E read() throws Exception;
+
+	@Override /* Iterator */
+	public boolean hasNext() {
+		if (closed)
+			return false;
+		if (! fetched) {
+			try {
+				hasNext = advance();
+			} catch (Exception e) {
+				throw toRuntimeException(e);
+			}
+			fetched = true;
+			if (! hasNext)
+				close();
+		}
+		return hasNext;
+	}
+
+	@Override /* Iterator */
+	public E next() {
+		if (! hasNext())
+			throw new NoSuchElementException();
+		fetched = false;
+		try {
+			return read();
+		} catch (Exception e) {
+			throw toRuntimeException(e);
+		}
+	}
+
+	/**
+	 * Returns a sequential stream over the remaining elements of this iterator.
+	 *
+	 * <p>
+	 * Closing the stream closes this iterator.
+	 *
+	 * @return A new stream.
+	 */
+	public Stream<E> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false).onClose(this::close);
+	}
+
+	/**
+	 * Registers an additional resource to close when this iterator is closed.
+	 *
+	 * <p>
+	 * Useful when the input stream was opened by the caller and must be released along with the iterator
+	 * (e.g. an HTTP connection).
+	 *
+	 * @param resource The resource to close.
+	 * @return This object (for method chaining).
+	 */
+	public ParserIterator<E> onClose(Closeable resource) {
+		resources.add(resource);
+		return this;
+	}
+
+	/**
+	 * Returns the session that created this iterator.
+	 *
+	 * @return The session that created this iterator.
+	 */
+	protected ParserSession getSession() {
+		return session;
+	}
+
+	/**
+	 * Closes the underlying input.
+	 *
+	 * <p>
+	 * Subsequent calls to {@link #hasNext()} return <jk>false</jk>.
+	 */
+	@Override /* Closeable */
+	public void close() {
+		if (! closed) {
+			closed = true;
+			try {
+				pipe.close();
+				for (Closeable c : resources)
+					c.close();
+			} catch (IOException e) {
+				throw new BasicRuntimeException(e);
+			} finally {
+				session.checkForWarnings();
+			}
+		}
+	}
+
+	private RuntimeException toRuntimeException(Exception e) {
+		close();
+		if (e instanceof RuntimeException)
+			return (RuntimeException)e;
+		if (! (e instanceof ParseException))
+			e = new ParseException(session, e, "Exception occurred.  exception={0}, message={1}.", e.getClass().getSimpleName(), e.getLocalizedMessage());
+		return new BasicRuntimeException(e);
+	}
+}
@@ -14,6 +14,8 @@ package org.apache.juneau.parser;
 
 import java.io.*;
 
+import org.apache.juneau.*;
+
 import org.apache.juneau.internal.*;
 
 /**
@@ -196,6 +198,16 @@ public class ParserReader extends Reader implements Positionable {
 		iMark = iCurrent;
 	}
 
+	/**
+	 * Stops buffering the calls to read() without gathering the marked text.
+	 *
+	 * <p>
+	 * Used by scanners that consume the marked characters directly instead of creating a string from them.
+	 */
+	public final void unmark() {
+		iMark = -1;
+	}
+
 	/**
 	 * Peeks the next character in the stream.
 	 *
@@ -322,6 +334,29 @@ public class ParserReader extends Reader implements Positionable {
 		return s;
 	}
 
+	/**
+	 * Looks up the bean property whose name matches the contents of the reusable character buffer.
+	 *
+	 * <p>
+	 * Offsets are interpreted the same as {@link #getMarked(int, int)}.
+	 * <br>If a match is found, the buffer is reset for next usage and no string is created.
+	 * <br>Otherwise the buffer is left untouched so that the caller can fall back to {@link #getMarked(int, int)}.
+	 *
+	 * @param beanMeta The bean whose properties should be searched.
+	 * @param offsetStart The offset of the start position.
+	 * @param offsetEnd The offset of the end position.
+	 * @return The matching property, or <jk>null</jk> if not found.
+	 */
+	public final BeanPropertyMeta getMarkedPropertyMeta(BeanMeta<?> beanMeta, int offsetStart, int offsetEnd) {
+		if (holesExist || iMark < 0)
+			return null;
+		int start = iMark + offsetStart, len = iCurrent - iMark + offsetEnd - offsetStart;
+		BeanPropertyMeta pMeta = beanMeta.getPropertyMeta(buff, start, len);
+		if (pMeta != null)
+			iMark = -1;
+		return pMeta;
+	}
+
 	/**
 	 * Trims off the last character in the marking buffer.
 	 *
@@ -23,6 +23,7 @@ import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.internal.*;
+import org.apache.juneau.reflect.*;
 import org.apache.juneau.transform.*;
 import org.apache.juneau.utils.*;
 
@@ -42,11 +43,12 @@ public abstract class ParserSession extends BeanSession {
 	// Writable properties.
 	private BeanPropertyMeta currentProperty;
 	private ClassMeta<?> currentClass;
-	private final ParserListener listener;
+	private ParserListener listener;
 
 	private Position mark = new Position(-1);
 
 	private ParserPipe pipe;
+	private NumberScanner numberScanner;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -203,6 +205,192 @@ public abstract class ParserSession extends BeanSession {
 		this.currentClass = currentClass;
 	}
 
+	/**
+	 * Returns the number scanner reused by this session to parse numbers straight from a {@link ParserReader}.
+	 *
+	 * @return The number scanner of this session.
+	 */
+	protected final NumberScanner getNumberScanner() {
+		if (numberScanner == null)
+			numberScanner = new NumberScanner();
+		return numberScanner;
+	}
+
+	/**
+	 * Prepares a session created to parse part of the input of this session on another thread.
+	 *
+	 * <p>
+	 * Sessions are not thread safe, so each thread needs its own session.
+	 * <br>The new session reports events to the listener of this session, one call at a time.
+	 * <br>Its warnings should be added to this session with {@link #addWarnings(Session)} once it is done.
+	 *
+	 * @param <S> The session type.
+	 * @param session The new session.
+	 * @return The same session.
+	 */
+	protected final <S extends ParserSession> S initChunkSession(S session) {
+		((ParserSession)session).listener = listener;
+		return session;
+	}
+
+	/**
+	 * Stores the number last scanned by the {@link #getNumberScanner() number scanner} into a primitive bean property
+	 * without boxing it.
+	 *
+	 * @param m The bean map to set the property value on.
+	 * @param pMeta The bean property.
+	 * @param type The primitive type returned by {@link BeanPropertyMeta#getPrimitiveNumberType(BeanMap)}.
+	 * @return
+	 * 	<jk>true</jk> if the property was set.
+	 * 	<br><jk>false</jk> if the scanned number can't be converted exactly to the property type.
+	 */
+	protected final boolean setPrimitiveProperty(BeanMap<?> m, BeanPropertyMeta pMeta, Class<?> type) {
+		NumberScanner ns = getNumberScanner();
+		try {
+			if (type == int.class && ns.isInt())
+				pMeta.setInt(m, ns.intValue());
+			else if (type == long.class && ns.isLong())
+				pMeta.setLong(m, ns.longValue());
+			else if (type == double.class && ns.isDouble())
+				pMeta.setDouble(m, ns.doubleValue());
+			else if (type == float.class && ns.isFloat())
+				pMeta.setFloat(m, ns.floatValue());
+			else
+				return false;
+		} catch (BeanRuntimeException e) {
+			onBeanSetterException(pMeta, e);
+			throw e;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the generated codec to use for setting the properties of the specified bean map.
+	 *
+	 * <p>
+	 * Codecs set properties directly on the bean, so this returns <jk>null</jk> if the bean hasn't been created yet or
+	 * setter exceptions are being ignored.
+	 *
+	 * @param m The bean map being parsed into.
+	 * @return The generated codec, or <jk>null</jk> if properties must be set through the bean map.
+	 */
+	@SuppressWarnings("unchecked")
+	protected final BeanCodec<Object> getBeanCodec(BeanMap<?> m) {
+		if (isIgnoreInvocationExceptionsOnSetters() || m.getClass() != BeanMap.class || m.getBean(false) == null)
+			return null;
+		return (BeanCodec<Object>)m.getMeta().getCodec();
+	}
+
+	/**
+	 * Reads a bean property value and sets it through a generated codec.
+	 *
+	 * @param m The bean map being parsed into.
+	 * @param codec The codec returned by {@link #getBeanCodec(BeanMap)}.
+	 * @param index The property index.
+	 * @param r The reader that parses the property value.
+	 * @return
+	 * 	<jk>true</jk> if the property was set.
+	 * 	<br><jk>false</jk> if nothing was read and the property must be set through the bean map.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 * @throws ExecutableException Exception occurred on invoked constructor/method/field.
+	 */
+	protected final boolean readBeanProperty(BeanMap<?> m, BeanCodec<Object> codec, int index, BeanCodec.PropertyReader r) throws IOException, ParseException, ExecutableException {
+		try {
+			return codec.read(m.getBean(false), index, r);
+		} catch (InvocationTargetException e) {
+			BeanPropertyMeta p = codec.getPropertyMeta(index);
+			BeanRuntimeException e2 = new BeanRuntimeException(e, codec.getBeanClass(), "Error occurred trying to set property ''{0}''", p.getName());
+			onBeanSetterException(p, e2);
+			throw e2;
+		} catch (IOException | ParseException | ExecutableException | RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ParseException(this, e);
+		}
+	}
+
+	/**
+	 * Converts a parsed value to the type of a bean property the same way {@link BeanPropertyMeta#set(BeanMap, String, Object)} does.
+	 *
+	 * @param p The bean property.
+	 * @param value The parsed value.
+	 * @return The converted value.
+	 * @throws BeanRuntimeException If the value could not be converted.
+	 */
+	protected final Object convertToPropertyType(BeanPropertyMeta p, Object value) throws BeanRuntimeException {
+		try {
+			return convertToType(value, p.getClassMeta());
+		} catch (BeanRuntimeException e) {
+			onBeanSetterException(p, e);
+			throw e;
+		} catch (Exception e) {
+			BeanRuntimeException e2 = new BeanRuntimeException(e, p.getBeanMeta().getClassMeta().getInnerClass(), "Error occurred trying to set property ''{0}''", p.getName());
+			onBeanSetterException(p, e2);
+			throw e2;
+		}
+	}
+
+	/**
+	 * Creates a builder for collecting the entries of a primitive number array without boxing them.
+	 *
+	 * <p>
+	 * Parsers can pass the builder to their collection-parsing methods instead of an intermediate list, and add
+	 * numbers scanned by the {@link #getNumberScanner() number scanner} straight into it.
+	 *
+	 * @param type The array type being parsed.
+	 * @return
+	 * 	A new builder, or <jk>null</jk> if {@link #isPrimitiveNumberArray(ClassMeta)} returns <jk>false</jk> for the
+	 * 	type.
+	 */
+	protected final PrimitiveArrayBuilder newPrimitiveArrayBuilder(ClassMeta<?> type) {
+		return isPrimitiveNumberArray(type) ? new PrimitiveArrayBuilder(type.getElementType().getInnerClass()) : null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the entries of the specified array type can be parsed straight into a primitive array.
+	 *
+	 * @param type The array type being parsed.
+	 * @return
+	 * 	<jk>true</jk> if the type is an array of <jk>int</jk>, <jk>long</jk>, <jk>short</jk>, <jk>byte</jk>,
+	 * 	<jk>float</jk> or <jk>double</jk>, and no swap is associated with the element type or its wrapper class.
+	 */
+	protected final boolean isPrimitiveNumberArray(ClassMeta<?> type) {
+		if (! type.isArray())
+			return false;
+		ClassMeta<?> et = type.getElementType();
+		Class<?> c = et.getInnerClass();
+		return PrimitiveArrayBuilder.isSupported(c) && et.getSwap(this) == null && getClassMeta(ClassInfo.of(c).getWrapperIfPrimitive()).getSwap(this) == null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if collection entries of the specified type can be read from columnar form.
+	 *
+	 * <p>
+	 * Columnar form consists of a header row of bean property names followed by one row of values per bean.
+	 *
+	 * @param type The collection element type.
+	 * @return <jk>true</jk> if the type is a bean class without a swap or builder.
+	 */
+	protected final boolean isColumnarType(ClassMeta<?> type) {
+		return type != null && type.isBean() && type.getSwap(this) == null && type.getBuilderSwap(this) == null;
+	}
+
+	/**
+	 * Resolves the header row of a collection of beans in columnar form.
+	 *
+	 * @param type The collection element type.
+	 * @param names The property names in the header row.
+	 * @return The bean properties for each column, with <jk>null</jk> entries for unknown property names.
+	 */
+	protected final BeanPropertyMeta[] getColumnarProperties(ClassMeta<?> type, List<String> names) {
+		BeanMeta<?> bm = type.getBeanMeta();
+		BeanPropertyMeta[] columns = new BeanPropertyMeta[names.size()];
+		for (int i = 0; i < columns.length; i++)
+			columns[i] = bm.getPropertyMeta(names.get(i));
+		return columns;
+	}
+
 	/**
 	 * Trims the specified object if it's a <c>String</c> and {@link #isTrimStrings()} returns <jk>true</jk>.
 	 *
@@ -307,7 +495,9 @@ public abstract class ParserSession extends BeanSession {
 	 */
 	protected final void onBeanSetterException(BeanPropertyMeta p, Throwable t) {
 		if (listener != null)
-			listener.onBeanSetterException(this, t, p);
+			synchronized (listener) {
+				listener.onBeanSetterException(this, t, p);
+			}
 		String prefix = "";
 		addWarning("{0}Could not call setValue() on property ''{1}'' of class ''{2}'', exception = {3}", prefix,
 			p.getName(), p.getBeanMeta().getClassMeta(), t.getLocalizedMessage());
@@ -333,7 +523,9 @@ public abstract class ParserSession extends BeanSession {
 					"Unknown property ''{0}'' encountered while trying to parse into class ''{1}''", propertyName,
 					beanMap.getClassMeta());
 		if (listener != null)
-			listener.onUnknownBeanProperty(this, propertyName, beanMap.getClassMeta().getInnerClass(), beanMap.getBean());
+			synchronized (listener) {
+				listener.onUnknownBeanProperty(this, propertyName, beanMap.getClassMeta().getInnerClass(), beanMap.getBean());
+			}
 	}
 
 	/**
@@ -726,6 +918,50 @@ public abstract class ParserSession extends BeanSession {
 		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
 	}
 
+	/**
+	 * Returns an iterator that lazily parses the elements of a top-level collection in the specified input.
+	 *
+	 * <p>
+	 * Unlike {@link #parse(Object, Type, Type...)}, the elements are not collected into memory up-front but are parsed
+	 * one at a time as the iterator is advanced.
+	 * <br>The input is held open until the iterator is exhausted or closed.
+	 *
+	 * @param <E> The element class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the elements.
+	 * @return A new iterator.  Must be closed if not read to the end.
+	 * @throws ParseException Malformed input encountered.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	public final <E> ParserIterator<E> parseIterator(Object input, Class<E> elementType) throws ParseException {
+		ParserPipe pipe = createPipe(input);
+		try {
+			return doParseIterator(pipe, getClassMeta(elementType));
+		} catch (ParseException | RuntimeException e) {
+			pipe.close();
+			throw e;
+		} catch (Exception e) {
+			pipe.close();
+			throw new ParseException(this, e, "Exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		}
+	}
+
+	/**
+	 * Implementation method.
+	 *
+	 * <p>
+	 * Default implementation throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param pipe The parser input.  Ownership passes to the returned iterator.
+	 * @param elementType The class type of the elements.
+	 * @return A new iterator.
+	 * @throws Exception If thrown from underlying stream, or if the input contains a syntax error or is malformed.
+	 */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws Exception {
+		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
+	}
+
 	/**
 	 * Parses the specified array input with each entry in the object defined by the {@code argTypes}
 	 * argument.
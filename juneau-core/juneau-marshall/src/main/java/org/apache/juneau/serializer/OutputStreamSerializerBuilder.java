@@ -521,6 +521,12 @@ public class OutputStreamSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public OutputStreamSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public OutputStreamSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -557,6 +563,12 @@ public class OutputStreamSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public OutputStreamSerializerBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public OutputStreamSerializerBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -569,6 +581,12 @@ public class OutputStreamSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public OutputStreamSerializerBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public OutputStreamSerializerBuilder sortCollections() {
 		super.sortCollections();
@@ -13,6 +13,8 @@
 package org.apache.juneau.serializer;
 
 import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -192,6 +194,119 @@ public abstract class Serializer extends BeanTraverseContext {
 	 */
 	public static final String SERIALIZER_addRootType = PREFIX + ".addRootType.b";
 
+	/**
+	 * Configuration property:  Flush interval for streamed sources.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.serializer.Serializer#SERIALIZER_flushInterval SERIALIZER_flushInterval}
+	 * 	<li><b>Name:</b>  <js>"Serializer.flushInterval.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>System property:</b>  <c>Serializer.flushInterval</c>
+	 * 	<li><b>Environment variable:</b>  <c>SERIALIZER_FLUSHINTERVAL</c>
+	 * 	<li><b>Default:</b>  <c>0</c>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.serializer.annotation.SerializerConfig#flushInterval()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.serializer.SerializerBuilder#flushInterval(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * When serializing {@link Iterator}, {@link Enumeration}, {@link Spliterator}, and
+	 * {@link java.util.stream.BaseStream} objects, elements are consumed and written one at a time without first being
+	 * copied into a collection.
+	 * <br>This setting causes the output to be flushed after every <c>N</c> elements written from such a source so that
+	 * consumers (e.g. HTTP clients reading a chunked response) can start processing results before the source has
+	 * been exhausted.
+	 *
+	 * <p>
+	 * A value of <c>0</c> or less disables intermediate flushing.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that flushes the output every 100 streamed elements.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.flushInterval(100)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>SERIALIZER_flushInterval</jsf>, 100)
+	 * 		.build();
+	 *
+	 * 	<jc>// Rows are written to the writer as they're read from the database.</jc>
+	 * 	<jk>try</jk> (Stream&lt;MyBean&gt; rows = <jv>dao</jv>.streamAll()) {
+	 * 		s.serialize(rows, <jv>writer</jv>);
+	 * 	}
+	 * </p>
+	 */
+	public static final String SERIALIZER_flushInterval = PREFIX + ".flushInterval.i";
+
+	/**
+	 * Configuration property:  Parallel chunk size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.serializer.Serializer#SERIALIZER_parallelChunkSize SERIALIZER_parallelChunkSize}
+	 * 	<li><b>Name:</b>  <js>"Serializer.parallelChunkSize.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>System property:</b>  <c>Serializer.parallelChunkSize</c>
+	 * 	<li><b>Environment variable:</b>  <c>SERIALIZER_PARALLELCHUNKSIZE</c>
+	 * 	<li><b>Default:</b>  <c>0</c>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.serializer.annotation.SerializerConfig#parallelChunkSize()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.serializer.SerializerBuilder#parallelChunkSize(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * When the object being serialized is a {@link java.util.RandomAccess} list or an object array with more elements than this
+	 * value, the elements are split into chunks of this size that are serialized concurrently on the common
+	 * {@link java.util.concurrent.ForkJoinPool}.
+	 * <br>The chunks are written to the output in their original order, so the result is identical to sequential
+	 * serialization.
+	 *
+	 * <p>
+	 * Currently supported by the JSON, MessagePack, and CSV serializers.
+	 * <br>Parallel serialization is not used when collections are sorted, when a swap is associated with the list
+	 * class, or when the output is formatted with whitespace or in columnar mode.
+	 *
+	 * <p>
+	 * A value of <c>0</c> or less disables parallel serialization.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that serializes large lists in chunks of 10000 elements.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.parallelChunkSize(10000)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>SERIALIZER_parallelChunkSize</jsf>, 10000)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String SERIALIZER_parallelChunkSize = PREFIX + ".parallelChunkSize.i";
+
 	/**
 	 * Configuration property:  Serializer listener.
 	 *
@@ -788,6 +903,7 @@ public abstract class Serializer extends BeanTraverseContext {
 		sortCollections,
 		sortMaps,
 		addRootType;
+	private final int flushInterval, parallelChunkSize;
 	private final UriContext uriContext;
 	private final UriResolution uriResolution;
 	private final UriRelativity uriRelativity;
@@ -797,6 +913,8 @@ public abstract class Serializer extends BeanTraverseContext {
 	private final MediaType[] accepts;
 	private final MediaType produces;
 
+	final Map<ClassMeta<?>,SerializerPlan> plans = new ConcurrentHashMap<>();   // Serialization plans for the response content type.
+
 	/**
 	 * Constructor
 	 *
@@ -834,6 +952,8 @@ public abstract class Serializer extends BeanTraverseContext {
 		sortCollections = cp.getBoolean(SERIALIZER_sortCollections).orElse(false);
 		sortMaps = cp.getBoolean(SERIALIZER_sortMaps).orElse(false);
 		addRootType = cp.getBoolean(SERIALIZER_addRootType).orElse(false);
+		flushInterval = cp.getInteger(SERIALIZER_flushInterval).orElse(0);
+		parallelChunkSize = cp.getInteger(SERIALIZER_parallelChunkSize).orElse(0);
 		uriContext = cp.get(SERIALIZER_uriContext, UriContext.class).orElse(UriContext.DEFAULT);
 		uriResolution = cp.get(SERIALIZER_uriResolution, UriResolution.class).orElse(UriResolution.NONE);
 		uriRelativity = cp.get(SERIALIZER_uriRelativity, UriRelativity.class).orElse(UriRelativity.RESOURCE);
@@ -1047,6 +1167,30 @@ public abstract class Serializer extends BeanTraverseContext {
 		return listener;
 	}
 
+	/**
+	 * Flush interval for streamed sources.
+	 *
+	 * @see #SERIALIZER_flushInterval
+	 * @return
+	 * 	The number of elements written from a streamed source between flushes of the output, or <c>0</c> if
+	 * 	the output is not flushed until serialization is complete.
+	 */
+	protected final int getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * Parallel chunk size.
+	 *
+	 * @see #SERIALIZER_parallelChunkSize
+	 * @return
+	 * 	The number of elements of a large top-level list serialized together as a single task, or <c>0</c> if
+	 * 	lists are always serialized sequentially.
+	 */
+	protected final int getParallelChunkSize() {
+		return parallelChunkSize;
+	}
+
 	/**
 	 * Sort arrays and collections alphabetically.
 	 *
@@ -1166,6 +1310,8 @@ public abstract class Serializer extends BeanTraverseContext {
 					.a("sortCollections", sortCollections)
 					.a("sortMaps", sortMaps)
 					.a("addRootType", addRootType)
+					.a("flushInterval", flushInterval)
+					.a("parallelChunkSize", parallelChunkSize)
 					.a("uriContext", uriContext)
 					.a("uriResolution", uriResolution)
 					.a("uriRelativity", uriRelativity)
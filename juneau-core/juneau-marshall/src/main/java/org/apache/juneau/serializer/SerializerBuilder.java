@@ -150,6 +150,37 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_addRootType);
 	}
 
+	/**
+	 * <i><l>Serializer</l> configuration property:&emsp;</i>  Flush interval for streamed sources.
+	 *
+	 * <p>
+	 * When serializing {@link java.util.Iterator}, {@link java.util.Enumeration}, {@link java.util.Spliterator}, and
+	 * {@link java.util.stream.BaseStream} objects, flushes the output after every <c>N</c> elements written so that
+	 * results reach the consumer before the source has been exhausted.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that flushes the output every 100 streamed elements.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.flushInterval(100)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_flushInterval}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <c>0</c> (don't flush until serialization is complete).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public SerializerBuilder flushInterval(int value) {
+		return set(SERIALIZER_flushInterval, value);
+	}
+
 	/**
 	 * <i><l>Serializer</l> configuration property:&emsp;</i>  Don't trim null bean property values.
 	 *
@@ -243,6 +274,38 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_listener, value);
 	}
 
+	/**
+	 * <i><l>Serializer</l> configuration property:&emsp;</i>  Parallel chunk size.
+	 *
+	 * <p>
+	 * When serializing a {@link java.util.RandomAccess} list or object array with more elements than this value,
+	 * serializes chunks of elements concurrently on the common {@link java.util.concurrent.ForkJoinPool} and writes
+	 * them in their original order.
+	 * <br>Currently supported by the JSON, MessagePack, and CSV serializers.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that serializes large lists in chunks of 10000 elements.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.parallelChunkSize(10000)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_parallelChunkSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <c>0</c> (always serialize sequentially).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public SerializerBuilder parallelChunkSize(int value) {
+		return set(SERIALIZER_parallelChunkSize, value);
+	}
+
 	/**
 	 * <i><l>Serializer</l> configuration property:&emsp;</i>  Sort arrays and collections alphabetically.
 	 *
@@ -986,6 +1049,12 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public SerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public SerializerBuilder detectRecursions() {
 		super.detectRecursions();
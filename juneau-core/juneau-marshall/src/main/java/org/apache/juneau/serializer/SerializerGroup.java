@@ -15,12 +15,13 @@ package org.apache.juneau.serializer;
 import static org.apache.juneau.http.HttpHeaders.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.http.header.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.mstat.*;
 
 /**
  * Represents a group of {@link Serializer Serializers} that can be looked up by media type.
@@ -74,7 +75,7 @@ public final class SerializerGroup extends BeanTraverseContext {
 	public static final SerializerGroup EMPTY = create().build();
 
 	// Maps Accept headers to matching serializers.
-	private final ConcurrentHashMap<String,SerializerMatch> cache = new ConcurrentHashMap<>();
+	private final NegotiationCache<SerializerMatch> cache;
 
 	private final List<MediaRange> mediaRanges;
 	private final List<Serializer> mediaTypeRangeSerializers;
@@ -134,6 +135,13 @@ public final class SerializerGroup extends BeanTraverseContext {
 		this.mediaRanges = lmtr.unmodifiable();
 		this.mediaTypesList = AList.of(lmt).unmodifiable();
 		this.mediaTypeRangeSerializers = l.unmodifiable();
+
+		ASet<String> keys = ASet.of();
+		for (MediaRange m : mediaRanges)
+			keys.add(m.toString());
+		for (MediaType m : mediaTypesList)
+			keys.add(m.toString());
+		this.cache = new NegotiationCache<>(keys, this::findSerializerMatch);
 	}
 
 	/**
@@ -156,24 +164,32 @@ public final class SerializerGroup extends BeanTraverseContext {
 	 * <p>
 	 * The returned object includes both the serializer and media type that matched.
 	 *
+	 * <p>
+	 * Results are cached in a bounded cache keyed on the normalized header value.
+	 * <br>The media types supported by this group are resolved when the group is created.
+	 *
 	 * @param acceptHeader The HTTP <l>Accept</l> header string.
 	 * @return The serializer and media type that matched the accept header, or <jk>null</jk> if no match was made.
 	 */
 	public SerializerMatch getSerializerMatch(String acceptHeader) {
-		if (acceptHeader == null)
-			return null;
-		SerializerMatch sm = cache.get(acceptHeader);
-		if (sm != null)
-			return sm;
+		return cache.get(acceptHeader);
+	}
 
-		Accept a = accept(acceptHeader);
-		int match = a.match(mediaRanges);
-		if (match >= 0) {
-			sm = new SerializerMatch(mediaRanges.get(match), mediaTypeRangeSerializers.get(match));
-			cache.putIfAbsent(acceptHeader, sm);
-		}
+	private SerializerMatch findSerializerMatch(String acceptHeader) {
+		int match = accept(acceptHeader).match(mediaRanges);
+		return match >= 0 ? new SerializerMatch(mediaRanges.get(match), mediaTypeRangeSerializers.get(match)) : null;
+	}
 
-		return cache.get(acceptHeader);
+	/**
+	 * Returns a snapshot of the statistics of the <l>Accept</l> header negotiation cache of this group.
+	 *
+	 * <p>
+	 * Lookups of media types resolved when the group was created are not counted.
+	 *
+	 * @return A snapshot of the statistics of the negotiation cache of this group.
+	 */
+	public CacheStats getNegotiationCacheStats() {
+		return cache.getStats();
 	}
 
 	/**
@@ -169,6 +169,26 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_addRootType);
 	}
 
+	/**
+	 * Configuration property:  Flush interval for streamed sources.
+	 *
+	 * <p>
+	 * Flushes the output after every <c>N</c> elements written from an iterator, enumeration, spliterator, or stream.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_flushInterval}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <c>0</c> (don't flush until serialization is complete).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public SerializerGroupBuilder flushInterval(int value) {
+		return set(SERIALIZER_flushInterval, value);
+	}
+
 	/**
 	 * Configuration property:  Don't trim null bean property values.
 	 *
@@ -205,6 +225,26 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Parallel chunk size.
+	 *
+	 * <p>
+	 * Serializes large top-level lists in chunks of this many elements concurrently.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_parallelChunkSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <c>0</c> (always serialize sequentially).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public SerializerGroupBuilder parallelChunkSize(int value) {
+		return set(SERIALIZER_parallelChunkSize, value);
+	}
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -943,6 +983,12 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public SerializerGroupBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public SerializerGroupBuilder detectRecursions() {
 		super.detectRecursions();
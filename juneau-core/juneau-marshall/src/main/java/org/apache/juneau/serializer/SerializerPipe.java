@@ -172,6 +172,15 @@ public final class SerializerPipe implements Closeable {
 		this.outputStream = outputStream;
 	}
 
+	/**
+	 * Returns the charset used when writing characters to an {@link OutputStream} or {@link File}.
+	 *
+	 * @return The charset, or <jk>null</jk> if this is a stream-based pipe.
+	 */
+	public Charset getCharset() {
+		return charset;
+	}
+
 	/**
 	 * Returns the raw output object passed into this session.
 	 *
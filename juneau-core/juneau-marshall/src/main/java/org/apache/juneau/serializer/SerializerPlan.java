@@ -0,0 +1,269 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.http.header.*;
+import org.apache.juneau.transform.*;
+
+/**
+ * Precomputed instructions for serializing the properties of a bean.
+ *
+ * <p>
+ * A plan is created once per bean class and serializer configuration (see
+ * {@link SerializerSession#getSerializerPlan(ClassMeta)}) and captures the decisions that would otherwise be made for
+ * every property of every bean serialized:
+ * <ul>
+ * 	<li>The POJO swap that applies to the property type.
+ * 	<li>Whether the value can be written directly as a string, number, or boolean.
+ * 	<li>Format-specific metadata such as the escaped property name.
+ * </ul>
+ *
+ * <p>
+ * Only properties whose values cannot be a subclass of the property type are precomputed.
+ * All other properties have a kind of {@link Kind#OTHER} and are serialized through the normal dynamic dispatch.
+ *
+ * <p>
+ * Plans are immutable and can be shared between sessions.
+ */
+public final class SerializerPlan {
+
+	private static final Set<Class<?>> SCALARS = new HashSet<>(Arrays.asList(
+		String.class, Boolean.class, Integer.class, Long.class, Short.class, Byte.class, Float.class, Double.class
+	));
+
+	private final ClassMeta<?> classMeta;
+	private final MediaType mediaType;
+	private final Property[] properties;
+	private final Map<BeanPropertyMeta,Property> propertyMap;
+	private final Property typeProperty;
+	private final boolean hasDynaProperty;
+
+	SerializerPlan(SerializerSession session, ClassMeta<?> classMeta) throws SerializeException {
+		BeanMeta<?> bm = classMeta.getBeanMeta();
+		this.classMeta = classMeta;
+		this.mediaType = session.getMediaType();
+		List<Property> l = new ArrayList<>();
+		Map<BeanPropertyMeta,Property> m = new HashMap<>();
+		boolean hasDynaProperty = false;
+		for (BeanPropertyMeta p : bm.getPropertyMetas()) {
+			if (p.isDyna())
+				hasDynaProperty = true;
+			else if (p.canRead()) {
+				Property p2 = new Property(session, p);
+				l.add(p2);
+				m.put(p, p2);
+			}
+		}
+		this.properties = l.toArray(new Property[l.size()]);
+		this.propertyMap = m;
+		this.typeProperty = new Property(session, bm.getTypeProperty());
+		this.hasDynaProperty = hasDynaProperty;
+	}
+
+	/**
+	 * Returns the bean class this plan was created for.
+	 *
+	 * @return The bean class this plan was created for.
+	 */
+	public ClassMeta<?> getClassMeta() {
+		return classMeta;
+	}
+
+	/**
+	 * Returns the media type that POJO swaps were resolved against.
+	 *
+	 * @return The media type that POJO swaps were resolved against.  Can be <jk>null</jk>.
+	 */
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+
+	/**
+	 * Returns the readable properties of the bean in serialization order.
+	 *
+	 * <p>
+	 * The returned array is shared and must not be modified.
+	 *
+	 * @return The readable properties of the bean.
+	 */
+	public Property[] getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Returns the plan for the specified property of the bean.
+	 *
+	 * @param pMeta The bean property.
+	 * @return The plan for the property, or <jk>null</jk> if the property is not a readable property of the bean.
+	 */
+	public Property getProperty(BeanPropertyMeta pMeta) {
+		return propertyMap.get(pMeta);
+	}
+
+	/**
+	 * Returns the plan for the <js>"_type"</js> property of the bean.
+	 *
+	 * @return The plan for the <js>"_type"</js> property of the bean.
+	 */
+	public Property getTypeProperty() {
+		return typeProperty;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the bean has a dyna property.
+	 *
+	 * <p>
+	 * The names of dyna properties are only known at serialization time, so these beans are not serialized through
+	 * plans.
+	 *
+	 * @return <jk>true</jk> if the bean has a dyna property.
+	 */
+	boolean hasDynaProperty() {
+		return hasDynaProperty;
+	}
+
+	/**
+	 * Identifies how a property value can be written.
+	 */
+	public static enum Kind {
+
+		/** The value (after swapping) is a {@link String}. */
+		STRING,
+
+		/** The value (after swapping) is one of the final {@link Number} wrapper classes. */
+		NUMBER,
+
+		/** The value (after swapping) is a {@link Boolean}. */
+		BOOLEAN,
+
+		/** The value must be serialized through the normal dynamic dispatch. */
+		OTHER;
+	}
+
+	/**
+	 * Precomputed instructions for serializing a single bean property.
+	 */
+	public static final class Property {
+
+		private final BeanPropertyMeta meta;
+		private final String name;
+		private final ClassMeta<?> type;
+		private final Kind kind;
+		private final Class<?> valueClass;
+		private final PojoSwap<Object,Object> swap;
+		private final Object formatMeta;
+
+		@SuppressWarnings("unchecked")
+		Property(SerializerSession session, BeanPropertyMeta meta) throws SerializeException {
+			this.meta = meta;
+			this.name = meta.getName();
+			this.type = meta.getClassMeta();
+
+			Kind kind = Kind.OTHER;
+			PojoSwap<?,?> swap = null;
+			Class<?> c = type.getInnerClass(), valueClass = null;
+			if (! (meta.isUri() || type.isUri() || type.isOptional()) && (c.isPrimitive() || Modifier.isFinal(c.getModifiers()))) {
+				valueClass = type.getInfo().getWrapperIfPrimitive();
+				ClassMeta<?> aType = c.isPrimitive() ? session.getClassMeta(valueClass) : type;
+				ClassMeta<?> sType = aType;
+				swap = aType.getSwap(session);
+				if (swap != null)
+					sType = swap.getSwapClassMeta(session);
+				if (SCALARS.contains(sType.getInnerClass()) && aType.getDictionaryName() == null && session.isPlanScalar(sType))
+					kind = sType.isString() ? Kind.STRING : sType.isBoolean() ? Kind.BOOLEAN : Kind.NUMBER;
+			}
+
+			this.kind = kind;
+			this.valueClass = valueClass;
+			this.swap = kind == Kind.OTHER ? null : (PojoSwap<Object,Object>)swap;
+			this.formatMeta = session.createPlanFormatMeta(meta);
+		}
+
+		/**
+		 * Returns the metadata of this bean property.
+		 *
+		 * @return The metadata of this bean property.
+		 */
+		public BeanPropertyMeta getMeta() {
+			return meta;
+		}
+
+		/**
+		 * Returns the name of this bean property.
+		 *
+		 * @return The name of this bean property.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the declared type of this bean property.
+		 *
+		 * @return The declared type of this bean property.
+		 */
+		public ClassMeta<?> getClassMeta() {
+			return type;
+		}
+
+		/**
+		 * Returns how values of this property can be written.
+		 *
+		 * @return How values of this property can be written.
+		 */
+		public Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * Returns how the specified value of this property can be written.
+		 *
+		 * @param value The property value.
+		 * @return
+		 * 	How the value can be written, or {@link Kind#OTHER} if the value is not of the declared property type
+		 * 	(e.g. it was replaced by a bean interceptor).
+		 */
+		public Kind getKind(Object value) {
+			return value == null || value.getClass() == valueClass ? kind : Kind.OTHER;
+		}
+
+		/**
+		 * Returns the POJO swap to apply to values of this property before writing them.
+		 *
+		 * @return The POJO swap to apply, or <jk>null</jk> if no swap applies or the kind is {@link Kind#OTHER}.
+		 */
+		public PojoSwap<Object,Object> getSwap() {
+			return swap;
+		}
+
+		/**
+		 * Returns the format-specific metadata precomputed for this property.
+		 *
+		 * @return
+		 * 	The value returned by {@link SerializerSession#createPlanFormatMeta(BeanPropertyMeta)} for this property.
+		 * 	Can be <jk>null</jk>.
+		 */
+		public Object getFormatMeta() {
+			return formatMeta;
+		}
+
+		@Override /* Object */
+		public String toString() {
+			return name + ":" + kind;
+		}
+	}
+}
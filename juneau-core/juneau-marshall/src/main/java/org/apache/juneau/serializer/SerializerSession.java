@@ -20,6 +20,9 @@ import java.io.*;
 import java.lang.reflect.*;
 import java.text.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
@@ -28,6 +31,7 @@ import org.apache.juneau.reflect.*;
 import org.apache.juneau.soap.*;
 import org.apache.juneau.svl.*;
 import org.apache.juneau.transform.*;
+import org.apache.juneau.transforms.*;
 
 /**
  * Serializer session that lives for the duration of a single use of {@link Serializer}.
@@ -56,9 +60,11 @@ public abstract class SerializerSession extends BeanTraverseSession {
 	private VarResolverSession vrs;
 
 	private final Method javaMethod;                                                // Java method that invoked this serializer.
+	private final SerializerSessionArgs args;                                       // Used to create sessions for parallel chunks.
 
 	// Writable properties
-	private final SerializerListener listener;
+	private SerializerListener listener;
+	private Map<ClassMeta<?>,SerializerPlan> plans;                                 // Plans for media types other than the serializer default.
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -77,6 +83,7 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		super(ctx, args == null ? SerializerSessionArgs.DEFAULT : args);
 		this.ctx = ctx;
 		args = args == null ? SerializerSessionArgs.DEFAULT : args;
+		this.args = args;
 		SessionProperties sp = getSessionProperties();
 		this.javaMethod = args.javaMethod;
 		this.uriResolver = UriResolver.of(ctx.getUriResolution(), ctx.getUriRelativity(), sp.get(SERIALIZER_uriContext, UriContext.class).orElse(ctx.getUriContext()));
@@ -259,7 +266,9 @@ public abstract class SerializerSession extends BeanTraverseSession {
 	 */
 	protected final void onBeanGetterException(BeanPropertyMeta p, Throwable t) throws SerializeException {
 		if (listener != null)
-			listener.onBeanGetterException(this, t, p);
+			synchronized (listener) {
+				listener.onBeanGetterException(this, t, p);
+			}
 		String prefix = (isDebug() ? getStack(false) + ": " : "");
 		addWarning("{0}Could not call getValue() on property ''{1}'' of class ''{2}'', exception = {3}", prefix,
 			p.getName(), p.getBeanMeta().getClassMeta(), t.getLocalizedMessage());
@@ -268,6 +277,141 @@ public abstract class SerializerSession extends BeanTraverseSession {
 				p.getName(), p.getBeanMeta().getClassMeta(), t.getLocalizedMessage()).initCause(t);
 	}
 
+	/**
+	 * Returns the generated codec to use for serializing the specified bean.
+	 *
+	 * <p>
+	 * Codecs are only used when they produce the same output as the bean map of the bean, so this returns
+	 * <jk>null</jk> if getter exceptions are being ignored or the properties of the bean would be dropped for
+	 * exceeding the maximum depth.
+	 *
+	 * @param cm The class type of the bean.
+	 * @param o The bean.
+	 * @return The generated codec, or <jk>null</jk> if the bean must be serialized through its bean map.
+	 */
+	@SuppressWarnings("unchecked")
+	protected final BeanCodec<Object> getBeanCodec(ClassMeta<?> cm, Object o) {
+		BeanMeta<?> bm = cm.getBeanMeta();
+		if (bm == null || cm.getInnerClass() != o.getClass() || isIgnoreInvocationExceptionsOnGetters() || (! isKeepNullProperties() && willExceedDepth()))
+			return null;
+		return (BeanCodec<Object>)bm.getCodec();
+	}
+
+	/**
+	 * Returns the serialization plan for the specified bean map.
+	 *
+	 * @param m The bean map being serialized.
+	 * @return
+	 * 	The serialization plan, or <jk>null</jk> if the bean map must be serialized through
+	 * 	{@link BeanMap#readValues(boolean, String)} because it's a filtered bean map or has a dyna
+	 * 	property.
+	 * @throws SerializeException If the plan could not be created.
+	 */
+	protected final SerializerPlan getSerializerPlan(BeanMap<?> m) throws SerializeException {
+		if (m.getClass() != BeanMap.class || m.getMeta() != m.getClassMeta().getBeanMeta())
+			return null;
+		return getSerializerPlan(m.getClassMeta());
+	}
+
+	/**
+	 * Returns the serialization plan for the specified bean class.
+	 *
+	 * <p>
+	 * Plans are cached on the serializer when this session uses the response content type of the serializer, and on
+	 * this session otherwise since POJO swaps can be specific to a media type.
+	 *
+	 * @param cm The bean class.
+	 * @return
+	 * 	The serialization plan, or <jk>null</jk> if the class is not a bean or the bean has a dyna property.
+	 * @throws SerializeException If the plan could not be created.
+	 */
+	protected final SerializerPlan getSerializerPlan(ClassMeta<?> cm) throws SerializeException {
+		if (cm.getBeanMeta() == null)
+			return null;
+		Map<ClassMeta<?>,SerializerPlan> m = Objects.equals(getMediaType(), ctx.getResponseContentType()) ? ctx.plans : plans;
+		if (m == null)
+			m = plans = new HashMap<>();
+		SerializerPlan p = m.get(cm);
+		if (p == null) {
+			p = new SerializerPlan(this, cm);
+			m.put(cm, p);
+		}
+		return p.hasDynaProperty() ? null : p;
+	}
+
+	/**
+	 * Returns format-specific metadata to precompute for a bean property in serialization plans.
+	 *
+	 * <p>
+	 * Subclasses can override this method to precompute things like the escaped property name.
+	 * Plans are shared between sessions, so the value must only depend on the configuration of the serializer.
+	 *
+	 * @param pMeta The bean property.
+	 * @return The format-specific metadata, or <jk>null</jk> if there is none.
+	 * @throws SerializeException If the metadata could not be computed.
+	 */
+	protected Object createPlanFormatMeta(BeanPropertyMeta pMeta) throws SerializeException {
+		return null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if serialization plans can write values of the specified type directly.
+	 *
+	 * <p>
+	 * Only called for strings, booleans, and the final number classes.
+	 * Subclasses should return <jk>false</jk> if the format applies class-level metadata to the type that would be
+	 * bypassed by writing the value directly.
+	 *
+	 * @param sType The serialized type of the property value.
+	 * @return <jk>true</jk> if values of the specified type can be written directly.
+	 */
+	protected boolean isPlanScalar(ClassMeta<?> sType) {
+		return true;
+	}
+
+	/**
+	 * Returns the value of a bean property being serialized through a serialization plan.
+	 *
+	 * @param m The bean map being serialized.
+	 * @param p The property in the serialization plan.
+	 * @return The property value, or <jk>null</jk> if the getter threw an exception that was ignored.
+	 * @throws SerializeException If the getter threw an exception and getter exceptions are not being ignored.
+	 */
+	protected final Object getPlanValue(BeanMap<?> m, SerializerPlan.Property p) throws SerializeException {
+		try {
+			return p.getMeta().get(m, null);
+		} catch (Error e) {
+			// Errors should always be uncaught.
+			throw e;
+		} catch (Throwable t) {
+			onBeanGetterException(p.getMeta(), t);
+			return null;
+		}
+	}
+
+	/**
+	 * Rethrows an exception thrown while serializing a bean through its generated codec.
+	 *
+	 * @param codec The bean codec.
+	 * @param index The index of the property whose getter threw the exception, or <c>-1</c> if it was thrown while
+	 * 	serializing a property value.
+	 * @param e The exception.
+	 * @return Never returns normally.
+	 * @throws IOException Thrown by the underlying stream.
+	 * @throws SerializeException The wrapped exception.
+	 */
+	protected final SerializeException onBeanCodecException(BeanCodec<?> codec, int index, Exception e) throws IOException, SerializeException {
+		if (index != -1) {
+			BeanPropertyMeta p = codec.getPropertyMeta(index);
+			onBeanGetterException(p, new BeanRuntimeException(e, codec.getBeanClass(), "Exception occurred while getting property ''{0}''", p.getName()));
+		}
+		if (e instanceof IOException)
+			throw (IOException)e;
+		if (e instanceof SerializeException)
+			throw (SerializeException)e;
+		throw new SerializeException(this, e);
+	}
+
 	/**
 	 * Logs a warning message.
 	 *
@@ -278,7 +422,9 @@ public abstract class SerializerSession extends BeanTraverseSession {
 	@Override
 	protected void onError(Throwable t, String msg, Object... args) {
 		if (listener != null)
-			listener.onError(this, t, format(msg, args));
+			synchronized (listener) {
+				listener.onError(this, t, format(msg, args));
+			}
 		super.onError(t, msg, args);
 	}
 
@@ -369,6 +515,22 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return false;
 	}
 
+	/**
+	 * Same as {@link #canIgnoreValue(ClassMeta, String, Object)} but for a property in a serialization plan.
+	 *
+	 * @param p The property in the serialization plan.
+	 * @param value The property value.
+	 * @return <jk>true</jk> if the specified value should not be serialized.
+	 * @throws SerializeException If recursion occurred.
+	 */
+	public final boolean canIgnoreValue(SerializerPlan.Property p, Object value) throws SerializeException {
+		if (p.getKind(value) == SerializerPlan.Kind.OTHER)
+			return canIgnoreValue(p.getClassMeta(), p.getName(), value);
+		if (isKeepNullProperties())
+			return false;
+		return value == null || willExceedDepth();
+	}
+
 	/**
 	 * Sorts the specified map if {@link SerializerSession#isSortMaps()} returns <jk>true</jk>.
 	 *
@@ -393,6 +555,301 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return c;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the specified object should be serialized by consuming it element-by-element.
+	 *
+	 * <p>
+	 * Applies to {@link Iterator}, {@link Enumeration}, {@link Spliterator}, and {@link BaseStream} objects unless a
+	 * swap other than the built-in {@link IteratorSwap} or {@link EnumerationSwap} has been associated with the class.
+	 *
+	 * @param cm The class type of the object being serialized.
+	 * @param swap The swap associated with the class type, or <jk>null</jk> if there isn't one.
+	 * @return <jk>true</jk> if the object should be serialized as a stream of elements.
+	 */
+	protected final boolean isStreamable(ClassMeta<?> cm, PojoSwap<?,?> swap) {
+		return cm.isStreamable() && (swap == null || swap instanceof IteratorSwap || swap instanceof EnumerationSwap);
+	}
+
+	/**
+	 * Returns an iterator over the elements of the specified streamable object.
+	 *
+	 * <p>
+	 * The source is consumed lazily as the iterator is advanced.
+	 * <br>Callers should pass the source to {@link #closeStreamable(Object)} in a <jk>finally</jk> block once
+	 * they are done with the iterator.
+	 *
+	 * @param o The {@link Iterator}, {@link Enumeration}, {@link Spliterator}, or {@link BaseStream} object.
+	 * @return An iterator over the elements of the object.
+	 */
+	protected static final Iterator<?> toIterator(Object o) {
+		if (o instanceof Iterator)
+			return (Iterator<?>)o;
+		if (o instanceof BaseStream)
+			return ((BaseStream<?,?>)o).iterator();
+		if (o instanceof Spliterator)
+			return Spliterators.iterator((Spliterator<?>)o);
+		if (o instanceof Enumeration) {
+			final Enumeration<?> e = (Enumeration<?>)o;
+			return new Iterator<Object>() {
+				@Override /* Iterator */
+				public boolean hasNext() {
+					return e.hasMoreElements();
+				}
+				@Override /* Iterator */
+				public Object next() {
+					return e.nextElement();
+				}
+			};
+		}
+		throw new BasicRuntimeException("Object of type ''{0}'' is not streamable.", className(o));
+	}
+
+	/**
+	 * Closes the specified streamable object once it has been serialized.
+	 *
+	 * <p>
+	 * {@link BaseStream} sources (e.g. <c>Files.lines()</c>) and {@link AutoCloseable} iterators are closed so
+	 * that the resources behind them are released.
+	 * <br>Any other object is left as-is, so this method can safely be called on non-streamable objects.
+	 *
+	 * @param o The object passed to {@link #toIterator(Object)}.
+	 * @throws SerializeException If the source could not be closed.
+	 */
+	protected final void closeStreamable(Object o) throws SerializeException {
+		if (o instanceof AutoCloseable && (o instanceof BaseStream || o instanceof Iterator || o instanceof Spliterator || o instanceof Enumeration)) {
+			try {
+				((AutoCloseable)o).close();
+			} catch (Exception e) {
+				throw new SerializeException(this, e);
+			}
+		}
+	}
+
+	/**
+	 * Flushes the specified output if the number of elements written from a streamed source is a multiple of the
+	 * {@link Serializer#SERIALIZER_flushInterval} setting.
+	 *
+	 * @param out The writer or output stream to flush.
+	 * @param count The number of elements written so far from the current streamed source.
+	 * @throws IOException Thrown by the underlying stream.
+	 */
+	protected final void flushStreamed(Flushable out, int count) throws IOException {
+		int i = getFlushInterval();
+		if (i > 0 && count % i == 0)
+			out.flush();
+	}
+
+	/**
+	 * Returns the specified top-level object as a list if it should be serialized in parallel chunks.
+	 *
+	 * <p>
+	 * Applies to {@link RandomAccess} lists and object arrays with more elements than the
+	 * {@link Serializer#SERIALIZER_parallelChunkSize} setting when collections aren't being sorted and no swap is
+	 * associated with the class of the object.
+	 *
+	 * @param o The object being serialized.
+	 * @return The object as a list, or <jk>null</jk> if it should be serialized sequentially.
+	 */
+	protected final List<?> toParallelList(Object o) {
+		int size = getParallelChunkSize();
+		if (size <= 0 || o == null || isSortCollections())
+			return null;
+		List<?> l = null;
+		if (o instanceof List && o instanceof RandomAccess)
+			l = (List<?>)o;
+		else if (o instanceof Object[])
+			l = Arrays.asList((Object[])o);
+		if (l == null || l.size() <= size || getClassMetaForObject(o).getSwap(this) != null)
+			return null;
+		return l;
+	}
+
+	/**
+	 * Serializes the elements of a list in chunks on the common {@link ForkJoinPool} and writes the chunks to the
+	 * output in their original order.
+	 *
+	 * <p>
+	 * Chunks are {@link Serializer#SERIALIZER_parallelChunkSize} elements long.
+	 * <br>Only a bounded number of chunks are serialized ahead of the one being written, and their buffers are reused
+	 * for later chunks once written.
+	 *
+	 * <p>
+	 * Sessions are not thread safe, so each chunk is serialized through its own session created by
+	 * {@link #createChunkSession()}.
+	 * <br>The warnings of each chunk session are added to this session once the chunk is written.
+	 *
+	 * @param <B> The buffer type.
+	 * @param list The list being serialized.
+	 * @param newBuffer Creates a new empty buffer.
+	 * @param serializer Serializes a chunk of elements into a buffer.
+	 * @param writer Writes the contents of a buffer to the output and resets the buffer.
+	 * @throws IOException Thrown by the underlying stream.
+	 * @throws SerializeException Thrown while serializing a chunk.
+	 */
+	protected final <B> void serializeChunks(final List<?> list, final Supplier<B> newBuffer, final ChunkSerializer<B> serializer, ChunkWriter<B> writer) throws IOException, SerializeException {
+		final int size = getParallelChunkSize();
+		int count = (list.size() + size - 1) / size, next = 0;
+		int maxPending = Math.max(2, ForkJoinPool.getCommonPoolParallelism() * 2);
+		final Queue<B> buffers = new ConcurrentLinkedQueue<>();
+		Deque<ForkJoinTask<Chunk<B>>> pending = new ArrayDeque<>();
+		try {
+			while (next < count || ! pending.isEmpty()) {
+				while (next < count && pending.size() < maxPending) {
+					final int start = next++ * size, end = Math.min(start + size, list.size());
+					pending.add(ForkJoinPool.commonPool().submit(()->{
+						B b = buffers.poll();
+						if (b == null)
+							b = newBuffer.get();
+						SerializerSession s = createChunkSession();
+						serializer.serialize(s, b, list.subList(start, end), start);
+						return new Chunk<>(s, b);
+					}));
+				}
+				Chunk<B> c = pending.poll().get();
+				writer.write(c.buffer);
+				buffers.add(c.buffer);
+				addWarnings(c.session);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SerializeException(this, e);
+		} catch (ExecutionException e) {
+			Throwable t = e.getCause();
+			if (t instanceof SerializeException)
+				throw (SerializeException)t;
+			if (t instanceof IOException)
+				throw (IOException)t;
+			if (t instanceof RuntimeException)
+				throw (RuntimeException)t;
+			throw new SerializeException(t);
+		} finally {
+			for (ForkJoinTask<Chunk<B>> t : pending)
+				t.cancel(false);
+		}
+	}
+
+	/*
+	 * A serialized chunk and the session that serialized it.
+	 */
+	private static final class Chunk<B> {
+		final SerializerSession session;
+		final B buffer;
+
+		Chunk(SerializerSession session, B buffer) {
+			this.session = session;
+			this.buffer = buffer;
+		}
+	}
+
+	/**
+	 * Creates a new session with the same context and runtime arguments as this session.
+	 *
+	 * <p>
+	 * Used to serialize chunks of a list on other threads.
+	 * <br>The new session starts at the current position of this session in the model, so the max depth and
+	 * recursion detection apply the same way as when the chunk is serialized by this session.
+	 * <br>It reports events to the listener of this session, one call at a time.
+	 *
+	 * @return A new session.
+	 */
+	protected final SerializerSession createChunkSession() {
+		SerializerSession s = ctx.createSession(args);
+		s.listener = listener;
+		copyPosition(s);
+		return s;
+	}
+
+	/**
+	 * Serializes a chunk of the elements of a list into a buffer.
+	 *
+	 * @param <B> The buffer type.
+	 * @see SerializerSession#serializeChunks(List, Supplier, ChunkSerializer, ChunkWriter)
+	 */
+	@FunctionalInterface
+	protected interface ChunkSerializer<B> {
+
+		/**
+		 * Serializes the specified elements into the specified buffer.
+		 *
+		 * @param session The session to serialize the elements with.
+		 * @param buffer The empty buffer to write to.
+		 * @param chunk The elements in the chunk.
+		 * @param offset The index of the first element of the chunk in the list.
+		 * @throws Exception Any exception is rethrown by the calling thread.
+		 */
+		void serialize(SerializerSession session, B buffer, List<?> chunk, int offset) throws Exception;
+	}
+
+	/**
+	 * Writes a serialized chunk to the output.
+	 *
+	 * @param <B> The buffer type.
+	 * @see SerializerSession#serializeChunks(List, Supplier, ChunkSerializer, ChunkWriter)
+	 */
+	@FunctionalInterface
+	protected interface ChunkWriter<B> {
+
+		/**
+		 * Writes the contents of the specified buffer to the output and resets the buffer so it can be reused.
+		 *
+		 * @param buffer The buffer containing a serialized chunk.
+		 * @throws IOException Thrown by the underlying stream.
+		 */
+		void write(B buffer) throws IOException;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified array type can be serialized straight from its primitive elements
+	 * without boxing them or copying them into a list.
+	 *
+	 * <p>
+	 * Applies to arrays of <jk>int</jk>, <jk>long</jk>, <jk>short</jk>, <jk>byte</jk>, <jk>float</jk> and
+	 * <jk>double</jk> when collections aren't being sorted and no swap is associated with the element type or its
+	 * wrapper class.
+	 *
+	 * @param type The serialized type.
+	 * @return <jk>true</jk> if the array elements can be written directly.
+	 */
+	protected final boolean isPrimitiveNumberArray(ClassMeta<?> type) {
+		if (! type.isArray() || isSortCollections())
+			return false;
+		ClassMeta<?> et = type.getElementType();
+		Class<?> c = et.getInnerClass();
+		if (! (c == int.class || c == long.class || c == short.class || c == byte.class || c == float.class || c == double.class))
+			return false;
+		return et.getSwap(this) == null && getClassMeta(ClassInfo.of(c).getWrapperIfPrimitive()).getSwap(this) == null;
+	}
+
+	/**
+	 * Returns the columns to use when serializing the specified collection of beans in columnar form.
+	 *
+	 * <p>
+	 * A collection qualifies when its element type is a bean class without a swap or builder, every non-null entry is an
+	 * instance of exactly that class, and the bean doesn't have a dynamic (i.e. <js>"*"</js>) property.
+	 * <br>The columns are the readable properties of the bean in {@link BeanMeta#getPropertyMetas()} order.
+	 *
+	 * @param c The collection being serialized.
+	 * @param elementType The expected type of the collection entries.
+	 * @return The bean properties to write as columns, or <jk>null</jk> if the collection doesn't qualify.
+	 */
+	protected final BeanPropertyMeta[] getColumnarProperties(Collection<?> c, ClassMeta<?> elementType) {
+		if (c.isEmpty() || elementType == null || ! elementType.isBean() || elementType.getSwap(this) != null
+				|| elementType.getBuilderSwap(this) != null)
+			return null;
+		Class<?> ec = elementType.getInnerClass();
+		for (Object o : c)
+			if (o != null && o.getClass() != ec)
+				return null;
+		List<BeanPropertyMeta> l = new ArrayList<>();
+		for (BeanPropertyMeta p : elementType.getBeanMeta().getPropertyMetas()) {
+			if (p.isDyna())
+				return null;
+			if (p.canRead())
+				l.add(p);
+		}
+		return l.toArray(new BeanPropertyMeta[l.size()]);
+	}
+
 	/**
 	 * Converts the contents of the specified object array to a list.
 	 *
@@ -714,6 +1171,30 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return listener;
 	}
 
+	/**
+	 * Configuration property:  Flush interval for streamed sources.
+	 *
+	 * @see Serializer#SERIALIZER_flushInterval
+	 * @return
+	 * 	The number of elements written from a streamed source between flushes of the output, or <c>0</c> if
+	 * 	the output is not flushed until serialization is complete.
+	 */
+	protected final int getFlushInterval() {
+		return ctx.getFlushInterval();
+	}
+
+	/**
+	 * Configuration property:  Parallel chunk size.
+	 *
+	 * @see Serializer#SERIALIZER_parallelChunkSize
+	 * @return
+	 * 	The number of elements of a large top-level list serialized together as a single task, or <c>0</c> if
+	 * 	lists are always serialized sequentially.
+	 */
+	protected final int getParallelChunkSize() {
+		return ctx.getParallelChunkSize();
+	}
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -735,6 +735,12 @@ public class WriterSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public WriterSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public WriterSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -771,6 +777,12 @@ public class WriterSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public WriterSerializerBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public WriterSerializerBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -783,6 +795,12 @@ public class WriterSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public WriterSerializerBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public WriterSerializerBuilder sortCollections() {
 		super.sortCollections();
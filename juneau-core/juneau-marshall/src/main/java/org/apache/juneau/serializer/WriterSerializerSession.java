@@ -78,6 +78,20 @@ public abstract class WriterSerializerSession extends SerializerSession {
 		return true;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this session encodes UTF-8 bytes directly when serializing to an {@link OutputStream}.
+	 *
+	 * <p>
+	 * Callers that have both a writer and an output stream available (e.g. servlet responses) can pass the output
+	 * stream to sessions that return <jk>true</jk> when the stream charset is UTF-8 to skip the intermediate
+	 * character-to-byte encoding step of an {@link OutputStreamWriter}.
+	 *
+	 * @return <jk>true</jk> if this session encodes UTF-8 bytes directly when serializing to an {@link OutputStream}.
+	 */
+	public boolean isDirectUtf8Output() {
+		return false;
+	}
+
 	@Override /* SerializerSession */
 	protected SerializerPipe createPipe(Object output) {
 		return new SerializerPipe(output, streamCharset, fileCharset);
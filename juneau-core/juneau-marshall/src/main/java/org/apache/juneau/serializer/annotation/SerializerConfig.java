@@ -146,6 +146,28 @@ public @interface SerializerConfig {
 	 */
 	String addRootType() default "";
 
+	/**
+	 * Configuration property:  Flush interval for streamed sources.
+	 *
+	 * <p>
+	 * Flushes the output after every <c>N</c> elements written from an {@link java.util.Iterator},
+	 * {@link java.util.Enumeration}, {@link java.util.Spliterator}, or {@link java.util.stream.BaseStream}.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Format: integer
+	 * 	<li>
+	 * 		Default: 0 (don't flush until serialization is complete)
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_flushInterval}
+	 * </ul>
+	 */
+	String flushInterval() default "";
+
 	/**
 	 * Configuration property:  Don't trim null bean property values.
 	 *
@@ -188,6 +210,27 @@ public @interface SerializerConfig {
 	 */
 	Class<? extends SerializerListener> listener() default SerializerListener.Null.class;
 
+	/**
+	 * Configuration property:  Parallel chunk size.
+	 *
+	 * <p>
+	 * Serializes large top-level lists in chunks of this many elements concurrently.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Format: integer
+	 * 	<li>
+	 * 		Default: 0 (always serialize sequentially)
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_parallelChunkSize}
+	 * </ul>
+	 */
+	String parallelChunkSize() default "";
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -48,8 +48,10 @@ public class SerializerConfigAnnotation {
 
 			cpb.setIfNotEmpty(SERIALIZER_addBeanTypes, bool(a.addBeanTypes()));
 			cpb.setIfNotEmpty(SERIALIZER_addRootType, bool(a.addRootType()));
+			cpb.setIfNotEmpty(SERIALIZER_flushInterval, integer(a.flushInterval(), "flushInterval"));
 			cpb.setIfNotEmpty(SERIALIZER_keepNullProperties, bool(a.keepNullProperties()));
 			cpb.setIf(a.listener() != SerializerListener.Null.class, SERIALIZER_listener, a.listener());
+			cpb.setIfNotEmpty(SERIALIZER_parallelChunkSize, integer(a.parallelChunkSize(), "parallelChunkSize"));
 			cpb.setIfNotEmpty(SERIALIZER_sortCollections, bool(a.sortCollections()));
 			cpb.setIfNotEmpty(SERIALIZER_sortMaps, bool(a.sortMaps()));
 			cpb.setIfNotEmpty(SERIALIZER_trimEmptyCollections, bool(a.trimEmptyCollections()));
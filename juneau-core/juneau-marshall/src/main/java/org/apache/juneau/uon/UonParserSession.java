@@ -108,6 +108,71 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 		}
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, final ClassMeta<E> elementType) throws Exception {
+		final UonReader r = getUonReader(pipe, decoding);
+		int c = r.readSkipWs();
+		final boolean empty = (c == -1 || c == AMP || c == 'n');
+		if (c == 'n')
+			parseNull(r);
+		else if (! empty) {
+			if (c != '@')
+				throw new ParseException(this, "Could not find '(' marking beginning of collection.");
+			r.read();
+		}
+
+		return new ParserIterator<E>(this, pipe) {
+			final int S1=1; // Looking for starting of first entry.
+			final int S2=2; // Looking for starting of subsequent entries.
+			final int S3=3; // Looking for , or ) after entry.
+			int state = empty ? 0 : S1;
+
+			@Override /* ParserIterator */
+			protected boolean advance() throws Exception {
+				while (state != 0) {
+					int c = r.read();
+					if (state == S1 || state == S2) {
+						if (c == ')') {
+							// A trailing comma denotes an empty last entry.
+							if (state == S2) {
+								r.unread();
+								return true;
+							}
+							break;
+						} else if (c == -1 || c == AMP) {
+							throw new ParseException(UonParserSession.this, "Could not find start of entry in array.");
+						} else if (Character.isWhitespace(c)) {
+							skipSpace(r);
+						} else {
+							r.unread();
+							return true;
+						}
+					} else if (state == S3) {
+						if (c == ',') {
+							state = S2;
+						} else if (c == ')') {
+							break;
+						} else if (c == -1 || c == AMP) {
+							throw new ParseException(UonParserSession.this, "Could not find end of entry in array.");
+						}
+					}
+				}
+				if (state != 0) {
+					state = 0;
+					validateEnd(r);
+				}
+				return false;
+			}
+
+			@Override /* ParserIterator */
+			protected E read() throws Exception {
+				E o = parseAnything(elementType, r, null, false, null);
+				state = S3;
+				return o;
+			}
+		};
+	}
+
 	@Override /* HttpPartParser */
 	public <T> T parse(HttpPartType partType, HttpPartSchema schema, String in, ClassMeta<T> toType) throws ParseException, SchemaValidationException {
 		if (in == null)
@@ -280,8 +345,13 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					o = toArray(sType, l);
 				}
 			} else {
-				ArrayList l = (ArrayList)parseIntoCollection(r, new ArrayList(), sType, isUrlParamValue, pMeta);
-				o = toArray(sType, l);
+				PrimitiveArrayBuilder b = newPrimitiveArrayBuilder(sType);
+				if (b != null) {
+					o = parseIntoCollection(r, b, (ClassMeta)sType, isUrlParamValue, pMeta) == null ? null : b.getArray();
+				} else {
+					ArrayList l = (ArrayList)parseIntoCollection(r, new ArrayList(), sType, isUrlParamValue, pMeta);
+					o = toArray(sType, l);
+				}
 			}
 		} else if (c == '(') {
 			// It could be a non-bean with _type attribute.
@@ -433,16 +503,14 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 				if (state == S1 || state == S2) {
 					if (c == ')') {
 						if (state == S2) {
-							l.add((E)parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(),
-									r.unread(), l, false, pMeta));
+							parseEntry(r.unread(), l, type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), pMeta);
 							r.read();
 						}
 						return l;
 					} else if (Character.isWhitespace(c)) {
 						skipSpace(r);
 					} else {
-						l.add((E)parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(),
-								r.unread(), l, false, pMeta));
+						parseEntry(r.unread(), l, type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), pMeta);
 						state = S3;
 					}
 				} else if (state == S3) {
@@ -469,8 +537,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					if (Character.isWhitespace(c)) {
 						skipSpace(r);
 					} else {
-						l.add((E)parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(),
-								r.unread(), l, false, pMeta));
+						parseEntry(r.unread(), l, type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), pMeta);
 						state = S2;
 					}
 				} else if (state == S2) {
@@ -489,6 +556,24 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 		return null;  // Unreachable.
 	}
 
+	/*
+	 * Parses an array entry into the collection.
+	 * Plain number literals are scanned straight into primitive array builders without boxing them.
+	 */
+	private <E> void parseEntry(UonReader r, Collection<E> l, ClassMeta<?> type, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
+		if (l instanceof PrimitiveArrayBuilder) {
+			NumberScanner ns = scanNumber(r);
+			if (ns != null) {
+				if (((PrimitiveArrayBuilder)l).add(ns)) {
+					skipSpace(r);
+					return;
+				}
+				ns.reset(r);
+			}
+		}
+		l.add((E)parseAnything(type, r, l, false, pMeta));
+	}
+
 	private <T> BeanMap<T> parseIntoBeanMap(UonReader r, BeanMap<T> m) throws IOException, ParseException, ExecutableException {
 
 		int c = r.readSkipWs();
@@ -521,7 +606,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 						else {
 							r.unread();
 							mark();
-							currAttr = parseAttrName(r, decoding);
+							currAttr = parseAttrName(r, decoding, m.getMeta());
 							if (currAttr == null) { // Value was '%00'
 								return null;
 							}
@@ -568,13 +653,15 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 									unmark();
 									setCurrentProperty(pMeta);
 									ClassMeta<?> cm = pMeta.getClassMeta();
-									Object value = parseAnything(cm, r.unread(), m.getBean(false), false, pMeta);
-									setName(cm, value, currAttr);
-									try {
-										pMeta.set(m, currAttr, value);
-									} catch (BeanRuntimeException e) {
-										onBeanSetterException(pMeta, e);
-										throw e;
+									if (! parseIntoPrimitiveProperty(r.unread(), m, pMeta, cm)) {
+										Object value = parseAnything(cm, r, m.getBean(false), false, pMeta);
+										setName(cm, value, currAttr);
+										try {
+											pMeta.set(m, currAttr, value);
+										} catch (BeanRuntimeException e) {
+											onBeanSetterException(pMeta, e);
+											throw e;
+										}
 									}
 									setCurrentProperty(null);
 								}
@@ -638,6 +725,21 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 	 * @throws ParseException Attribute name was malformed.
 	 */
 	protected final String parseAttrName(UonReader r, boolean encoded) throws IOException, ParseException {
+		return parseAttrName(r, encoded, null);
+	}
+
+	/**
+	 * Same as {@link #parseAttrName(UonReader, boolean)} but resolves names of properties on the specified bean
+	 * directly from the reader buffer without creating new strings.
+	 *
+	 * @param r The reader.
+	 * @param encoded Whether the attribute is encoded.
+	 * @param beanMeta The bean whose property names should be resolved.  Can be <jk>null</jk>.
+	 * @return The parsed attribute name.
+	 * @throws IOException Exception thrown by underlying stream.
+	 * @throws ParseException Attribute name was malformed.
+	 */
+	protected final String parseAttrName(UonReader r, boolean encoded, BeanMeta<?> beanMeta) throws IOException, ParseException {
 
 		// If string is of form 'xxx', we're looking for ' at the end.
 		// Otherwise, we're looking for '&' or '=' or WS or -1 denoting the end of this string.
@@ -655,6 +757,9 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					if (c == AMP || c == EQ || c == -1 || Character.isWhitespace(c)) {
 						if (c != -1)
 							r.unread();
+						BeanPropertyMeta pMeta = beanMeta == null ? null : r.getMarkedPropertyMeta(beanMeta, 0, 0);
+						if (pMeta != null)
+							return pMeta.getName();
 						String s = r.getMarked();
 						return ("null".equals(s) ? null : s);
 					}
@@ -672,6 +777,9 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					if (c == '=' || c == -1 || Character.isWhitespace(c)) {
 						if (c != -1)
 							r.unread();
+						BeanPropertyMeta pMeta = beanMeta == null ? null : r.getMarkedPropertyMeta(beanMeta, 0, 0);
+						if (pMeta != null)
+							return pMeta.getName();
 						String s = r.getMarked();
 						return ("null".equals(s) ? null : trim(s));
 					}
@@ -751,6 +859,37 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 
 	private static final AsciiSet endCharsParam = AsciiSet.create(""+AMP), endCharsNormal = AsciiSet.create(",)"+AMP);
 
+	/*
+	 * Scans a plain number literal ending where parseString(r, false) would end it.
+	 * Returns null with the reader left untouched if the value has to go through parseString().
+	 */
+	private NumberScanner scanNumber(UonReader r) throws IOException {
+		int c = r.peekSkipWs();
+		if (! ((c >= '0' && c <= '9') || c == '-'))
+			return null;
+		NumberScanner ns = getNumberScanner();
+		return ns.scan(r, endCharsNormal) ? ns : null;
+	}
+
+	/*
+	 * Parses a plain number literal straight into a primitive int/long/float/double bean property without boxing it.
+	 * Returns false if the value has to go through parseAnything().
+	 */
+	private boolean parseIntoPrimitiveProperty(UonReader r, BeanMap<?> m, BeanPropertyMeta pMeta, ClassMeta<?> cm) throws IOException {
+		Class<?> pc = pMeta.getPrimitiveNumberType(m);
+		if (pc == null || cm.getInnerClass() != pc || cm.getSwap(this) != null)
+			return false;
+		NumberScanner ns = scanNumber(r);
+		if (ns == null)
+			return false;
+		if (setPrimitiveProperty(m, pMeta, pc)) {
+			skipSpace(r);
+			return true;
+		}
+		ns.reset(r);
+		return false;
+	}
+
 
 	/*
 	 * Parses a string of the form "'foo'"
@@ -788,6 +927,15 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 	}
 
 	private Number parseNumber(UonReader r, Class<? extends Number> c) throws IOException, ParseException {
+		NumberScanner ns = scanNumber(r);
+		if (ns != null) {
+			Number n = ns.toNumber(c);
+			if (n != null) {
+				skipSpace(r);
+				return n;
+			}
+			ns.reset(r);
+		}
 		String s = parseString(r, false);
 		if (s == null)
 			return null;
@@ -668,6 +668,12 @@ public class UonSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public UonSerializerBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public UonSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -704,6 +710,12 @@ public class UonSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public UonSerializerBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public UonSerializerBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -716,6 +728,12 @@ public class UonSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public UonSerializerBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public UonSerializerBuilder sortCollections() {
 		super.sortCollections();
@@ -15,6 +15,7 @@ package org.apache.juneau.uon;
 import static org.apache.juneau.internal.IOUtils.*;
 
 import java.io.*;
+import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -130,6 +131,8 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 
 		// Swap if necessary
 		PojoSwap swap = aType.getSwap(this);
+		if (isStreamable(aType, swap))
+			swap = null;
 		if (swap != null) {
 			o = swap(swap, o);
 			sType = swap.getSwapClassMeta(this);
@@ -147,9 +150,11 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 			out.appendBoolean(o);
 		else if (sType.isNumber())
 			out.appendNumber(o);
-		else if (sType.isBean())
-			serializeBeanMap(out, toBeanMap(o), typeName);
-		else if (sType.isUri() || (pMeta != null && pMeta.isUri()))
+		else if (sType.isBean()) {
+			BeanMap<?> m = acquireBeanMap(o);
+			serializeBeanMap(out, m, typeName);
+			returnBeanMap(m);
+		} else if (sType.isUri() || (pMeta != null && pMeta.isUri()))
 			out.appendUri(o);
 		else if (sType.isMap()) {
 			if (o instanceof BeanMap)
@@ -161,7 +166,13 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 			serializeCollection(out, (Collection) o, eType);
 		}
 		else if (sType.isArray()) {
-			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+			if (isPrimitiveNumberArray(sType))
+				serializePrimitiveArray(out, o);
+			else
+				serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+		}
+		else if (sType.isStreamable()) {
+			serializeStream(out, o, eType);
 		}
 		else if (sType.isReader()) {
 			pipe((Reader)o, out);
@@ -211,19 +222,24 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 
 	private SerializerWriter serializeBeanMap(UonWriter out, BeanMap<?> m, String typeName) throws IOException, SerializeException {
 
+		SerializerPlan plan = getSerializerPlan(m);
+		if (plan != null)
+			return serializeBeanMap(out, m, typeName, plan);
+
 		if (! plainTextParams)
 			out.append('(');
 
 		boolean addComma = false;
 
-		for (BeanPropertyValue p : m.getValues(isKeepNullProperties(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null)) {
-			BeanPropertyMeta pMeta = p.getMeta();
+		BeanPropertyValues values = m.readValues(isKeepNullProperties(), typeName);
+		for (int i = 0; i < values.size(); i++) {
+			BeanPropertyMeta pMeta = values.getMeta(i);
 			if (pMeta.canRead()) {
-				ClassMeta<?> cMeta = p.getClassMeta();
+				ClassMeta<?> cMeta = values.getClassMeta(i);
 
-				String key = p.getName();
-				Object value = p.getValue();
-				Throwable t = p.getThrown();
+				String key = values.getName(i);
+				Object value = values.getValue(i);
+				Throwable t = values.getThrown(i);
 				if (t != null)
 					onBeanGetterException(pMeta, t);
 
@@ -249,6 +265,70 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 		return out;
 	}
 
+	/*
+	 * Same as serializeBeanMap() but uses the precomputed serialization plan of the bean.
+	 */
+	private SerializerWriter serializeBeanMap(UonWriter out, BeanMap<?> m, String typeName, SerializerPlan plan) throws IOException, SerializeException {
+
+		if (! plainTextParams)
+			out.append('(');
+
+		boolean addComma = false;
+		if (typeName != null)
+			addComma = serializeBeanProperty(out, plan.getTypeProperty(), typeName, addComma);
+		for (SerializerPlan.Property p : plan.getProperties())
+			addComma = serializeBeanProperty(out, p, getPlanValue(m, p), addComma);
+
+		if (m.size() > 0)
+			out.cre(indent-1);
+		if (! plainTextParams)
+			out.append(')');
+
+		return out;
+	}
+
+	/*
+	 * Serializes a single bean property using its serialization plan.
+	 * Returns true if a comma is needed before the next property.
+	 */
+	private boolean serializeBeanProperty(UonWriter out, SerializerPlan.Property p, Object value, boolean addComma) throws IOException, SerializeException {
+		if (canIgnoreValue(p, value))
+			return addComma;
+
+		if (addComma)
+			out.append(',');
+
+		out.cr(indent).append((String)p.getFormatMeta()).append('=');
+
+		SerializerPlan.Kind k = p.getKind(value);
+		if (k == SerializerPlan.Kind.OTHER) {
+			serializeAnything(out, value, p.getClassMeta(), p.getName(), p.getMeta());
+			return true;
+		}
+
+		Object o = value == null ? null : swap(p.getSwap(), value);
+		if (o == null)
+			out.appendObject(null, false);
+		else if (k == SerializerPlan.Kind.STRING)
+			out.appendObject(o, false);
+		else if (k == SerializerPlan.Kind.NUMBER)
+			out.appendNumber(o);
+		else
+			out.appendBoolean(o);
+		return true;
+	}
+
+	@Override /* SerializerSession */
+	protected Object createPlanFormatMeta(BeanPropertyMeta pMeta) throws SerializeException {
+		try {
+			StringWriter w = new StringWriter();
+			getUonWriter(w).appendObject(pMeta.getName(), false);
+			return w.toString();
+		} catch (Exception e) {
+			throw new SerializeException(this, e);
+		}
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private SerializerWriter serializeCollection(UonWriter out, Collection c, ClassMeta<?> type) throws IOException, SerializeException {
 
@@ -274,6 +354,71 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 		return out;
 	}
 
+	/*
+	 * Writes the elements of an int/long/short/byte/float/double array without boxing them.
+	 * Produces the same output as serializeCollection().
+	 */
+	private SerializerWriter serializePrimitiveArray(UonWriter out, Object array) throws IOException {
+		int length = Array.getLength(array);
+
+		if (! plainTextParams)
+			out.append('@').append('(');
+
+		for (int i = 0; i < length; i++) {
+			out.cr(indent);
+			if (array instanceof int[])
+				out.append(Integer.toString(((int[])array)[i]));
+			else if (array instanceof long[])
+				out.append(Long.toString(((long[])array)[i]));
+			else if (array instanceof double[])
+				out.append(Double.toString(((double[])array)[i]));
+			else if (array instanceof float[])
+				out.append(Float.toString(((float[])array)[i]));
+			else if (array instanceof short[])
+				out.append(Short.toString(((short[])array)[i]));
+			else
+				out.append(Byte.toString(((byte[])array)[i]));
+			if (i < length - 1)
+				out.append(',');
+		}
+
+		if (length > 0)
+			out.cre(indent-1);
+		if (! plainTextParams)
+			out.append(')');
+
+		return out;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private SerializerWriter serializeStream(UonWriter out, Object o, ClassMeta<?> type) throws IOException, SerializeException {
+
+		ClassMeta<?> elementType = type.isStreamable() ? type.getElementType() : object();
+
+		if (! plainTextParams)
+			out.append('@').append('(');
+
+		int count = 0;
+		try {
+			for (Iterator i = toIterator(o); i.hasNext();) {
+				out.cr(indent);
+				serializeAnything(out, i.next(), elementType, "<iterator>", null);
+				if (i.hasNext())
+					out.append(',');
+				flushStreamed(out, ++count);
+			}
+		} finally {
+			closeStreamable(o);
+		}
+
+		if (count > 0)
+			out.cre(indent-1);
+		if (! plainTextParams)
+			out.append(')');
+
+		return out;
+	}
+
 	@Override /* HttpPartSerializer */
 	public String serialize(HttpPartType type, HttpPartSchema schema, Object value) throws SerializeException, SchemaValidationException {
 		try {
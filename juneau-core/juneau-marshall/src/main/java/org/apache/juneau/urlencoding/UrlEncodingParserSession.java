@@ -73,6 +73,11 @@ public class UrlEncodingParserSession extends UonParserSession {
 		}
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) {
+		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
+	}
+
 	@Override /* ReaderParserSession */
 	protected <K,V> Map<K,V> doParseIntoMap(ParserPipe pipe, Map<K,V> m, Type keyType, Type valueType) throws Exception {
 		try (UonReader r = getUonReader(pipe, true)) {
@@ -273,7 +278,7 @@ public class UrlEncodingParserSession extends UonParserSession {
 						}
 						r.unread();
 						mark();
-						currAttr = parseAttrName(r, true);
+						currAttr = parseAttrName(r, true, m.getMeta());
 						if (currAttr == null)  // Value was '%00'
 							return null;
 						state = S2;
@@ -123,7 +123,9 @@ public class UrlEncodingSerializerSession extends UonSerializerSession {
 			else
 				serializeMap(out, (Map)o, sType);
 		} else if (sType.isBean()) {
-			serializeBeanMap(out, toBeanMap(o), typeName);
+			BeanMap<?> m = acquireBeanMap(o);
+			serializeBeanMap(out, m, typeName);
+			returnBeanMap(m);
 		} else if (sType.isCollection() || sType.isArray()) {
 			Map m = sType.isCollection() ? getCollectionMap((Collection)o) : getCollectionMap(o);
 			serializeCollectionMap(out, m, getClassMeta(Map.class, Integer.class, Object.class));
@@ -217,15 +219,16 @@ public class UrlEncodingSerializerSession extends UonSerializerSession {
 	private SerializerWriter serializeBeanMap(UonWriter out, BeanMap<?> m, String typeName) throws IOException, SerializeException {
 		boolean addAmp = false;
 
-		for (BeanPropertyValue p : m.getValues(isKeepNullProperties(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null)) {
-			BeanPropertyMeta pMeta = p.getMeta();
+		BeanPropertyValues values = m.readValues(isKeepNullProperties(), typeName);
+		for (int j = 0; j < values.size(); j++) {
+			BeanPropertyMeta pMeta = values.getMeta(j);
 			if (pMeta.canRead()) {
-				ClassMeta<?> cMeta = p.getClassMeta();
+				ClassMeta<?> cMeta = values.getClassMeta(j);
 				ClassMeta<?> sMeta = cMeta.getSerializedClassMeta(this);
 
-				String key = p.getName();
-				Object value = p.getValue();
-				Throwable t = p.getThrown();
+				String key = values.getName(j);
+				Object value = values.getValue(j);
+				Throwable t = values.getThrown(j);
 				if (t != null)
 					onBeanGetterException(pMeta, t);
 
@@ -25,6 +25,7 @@ import javax.xml.stream.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.transform.*;
 import org.apache.juneau.xml.annotation.*;
@@ -266,6 +267,31 @@ public class XmlParserSession extends ReaderParserSession {
 		return parseIntoCollection(pipe, c, cm.getElementType());
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, final ClassMeta<E> elementType) throws IOException, ParseException {
+		final XmlReader r;
+		try {
+			r = getXmlReader(pipe);
+		} catch (XMLStreamException e) {
+			throw new ParseException(e);
+		}
+		return new ParserIterator<E>(this, pipe) {
+			boolean done;
+
+			@Override /* ParserIterator */
+			protected boolean advance() throws Exception {
+				if (! done)
+					done = r.nextTag() != START_ELEMENT;
+				return ! done;
+			}
+
+			@Override /* ParserIterator */
+			protected E read() throws Exception {
+				return parseAnything(elementType, null, r, null, false, null);
+			}
+		};
+	}
+
 	/**
 	 * Workhorse method.
 	 *
@@ -381,8 +407,14 @@ public class XmlParserSession extends ReaderParserSession {
 				o = builder != null ? builder.build(this, m.getBean(), eType) : m.getBean();
 			}
 		} else if (sType.isArray() || sType.isArgs()) {
-			ArrayList l = (ArrayList)parseIntoCollection(r, new ArrayList(), sType, pMeta);
-			o = toArray(sType, l);
+			PrimitiveArrayBuilder b = newPrimitiveArrayBuilder(sType);
+			if (b != null) {
+				parseIntoCollection(r, b, sType, pMeta);
+				o = b.getArray();
+			} else {
+				ArrayList l = (ArrayList)parseIntoCollection(r, new ArrayList(), sType, pMeta);
+				o = toArray(sType, l);
+			}
 		} else if (sType.canCreateNewInstanceFromString(outer)) {
 			o = sType.newInstanceFromString(outer, getElementText(r));
 		} else if (sType.getProxyInvocationHandler() != null) {
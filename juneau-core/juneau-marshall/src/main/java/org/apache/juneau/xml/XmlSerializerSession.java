@@ -170,7 +170,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			if (aType.isBeanMap()) {
 				bm = (BeanMap<?>)o;
 			} else if (aType.isBean()) {
-				bm = toBeanMap(o);
+				bm = acquireBeanMap(o);
 			} else if (aType.isDelegate()) {
 				ClassMeta<?> innerType = ((Delegate<?>)o).getClassMeta();
 				Namespace ns = getXmlClassMeta(innerType).getNamespace();
@@ -209,18 +209,20 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					findNsfMappings(o2);
 			}
 			if (bm != null) {
-				for (BeanPropertyValue p : bm.getValues(isKeepNullProperties())) {
+				BeanPropertyValues values = bm.readValues(isKeepNullProperties(), null);
+				for (int i = 0; i < values.size(); i++) {
 
-					Namespace ns = getXmlBeanPropertyMeta(p.getMeta()).getNamespace();
+					Namespace ns = getXmlBeanPropertyMeta(values.getMeta(i)).getNamespace();
 					if (ns != null && ns.uri != null)
 						addNamespace(ns);
 
 					try {
-						findNsfMappings(p.getValue());
+						findNsfMappings(values.getValue(i));
 					} catch (Throwable x) {
 						// Ignore
 					}
 				}
+				returnBeanMap(bm);
 			}
 		}
 
@@ -294,6 +296,8 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 			// Swap if necessary
 			PojoSwap swap = aType.getSwap(this);
+			if (isStreamable(aType, swap))
+				swap = null;
 			if (swap != null) {
 				o = swap(swap, o);
 				sType = swap.getSwapClassMeta(this);
@@ -314,8 +318,8 @@ public class XmlSerializerSession extends WriterSerializerSession {
 				isExpectedType = aType.isNumber();
 			else if (eType.isMap())
 				isExpectedType = aType.isMap();
-			else if (eType.isCollectionOrArray())
-				isExpectedType = aType.isCollectionOrArray();
+			else if (eType.isCollectionOrArray() || eType.isStreamable())
+				isExpectedType = aType.isCollectionOrArray() || aType.isStreamable();
 			else
 				isExpectedType = false;
 		}
@@ -347,7 +351,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		} else if (sType.isMapOrBean()) {
 			isCollapsed = getXmlClassMeta(sType).getFormat() == COLLAPSED;
 			type = OBJECT;
-		} else if (sType.isCollectionOrArray()) {
+		} else if (sType.isCollectionOrArray() || sType.isStreamable()) {
 			isCollapsed = (format == COLLAPSED && ! addNamespaceUris);
 			type = ARRAY;
 		} else {
@@ -387,7 +391,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		}
 
 		// Do we need a carriage return after the start tag?
-		boolean cr = o != null && (sType.isMapOrBean() || sType.isCollectionOrArray()) && ! isMixedOrText;
+		boolean cr = o != null && (sType.isMapOrBean() || sType.isCollectionOrArray() || sType.isStreamable()) && ! isMixedOrText;
 
 		String en = elementName;
 		if (en == null && ! isRaw) {
@@ -457,14 +461,16 @@ public class XmlSerializerSession extends WriterSerializerSession {
 				else
 					rc = serializeMap(out, (Map)o, sType, eType.getKeyType(), eType.getValueType(), isMixedOrText);
 			} else if (sType.isBean()) {
-				rc = serializeBeanMap(out, toBeanMap(o), elementNamespace, isCollapsed, isMixedOrText);
+				BeanMap<?> m = acquireBeanMap(o);
+				rc = serializeBeanMap(out, m, elementNamespace, isCollapsed, isMixedOrText);
+				returnBeanMap(m);
 			} else if (sType.isCollection() || (wType != null && wType.isCollection())) {
 				if (isCollapsed)
 					this.indent--;
 				serializeCollection(out, o, sType, eType, pMeta, isMixedOrText);
 				if (isCollapsed)
 					this.indent++;
-			} else if (sType.isArray()) {
+			} else if (sType.isArray() || sType.isStreamable()) {
 				if (isCollapsed)
 					this.indent--;
 				serializeCollection(out, o, sType, eType, pMeta, isMixedOrText);
@@ -514,6 +520,47 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		return xcm.getFormat() == XMLTEXT;
 	}
 
+	/*
+	 * Serializes a simple bean property value as an element using the serialization plan of the bean.
+	 * Produces the same output as serializeAnything() without resolving the type, swap, and namespace of the value.
+	 * Returns false if the value must be serialized through serializeAnything().
+	 */
+	private boolean serializeBeanProperty(XmlWriter out, SerializerPlan.Property p, Object value, XmlFormat format, boolean isMixedOrText) throws IOException, SerializeException {
+		SerializerPlan.Kind k = p.getKind(value);
+		if (k == SerializerPlan.Kind.OTHER || value == null || format.isOneOf(MIXED,MIXED_PWS,TEXT,TEXT_PWS,XMLTEXT))
+			return false;
+
+		Object o = swap(p.getSwap(), value);
+		if (o == null)
+			return false;
+
+		int i = isMixedOrText ? 0 : indent;
+		String en = (String)p.getFormatMeta();
+		out.oTag(i, null, en, false).append('>');
+		if (k == SerializerPlan.Kind.STRING)
+			out.text(o, false);
+		else
+			out.append(o);
+		out.ie(0).eTag(null, en, false);
+		if (! isMixedOrText)
+			out.nl(i);
+		return true;
+	}
+
+	@Override /* SerializerSession */
+	protected Object createPlanFormatMeta(BeanPropertyMeta pMeta) throws SerializeException {
+		try {
+			return XmlUtils.encodeElementName(new StringWriter(), pMeta.getName()).toString();
+		} catch (IOException e) {
+			throw new SerializeException(this, e);
+		}
+	}
+
+	@Override /* SerializerSession */
+	protected boolean isPlanScalar(ClassMeta<?> sType) {
+		return ! (isEnableNamespaces() || isXmlText(XmlFormat.DEFAULT, sType));
+	}
+
 	private ContentResult serializeMap(XmlWriter out, Map m, ClassMeta<?> sType,
 			ClassMeta<?> eKeyType, ClassMeta<?> eValueType, boolean isMixed) throws IOException, SerializeException {
 
@@ -551,7 +598,8 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		boolean hasChildren = false;
 		BeanMeta<?> bm = m.getMeta();
 
-		List<BeanPropertyValue> lp = m.getValues(isKeepNullProperties());
+		BeanPropertyValues lp = m.readValues(isKeepNullProperties(), null);
+		SerializerPlan plan = getSerializerPlan(m);
 
 		XmlBeanMeta xbm = getXmlBeanMeta(bm);
 
@@ -567,16 +615,16 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 		Object content = null;
 		ClassMeta<?> contentType = null;
-		for (BeanPropertyValue p : lp) {
-			String n = p.getName();
+		for (int i = 0; i < lp.size(); i++) {
+			String n = lp.getName(i);
 			if (attrs.contains(n) || attrs.contains("*") || n.equals(attrsProperty)) {
-				BeanPropertyMeta pMeta = p.getMeta();
+				BeanPropertyMeta pMeta = lp.getMeta(i);
 				if (pMeta.canRead()) {
-					ClassMeta<?> cMeta = p.getClassMeta();
+					ClassMeta<?> cMeta = lp.getClassMeta(i);
 
-					String key = p.getName();
-					Object value = p.getValue();
-					Throwable t = p.getThrown();
+					String key = lp.getName(i);
+					Object value = lp.getValue(i);
+					Throwable t = lp.getThrown(i);
 					if (t != null)
 						onBeanGetterException(pMeta, t);
 
@@ -591,10 +639,11 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					} else if (n.equals(attrsProperty)) {
 						if (value instanceof BeanMap) {
 							BeanMap<?> bm2 = (BeanMap)value;
-							for (BeanPropertyValue p2 : bm2.getValues(false)) {
-								String key2 = p2.getName();
-								Object value2 = p2.getValue();
-								Throwable t2 = p2.getThrown();
+							BeanPropertyValues lp2 = bm2.readValues(false, null);
+							for (int j = 0; j < lp2.size(); j++) {
+								String key2 = lp2.getName(j);
+								Object value2 = lp2.getValue(j);
+								Throwable t2 = lp2.getThrown(j);
 								if (t2 != null)
 									onBeanGetterException(pMeta, t);
 								out.attr(ns, key2, value2);
@@ -617,15 +666,15 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			preserveWhitespace = false,
 			isVoidElement = xbm.getContentFormat() == VOID;
 
-		for (BeanPropertyValue p : lp) {
-			BeanPropertyMeta pMeta = p.getMeta();
+		for (int i = 0; i < lp.size(); i++) {
+			BeanPropertyMeta pMeta = lp.getMeta(i);
 			if (pMeta.canRead()) {
-				ClassMeta<?> cMeta = p.getClassMeta();
+				ClassMeta<?> cMeta = lp.getClassMeta(i);
 
-				String n = p.getName();
+				String n = lp.getName(i);
 				if (n.equals(contentProperty)) {
-					content = p.getValue();
-					contentType = p.getClassMeta();
+					content = lp.getValue(i);
+					contentType = lp.getClassMeta(i);
 					hasContent = true;
 					cf = xbm.getContentFormat();
 					if (cf.isOneOf(MIXED,MIXED_PWS,TEXT,TEXT_PWS,XMLTEXT))
@@ -637,9 +686,9 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					else if (contentType.isArray() && Array.getLength(content) == 0)
 						hasContent = false;
 				} else if (elements.contains(n) || collapsedElements.contains(n) || elements.contains("*") || collapsedElements.contains("*") ) {
-					String key = p.getName();
-					Object value = p.getValue();
-					Throwable t = p.getThrown();
+					String key = lp.getName(i);
+					Object value = lp.getValue(i);
+					Throwable t = lp.getThrown(i);
 					if (t != null)
 						onBeanGetterException(pMeta, t);
 
@@ -652,7 +701,9 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					}
 
 					XmlBeanPropertyMeta bpXml = getXmlBeanPropertyMeta(pMeta);
-					serializeAnything(out, value, cMeta, key, null, bpXml.getNamespace(), false, bpXml.getXmlFormat(), isMixedOrText, false, pMeta);
+					SerializerPlan.Property pp = plan == null ? null : plan.getProperty(pMeta);
+					if (pp == null || ! serializeBeanProperty(out, pp, value, bpXml.getXmlFormat(), isMixedOrText))
+						serializeAnything(out, value, cMeta, key, null, bpXml.getNamespace(), false, bpXml.getXmlFormat(), isMixedOrText, false, pMeta);
 				}
 			}
 		}
@@ -689,9 +740,15 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 		ClassMeta<?> eeType = eType.getElementType();
 
-		Collection c = (sType.isCollection() ? (Collection)in : toList(sType.getInnerClass(), in));
-
-		c = sort(c);
+		boolean isStream = sType.isStreamable();
+		boolean isPrimitiveArray = ! isStream && isPrimitiveNumberArray(sType);
+		Iterator i = null;
+		if (isStream) {
+			i = toIterator(in);
+		} else if (! isPrimitiveArray) {
+			Collection c = (sType.isCollection() ? (Collection)in : toList(sType.getInnerClass(), in));
+			i = sort(c).iterator();
+		}
 
 		String type2 = null;
 
@@ -704,9 +761,24 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			eNs = bpXml.getNamespace();
 		}
 
-		for (Iterator i = c.iterator(); i.hasNext();) {
-			Object value = i.next();
-			serializeAnything(out, value, eeType, null, eName, eNs, false, XmlFormat.DEFAULT, isMixed, false, null);
+		// Primitive number arrays are read in place instead of being copied into a list first.
+		if (isPrimitiveArray) {
+			for (int j = 0, n = Array.getLength(in); j < n; j++)
+				serializeAnything(out, Array.get(in, j), eeType, null, eName, eNs, false, XmlFormat.DEFAULT, isMixed, false, null);
+			return out;
+		}
+
+		int count = 0;
+		try {
+			while (i.hasNext()) {
+				Object value = i.next();
+				serializeAnything(out, value, eeType, null, eName, eNs, false, XmlFormat.DEFAULT, isMixed, false, null);
+				if (isStream)
+					flushStreamed(out, ++count);
+			}
+		} finally {
+			if (isStream)
+				closeStreamable(in);
 		}
 		return out;
 	}
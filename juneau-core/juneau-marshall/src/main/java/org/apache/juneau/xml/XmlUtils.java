@@ -388,12 +388,18 @@ public final class XmlUtils {
 		if (s == null) return null;
 		if (s.length() == 0)
 			return s;
-		if (s.indexOf('_') == -1)
+
+		// Names such as "foo_bar" contain underscores but no escape sequences, so return them as-is.
+		int start = s.indexOf('_');
+		while (start != -1 && ! isEscapeSequence(s, start))
+			start = s.indexOf('_', start+1);
+		if (start == -1)
 			return s;
 
 		if (sb == null)
 			sb = new StringBuilder(s.length());
-		for (int i = 0; i < s.length(); i++) {
+		sb.append(s, 0, start);
+		for (int i = start; i < s.length(); i++) {
 			char c = s.charAt(i);
 			if (c == '_' && isEscapeSequence(s,i)) {
 
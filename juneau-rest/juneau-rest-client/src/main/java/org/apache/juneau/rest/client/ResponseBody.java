@@ -750,6 +750,70 @@ public class ResponseBody implements HttpEntity {
 		}
 	}
 
+	/**
+	 * Returns an iterator that lazily parses the elements of a collection in the response body.
+	 *
+	 * <p>
+	 * Unlike {@link #asType(Type, Type...)}, elements are parsed one at a time as the iterator is advanced so that
+	 * large response bodies are never fully materialized in memory.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; <jv>i</jv> = <jv>client</jv>.get(<jsf>URI</jsf>).run().getBody().asIterator(MyBean.<jk>class</jk>)) {
+	 * 		<jk>while</jk> (<jv>i</jv>.hasNext())
+	 * 			process(<jv>i</jv>.next());
+	 * 	}
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		The iterator should be closed if it is not read to the end so that the underlying connection is released.
+	 * 	<li>
+	 * 		Only supported for parsers that implement {@link ParserSession#parseIterator(Object, Class)}.
+	 * </ul>
+	 *
+	 * @param <E> The element type.
+	 * @param elementType The element type.
+	 * @return A new iterator over the elements in the body.
+	 * @throws RestCallException
+	 * 	<ul>
+	 * 		<li>If no parser matches the response content type.
+	 * 		<li>If the start of the input could not be parsed.
+	 * 		<li>If a connection error occurred.
+	 * 	</ul>
+	 */
+	public <E> ParserIterator<E> asIterator(Class<E> elementType) throws RestCallException {
+		try {
+			String ct = firstNonEmpty(response.getResponseHeader("Content-Type").orElse("text/plain"));
+
+			if (parser == null)
+				parser = client.getMatchingParser(ct);
+
+			if (parser == null)
+				throw new ParseException("Unsupported media-type in request header ''Content-Type'': ''{0}''", ct);
+
+			ParserSessionArgs pArgs =
+				ParserSessionArgs
+					.create()
+					.properties(new OMap().inner(request.getSessionProperties().asMap()))
+					.locale(response.getLocale())
+					.mediaType(MediaType.of(ct))
+					.schema(schema);
+
+			Closeable in = parser.isReaderParser() ? asReader() : asInputStream();
+			try {
+				return parser.createSession(pArgs).parseIterator(in, elementType).onClose(in);
+			} catch (ParseException | RuntimeException e) {
+				in.close();
+				throw e;
+			}
+
+		} catch (ParseException | IOException e) {
+			response.close();
+			throw new RestCallException(response, e, "Could not parse response body.");
+		}
+	}
+
 	/**
 	 * Same as {@link #asType(Class)} but allows you to run the call asynchronously.
 	 *
@@ -51,6 +51,8 @@ import org.apache.http.impl.conn.*;
 import org.apache.http.protocol.*;
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.cbor.*;
+import org.apache.juneau.compact.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.http.header.*;
 import org.apache.juneau.http.part.*;
@@ -226,6 +228,53 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return serializer(SimpleJsonSerializer.class).parser(SimpleJsonParser.class);
 	}
 
+	/**
+	 * Convenience method for specifying NDJSON (newline-delimited JSON) as the marshalling transmission media type.
+	 *
+	 * <p>
+	 * NDJSON writes each element of a top-level collection or stream as a separate line, making it well suited for
+	 * large or incrementally-produced result sets.
+	 *
+	 * <p>
+	 * 	{@link NdJsonSerializer} will be used to serialize POJOs to request bodies unless overridden per request via {@link RestRequest#serializer(Serializer)}.
+	 * 	<ul>
+	 * 		<li>The serializer can be configured using any of the serializer property setters (e.g. {@link #sortCollections()}),
+	 * 			bean context property setters (e.g. {@link #swaps(Object...)}), or generic property setters (e.g. {@link #set(String, Object)}) defined on this builder class.
+	 * 	</ul>
+	 * <p>
+	 * 	{@link NdJsonParser} will be used to parse POJOs from response bodies unless overridden per request via {@link RestRequest#parser(Parser)}.
+	 * 	<ul>
+	 * 		<li>The parser can be configured using any of the parser property setters (e.g. {@link #strict()}),
+	 * 			bean context property setters (e.g. {@link #swaps(Object...)}), or generic property setters (e.g. {@link #set(String, Object)}) defined on this builder class.
+	 * 	</ul>
+	 * <p>
+	 * 	<c>Accept</c> request header will be set to <js>"application/x-ndjson"</js> unless overridden
+	 * 		by {@link #header(String,Object)} or {@link #accept(Object)}, or per-request via {@link RestRequest#header(String,Object)} or {@link RestRequest#accept(Object)}.
+	 * <p>
+	 * 	<c>Content-Type</c> request header will be set to <js>"application/x-ndjson"</js> unless overridden
+	 * 		by {@link #header(String,Object)} or {@link #contentType(Object)}, or per-request via {@link RestRequest#header(String,Object)} or {@link RestRequest#contentType(Object)}.
+	 * <p>
+	 * 	Can be combined with other marshaller setters such as {@link #json()} to provide support for multiple languages.
+	 * 	<ul>
+	 * 		<li>When multiple languages are supported, the <c>Accept</c> and <c>Content-Type</c> headers control which marshallers are used, or uses the
+	 * 		last-enabled language if the headers are not set.
+	 * 	</ul>
+	 * <p>
+	 * 	Identical to calling <c>serializer(NdJsonSerializer.<jk>class</jk>).parser(NdJsonParser.<jk>class</jk>)</c>.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Construct a client that uses NDJSON marshalling.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient.<jsm>create</jsm>().ndJson().build();
+	 * </p>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder ndJson() {
+		return serializer(NdJsonSerializer.class).parser(NdJsonParser.class);
+	}
+
 	/**
 	 * Convenience method for specifying XML as the marshalling transmission media type.
 	 *
@@ -500,6 +549,99 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return serializer(MsgPackSerializer.class).parser(MsgPackParser.class);
 	}
 
+	/**
+	 * Convenience method for specifying CBOR as the marshalling transmission media type.
+	 *
+	 * <p>
+	 * CBOR (RFC 8949) is a binary equivalent to JSON similar to MessagePack.
+	 *
+	 * <p>
+	 * 	{@link CborSerializer} will be used to serialize POJOs to request bodies unless overridden per request via {@link RestRequest#serializer(Serializer)}.
+	 * 	<ul>
+	 * 		<li>The serializer can be configured using any of the serializer property setters (e.g. {@link #sortCollections()}),
+	 * 			bean context property setters (e.g. {@link #swaps(Object...)}), or generic property setters (e.g. {@link #set(String, Object)}) defined on this builder class.
+	 * 	</ul>
+	 * <p>
+	 * 	{@link CborParser} will be used to parse POJOs from response bodies unless overridden per request via {@link RestRequest#parser(Parser)}.
+	 * 	<ul>
+	 * 		<li>The parser can be configured using any of the parser property setters (e.g. {@link #strict()}),
+	 * 			bean context property setters (e.g. {@link #swaps(Object...)}), or generic property setters (e.g. {@link #set(String, Object)}) defined on this builder class.
+	 * 	</ul>
+	 * <p>
+	 * 	<c>Accept</c> request header will be set to <js>"application/cbor"</js> unless overridden
+	 * 		by {@link #header(String,Object)} or {@link #accept(Object)}, or per-request via {@link RestRequest#header(String,Object)} or {@link RestRequest#accept(Object)}.
+	 * <p>
+	 * 	<c>Content-Type</c> request header will be set to <js>"application/cbor"</js> unless overridden
+	 * 		by {@link #header(String,Object)} or {@link #contentType(Object)}, or per-request via {@link RestRequest#header(String,Object)} or {@link RestRequest#contentType(Object)}.
+	 * <p>
+	 * 	Can be combined with other marshaller setters such as {@link #json()} to provide support for multiple languages.
+	 * 	<ul>
+	 * 		<li>When multiple languages are supported, the <c>Accept</c> and <c>Content-Type</c> headers control which marshallers are used, or uses the
+	 * 		last-enabled language if the headers are not set.
+	 * 	</ul>
+	 * <p>
+	 * 	Identical to calling <c>serializer(CborSerializer.<jk>class</jk>).parser(CborParser.<jk>class</jk>)</c>.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Construct a client that uses CBOR marshalling.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient.<jsm>create</jsm>().cbor().build();
+	 * </p>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder cbor() {
+		return serializer(CborSerializer.class).parser(CborParser.class);
+	}
+
+	/**
+	 * Convenience method for specifying the compact binary format as the marshalling transmission media type.
+	 *
+	 * <p>
+	 * The compact binary format is similar to MessagePack but identifies bean properties by ordinal instead of by name,
+	 * making it well suited for service-to-service traffic where both sides share the same bean classes.
+	 *
+	 * <p>
+	 * 	{@link CompactSerializer} will be used to serialize POJOs to request bodies unless overridden per request via {@link RestRequest#serializer(Serializer)}.
+	 * 	<ul>
+	 * 		<li>The serializer can be configured using any of the serializer property setters (e.g. {@link #sortCollections()}),
+	 * 			bean context property setters (e.g. {@link #swaps(Object...)}), or generic property setters (e.g. {@link #set(String, Object)}) defined on this builder class.
+	 * 	</ul>
+	 * <p>
+	 * 	{@link CompactParser} will be used to parse POJOs from response bodies unless overridden per request via {@link RestRequest#parser(Parser)}.
+	 * 	<ul>
+	 * 		<li>The parser can be configured using any of the parser property setters (e.g. {@link #strict()}),
+	 * 			bean context property setters (e.g. {@link #swaps(Object...)}), or generic property setters (e.g. {@link #set(String, Object)}) defined on this builder class.
+	 * 	</ul>
+	 * <p>
+	 * 	<c>Accept</c> request header will be set to <js>"octal/compact"</js> unless overridden
+	 * 		by {@link #header(String,Object)} or {@link #accept(Object)}, or per-request via {@link RestRequest#header(String,Object)} or {@link RestRequest#accept(Object)}.
+	 * <p>
+	 * 	<c>Content-Type</c> request header will be set to <js>"octal/compact"</js> unless overridden
+	 * 		by {@link #header(String,Object)} or {@link #contentType(Object)}, or per-request via {@link RestRequest#header(String,Object)} or {@link RestRequest#contentType(Object)}.
+	 * <p>
+	 * 	Can be combined with other marshaller setters such as {@link #json()} to provide support for multiple languages.
+	 * 	<ul>
+	 * 		<li>When multiple languages are supported, the <c>Accept</c> and <c>Content-Type</c> headers control which marshallers are used, or uses the
+	 * 		last-enabled language if the headers are not set.
+	 * 	</ul>
+	 * <p>
+	 * 	Identical to calling <c>serializer(CompactSerializer.<jk>class</jk>).parser(CompactParser.<jk>class</jk>)</c>.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Construct a client that uses compact binary marshalling.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient.<jsm>create</jsm>().compact().build();
+	 * </p>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder compact() {
+		return serializer(CompactSerializer.class).parser(CompactParser.class);
+	}
+
 	/**
 	 * Convenience method for specifying UON as the marshalling transmission media type.
 	 *
@@ -663,7 +805,7 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * 	<c>Content-Type</c> request header must be set by {@link #header(String,Object)} or {@link #contentType(Object)},
 	 * 		or per-request via {@link RestRequest#header(String,Object)} or {@link RestRequest#contentType(Object)} in order for the correct serializer to be selected.
 	 * <p>
-	 * 	Similar to calling <c>json().simpleJson().html().xml().uon().urlEnc().openApi().msgPack().plainText()</c>.
+	 * 	Similar to calling <c>json().simpleJson().ndJson().html().xml().uon().urlEnc().openApi().msgPack().cbor().compact().plainText()</c>.
 	 *
 	 * <h5 class='section'>Example:</h5>
 	 * <p class='bcode w800'>
@@ -679,23 +821,29 @@ public class RestClientBuilder extends BeanContextBuilder {
 			serializers(
 				JsonSerializer.class,
 				SimpleJsonSerializer.class,
+				NdJsonSerializer.class,
 				HtmlSerializer.class,
 				XmlSerializer.class,
 				UonSerializer.class,
 				UrlEncodingSerializer.class,
 				OpenApiSerializer.class,
 				MsgPackSerializer.class,
+				CborSerializer.class,
+				CompactSerializer.class,
 				PlainTextSerializer.class
 			)
 			.parsers(
 				JsonParser.class,
 				SimpleJsonParser.class,
+				NdJsonParser.class,
 				XmlParser.class,
 				HtmlParser.class,
 				UonParser.class,
 				UrlEncodingParser.class,
 				OpenApiParser.class,
 				MsgPackParser.class,
+				CborParser.class,
+				CompactParser.class,
 				PlainTextParser.class
 			);
 	}
@@ -3711,6 +3859,37 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(SERIALIZER_addRootType);
 	}
 
+	/**
+	 * <i><l>Serializer</l> configuration property:&emsp;</i>  Flush interval for streamed sources.
+	 *
+	 * <p>
+	 * When serializing {@link java.util.Iterator}, {@link java.util.Enumeration}, {@link java.util.Spliterator}, and
+	 * {@link java.util.stream.BaseStream} request bodies, flushes the output after every <c>N</c> elements written.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a REST client with JSON serializer that flushes every 100 streamed elements.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.json()
+	 * 		.flushInterval(100)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_flushInterval}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <c>0</c> (don't flush until serialization is complete).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder flushInterval(int value) {
+		return set(SERIALIZER_flushInterval, value);
+	}
+
 	/**
 	 * <i><l>Serializer</l> configuration property:&emsp;</i>  Don't trim null bean property values.
 	 *
@@ -3752,6 +3931,38 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(SERIALIZER_keepNullProperties);
 	}
 
+	/**
+	 * <i><l>Serializer</l> configuration property:&emsp;</i>  Parallel chunk size.
+	 *
+	 * <p>
+	 * When serializing a {@link java.util.RandomAccess} list or object array request body with more elements than
+	 * this value, serializes chunks of elements concurrently and writes them in their original order.
+	 * <br>Currently supported by the JSON, MessagePack, and CSV serializers.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a REST client with JSON serializer that serializes large lists in chunks of 10000 elements.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.json()
+	 * 		.parallelChunkSize(10000)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_parallelChunkSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <c>0</c> (always serialize sequentially).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder parallelChunkSize(int value) {
+		return set(SERIALIZER_parallelChunkSize, value);
+	}
+
 	/**
 	 * <i><l>Serializer</l> configuration property:&emsp;</i>  Sort arrays and collections alphabetically.
 	 *
@@ -5064,6 +5275,12 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public RestClientBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	// </FluentSetters>
 
 	//------------------------------------------------------------------------------------------------
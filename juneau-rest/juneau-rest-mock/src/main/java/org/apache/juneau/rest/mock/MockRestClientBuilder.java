@@ -637,6 +637,12 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public MockRestClientBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder accept(Object value) {
 		super.accept(value);
@@ -733,12 +739,24 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder cbor() {
+		super.cbor();
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder clientVersion(Object value) {
 		super.clientVersion(value);
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder compact() {
+		super.compact();
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder connection(Object value) {
 		super.connection(value);
@@ -1189,6 +1207,12 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder flushInterval(int value) {
+		super.flushInterval(value);
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder keepNullProperties() {
 		super.keepNullProperties();
@@ -1267,6 +1291,12 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder ndJson() {
+		super.ndJson();
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder noLog() {
 		super.noLog();
@@ -1297,6 +1327,12 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder parallelChunkSize(int value) {
+		super.parallelChunkSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder paramFormat(ParamFormat value) {
 		super.paramFormat(value);
@@ -226,6 +226,53 @@ public class RequestBody {
 		return getInner(this.<T>getClassMeta(type, args));
 	}
 
+	/**
+	 * Returns an iterator that lazily parses the elements of a collection in the HTTP body.
+	 *
+	 * <p>
+	 * Unlike {@link #asType(Type, Type...)}, elements are parsed one at a time as the iterator is advanced so that
+	 * large request bodies are never fully materialized in memory.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; <jv>i</jv> = req.getBody().asIterator(MyBean.<jk>class</jk>)) {
+	 * 		<jk>while</jk> (<jv>i</jv>.hasNext())
+	 * 			process(<jv>i</jv>.next());
+	 * 	}
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Only supported for parsers that implement {@link ParserSession#parseIterator(Object, Class)}.
+	 * 	<li>
+	 * 		Schema validation is not performed on the individual elements.
+	 * </ul>
+	 *
+	 * @param elementType The element type.
+	 * @param <E> The element type.
+	 * @return A new iterator over the elements in the body.
+	 * @throws BadRequest Thrown if the start of the input could not be parsed.
+	 * @throws UnsupportedMediaType Thrown if the Content-Type header value is not supported by one of the parsers.
+	 * @throws InternalServerError Thrown if an {@link IOException} occurs or the parser does not support iteration.
+	 */
+	public <E> ParserIterator<E> asIterator(Class<E> elementType) throws BadRequest, UnsupportedMediaType, InternalServerError {
+		try {
+			ParserMatch pm = getParserMatch();
+			if (pm == null)
+				throw unsupportedMediaType();
+			ParserSession session = createSession(pm);
+			return session.parseIterator(session.isReaderParser() ? getUnbufferedReader() : getInputStream(), elementType);
+		} catch (UnsupportedMediaType e) {
+			throw e;
+		} catch (ParseException e) {
+			throw new BadRequest(e, "Could not convert request body content to class type ''{0}''.", elementType);
+		} catch (IOException e) {
+			throw new InternalServerError(e, "I/O exception occurred while parsing request body.");
+		} catch (Exception e) {
+			throw new InternalServerError(e, "Exception occurred while parsing request body.");
+		}
+	}
+
 	/**
 	 * Returns the HTTP body content as a plain string.
 	 *
@@ -434,28 +481,13 @@ public class RequestBody {
 		if (cm.isInputStream())
 			return (T)getInputStream();
 
-		Optional<TimeZone> timeZone = req.getTimeZone();
-		Locale locale = req.getLocale();
 		ParserMatch pm = getParserMatch();
 
 		if (schema == null)
 			schema = HttpPartSchema.DEFAULT;
 
 		if (pm != null) {
-			Parser p = pm.getParser();
-			MediaType mediaType = pm.getMediaType();
-			ParserSessionArgs pArgs = ParserSessionArgs
-				.create()
-				.properties(req.getAttributes().asMap())
-				.javaMethod(req.getOpContext().getJavaMethod())
-				.locale(locale)
-				.timeZone(timeZone.orElse(null))
-				.mediaType(mediaType)
-				.streamCharset(req.getCharset())
-				.schema(schema)
-				.debug(req.isDebug() ? true : null)
-				.outer(req.getContext().getResource());
-			ParserSession session = p.createSession(pArgs);
+			ParserSession session = createSession(pm);
 			try (Closeable in = session.isReaderParser() ? getUnbufferedReader() : getInputStream()) {
 				T o = session.parse(in, cm);
 				if (schema != null)
@@ -475,8 +507,27 @@ public class RequestBody {
 		if ((isEmpty(mt) || mt.toString().startsWith("text/plain")) && cm.hasStringMutater())
 			return cm.getStringMutater().mutate(asString());
 
+		throw unsupportedMediaType();
+	}
+
+	private ParserSession createSession(ParserMatch pm) {
+		ParserSessionArgs pArgs = ParserSessionArgs
+			.create()
+			.properties(req.getAttributes().asMap())
+			.javaMethod(req.getOpContext().getJavaMethod())
+			.locale(req.getLocale())
+			.timeZone(req.getTimeZone().orElse(null))
+			.mediaType(pm.getMediaType())
+			.streamCharset(req.getCharset())
+			.schema(schema == null ? HttpPartSchema.DEFAULT : schema)
+			.debug(req.isDebug() ? true : null)
+			.outer(req.getContext().getResource());
+		return pm.getParser().createSession(pArgs);
+	}
+
+	private UnsupportedMediaType unsupportedMediaType() {
 		ContentType ct = req.getContentType();
-		throw new UnsupportedMediaType(
+		return new UnsupportedMediaType(
 			"Unsupported media-type in request header ''Content-Type'': ''{0}''\n\tSupported media-types: {1}",
 			ct.isPresent() ? ct.asMediaType().orElse(null) : "not-specified", req.getOpContext().getParsers().getSupportedMediaTypes()
 		);
@@ -35,6 +35,7 @@ public class RestChildren {
 	}
 
 	private final Map<String,RestContext> children = Collections.synchronizedMap(new LinkedHashMap<String,RestContext>());
+	private final UrlPathMatcherTrie<RestContext> index = new UrlPathMatcherTrie<>();
 
 	/**
 	 * Creates a new builder for this object.
@@ -53,20 +54,26 @@ public class RestChildren {
 	public RestChildren(RestChildrenBuilder builder) {
 		for (RestContext rc : builder.list)
 			children.put(rc.getPath(), rc);
+		for (RestContext rc : children.values())
+			index.add(rc.getPathMatcher(), rc);
 	}
 
 	/**
 	 * Looks through the registered children of this object and returns the best match.
 	 *
+	 * <p>
+	 * Only children whose path patterns could match the path of the call are evaluated.
+	 *
 	 * @param call The HTTP call.
 	 * @return The child that best matches the call, or an empty {@link Optional} if a match could not be made.
 	 */
 	public Optional<RestChildMatch> findMatch(RestCall call) {
 		String pi = call.getPathInfoUndecoded();
 		if ((! children.isEmpty()) && pi != null && ! pi.equals("/")) {
-			for (RestContext rc : children.values()) {
+			UrlPath p = call.getUrlPath();
+			for (RestContext rc : index.find(p)) {
 				UrlPathMatcher upp = rc.getPathMatcher();
-				UrlPathMatch uppm = upp.match(call.getUrlPath());
+				UrlPathMatch uppm = upp.match(p);
 				if (uppm != null) {
 					return Optional.of(RestChildMatch.create(uppm, rc));
 				}
@@ -6455,7 +6455,7 @@ public class RestContext extends BeanContext {
 	 * @return The stack trace database.
 	 */
 	public RestContextStats getStats() {
-		return new RestContextStats(startTime, getMethodExecStats());
+		return new RestContextStats(startTime, getMethodExecStats(), CacheStats.getAll());
 	}
 
 	/**
@@ -2647,6 +2647,12 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public RestContextBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	// </FluentSetters>
 
 	//----------------------------------------------------------------------------------------------------
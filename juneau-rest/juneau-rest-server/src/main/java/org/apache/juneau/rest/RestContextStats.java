@@ -22,14 +22,16 @@ import org.apache.juneau.transforms.*;
 /**
  * A snapshot of execution statistics for REST resource classes.
  */
-@Bean(properties="startTime,upTime,methodStats")
+@Bean(properties="startTime,upTime,methodStats,cacheStats")
 public class RestContextStats {
 	private final Instant startTime;
 	private final List<MethodExecStats> methodStats;
+	private final List<CacheStats> cacheStats;
 
-	RestContextStats(Instant startTime, List<MethodExecStats> methodStats) {
+	RestContextStats(Instant startTime, List<MethodExecStats> methodStats, List<CacheStats> cacheStats) {
 		this.startTime = startTime;
 		this.methodStats = methodStats;
+		this.cacheStats = cacheStats;
 	}
 
 	/**
@@ -60,4 +62,13 @@ public class RestContextStats {
 	public Collection<MethodExecStats> getMethodStats() {
 		return methodStats;
 	}
+
+	/**
+	 * Returns statistics on the internal caches (parsed HTTP headers, serializers/parsers, bean metadata).
+	 *
+	 * @return Statistics on the internal caches.
+	 */
+	public Collection<CacheStats> getCacheStats() {
+		return cacheStats;
+	}
 }
@@ -1625,6 +1625,15 @@ public class RestOperationContext extends BeanContext implements Comparable<Rest
 		return pathMatchers[0].toString();
 	}
 
+	/**
+	 * Returns the path matchers for this method.
+	 *
+	 * @return The path matchers for this method.  Modifying the returned array does not modify this object.
+	 */
+	public UrlPathMatcher[] getPathMatchers() {
+		return Arrays.copyOf(pathMatchers, pathMatchers.length);
+	}
+
 
 	/**
 	 * Bean property getter:  <property>serializers</property>.
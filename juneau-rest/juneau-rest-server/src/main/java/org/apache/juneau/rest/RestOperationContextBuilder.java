@@ -967,5 +967,11 @@ public class RestOperationContextBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public RestOperationContextBuilder useMethodHandles() {
+		super.useMethodHandles();
+		return this;
+	}
+
 	// </FluentSetters>
 }
\ No newline at end of file
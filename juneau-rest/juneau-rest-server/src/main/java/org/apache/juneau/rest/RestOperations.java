@@ -17,6 +17,7 @@ import java.util.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.http.response.*;
 import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.util.*;
 
 /**
  * Encapsulates the set of {@link RestOp}-annotated methods within a single {@link Rest}-annotated object.
@@ -33,7 +34,8 @@ public class RestOperations {
 		}
 	}
 
-	private final Map<String,List<RestOperationContext>> map;
+	private final Map<String,UrlPathMatcherTrie<RestOperationContext>> map;
+	private final UrlPathMatcherTrie<RestOperationContext> all;
 	private List<RestOperationContext> list;
 
 	/**
@@ -51,16 +53,28 @@ public class RestOperations {
 	 * @param builder The builder containing the settings for this object.
 	 */
 	public RestOperations(RestOperationsBuilder builder) {
-		AMap<String,List<RestOperationContext>> m = AMap.create();
+		AMap<String,UrlPathMatcherTrie<RestOperationContext>> m = AMap.create();
 		for (Map.Entry<String,TreeSet<RestOperationContext>> e : builder.map.entrySet())
-			m.put(e.getKey(), AList.of(e.getValue()));
+			m.put(e.getKey(), index(e.getValue()));
 		this.map = m;
 		this.list = AList.of(builder.set);
+		this.all = index(list);
+	}
+
+	private static UrlPathMatcherTrie<RestOperationContext> index(Collection<RestOperationContext> ops) {
+		UrlPathMatcherTrie<RestOperationContext> t = new UrlPathMatcherTrie<>();
+		for (RestOperationContext oc : ops)
+			for (UrlPathMatcher pm : oc.getPathMatchers())
+				t.add(pm, oc);
+		return t;
 	}
 
 	/**
 	 * Finds the method that should handle the specified call.
 	 *
+	 * <p>
+	 * Only methods whose path patterns could match the path of the call are evaluated, in order of precedence.
+	 *
 	 * @param call The HTTP call.
 	 * @return The method that should handle the specified call.
 	 * @throws MethodNotAllowed If no methods implement the requested HTTP method.
@@ -69,10 +83,12 @@ public class RestOperations {
 	 */
 	public RestOperationContext findOperation(RestCall call) throws MethodNotAllowed, PreconditionFailed, NotFound {
 		String m = call.getMethod();
+		UrlPath p = call.getUrlPath();
 
 		int rc = 0;
-		if (map.containsKey(m)) {
-			for (RestOperationContext oc : map.get(m)) {
+		UrlPathMatcherTrie<RestOperationContext> t = map.get(m);
+		if (t != null) {
+			for (RestOperationContext oc : t.find(p)) {
 				int mrc = oc.match(call);
 				if (mrc == 2)
 					return oc;
@@ -80,8 +96,9 @@ public class RestOperations {
 			}
 		}
 
-		if (map.containsKey("*")) {
-			for (RestOperationContext oc : map.get("*")) {
+		t = map.get("*");
+		if (t != null) {
+			for (RestOperationContext oc : t.find(p)) {
 				int mrc = oc.match(call);
 				if (mrc == 2)
 					return oc;
@@ -92,7 +109,7 @@ public class RestOperations {
 		// If no paths matched, see if the path matches any other methods.
 		// Note that we don't want to match against "/*" patterns such as getOptions().
 		if (rc == 0) {
-			for (RestOperationContext oc : list) {
+			for (RestOperationContext oc : all.find(p)) {
 				if (! oc.getPathPattern().endsWith("/*")) {
 					int orc = oc.match(call);
 					if (orc == 2)
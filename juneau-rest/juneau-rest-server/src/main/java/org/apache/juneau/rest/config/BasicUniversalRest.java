@@ -13,6 +13,8 @@
 package org.apache.juneau.rest.config;
 
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.cbor.*;
+import org.apache.juneau.compact.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.html.annotation.*;
 import org.apache.juneau.json.*;
@@ -43,12 +45,15 @@ import org.apache.juneau.xml.*;
 		HtmlSchemaDocSerializer.class,
 		JsonSerializer.class,
 		SimpleJsonSerializer.class,
+		NdJsonSerializer.class,
 		JsonSchemaSerializer.class,
 		XmlDocSerializer.class,
 		UonSerializer.class,
 		UrlEncodingSerializer.class,
 		OpenApiSerializer.class,
 		MsgPackSerializer.class,
+		CborSerializer.class,
+		CompactSerializer.class,
 		SoapXmlSerializer.class,
 		PlainTextSerializer.class
 	},
@@ -57,12 +62,15 @@ import org.apache.juneau.xml.*;
 	parsers={
 		JsonParser.class,
 		SimpleJsonParser.class,
+		NdJsonParser.class,
 		XmlParser.class,
 		HtmlParser.class,
 		UonParser.class,
 		UrlEncodingParser.class,
 		OpenApiParser.class,
 		MsgPackParser.class,
+		CborParser.class,
+		CompactParser.class,
 		PlainTextParser.class
 	},
 
@@ -234,6 +234,12 @@ public class DefaultHandler implements ResponseHandler {
 						os.flush();
 						os.finish();
 					}
+				} else if (! req.isPlainText() && ((WriterSerializerSession)session).isDirectUtf8Output() && UTF8.equals(res.getCharset())) {
+					// Let the serializer encode UTF-8 directly into the stream.
+					FinishableServletOutputStream os = res.getNegotiatedOutputStream();
+					session.serialize(o, os);
+					os.flush();
+					os.finish();
 				} else {
 					FinishablePrintWriter w = res.getNegotiatedWriter();
 					session.serialize(o, w);
@@ -167,6 +167,19 @@ public abstract class UrlPathMatcher implements Comparable<UrlPathMatcher> {
 			return varKeys == null ? new String[0] : Arrays.copyOf(varKeys, varKeys.length);
 		}
 
+		@Override
+		String[] getSegments() {
+			String[] s = new String[parts.length];
+			for (int i = 0; i < parts.length; i++)
+				s[i] = vars[i] != null || "*".equals(parts[i]) ? null : parts[i];
+			return s;
+		}
+
+		@Override
+		boolean hasRemainder() {
+			return hasRemainder;
+		}
+
 		@Override
 		public boolean hasVars() {
 			return varKeys != null;
@@ -215,6 +228,26 @@ public abstract class UrlPathMatcher implements Comparable<UrlPathMatcher> {
 		return false;
 	}
 
+	/**
+	 * Returns the segments of this pattern for indexing by {@link UrlPathMatcherTrie}.
+	 *
+	 * @return
+	 * 	The literal path segments, with <jk>null</jk> entries for segments that match any value (e.g. <js>"{foo}"</js>),
+	 * 	or <jk>null</jk> if this pattern is not matched segment-by-segment (e.g. file name patterns).
+	 */
+	String[] getSegments() {
+		return null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this pattern ends with <js>"/*"</js>.
+	 *
+	 * @return <jk>true</jk> if this pattern ends with <js>"/*"</js>.
+	 */
+	boolean hasRemainder() {
+		return false;
+	}
+
 	/**
 	 * Comparator for this object.
 	 *
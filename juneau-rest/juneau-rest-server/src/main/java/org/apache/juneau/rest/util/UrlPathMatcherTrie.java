@@ -0,0 +1,164 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import java.util.*;
+
+/**
+ * An index of {@link UrlPathMatcher UrlPathMatchers} organized as a tree of path segments.
+ *
+ * <p>
+ * Used to narrow down the patterns that can possibly match a path to those whose literal segments match the path,
+ * in time proportional to the depth of the path instead of the number of patterns.
+ * <br>The candidates returned by {@link #find(UrlPath)} are a superset of the matching patterns, so callers still
+ * need to call {@link UrlPathMatcher#match(UrlPath)} on them.
+ *
+ * <p>
+ * Patterns are indexed as follows:
+ * <ul>
+ * 	<li>Literal segments (e.g. <js>"/foo"</js>) are branches keyed by the segment value.
+ * 	<li>Variable and wildcard segments (e.g. <js>"/{foo}"</js>, <js>"/*&#8203;/foo"</js>) share a single branch
+ * 		that's followed for any segment value.
+ * 	<li>Remainder patterns (e.g. <js>"/foo/*"</js>) are candidates for any path that reaches their node.
+ * 	<li>Patterns that aren't matched segment-by-segment (e.g. file name patterns such as <js>"*.jsp"</js>) are
+ * 		candidates for every path.
+ * </ul>
+ *
+ * <ul class='notes'>
+ * 	<li>This class is not thread safe while being populated, but can be safely shared once populated.
+ * </ul>
+ *
+ * @param <T> The type of value associated with each pattern.
+ */
+public class UrlPathMatcherTrie<T> {
+
+	private static final int[] EMPTY = new int[0];
+
+	private final Node root = new Node();
+	private final List<T> values = new ArrayList<>();
+	private final Map<T,Integer> indexes = new HashMap<>();
+	private int[] always = EMPTY;
+
+	private static class Node {
+		Map<String,Node> literals;
+		Node wildcard;
+		int[] terminals = EMPTY, remainders = EMPTY;
+
+		Node child(String segment) {
+			if (segment == null) {
+				if (wildcard == null)
+					wildcard = new Node();
+				return wildcard;
+			}
+			if (literals == null)
+				literals = new HashMap<>();
+			Node n = literals.get(segment);
+			if (n == null) {
+				n = new Node();
+				literals.put(segment, n);
+			}
+			return n;
+		}
+	}
+
+	/**
+	 * Adds a pattern to this index.
+	 *
+	 * <p>
+	 * Values are returned by {@link #find(UrlPath)} in the order they were first added.
+	 * <br>The same value can be added multiple times with different patterns.
+	 *
+	 * @param matcher The pattern.
+	 * @param value The value associated with the pattern.
+	 * @return This object (for method chaining).
+	 */
+	public UrlPathMatcherTrie<T> add(UrlPathMatcher matcher, T value) {
+		Integer index = indexes.get(value);
+		if (index == null) {
+			index = values.size();
+			values.add(value);
+			indexes.put(value, index);
+		}
+
+		String[] segments = matcher.getSegments();
+		if (segments == null) {
+			always = append(always, index);
+			return this;
+		}
+
+		Node n = root;
+		for (String s : segments)
+			n = n.child(s);
+		if (matcher.hasRemainder())
+			n.remainders = append(n.remainders, index);
+		else
+			n.terminals = append(n.terminals, index);
+		return this;
+	}
+
+	/**
+	 * Returns the values whose patterns could possibly match the specified path.
+	 *
+	 * @param path The path to match against.
+	 * @return The candidate values in the order they were added.  Never <jk>null</jk>.
+	 */
+	public List<T> find(UrlPath path) {
+		if (values.isEmpty())
+			return Collections.emptyList();
+		BitSet bs = new BitSet(values.size());
+		set(bs, always);
+		find(root, path.getParts(), 0, bs);
+		List<T> l = new ArrayList<>(bs.cardinality());
+		for (int i = bs.nextSetBit(0); i >= 0; i = bs.nextSetBit(i+1))
+			l.add(values.get(i));
+		return l;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this index is empty.
+	 *
+	 * @return <jk>true</jk> if this index is empty.
+	 */
+	public boolean isEmpty() {
+		return values.isEmpty();
+	}
+
+	private static void find(Node n, String[] parts, int depth, BitSet bs) {
+		set(bs, n.remainders);
+
+		// Patterns without remainders also match paths with a trailing slash (i.e. a trailing empty part).
+		if (depth == parts.length || (depth == parts.length - 1 && parts[depth].isEmpty()))
+			set(bs, n.terminals);
+
+		if (depth < parts.length) {
+			if (n.literals != null) {
+				Node c = n.literals.get(parts[depth]);
+				if (c != null)
+					find(c, parts, depth+1, bs);
+			}
+			if (n.wildcard != null)
+				find(n.wildcard, parts, depth+1, bs);
+		}
+	}
+
+	private static void set(BitSet bs, int[] indexes) {
+		for (int i : indexes)
+			bs.set(i);
+	}
+
+	private static int[] append(int[] a, int i) {
+		int[] a2 = Arrays.copyOf(a, a.length+1);
+		a2[a.length] = i;
+		return a2;
+	}
+}
@@ -0,0 +1,368 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.config.repository;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.juneau.config.Config;
+import org.apache.juneau.json.JsonSerializer;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
+
+/**
+ * In-memory cache of the configurations served by the config server.
+ *
+ * <p>
+ * A single clone of the remote repository is kept at the local path and refreshed by {@link #sync()}, either called
+ * directly or on an interval by the background loop started with {@link #start(long, TimeUnit)}.
+ * Files are read straight from the fetched remote-tracking refs, so no branch is ever checked out and requests for
+ * different branches never contend on the working copy.
+ *
+ * <p>
+ * Each (project, branch) pair that has been requested is cached as an immutable {@link Entry} holding the parsed
+ * {@link ConfigItem ConfigItems}, their JSON form and an ETag derived from the git blob ids of the files.
+ * Requests are served from the cache without any git I/O, and {@link #await(String, String, String, long, TimeUnit)}
+ * lets clients long-poll until the ETag changes.
+ *
+ * <p>
+ * Since project and branch names come from clients, the cache is bounded.
+ * <br>Projects without a file on the branch are never cached, entries that aren't requested for the idle timeout are
+ * evicted by {@link #sync()}, and once the maximum number of entries is reached new pairs are served without being
+ * cached.
+ */
+public class ConfigCache implements Closeable {
+
+	private static final Logger LOG = Logger.getLogger(ConfigCache.class.getName());
+
+	private static final String APPLICATION = "APPLICATION";
+	private static final String PROJECT = "PROJECT";
+	private static final String EXT = ".cfg";
+
+	private final GitControl gitControl;
+	private final Map<String,Entry> entries = new ConcurrentHashMap<>();
+	private final int maxEntries;
+	private final long idleTimeout;
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * Creates a cache using the <c>GitServer</c> section of the specified config.
+	 *
+	 * <p>
+	 * Starts the background sync loop with the interval (in seconds) from <c>GitServer/syncInterval</c>, default
+	 * <c>30</c>.
+	 * <br>The cache is bounded by <c>GitServer/maxEntries</c>, default <c>1000</c>, and
+	 * <c>GitServer/idleTimeout</c> (in seconds), default <c>600</c>.
+	 *
+	 * @param config The server config.
+	 * @return A new started cache.
+	 * @throws IOException Thrown by jgit.
+	 * @throws GitAPIException Thrown by jgit.
+	 */
+	public static ConfigCache create(Config config) throws IOException, GitAPIException {
+		String pathLocal = config.getString("GitServer/pathLocal");
+		String gitRemote = config.getString("GitServer/gitRemote");
+		int syncInterval = config.getInt("GitServer/syncInterval", 30);
+		int maxEntries = config.getInt("GitServer/maxEntries", 1000);
+		int idleTimeout = config.getInt("GitServer/idleTimeout", 600);
+		return new ConfigCache(pathLocal, gitRemote, maxEntries, idleTimeout, TimeUnit.SECONDS).start(syncInterval, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Same as {@link #ConfigCache(String, String, int, long, TimeUnit)} with at most <c>1000</c> entries and an idle
+	 * timeout of <c>10</c> minutes.
+	 *
+	 * @param pathLocal The local path of the clone.
+	 * @param gitRemote The URI of the remote repository.
+	 * @throws IOException Thrown by jgit.
+	 * @throws GitAPIException Thrown by jgit.
+	 */
+	public ConfigCache(String pathLocal, String gitRemote) throws IOException, GitAPIException {
+		this(pathLocal, gitRemote, 1000, 10, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Clones the remote repository if the local path doesn't exist yet, otherwise fetches from it.
+	 *
+	 * @param pathLocal The local path of the clone.
+	 * @param gitRemote The URI of the remote repository.
+	 * @param maxEntries The maximum number of cached (project, branch) pairs.
+	 * @param idleTimeout How long an entry stays cached without being requested.
+	 * @param unit The unit of the idle timeout.
+	 * @throws IOException Thrown by jgit.
+	 * @throws GitAPIException Thrown by jgit.
+	 */
+	public ConfigCache(String pathLocal, String gitRemote, int maxEntries, long idleTimeout, TimeUnit unit) throws IOException, GitAPIException {
+		this.maxEntries = maxEntries;
+		this.idleTimeout = unit.toNanos(idleTimeout);
+		gitControl = new GitControl(pathLocal, gitRemote);
+		if (new File(pathLocal).isDirectory())
+			gitControl.fetchFromRepo();
+		else
+			gitControl.cloneRepo();
+	}
+
+	/**
+	 * Starts the background loop that calls {@link #sync()} at the specified interval.
+	 *
+	 * @param interval The interval between the end of one sync and the start of the next.
+	 * @param unit The unit of the interval.
+	 * @return This object.
+	 */
+	public synchronized ConfigCache start(long interval, TimeUnit unit) {
+		if (scheduler == null) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread t = new Thread(r, "juneau-sc-sync");
+				t.setDaemon(true);
+				return t;
+			});
+			scheduler.scheduleWithFixedDelay(() -> {
+				try {
+					sync();
+				} catch (Exception e) {
+					LOG.log(Level.WARNING, "Could not sync configurations from remote repository.", e);
+				}
+			}, interval, interval, unit);
+		}
+		return this;
+	}
+
+	/**
+	 * Fetches from the remote repository and refreshes every cached entry whose files changed.
+	 *
+	 * <p>
+	 * Entries whose ETag changes are replaced and their waiting long-poll requests are released.
+	 * <br>Entries that weren't requested for the idle timeout, or whose branch or project file no longer exists, are
+	 * evicted.
+	 *
+	 * @throws IOException Thrown by jgit.
+	 * @throws GitAPIException Thrown by jgit.
+	 */
+	public synchronized void sync() throws IOException, GitAPIException {
+		gitControl.fetchFromRepo();
+		long now = System.nanoTime();
+		for (Entry e : entries.values()) {
+			String key = key(e.project, e.branch);
+			if (now - e.lastAccess > idleTimeout) {
+				entries.remove(key);
+				e.next.complete(e);
+				continue;
+			}
+			Entry e2 = load(e.project, e.branch, e);
+			if (e2 == null || ! e2.hasProject()) {
+				entries.remove(key);
+				e.next.complete(e2);
+			} else if (e2 != e) {
+				e2.lastAccess = e.lastAccess;
+				entries.put(key, e2);
+				if (e2.next != e.next)
+					e.next.complete(e2);
+			}
+		}
+	}
+
+	/**
+	 * Returns the cached configurations of the specified project and branch.
+	 *
+	 * <p>
+	 * The first request for a pair reads it from the last fetched state of the repository, later ones are served
+	 * from memory.
+	 * <br>Pairs whose project file doesn't exist on the branch, and new pairs once the cache is full, are read every
+	 * time.
+	 *
+	 * @param project The project name.
+	 * @param branch The branch name.
+	 * @return The cached entry, or <jk>null</jk> if the branch does not exist on the remote.
+	 * @throws IOException Thrown by jgit.
+	 */
+	public Entry get(String project, String branch) throws IOException {
+		String key = key(project, branch);
+		Entry e = entries.get(key);
+		if (e == null) {
+			e = load(project, branch, null);
+			if (e != null) {
+				if (e.hasProject() && entries.size() < maxEntries) {
+					Entry e2 = entries.putIfAbsent(key, e);
+					if (e2 != null)
+						e = e2;
+				} else {
+					// Uncached entries are never refreshed by sync(), so nothing else would release long-polls on them.
+					e.next.complete(e);
+				}
+			}
+		} else {
+			e.lastAccess = System.nanoTime();
+		}
+		return e;
+	}
+
+	/**
+	 * Long-polls for a change to the configurations of the specified project and branch.
+	 *
+	 * @param project The project name.
+	 * @param branch The branch name.
+	 * @param etag The ETag the client already has.
+	 * @param timeout The maximum time to wait.
+	 * @param unit The unit of the timeout.
+	 * @return
+	 * 	The current entry if its ETag differs from the specified one, otherwise the entry replacing it once the next
+	 * 	sync picks up a change, or the unchanged entry when the timeout expires.
+	 * 	<br>Pairs that aren't cached (see {@link #get(String, String)}) are never refreshed, so their current entry is
+	 * 	returned right away.
+	 * 	<br><jk>null</jk> if the branch does not exist on the remote.
+	 * @throws IOException Thrown by jgit.
+	 * @throws InterruptedException If the thread was interrupted while waiting.
+	 */
+	public Entry await(String project, String branch, String etag, long timeout, TimeUnit unit) throws IOException, InterruptedException {
+		Entry e = get(project, branch);
+		if (e == null || ! e.etag.equals(etag))
+			return e;
+		try {
+			return e.next.get(timeout, unit);
+		} catch (TimeoutException x) {
+			return e;
+		} catch (ExecutionException x) {
+			throw new IOException(x.getCause());
+		}
+	}
+
+	@Override /* Closeable */
+	public synchronized void close() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+	}
+
+	private static String key(String project, String branch) {
+		return project + '/' + branch;
+	}
+
+	/*
+	 * Reads the entry from the fetched ref of the branch.
+	 * Returns the previous entry as-is if the branch didn't move, and a copy sharing its configurations and
+	 * long-poll future if the branch moved without touching the files.
+	 */
+	private Entry load(String project, String branch, Entry previous) throws IOException {
+		ObjectId commit = gitControl.resolveBranch(branch);
+		if (commit == null)
+			return null;
+		if (previous != null && commit.equals(previous.commit))
+			return previous;
+
+		ObjectId application = gitControl.findFile(commit, APPLICATION.toLowerCase().concat(EXT));
+		ObjectId projectFile = gitControl.findFile(commit, project.concat(EXT));
+		String etag = name(application) + '-' + name(projectFile);
+		if (previous != null && etag.equals(previous.etag))
+			return new Entry(project, branch, commit, etag, previous.configs, previous.json, previous.next);
+
+		Map<String,ConfigItem> configs = new LinkedHashMap<>();
+		if (application != null)
+			configs.put(APPLICATION, new ConfigItem(read(application)));
+		if (projectFile != null)
+			configs.put(PROJECT, new ConfigItem(read(projectFile)));
+		configs = Collections.unmodifiableMap(configs);
+
+		String json;
+		try {
+			json = JsonSerializer.DEFAULT_READABLE.serialize(configs);
+		} catch (Exception x) {
+			throw new IOException(x);
+		}
+		return new Entry(project, branch, commit, etag, configs, json, new CompletableFuture<>());
+	}
+
+	private String read(ObjectId blob) throws IOException {
+		return new String(gitControl.readFile(blob), StandardCharsets.UTF_8);
+	}
+
+	private static String name(ObjectId id) {
+		return id == null ? "0" : id.name();
+	}
+
+	/**
+	 * An immutable snapshot of the configurations of a project on a branch.
+	 */
+	public static class Entry {
+
+		final String project, branch, etag, json;
+		final ObjectId commit;
+		final Map<String,ConfigItem> configs;
+		final CompletableFuture<Entry> next;
+		volatile long lastAccess = System.nanoTime();  // Cache bookkeeping, not part of the snapshot.
+
+		Entry(String project, String branch, ObjectId commit, String etag, Map<String,ConfigItem> configs, String json, CompletableFuture<Entry> next) {
+			this.project = project;
+			this.branch = branch;
+			this.commit = commit;
+			this.etag = etag;
+			this.configs = configs;
+			this.json = json;
+			this.next = next;
+		}
+
+		boolean hasProject() {
+			return configs.containsKey(PROJECT);
+		}
+
+		/**
+		 * Returns the ETag of this snapshot.
+		 *
+		 * <p>
+		 * Derived from the git blob ids of the files, so it only changes when their contents change.
+		 *
+		 * @return The unquoted ETag.
+		 */
+		public String getETag() {
+			return etag;
+		}
+
+		/**
+		 * Returns the configurations keyed by <js>"APPLICATION"</js> and <js>"PROJECT"</js>.
+		 *
+		 * @return An unmodifiable map.
+		 */
+		public Map<String,ConfigItem> getConfigs() {
+			return configs;
+		}
+
+		/**
+		 * Returns the configurations serialized as readable JSON.
+		 *
+		 * @return The serialized configurations.
+		 */
+		public String getJson() {
+			return json;
+		}
+	}
+}
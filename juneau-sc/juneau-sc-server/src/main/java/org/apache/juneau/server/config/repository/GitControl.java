@@ -35,10 +35,16 @@ import org.eclipse.jgit.api.errors.RefAlreadyExistsException;
 import org.eclipse.jgit.api.errors.RefNotFoundException;
 import org.eclipse.jgit.api.errors.WrongRepositoryStateException;
 import org.eclipse.jgit.internal.storage.file.FileRepository;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevTree;
+import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.transport.CredentialsProvider;
 import org.eclipse.jgit.transport.PushResult;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.eclipse.jgit.treewalk.TreeWalk;
 
 @SuppressWarnings({"javadoc","unused"})
 public class GitControl {
@@ -59,7 +65,8 @@ public class GitControl {
 	}
 
 	public void cloneRepo() throws IOException, NoFilepatternException, GitAPIException {
-		Git.cloneRepository().setURI(remotePath).setDirectory(new File(localPath)).call();
+		git = Git.cloneRepository().setURI(remotePath).setDirectory(new File(localPath)).call();
+		localRepo = git.getRepository();
 	}
 
 	public void addToRepo() throws IOException, NoFilepatternException, GitAPIException {
@@ -96,4 +103,47 @@ public class GitControl {
 		git.pull().call();
 	}
 
+	public void fetchFromRepo() throws InvalidRemoteException, GitAPIException {
+		git.fetch().setRemote("origin").call();
+	}
+
+	/**
+	 * Returns the commit the remote-tracking ref of the specified branch points to.
+	 *
+	 * <p>
+	 * Reads only the fetched refs, so it never touches the working copy and can be called concurrently with
+	 * {@link #fetchFromRepo()}.
+	 *
+	 * @param name The branch name.
+	 * @return The commit id, or <jk>null</jk> if the branch does not exist on the remote.
+	 * @throws IOException Thrown by jgit.
+	 */
+	public ObjectId resolveBranch(String name) throws IOException {
+		if (! Repository.isValidRefName(Constants.R_REMOTES + "origin/" + name))
+			return null;
+		Ref ref = localRepo.exactRef(Constants.R_REMOTES + "origin/" + name);
+		return ref == null ? null : ref.getObjectId();
+	}
+
+	/**
+	 * Returns the id of the blob at the specified path in the tree of the specified commit.
+	 *
+	 * @param commit The commit id.
+	 * @param path The file path relative to the repository root.
+	 * @return The blob id, or <jk>null</jk> if the file does not exist in that commit.
+	 * @throws IOException Thrown by jgit.
+	 */
+	public ObjectId findFile(ObjectId commit, String path) throws IOException {
+		try (RevWalk rw = new RevWalk(localRepo)) {
+			RevTree tree = rw.parseCommit(commit).getTree();
+			try (TreeWalk tw = TreeWalk.forPath(localRepo, path, tree)) {
+				return tw == null ? null : tw.getObjectId(0);
+			}
+		}
+	}
+
+	public byte[] readFile(ObjectId blob) throws IOException {
+		return localRepo.open(blob, Constants.OBJ_BLOB).getBytes();
+	}
+
 }
\ No newline at end of file
@@ -12,26 +12,78 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.server.config.rest;
 
+import static org.apache.juneau.http.HttpResponses.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.juneau.config.Config;
+import org.apache.juneau.http.annotation.Header;
 import org.apache.juneau.http.annotation.Path;
-import org.apache.juneau.json.JsonSerializer;
+import org.apache.juneau.http.annotation.Query;
+import org.apache.juneau.http.response.NotFound;
+import org.apache.juneau.rest.RestResponse;
 import org.apache.juneau.rest.RestServlet;
 import org.apache.juneau.rest.annotation.*;
-import org.apache.juneau.server.config.repository.GetConfiguration;
+import org.apache.juneau.server.config.repository.ConfigCache;
 
+/**
+ * Serves the configurations of a project on a branch.
+ *
+ * <p>
+ * Responses come from a {@link ConfigCache} kept in sync with the remote repository in the background and carry an
+ * <c>ETag</c> header.
+ * A request with a matching <c>If-None-Match</c> header gets a <c>304</c>, and adding a <c>wait</c> query parameter
+ * (in seconds, capped by <c>GitServer/maxWait</c>) turns it into a long-poll that returns as soon as the
+ * configurations change.
+ */
 @Rest(path="/configs/*")
 @SuppressWarnings("javadoc")
 public class LoadConfigResource extends RestServlet {
 
 	private static final long serialVersionUID = 8247663789227304097L;
 
+	private transient ConfigCache cache;
+	private int maxWait;
+
+	@RestHook(HookEvent.INIT)
+	public void initCache() throws Exception {
+		Config config = Config.create().name("juneau-server-config.cfg").build();
+		maxWait = config.getInt("GitServer/maxWait", 60);
+		cache = ConfigCache.create(config);
+	}
+
+	@RestHook(HookEvent.DESTROY)
+	public void closeCache() {
+		if (cache != null)
+			cache.close();
+	}
+
 	@RestGet(path="/{project}/{branch}/*", produces="application/json")
-	public String gets(@Path("project") String project, @Path("branch") String branch) throws Exception {
-		JsonSerializer jsonSerializer = JsonSerializer.DEFAULT_READABLE;
+	public Object gets(
+			@Path("project") String project,
+			@Path("branch") String branch,
+			@Header("If-None-Match") String ifNoneMatch,
+			@Query("wait") Integer wait,
+			RestResponse res
+		) throws Exception {
+
+		String etag = ifNoneMatch == null ? null : ifNoneMatch.replace("\"", "");
+
+		ConfigCache.Entry entry;
+		if (etag != null && wait != null && wait > 0)
+			entry = cache.await(project, branch, etag, Math.min(wait, maxWait), TimeUnit.SECONDS);
+		else
+			entry = cache.get(project, branch);
+
+		if (entry == null)
+			throw new NotFound("Branch not found: {0}", branch);
 
-		GetConfiguration config = new GetConfiguration(project, branch);
-		config.execute();
+		String tag = '"' + entry.getETag() + '"';
+		if (entry.getETag().equals(etag))
+			return notModified().header("ETag", tag).build();
 
-		return jsonSerializer.serialize(config.get());
+		res.setHeader("ETag", tag);
+		return entry.getJson();
 	}
 
 }
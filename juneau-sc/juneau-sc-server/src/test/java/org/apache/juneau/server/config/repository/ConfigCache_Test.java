@@ -0,0 +1,217 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.config.repository;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+import org.eclipse.jgit.api.*;
+import org.eclipse.jgit.transport.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class ConfigCache_Test {
+
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
+	private File work;
+	private String remoteUri;
+	private Git workGit;
+	private ConfigCache cache;
+
+	@Before
+	public void setUp() throws Exception {
+		File remote = tmp.newFolder("remote.git");
+		Git.init().setBare(true).setDirectory(remote).call().close();
+
+		work = new File(tmp.getRoot(), "work");
+		workGit = Git.cloneRepository().setURI(remote.toURI().toString()).setDirectory(work).call();
+		commit("application.cfg", "a = 1", "initial");
+		commit("foo.cfg", "b = 2", "foo");
+		workGit.push().setRefSpecs(new RefSpec("master:master"), new RefSpec("master:dev")).call();
+
+		remoteUri = remote.toURI().toString();
+		cache = new ConfigCache(new File(tmp.getRoot(), "local").getPath(), remoteUri);
+	}
+
+	@After
+	public void tearDown() {
+		cache.close();
+		workGit.close();
+	}
+
+	private void commit(String file, String contents, String message) throws Exception {
+		Files.write(new File(work, file).toPath(), contents.getBytes(StandardCharsets.UTF_8));
+		workGit.add().addFilepattern(file).call();
+		workGit.commit().setMessage(message).call();
+	}
+
+	private void commitAndPush(String file, String contents) throws Exception {
+		commit(file, contents, "update " + file);
+		workGit.push().setRefSpecs(new RefSpec("master:master")).call();
+	}
+
+	@Test
+	public void a01_get() throws Exception {
+		ConfigCache.Entry e = cache.get("foo", "master");
+		assertEquals("a = 1", e.getConfigs().get("APPLICATION").getValue());
+		assertEquals("b = 2", e.getConfigs().get("PROJECT").getValue());
+		assertTrue(e.getJson().contains("a = 1"));
+		assertSame(e, cache.get("foo", "master"));
+	}
+
+	@Test
+	public void a02_get_missingProjectFile() throws Exception {
+		ConfigCache.Entry e = cache.get("bar", "master");
+		assertEquals("[APPLICATION]", e.getConfigs().keySet().toString());
+		assertNotEquals(e.getETag(), cache.get("foo", "master").getETag());
+	}
+
+	@Test
+	public void a03_get_unknownBranch() throws Exception {
+		assertNull(cache.get("foo", "nope"));
+		assertNull(cache.get("foo", "../x"));
+	}
+
+	@Test
+	public void a04_get_branchesAreIndependent() throws Exception {
+		ConfigCache.Entry master = cache.get("foo", "master"), dev = cache.get("foo", "dev");
+		assertEquals(master.getETag(), dev.getETag());
+		assertNotSame(master, dev);
+	}
+
+	@Test
+	public void b01_sync_changedFile() throws Exception {
+		ConfigCache.Entry e = cache.get("foo", "master");
+		commitAndPush("foo.cfg", "b = 3");
+
+		assertSame(e, cache.get("foo", "master"));
+		cache.sync();
+
+		ConfigCache.Entry e2 = cache.get("foo", "master");
+		assertNotEquals(e.getETag(), e2.getETag());
+		assertEquals("b = 3", e2.getConfigs().get("PROJECT").getValue());
+		assertEquals("b = 2", cache.get("foo", "dev").getConfigs().get("PROJECT").getValue());
+	}
+
+	@Test
+	public void b02_sync_unrelatedFile() throws Exception {
+		ConfigCache.Entry e = cache.get("foo", "master");
+		commitAndPush("other.cfg", "c = 1");
+		cache.sync();
+
+		ConfigCache.Entry e2 = cache.get("foo", "master");
+		assertEquals(e.getETag(), e2.getETag());
+		assertSame(e.getConfigs(), e2.getConfigs());
+	}
+
+	@Test
+	public void c01_await_differentETag() throws Exception {
+		ConfigCache.Entry e = cache.get("foo", "master");
+		assertSame(e, cache.await("foo", "master", "xxx", 1, TimeUnit.MINUTES));
+	}
+
+	@Test
+	public void c02_await_timeout() throws Exception {
+		ConfigCache.Entry e = cache.get("foo", "master");
+		assertSame(e, cache.await("foo", "master", e.getETag(), 10, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void c03_await_change() throws Exception {
+		ConfigCache.Entry e = cache.get("foo", "master");
+		ExecutorService es = Executors.newSingleThreadExecutor();
+		try {
+			Future<ConfigCache.Entry> f = es.submit(() -> cache.await("foo", "master", e.getETag(), 1, TimeUnit.MINUTES));
+
+			commitAndPush("other.cfg", "c = 1");
+			cache.sync();
+			try {
+				f.get(100, TimeUnit.MILLISECONDS);
+				fail("Unrelated change should not release the long-poll.");
+			} catch (TimeoutException x) {
+				// Expected.
+			}
+
+			commitAndPush("application.cfg", "a = 2");
+			cache.sync();
+			ConfigCache.Entry e2 = f.get(1, TimeUnit.MINUTES);
+			assertEquals("a = 2", e2.getConfigs().get("APPLICATION").getValue());
+		} finally {
+			es.shutdownNow();
+		}
+	}
+
+	@Test
+	public void c04_await_projectFileAdded() throws Exception {
+		ConfigCache.Entry e = cache.get("bar", "master");
+		commitAndPush("bar.cfg", "d = 1");
+		cache.sync();
+		ConfigCache.Entry e2 = cache.await("bar", "master", e.getETag(), 1, TimeUnit.MINUTES);
+		assertEquals("d = 1", e2.getConfigs().get("PROJECT").getValue());
+	}
+
+	@Test
+	public void d01_start() throws Exception {
+		ConfigCache.Entry e = cache.get("foo", "master");
+		cache.start(10, TimeUnit.MILLISECONDS);
+		commitAndPush("foo.cfg", "b = 4");
+		ConfigCache.Entry e2 = cache.await("foo", "master", e.getETag(), 1, TimeUnit.MINUTES);
+		assertEquals("b = 4", e2.getConfigs().get("PROJECT").getValue());
+	}
+
+	@Test
+	public void e01_bounds_missingProjectFileNotCached() throws Exception {
+		assertNotSame(cache.get("bar", "master"), cache.get("bar", "master"));
+	}
+
+	@Test
+	public void e02_bounds_maxEntries() throws Exception {
+		cache.close();
+		cache = new ConfigCache(new File(tmp.getRoot(), "local").getPath(), remoteUri, 1, 1, TimeUnit.MINUTES);
+		assertSame(cache.get("foo", "master"), cache.get("foo", "master"));
+		assertNotSame(cache.get("foo", "dev"), cache.get("foo", "dev"));
+		assertEquals("b = 2", cache.get("foo", "dev").getConfigs().get("PROJECT").getValue());
+	}
+
+	@Test
+	public void e03_bounds_idleEntriesEvicted() throws Exception {
+		cache.close();
+		cache = new ConfigCache(new File(tmp.getRoot(), "local").getPath(), remoteUri, 10, 0, TimeUnit.MILLISECONDS);
+		ConfigCache.Entry e = cache.get("foo", "master");
+		assertSame(e, cache.get("foo", "master"));
+		Thread.sleep(1);
+		cache.sync();
+		assertNotSame(e, cache.get("foo", "master"));
+	}
+
+	@Test
+	public void e04_bounds_uncachedAwaitReturnsImmediately() throws Exception {
+		cache.close();
+		cache = new ConfigCache(new File(tmp.getRoot(), "local").getPath(), remoteUri, 1, 1, TimeUnit.MINUTES);
+		cache.get("foo", "master");
+		long start = System.nanoTime();
+		ConfigCache.Entry e = cache.get("bar", "master");
+		assertEquals(e.getETag(), cache.await("bar", "master", e.getETag(), 1, TimeUnit.MINUTES).getETag());
+		e = cache.get("foo", "dev");
+		assertEquals(e.getETag(), cache.await("foo", "dev", e.getETag(), 1, TimeUnit.MINUTES).getETag());
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30));
+	}
+}
@@ -0,0 +1,230 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
+import org.junit.*;
+
+/**
+ * Tests the bean codecs generated by the juneau-apt annotation processor, which also runs over these test classes.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class BeanCodec_Test {
+
+	// Same naming as the default namer, but forces reflection-based discovery and therefore disables codecs.
+	public static class ReflectingPropertyNamer extends BasicPropertyNamer {}
+
+	private static final JsonSerializer
+		JSON = JsonSerializer.DEFAULT,
+		JSON_R = JsonSerializer.create().propertyNamer(ReflectingPropertyNamer.class).build(),
+		JSON_KN = JsonSerializer.create().keepNullProperties().ws().build(),
+		JSON_KN_R = JsonSerializer.create().keepNullProperties().ws().propertyNamer(ReflectingPropertyNamer.class).build();
+	private static final MsgPackSerializer
+		MP = MsgPackSerializer.DEFAULT,
+		MP_R = MsgPackSerializer.create().propertyNamer(ReflectingPropertyNamer.class).build(),
+		MP_KN = MsgPackSerializer.create().keepNullProperties().build(),
+		MP_KN_R = MsgPackSerializer.create().keepNullProperties().propertyNamer(ReflectingPropertyNamer.class).build();
+
+	@Bean
+	public static class A {
+		public String f1;
+		public int f2;
+		private long p1;
+		private boolean p2;
+		private double p3;
+		private float p4;
+		private String p5;
+		private Integer p6;
+		private short p7;
+		private B b;
+		private List<String> l;
+
+		public long getP1() {return p1;}
+		public void setP1(long v) {p1 = v;}
+		public boolean isP2() {return p2;}
+		public void setP2(boolean v) {p2 = v;}
+		public double getP3() {return p3;}
+		public void setP3(double v) {p3 = v;}
+		public float getP4() {return p4;}
+		public void setP4(float v) {p4 = v;}
+		public String getP5() {return p5;}
+		public A setP5(String v) {p5 = v; return this;}
+		public Integer getP6() {return p6;}
+		public void setP6(Integer v) {p6 = v;}
+		public short getP7() {return p7;}
+		public void setP7(short v) {p7 = v;}
+		public B getB() {return b;}
+		public void setB(B v) {b = v;}
+		public List<String> getL() {return l;}
+		public void setL(List<String> v) {l = v;}
+
+		static A create() {
+			A a = new A();
+			a.f1 = "f1";
+			a.f2 = -2;
+			a.p1 = Long.MAX_VALUE;
+			a.p2 = true;
+			a.p3 = 3.5;
+			a.p4 = 4.25f;
+			a.p5 = "x\"y";
+			a.p6 = 6;
+			a.p7 = 7;
+			a.b = new B();
+			a.b.x = 1;
+			a.l = Arrays.asList("a", "b");
+			return a;
+		}
+	}
+
+	public static class B {
+		public int x;
+	}
+
+	@Bean
+	public static class C {
+		public int getX() {throw new RuntimeException("foo");}
+		public void setX(int v) {throw new RuntimeException("bar");}
+	}
+
+	@Bean
+	public static class D {
+		public D d;
+		public String s;
+	}
+
+	private static BeanCodec<?> codec(BeanContext bc, Class<?> c) {
+		return bc.getClassMeta(c).getBeanMeta().getCodec();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Codec lookup
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_codecAttached() throws Exception {
+		BeanCodec<?> c = codec(BeanContext.DEFAULT, A.class);
+		assertNotNull(c);
+		assertEquals(A.class, c.getBeanClass());
+		assertEquals(11, c.getPropertyCount());
+		assertEquals(0, c.indexOf("f1"));
+		assertEquals(-1, c.indexOf("foo"));
+		assertString(c.getPropertyMeta(c.indexOf("p5")).getName()).is("p5");
+		assertTrue(c.isSimple(c.indexOf("p1")));
+		assertFalse(c.isSimple(c.indexOf("p6")));
+		assertFalse(c.isSimple(c.indexOf("b")));
+	}
+
+	@Test
+	public void a02_codecNotAttached() throws Exception {
+		// Not annotated with @Bean.
+		assertNull(codec(BeanContext.DEFAULT, B.class));
+		// Discovery customized.
+		assertNull(codec(JSON_R, A.class));
+		// Property order differs from the generated code.
+		assertNull(codec(BeanContext.create().sortProperties().build(), A.class));
+		// Property types with swaps.
+		assertNull(codec(BeanContext.create().swaps(ISwap.class).build(), A.class));
+		assertNull(codec(BeanContext.create().swaps(BSwap.class).build(), A.class));
+	}
+
+	public static class ISwap extends StringSwap<Integer> {
+		@Override
+		public String swap(BeanSession session, Integer o) {
+			return "i" + o;
+		}
+	}
+
+	public static class BSwap extends StringSwap<B> {
+		@Override
+		public String swap(BeanSession session, B o) {
+			return "b" + o.x;
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serializing through the codec produces the same output as the bean map.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_json() throws Exception {
+		for (Object o : new Object[]{A.create(), new A(), Arrays.asList(A.create(), new A())}) {
+			assertEquals(JSON_R.serialize(o), JSON.serialize(o));
+			assertEquals(JSON_KN_R.serialize(o), JSON_KN.serialize(o));
+		}
+		assertString(JSON.serialize(A.create())).is("{'f1':'f1','f2':-2,'b':{'x':1},'l':['a','b'],'p1':9223372036854775807,'p3':3.5,'p4':4.25,'p5':'x\\'y','p6':6,'p7':7,'p2':true}".replace('\'', '"'));
+	}
+
+	@Test
+	public void b02_msgPack() throws Exception {
+		for (Object o : new Object[]{A.create(), new A(), Arrays.asList(A.create(), new A())}) {
+			assertArrayEquals(MP_R.serialize(o), MP.serialize(o));
+			assertArrayEquals(MP_KN_R.serialize(o), MP_KN.serialize(o));
+		}
+	}
+
+	@Test
+	public void b03_recursion() throws Exception {
+		D d = new D();
+		d.d = d;
+		d.s = "s";
+		JsonSerializer s1 = JsonSerializer.create().ignoreRecursions().build(), s2 = JsonSerializer.create().ignoreRecursions().propertyNamer(ReflectingPropertyNamer.class).build();
+		assertEquals(s2.serialize(d), s1.serialize(d));
+		MsgPackSerializer s3 = MsgPackSerializer.create().ignoreRecursions().build(), s4 = MsgPackSerializer.create().ignoreRecursions().propertyNamer(ReflectingPropertyNamer.class).build();
+		assertArrayEquals(s4.serialize(d), s3.serialize(d));
+	}
+
+	@Test
+	public void b04_getterException() throws Exception {
+		assertThrown(()->JSON.serialize(new C())).isType(SerializeException.class).contains("Could not call getValue() on property 'x'", "foo");
+		assertThrown(()->MP.serialize(new C())).isType(SerializeException.class).contains("Could not call getValue() on property 'x'", "foo");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsing through the codec.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_json() throws Exception {
+		String json = JSON.serialize(A.create());
+		A a = JsonParser.DEFAULT.parse(json, A.class);
+		assertEquals(json, JSON.serialize(a));
+
+		a = JsonParser.create().ignoreUnknownBeanProperties().build().parse("{f2:'3',p1:1,p3:1,p4:null,p5:123,p6:null,p7:'2',foo:1}", A.class);
+		assertString(JSON.serialize(a)).is("{'f2':3,'p1':1,'p3':1.0,'p4':0.0,'p5':'123','p7':2,'p2':false}".replace('\'', '"'));
+	}
+
+	@Test
+	public void c02_msgPack() throws Exception {
+		byte[] b = MP.serialize(A.create());
+		A a = MsgPackParser.DEFAULT.parse(b, A.class);
+		assertArrayEquals(b, MP.serialize(a));
+	}
+
+	@Test
+	public void c03_setterException() throws Exception {
+		assertThrown(()->JsonParser.DEFAULT.parse("{x:1}", C.class)).isType(ParseException.class).contains("Error occurred trying to set property 'x'");
+		assertThrown(()->MsgPackParser.DEFAULT.parse(MP.serialize(OMap.of("x", 1)), C.class)).isType(ParseException.class).contains("Error occurred trying to set property 'x'");
+	}
+}
@@ -715,6 +715,11 @@ public class BeanConfigTest {
 		p2.useJavaBeanIntrospector();
 		assertSameCache(p1, p2);
 
+		p1.useMethodHandles();
+		assertDifferentCache(p1, p2);
+		p2.useMethodHandles();
+		assertSameCache(p1, p2);
+
 		p1.disableInterfaceProxies();
 		assertDifferentCache(p1, p2);
 		p2.disableInterfaceProxies();
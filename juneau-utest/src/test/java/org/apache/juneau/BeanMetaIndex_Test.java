@@ -0,0 +1,214 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.net.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.collections.*;
+import org.junit.*;
+
+/**
+ * Tests the bean metadata generated by the juneau-apt annotation processor, which also runs over these test classes.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class BeanMetaIndex_Test {
+
+	// Same naming as the default namer, but forces reflection-based discovery.
+	public static class ReflectingPropertyNamer extends BasicPropertyNamer {}
+
+	private static final BeanContext REFLECTING = BeanContext.create().propertyNamer(ReflectingPropertyNamer.class).build();
+
+	public static class A0 {
+		public String f0;
+		public String getA0() {return null;}
+		public void setA0(String v) {}
+	}
+
+	@Bean
+	public static class A extends A0 {
+		public int f2, f1;
+		public transient int f3;
+		@BeanIgnore public int f4;
+		@Beanp("f5") protected int f5;
+		private String p1;
+		public String getP1() {return p1;}
+		public A setP1(String v) {p1 = v; return this;}
+		public boolean isP2() {return false;}
+		public Boolean isP3() {return false;}
+		@Beanp("p4") public int foo() {return 0;}
+		@Beanp public void setP5(List<String>[] v) {}
+		@BeanIgnore public int getP6() {return 0;}
+		@java.beans.Transient public int getP7() {return 0;}
+		public int getP8(int x) {return 0;}
+		public static int getP9() {return 0;}
+		public void setURL(URL v) {}
+		public A withP10(int v) {return this;}
+		public B getB() {return null;}
+	}
+
+	public static class B {
+		public int x;
+	}
+
+	@Bean
+	public static class C {
+		@Beanp("*") public OMap getExtra() {return null;}
+	}
+
+	@Bean
+	public static class D implements Serializable {
+		private static final long serialVersionUID = 1L;
+		public int x;
+	}
+
+	@Bean
+	public static class E extends AbstractList<String> {
+		@Override public String get(int index) {return null;}
+		@Override public int size() {return 0;}
+	}
+
+	@Bean
+	public static class F implements Comparator<F> {
+		public int x;
+		@Override public int compare(F o1, F o2) {return 0;}
+	}
+
+	private static String describe(BeanContext bc, Class<?> c) {
+		try {
+			BeanMeta<?> bm = bc.getBeanMeta(c);
+			if (bm == null)
+				return "null";
+			StringBuilder sb = new StringBuilder();
+			for (BeanPropertyMeta p : bm.getPropertyMetas())
+				sb.append(p.getName()).append(':').append(p.getGetter()).append(':').append(p.getSetter()).append(':').append(p.getField()).append('\n');
+			return sb.toString();
+		} catch (Exception e) {
+			return e.getLocalizedMessage();
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Generated metadata
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_members() throws Exception {
+		BeanMetaIndex.Members m = BeanMetaIndex.find(A.class);
+		assertNotNull(m);
+		List<String> l = new ArrayList<>();
+		for (Field f : m.fields)
+			l.add(f.getName());
+		assertObject(l).asJson().is("['f0','f1','f2','f5']");
+		l.clear();
+		for (BeanMeta.BeanMethod bm : m.methods)
+			l.add(bm.propertyName + '/' + bm.methodType + '/' + bm.method.getName());
+		assertObject(l).asJson().is("['a0/GETTER/getA0','a0/SETTER/setA0','p4/GETTER/foo','b/GETTER/getB','p1/GETTER/getP1','p2/GETTER/isP2','p3/GETTER/isP3','p1/SETTER/setP1','p5/SETTER/setP5','URL/SETTER/setURL','p10/SETTER/withP10']");
+	}
+
+	@Test
+	public void a02_sameAsReflection() throws Exception {
+		assertEquals(describe(REFLECTING, A.class), describe(BeanContext.DEFAULT, A.class));
+		List<String> l = new ArrayList<>();
+		for (BeanPropertyMeta p : BeanContext.DEFAULT.getBeanMeta(A.class).getPropertyMetas())
+			l.add(p.getName());
+		assertObject(l).asJson().is("['f0','f1','f2','f5','a0','p4','b','p1','p2','p3','p5','URL','p10']");
+	}
+
+	@Test
+	public void a03_propertyTypesIncluded() throws Exception {
+		assertNotNull(BeanMetaIndex.find(B.class));
+		assertEquals(describe(REFLECTING, B.class), describe(BeanContext.DEFAULT, B.class));
+	}
+
+	@Test
+	public void a04_unsupported() throws Exception {
+		assertNull(BeanMetaIndex.find(C.class));
+		assertNotNull(BeanMetaIndex.find(D.class));
+		assertNull(BeanMetaIndex.find(E.class));
+		assertNull(BeanMetaIndex.find(F.class));
+		assertNull(BeanMetaIndex.find(String.class));
+		assertNull(BeanMetaIndex.find(BeanMetaIndex_Test.class));
+	}
+
+	@Test
+	public void a05_allIndexedClassesSameAsReflection() throws Exception {
+		int count = 0;
+		Enumeration<URL> e = getClass().getClassLoader().getResources(BeanMetaIndex.RESOURCE);
+		while (e.hasMoreElements()) {
+			try (BufferedReader r = new BufferedReader(new InputStreamReader(e.nextElement().openStream(), StandardCharsets.UTF_8))) {
+				for (String line = r.readLine(); line != null; line = r.readLine()) {
+					if (line.startsWith("bean\t")) {
+						Class<?> c = Class.forName(line.substring(5));
+						assertNotNull(c.getName(), BeanMetaIndex.find(c));
+						assertEquals(c.getName(), describe(REFLECTING, c), describe(BeanContext.create().build(), c));
+						count++;
+					}
+				}
+			}
+		}
+		assertTrue(count > 100);
+	}
+
+	public static class G1 {
+		public int x;
+	}
+
+	public static class G2 {
+		public int x;
+	}
+
+	public static class G3 {
+		public int x;
+		public int getY() {return 0;}
+	}
+
+	public static class G4 extends G1 {}
+
+	public static class G5 extends G3 {}
+
+	@Test
+	public void a06_signatures() throws Exception {
+		assertEquals(BeanMetaIndex.signature(G1.class), BeanMetaIndex.signature(G2.class));
+		assertNotEquals(BeanMetaIndex.signature(G1.class), BeanMetaIndex.signature(G3.class));
+		assertNotEquals(BeanMetaIndex.signature(G4.class), BeanMetaIndex.signature(G5.class));
+	}
+
+	@Test
+	public void a07_staleEntries() throws Exception {
+		ClassLoader cl = getClass().getClassLoader();
+		String a0 = A0.class.getName(), a = A.class.getName();
+		List<String[]> l = new ArrayList<>();
+		l.add(new String[]{"V", a0, BeanMetaIndex.signature(A0.class)});
+		l.add(new String[]{"V", a, BeanMetaIndex.signature(A.class)});
+		l.add(new String[]{"F", a0, "f0"});
+		assertNotNull(BeanMetaIndex.resolve(A.class, l, cl));
+
+		// Superclass changed after the index was generated.
+		l.set(0, new String[]{"V", a0, "0"});
+		assertNull(BeanMetaIndex.resolve(A.class, l, cl));
+
+		// No signature for the bean class itself.
+		l.remove(0);
+		l.remove(0);
+		assertNull(BeanMetaIndex.resolve(A.class, l, cl));
+	}
+}
@@ -0,0 +1,157 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests {@link BeanMeta#getPropertyMeta(char[], int, int)} and its use by the parsers.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class BeanMetaPropertyNames_Test {
+
+	public static class A {
+		public String foo, foo_bar, x, a1, a2, a3, a4, a5, a6, a7, a8, a9, b1, b2, b3, b4, b5, b6, b7, b8, b9;
+	}
+
+	@Bean(sort=true)
+	public static class B {
+		public String foo;
+		@Beanp(name="*")
+		public Map<String,Object> extra = new LinkedHashMap<>();
+	}
+
+	private static BeanMeta<?> meta(Class<?> c) {
+		return BeanContext.DEFAULT.getClassMeta(c).getBeanMeta();
+	}
+
+	private static BeanPropertyMeta lookup(BeanMeta<?> bm, String name) {
+		char[] c = ("[[" + name + "]]").toCharArray();
+		return bm.getPropertyMeta(c, 2, name.length());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Lookup table
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_lookup() {
+		BeanMeta<?> bm = meta(A.class);
+		for (BeanPropertyMeta p : bm.getPropertyMetas())
+			assertSame(p, lookup(bm, p.getName()));
+		assertNull(lookup(bm, "fo"));
+		assertNull(lookup(bm, "fooo"));
+		assertNull(lookup(bm, "foo_"));
+		assertNull(lookup(bm, ""));
+		assertNull(lookup(bm, "c1"));
+	}
+
+	@Test
+	public void a02_dynaPropertyNotReturned() {
+		BeanMeta<?> bm = meta(B.class);
+		assertNotNull(lookup(bm, "foo"));
+		assertNull(lookup(bm, "bar"));
+		assertNotNull(bm.getPropertyMeta("bar"));
+	}
+
+	@Test
+	public void a03_markedBuffer() throws Exception {
+		BeanMeta<?> bm = meta(A.class);
+		try (ParserReader r = new ParserReader(new ParserPipe("'foo_bar','y'"))) {
+			r.mark();
+			for (int i = 0; i < 9; i++)
+				r.read();
+			assertEquals("foo_bar", r.getMarkedPropertyMeta(bm, 1, -1).getName());
+			r.read();
+			r.mark();
+			for (int i = 0; i < 3; i++)
+				r.read();
+			assertNull(r.getMarkedPropertyMeta(bm, 1, -1));
+			assertEquals("y", r.getMarked(1, -1));
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsers
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_json() throws Exception {
+		A a = JsonParser.DEFAULT.parse("{foo:'1',\"foo_bar\":'2','x':'3',\"\\u0061\\u0031\":'4'}", A.class);
+		assertEquals("1", a.foo);
+		assertEquals("2", a.foo_bar);
+		assertEquals("3", a.x);
+		assertEquals("4", a.a1);
+
+		a = JsonParser.DEFAULT.builder().ignoreUnknownBeanProperties().build().parse("{foo:'1',bar:'2',\"baz\":'3',x:'4'}", A.class);
+		assertEquals("1", a.foo);
+		assertEquals("4", a.x);
+
+		B b = JsonParser.DEFAULT.parse("{foo:'1',bar:'2',\"baz\":'3'}", B.class);
+		assertEquals("1", b.foo);
+		assertEquals("{bar=2, baz=3}", b.extra.toString());
+	}
+
+	@Test
+	public void b02_uon() throws Exception {
+		A a = UonParser.DEFAULT.parse("(foo=1,foo_bar=2,'x'=3)", A.class);
+		assertEquals("1", a.foo);
+		assertEquals("2", a.foo_bar);
+		assertEquals("3", a.x);
+
+		B b = UonParser.DEFAULT.parse("(foo=1,bar=2)", B.class);
+		assertEquals("1", b.foo);
+		assertEquals("{bar=2}", b.extra.toString());
+	}
+
+	@Test
+	public void b03_urlEncoding() throws Exception {
+		A a = UrlEncodingParser.DEFAULT.parse("foo=1&foo_bar=2&%78=3", A.class);
+		assertEquals("1", a.foo);
+		assertEquals("2", a.foo_bar);
+		assertEquals("3", a.x);
+
+		B b = UrlEncodingParser.DEFAULT.parse("foo=1&bar=2", B.class);
+		assertEquals("1", b.foo);
+		assertEquals("{bar=2}", b.extra.toString());
+	}
+
+	@Test
+	public void b04_xml() throws Exception {
+		A a = XmlParser.DEFAULT.parse("<object><foo>1</foo><foo_bar>2</foo_bar><x>3</x></object>", A.class);
+		assertEquals("1", a.foo);
+		assertEquals("2", a.foo_bar);
+		assertEquals("3", a.x);
+	}
+
+	@Test
+	public void c01_xmlDecodeWithoutEscapes() {
+		String s = "foo_bar_";
+		assertSame(s, XmlUtils.decode(s, null));
+		assertEquals("foo bar_", XmlUtils.decode("foo_x0020_bar_", null));
+		assertEquals("a_b c", XmlUtils.decode("a_b_x0020_c", new StringBuilder()));
+		assertNull(XmlUtils.decode("_x0000_", null));
+		assertEquals("", XmlUtils.decode("_xE000_", null));
+	}
+}
@@ -0,0 +1,128 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link BeanContext#BEAN_useMethodHandles} setting.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class BeanPropertyAccessorTest {
+
+	private static final JsonSerializer S = SimpleJsonSerializer.create().useMethodHandles().build();
+	private static final JsonParser P = JsonParser.create().useMethodHandles().build();
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Public bean with getters/setters.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Bean(sort=true)
+	public static class A {
+		private int f1;
+		private long f2;
+		private String f3;
+		private List<String> f4;
+
+		public int getF1() { return f1; }
+		public void setF1(int f1) { this.f1 = f1; }
+		public long getF2() { return f2; }
+		public A setF2(long f2) { this.f2 = f2; return this; }
+		public String getF3() { return f3; }
+		public void setF3(String f3) { this.f3 = f3; }
+		public List<String> getF4() { return f4; }
+		public void setF4(List<String> f4) { this.f4 = f4; }
+	}
+
+	@Test
+	public void a01_gettersAndSetters() throws Exception {
+		A x = P.parse("{f1:1,f2:2,f3:'foo',f4:['bar','baz']}", A.class);
+		assertObject(x.f4).asJson().is("['bar','baz']");
+		assertString(S.serialize(x)).is("{f1:1,f2:2,f3:'foo',f4:['bar','baz']}");
+	}
+
+	@Test
+	public void a02_nullPrimitive() throws Exception {
+		A x = P.parse("{f1:null,f3:null}", A.class);
+		assertString(S.serialize(x)).is("{f1:0,f2:0}");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Public fields.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Bean(sort=true)
+	public static class B {
+		public int f1;
+		public boolean f2;
+		public String f3;
+		public B f4;
+	}
+
+	@Test
+	public void b01_fields() throws Exception {
+		B x = P.parse("{f1:1,f2:true,f3:'foo',f4:{f1:2}}", B.class);
+		assertString(S.serialize(x)).is("{f1:1,f2:true,f3:'foo',f4:{f1:2,f2:false}}");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Non-public bean class.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Bean(sort=true)
+	static class C {
+		private int f1;
+		public String f2;
+
+		public int getF1() { return f1; }
+		public void setF1(int f1) { this.f1 = f1; }
+	}
+
+	@Test
+	public void c01_nonPublicClass() throws Exception {
+		BeanContext bc = BeanContext.create().useMethodHandles().beanClassVisibility(Visibility.DEFAULT).build();
+		BeanMap<C> m = bc.createSession().newBeanMap(C.class);
+		m.put("f1", 1);
+		m.put("f2", "foo");
+		assertObject(m.getBean().f1).is(1);
+		assertObject(m.get("f1")).is(1);
+		assertObject(m.get("f2")).is("foo");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Exceptions thrown by getters and setters.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class D {
+		public String getF1() { throw new RuntimeException("foo"); }
+		public void setF1(String f1) { throw new RuntimeException("bar"); }
+	}
+
+	@Test
+	public void d01_getterException() throws Exception {
+		BeanMap<D> m = BeanContext.create().useMethodHandles().build().createSession().newBeanMap(D.class);
+		assertThrown(()->m.get("f1")).contains("Exception occurred while getting property 'f1'");
+		assertThrown(()->m.put("f1", "x")).contains("Error occurred trying to set property 'f1'");
+
+		BeanMap<D> m2 = BeanContext.create().useMethodHandles().ignoreInvocationExceptionsOnGetters().ignoreInvocationExceptionsOnSetters().build().createSession().newBeanMap(D.class);
+		assertObject(m2.get("f1")).isNull();
+		assertObject(m2.put("f1", "x")).isNull();
+	}
+}
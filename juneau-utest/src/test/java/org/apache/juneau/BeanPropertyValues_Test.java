@@ -0,0 +1,191 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.html.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests {@link BeanMap#readValues(boolean, String)} and the reuse of bean maps through
+ * {@link BeanSession#acquireBeanMap(Object)}.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class BeanPropertyValues_Test {
+
+	public static class A {
+		public String a = "x";
+		public String b;
+		public int c = 1;
+		public String getD() {
+			throw new RuntimeException("foo");
+		}
+	}
+
+	@Bean(sort=true)
+	public static class B {
+		public String m = "m";
+		@Beanp(name="*")
+		public Map<String,Object> extra = new LinkedHashMap<>();
+	}
+
+	@Bean(properties="name,child")
+	public static class C {
+		public String name;
+		public C child;
+
+		public C init(String name, C child) {
+			this.name = name;
+			this.child = child;
+			return this;
+		}
+	}
+
+	private static String toString(BeanPropertyValues v) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < v.size(); i++) {
+			if (i > 0)
+				sb.append(',');
+			sb.append(v.getName(i)).append('=').append(v.getThrown(i) == null ? v.getValue(i) : "!");
+		}
+		return sb.toString();
+	}
+
+	private static String toString(List<BeanPropertyValue> l) {
+		StringBuilder sb = new StringBuilder();
+		for (BeanPropertyValue p : l) {
+			if (sb.length() > 0)
+				sb.append(',');
+			sb.append(p.getName()).append('=').append(p.getThrown() == null ? p.getValue() : "!");
+		}
+		return sb.toString();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// readValues()
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_sameAsGetValues() throws Exception {
+		BeanMap<A> m = BeanMap.create(new A());
+		assertEquals("a=x,c=1,d=!", toString(m.readValues(false, null)));
+		assertEquals(toString(m.getValues(false)), toString(m.readValues(false, null)));
+		assertEquals("a=x,b=null,c=1,d=!", toString(m.readValues(true, null)));
+		assertEquals(toString(m.getValues(true)), toString(m.readValues(true, null)));
+	}
+
+	@Test
+	public void a02_typeName() throws Exception {
+		BeanMap<A> m = BeanMap.create(new A());
+		BeanPropertyValues v = m.readValues(false, "foo");
+		assertEquals("_type=foo,a=x,c=1,d=!", toString(v));
+		assertSame(m.getMeta().getTypeProperty(), v.getMeta(0));
+	}
+
+	@Test
+	public void a03_sortedDynaProperties() throws Exception {
+		B b = new B();
+		b.extra.put("z", 1);
+		b.extra.put("a", 2);
+		BeanMap<B> m = BeanMap.create(b);
+		assertEquals("a=2,m=m,z=1", toString(m.readValues(false, null)));
+		assertEquals(toString(m.getValues(false)), toString(m.readValues(false, null)));
+	}
+
+	@Test
+	public void a04_bufferReused() throws Exception {
+		BeanMap<A> m = BeanMap.create(new A());
+		BeanPropertyValues v = m.readValues(false, null);
+		assertSame(v, m.readValues(true, null));
+		assertEquals(4, v.size());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// acquireBeanMap()
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_reuse() throws Exception {
+		BeanSession s = BeanContext.DEFAULT.createBeanSession();
+		A a1 = new A(), a2 = new A();
+		BeanMap<A> m1 = s.acquireBeanMap(a1);
+		assertSame(a1, m1.getBean());
+		BeanPropertyValues v = m1.readValues(false, null);
+		s.returnBeanMap(m1);
+		assertEquals(0, v.size());
+
+		BeanMap<A> m2 = s.acquireBeanMap(a2);
+		assertSame(m1, m2);
+		assertSame(a2, m2.getBean());
+		assertEquals("x", m2.get("a"));
+
+		// Maps in use are never handed out twice.
+		BeanMap<C> m3 = s.acquireBeanMap(new C());
+		assertNotSame(m2, m3);
+		assertEquals("{child:null,name:null}", SimpleJsonSerializer.create().keepNullProperties().build().serialize(new TreeMap<>(m3)));
+	}
+
+	@Test
+	public void b02_returnedTwice() throws Exception {
+		BeanSession s = BeanContext.DEFAULT.createBeanSession();
+		BeanMap<A> m = s.acquireBeanMap(new A());
+		s.returnBeanMap(m);
+		s.returnBeanMap(m);
+		assertNotSame(s.acquireBeanMap(new A()), s.acquireBeanMap(new A()));
+	}
+
+	@Test
+	public void b03_notOwned() throws Exception {
+		BeanSession s = BeanContext.DEFAULT.createBeanSession();
+		BeanMap<A> m = BeanMap.create(new A());
+		assertSame(m, s.acquireBeanMap(m));
+		s.returnBeanMap(m);
+		assertNotSame(m, s.acquireBeanMap(new A()));
+		assertEquals("x", m.get("a"));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serializers
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static C tree() {
+		return new C().init("a", new C().init("b", new C().init("c", null)));
+	}
+
+	@Test
+	public void c01_nestedBeans() throws Exception {
+		assertEquals("{name:'a',child:{name:'b',child:{name:'c'}}}", SimpleJsonSerializer.DEFAULT.serialize(tree()));
+		assertEquals("(name=a,child=(name=b,child=(name=c)))", UonSerializer.DEFAULT.serialize(tree()));
+		assertEquals("<object><name>a</name><child><name>b</name><child><name>c</name></child></child></object>", XmlSerializer.DEFAULT_SQ.serialize(tree()));
+		assertEquals("<table><tr><td>name</td><td>a</td></tr><tr><td>child</td><td><table><tr><td>name</td><td>b</td></tr><tr><td>child</td><td><table><tr><td>name</td><td>c</td></tr></table></td></tr></table></td></tr></table>", HtmlSerializer.DEFAULT_SQ.serialize(tree()));
+		OMap m = MsgPackParser.DEFAULT.parse(MsgPackSerializer.DEFAULT.serialize(tree()), OMap.class);
+		assertEquals("{name:'a',child:{name:'b',child:{name:'c'}}}", SimpleJsonSerializer.DEFAULT.serialize(m));
+	}
+
+	@Test
+	public void c02_listOfBeans() throws Exception {
+		List<C> l = Arrays.asList(tree(), new C().init("d", null));
+		assertEquals("[{name:'a',child:{name:'b',child:{name:'c'}}},{name:'d'}]", SimpleJsonSerializer.DEFAULT.serialize(l));
+		assertEquals("<array><object><name>a</name><child><name>b</name><child><name>c</name></child></child></object><object><name>d</name></object></array>", XmlSerializer.DEFAULT_SQ.serialize(l));
+	}
+}
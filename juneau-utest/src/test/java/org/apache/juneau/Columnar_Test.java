@@ -0,0 +1,150 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class Columnar_Test {
+
+	private static final JsonSerializer JS = SimpleJsonSerializer.create().columnar().build();
+	private static final JsonSerializer JS_READABLE = SimpleJsonSerializer.create().columnar().ws().build();
+	private static final MsgPackSerializer MS = MsgPackSerializer.create().columnar().build();
+
+	@Bean(p="f1,f2,f3")
+	public static class A {
+		public int f1;
+		public String f2;
+		public A f3;
+
+		public static A create(int f1, String f2, A f3) {
+			A a = new A();
+			a.f1 = f1;
+			a.f2 = f2;
+			a.f3 = f3;
+			return a;
+		}
+	}
+
+	public static class A2 extends A {}
+
+	private static List<A> rows() {
+		return AList.of(A.create(1, "foo", null), null, A.create(2, null, A.create(3, "bar", null)));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// JSON
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_json_serialize() throws Exception {
+		assertEquals("[['f1','f2','f3'],[1,'foo',null],null,[2,null,{f1:3,f2:'bar'}]]", JS.serialize(rows().toArray(new A[0])));
+		assertEquals("[{f1:1,f2:'foo'},null,{f1:2,f3:{f1:3,f2:'bar'}}]", SimpleJsonSerializer.DEFAULT.serialize(rows().toArray(new A[0])));
+	}
+
+	@Test
+	public void a02_json_serializeReadable() throws Exception {
+		assertEquals("[\n\t['f1', 'f2', 'f3'],\n\t[1, 'foo', null]\n]", JS_READABLE.serialize(new A[]{A.create(1, "foo", null)}));
+	}
+
+	@Test
+	public void a03_json_roundTrip() throws Exception {
+		String json = JS.serialize(rows().toArray(new A[0]));
+		List<A> l = JsonParser.DEFAULT.parse(json, List.class, A.class);
+		assertObject(l).isSameJsonAs(rows());
+		A[] a = JsonParser.DEFAULT.parse(json, A[].class);
+		assertObject(a).isSameJsonAs(rows());
+	}
+
+	@Test
+	public void a04_json_emptyAndHeaderOnly() throws Exception {
+		assertEquals("[]", JS.serialize(new A[0]));
+		assertEquals(0, JsonParser.DEFAULT.parse("[['f1','f2']]", A[].class).length);
+	}
+
+	@Test
+	public void a05_json_mixedRows() throws Exception {
+		A[] a = JsonParser.DEFAULT.parse("[['f2','f1'],['foo',1],{f1:2}, [ 'bar' ] ]", A[].class);
+		assertObject(a).asJson().is("[{f1:1,f2:'foo'},{f1:2},{f1:0,f2:'bar'}]");
+	}
+
+	@Test
+	public void a06_json_unknownColumns() throws Exception {
+		assertThrown(()->JsonParser.DEFAULT.parse("[['f1','xx'],[1,2]]", A[].class)).contains("Unknown property 'xx'");
+		A[] a = JsonParser.create().ignoreUnknownBeanProperties().build().parse("[['xx','f1'],[{x:1},1]]", A[].class);
+		assertObject(a).asJson().is("[{f1:1}]");
+	}
+
+	@Test
+	public void a07_json_invalidRows() throws Exception {
+		assertThrown(()->JsonParser.DEFAULT.parse("[['f1'],[1,2]]", A[].class)).contains("Row contains more values than the header row.");
+		assertThrown(()->JsonParser.DEFAULT.parse("[['f1'],[1,]]", A[].class)).contains("Unexpected trailing comma in array.");
+	}
+
+	@Test
+	public void a08_json_notApplicable() throws Exception {
+		// Entries that aren't exactly the element type need type names.
+		assertEquals("[{f1:0}]", JS.serialize(new A[]{new A2()}));
+		// Collections of non-beans.
+		assertEquals("[1,2]", JS.serialize(new int[]{1,2}));
+		assertEquals("[{a:1}]", JS.serialize(AList.of(OMap.of("a", 1))));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// MsgPack
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_msgPack_serialize() throws Exception {
+		assertEquals("92 93 A2 66 31 A2 66 32 A2 66 33 93 01 A3 66 6F 6F C0", StringUtils.toSpacedHex(MS.serialize(new A[]{A.create(1, "foo", null)})));
+	}
+
+	@Test
+	public void b02_msgPack_roundTrip() throws Exception {
+		byte[] b = MS.serialize(rows().toArray(new A[0]));
+		List<A> l = MsgPackParser.DEFAULT.parse(b, List.class, A.class);
+		assertObject(l).isSameJsonAs(rows());
+		A[] a = MsgPackParser.DEFAULT.parse(b, A[].class);
+		assertObject(a).isSameJsonAs(rows());
+	}
+
+	@Test
+	public void b03_msgPack_smallerOutput() throws Exception {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			l.add(A.create(i, "foo" + i, null));
+		byte[] b1 = MS.serialize(l.toArray(new A[0])), b2 = MsgPackSerializer.DEFAULT.serialize(l.toArray(new A[0]));
+		assertTrue(b1.length < b2.length);
+		assertObject(MsgPackParser.DEFAULT.parse(b1, A[].class)).isSameJsonAs(l);
+		assertObject(MsgPackParser.DEFAULT.parse(b2, A[].class)).isSameJsonAs(l);
+	}
+
+	@Test
+	public void b04_msgPack_unknownColumns() throws Exception {
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(AList.of(AList.of("f1", "xx"), AList.of(1, "foo")));
+		assertThrown(()->MsgPackParser.DEFAULT.parse(b, A[].class)).contains("Unknown property 'xx'");
+		A[] a = MsgPackParser.create().ignoreUnknownBeanProperties().build().parse(b, A[].class);
+		assertObject(a).asJson().is("[{f1:1}]");
+	}
+}
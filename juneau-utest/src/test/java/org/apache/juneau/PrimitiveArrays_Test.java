@@ -0,0 +1,222 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.lang.reflect.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.reflect.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class PrimitiveArrays_Test {
+
+	private static final Object[] ARRAYS = {
+		new int[] {0, 1, -1, 31, -32, -33, 127, -128, 128, 32767, -32768, 65536, Integer.MAX_VALUE, Integer.MIN_VALUE},
+		new long[] {0, -1, 200, -70000, Integer.MAX_VALUE + 1L, Integer.MIN_VALUE - 1L, Long.MAX_VALUE, Long.MIN_VALUE},
+		new short[] {0, -1, 127, -128, Short.MAX_VALUE, Short.MIN_VALUE},
+		new byte[] {0, 1, -1, -32, -33, Byte.MAX_VALUE, Byte.MIN_VALUE},
+		new float[] {0f, -1f, 1.5f, 0.1f, 3.4028235e38f, 1.4e-45f, -123.456f},
+		new double[] {0d, -1d, 1.5, 0.1, 1.7976931348623157e308, 4.9e-324, 0.30000000000000004},
+		new int[0]
+	};
+
+	private static final Serializer[] SERIALIZERS = {
+		JsonSerializer.DEFAULT,
+		SimpleJsonSerializer.DEFAULT_READABLE,
+		UonSerializer.DEFAULT,
+		UonSerializer.DEFAULT_READABLE,
+		XmlSerializer.DEFAULT_SQ,
+		XmlSerializer.DEFAULT_SQ_READABLE,
+		MsgPackSerializer.DEFAULT
+	};
+
+	private static final Parser[] PARSERS = {
+		JsonParser.DEFAULT,
+		JsonParser.DEFAULT,
+		UonParser.DEFAULT,
+		UonParser.DEFAULT,
+		XmlParser.DEFAULT,
+		XmlParser.DEFAULT,
+		MsgPackParser.DEFAULT
+	};
+
+	private static Object serialize(Serializer s, Object o) throws Exception {
+		if (s instanceof OutputStreamSerializer)
+			return StringUtils.toHex(((OutputStreamSerializer)s).serialize(o));
+		return ((WriterSerializer)s).serialize(o);
+	}
+
+	private static Object parse(Parser p, Object in, Class<?> type) throws Exception {
+		if (p instanceof InputStreamParser)
+			return p.parse(StringUtils.fromHex(in.toString()), type);
+		return p.parse(in, type);
+	}
+
+	// Copies a primitive array into the equivalent wrapper array, which goes through the generic array handling.
+	private static Object[] box(Object a) {
+		Class<?> c = ClassInfo.of(a.getClass().getComponentType()).getWrapperIfPrimitive();
+		Object[] b = (Object[])Array.newInstance(c, Array.getLength(a));
+		for (int i = 0; i < b.length; i++)
+			b[i] = Array.get(a, i);
+		return b;
+	}
+
+	public static class A {
+		public int[] f1;
+		public long[] f2;
+		public short[] f3;
+		public byte[] f4;
+		public float[] f5;
+		public double[] f6;
+	}
+
+	public static class IntSwap extends StringSwap<Integer> {
+		@Override /* PojoSwap */
+		public String swap(BeanSession session, Integer o) throws Exception {
+			return "i" + o;
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serialization
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_sameOutputAsWrapperArrays() throws Exception {
+		for (Serializer s : SERIALIZERS)
+			for (Object a : ARRAYS)
+				assertEquals(serialize(s, box(a)), serialize(s, a));
+	}
+
+	@Test
+	public void a02_json() throws Exception {
+		assertEquals("[1,-2,3]", JsonSerializer.DEFAULT.serialize(new int[]{1,-2,3}));
+		assertEquals("[1.5,-2.0]", JsonSerializer.DEFAULT.serialize(new double[]{1.5,-2}));
+		assertEquals("[]", JsonSerializer.DEFAULT.serialize(new long[0]));
+	}
+
+	@Test
+	public void a03_uon() throws Exception {
+		assertEquals("@(1,-2,3)", UonSerializer.DEFAULT.serialize(new byte[]{1,-2,3}));
+		assertEquals("@()", UonSerializer.DEFAULT.serialize(new short[0]));
+	}
+
+	@Test
+	public void a04_msgPack() throws Exception {
+		assertEquals("93 01 FF D0 DF", StringUtils.toSpacedHex(MsgPackSerializer.DEFAULT.serialize(new int[]{1,-1,-33})));
+		assertEquals("92 CA 3F C0 00 00 CA BF 80 00 00", StringUtils.toSpacedHex(MsgPackSerializer.DEFAULT.serialize(new float[]{1.5f,-1f})));
+		assertEquals("91 D3 7F FF FF FF FF FF FF FF", StringUtils.toSpacedHex(MsgPackSerializer.DEFAULT.serialize(new long[]{Long.MAX_VALUE})));
+	}
+
+	@Test
+	public void a05_largeMsgPackArray() throws Exception {
+		long[] a = new long[10000];
+		for (int i = 0; i < a.length; i++)
+			a[i] = (i % 2 == 0 ? 1L : -1L) << (i % 64);
+		assertEquals(serialize(MsgPackSerializer.DEFAULT, box(a)), serialize(MsgPackSerializer.DEFAULT, a));
+		assertTrue(java.util.Arrays.equals(a, MsgPackParser.DEFAULT.parse(MsgPackSerializer.DEFAULT.serialize(a), long[].class)));
+	}
+
+	@Test
+	public void a06_swapsDisableFastPath() throws Exception {
+		assertEquals("['i1','i2']", SimpleJsonSerializer.create().swaps(IntSwap.class).build().serialize(new int[]{1,2}));
+		assertEquals("@(i1,i2)", UonSerializer.create().swaps(IntSwap.class).build().serialize(new int[]{1,2}));
+	}
+
+	@Test
+	public void a07_sortedCollections() throws Exception {
+		assertEquals("[1,2,3]", JsonSerializer.create().sortCollections().build().serialize(new int[]{3,1,2}));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_roundTrip() throws Exception {
+		for (int i = 0; i < SERIALIZERS.length; i++) {
+			for (Object a : ARRAYS) {
+				Object b = parse(PARSERS[i], serialize(SERIALIZERS[i], a), a.getClass());
+				assertTrue(SERIALIZERS[i] + ": " + serialize(SERIALIZERS[i], a), java.util.Objects.deepEquals(a, b));
+			}
+		}
+	}
+
+	@Test
+	public void b02_roundTripBean() throws Exception {
+		A a = new A();
+		a.f1 = new int[]{1,-100000};
+		a.f2 = new long[]{Long.MIN_VALUE};
+		a.f3 = new short[]{-300};
+		a.f4 = new byte[]{-1,100};
+		a.f5 = new float[]{0.25f};
+		a.f6 = new double[]{-1e300};
+		for (int i = 0; i < SERIALIZERS.length; i++)
+			assertObject(parse(PARSERS[i], serialize(SERIALIZERS[i], a), A.class)).isSameJsonAs(a);
+	}
+
+	@Test
+	public void b03_json_mixedEntries() throws Exception {
+		assertObject(JsonParser.DEFAULT.parse("[1, null, '3', 2147483648 ]", long[].class)).asJson().is("[1,0,3,2147483648]");
+		assertObject(JsonParser.DEFAULT.parse("[1,/*x*/2.5e1,'4',null,1e400]", float[].class)).asJson().is("[1.0,25.0,4.0,0.0,Infinity]");
+		assertObject(JsonParser.DEFAULT.parse("[1,-129]", short[].class)).asJson().is("[1,-129]");
+		assertThrown(()->JsonParser.DEFAULT.parse("[1,2", int[].class)).contains("Expected ',' or ']'");
+	}
+
+	@Test
+	public void b04_uon_mixedEntries() throws Exception {
+		assertObject(UonParser.DEFAULT.parse("@( 1 , null,'3',-4)", int[].class)).asJson().is("[1,0,3,-4]");
+		assertObject(UonParser.DEFAULT.parse("@(0.5,1e1)", double[].class)).asJson().is("[0.5,10.0]");
+		assertNull(UonParser.DEFAULT.parse("null", int[].class));
+	}
+
+	@Test
+	public void b05_msgPack_mixedEntries() throws Exception {
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(new Object[]{1, null, "3", 4L, 2.5d, 1.5f});
+		assertObject(MsgPackParser.DEFAULT.parse(b, int[].class)).asJson().is("[1,0,3,4,2,1]");
+		assertObject(MsgPackParser.DEFAULT.parse(b, double[].class)).asJson().is("[1.0,0.0,3.0,4.0,2.5,1.5]");
+	}
+
+	@Test
+	public void b06_msgPack_negativeInts() throws Exception {
+		for (int i = -200; i < 0; i++)
+			assertEquals(i, (int)MsgPackParser.DEFAULT.parse(MsgPackSerializer.DEFAULT.serialize(i), int.class));
+	}
+
+	@Test
+	public void b07_msgPack_badArrayLength() throws Exception {
+		byte[] truncated = {(byte)0xDD, 0x7F, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x01, 0x02};
+		assertThrown(()->MsgPackParser.DEFAULT.parse(truncated, long[].class)).isType(IOException.class).contains("Unexpected end of file");
+		assertThrown(()->MsgPackParser.DEFAULT.parse(truncated, double[].class)).isType(IOException.class).contains("Unexpected end of file");
+		byte[] oversized = {(byte)0xDD, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF};
+		assertThrown(()->MsgPackParser.DEFAULT.parse(oversized, long[].class)).isType(ParseException.class).contains("Invalid array length 4294967295");
+	}
+
+	@Test
+	public void b08_xml_nullEntries() throws Exception {
+		assertObject(XmlParser.DEFAULT.parse("<array><number>1</number><null/><number>3</number></array>", int[].class)).asJson().is("[1,0,3]");
+	}
+}
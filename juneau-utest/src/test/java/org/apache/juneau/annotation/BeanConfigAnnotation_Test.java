@@ -142,7 +142,8 @@ public class BeanConfigAnnotation_Test {
 		sortProperties="$X{true}",
 		timeZone="$X{z}",
 		useEnumNames="$X{true}",
-		useJavaBeanIntrospector="$X{true}"
+		useJavaBeanIntrospector="$X{true}",
+		useMethodHandles="$X{true}"
 	)
 	static class A {}
 	static ClassInfo a = ClassInfo.of(A.class);
@@ -185,6 +186,7 @@ public class BeanConfigAnnotation_Test {
 		check("true", bc.isUseEnumNames());
 		check("false", bc.isUseInterfaceProxies());
 		check("true", bc.isUseJavaBeanIntrospector());
+		check("true", bc.isUseMethodHandles());
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -231,6 +233,7 @@ public class BeanConfigAnnotation_Test {
 		check("false", bc.isUseEnumNames());
 		check("true", bc.isUseInterfaceProxies());
 		check("false", bc.isUseJavaBeanIntrospector());
+		check("false", bc.isUseMethodHandles());
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -276,6 +279,7 @@ public class BeanConfigAnnotation_Test {
 		check("false", bc.isUseEnumNames());
 		check("true", bc.isUseInterfaceProxies());
 		check("false", bc.isUseJavaBeanIntrospector());
+		check("false", bc.isUseMethodHandles());
 	}
 
 }
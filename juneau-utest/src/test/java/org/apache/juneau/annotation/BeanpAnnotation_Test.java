@@ -33,6 +33,7 @@ public class BeanpAnnotation_Test {
 	Beanp a1 = BeanpAnnotation.create()
 		.dictionary(X1.class)
 		.format("format")
+		.index(1)
 		.name("name")
 		.on("on")
 		.params(X1.class)
@@ -46,6 +47,7 @@ public class BeanpAnnotation_Test {
 	Beanp a2 = BeanpAnnotation.create()
 		.dictionary(X1.class)
 		.format("format")
+		.index(1)
 		.name("name")
 		.on("on")
 		.params(X1.class)
@@ -62,6 +64,7 @@ public class BeanpAnnotation_Test {
 			+ "{"
 				+ "dictionary:['"+CNAME+"$X1'],"
 				+ "format:'format',"
+				+ "index:1,"
 				+ "name:'name',"
 				+ "on:['on'],"
 				+ "params:['"+CNAME+"$X1'],"
@@ -122,6 +125,7 @@ public class BeanpAnnotation_Test {
 	@Beanp(
 		dictionary=X1.class,
 		format="format",
+		index=1,
 		name="name",
 		on="on",
 		params=X1.class,
@@ -137,6 +141,7 @@ public class BeanpAnnotation_Test {
 	@Beanp(
 		dictionary=X1.class,
 		format="format",
+		index=1,
 		name="name",
 		on="on",
 		params=X1.class,
@@ -0,0 +1,230 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.cbor;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.internal.StringUtils.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.math.*;
+import java.util.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.marshall.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class Cbor_Test {
+
+	private static String serialize(Object o) throws Exception {
+		return toSpacedHex(CborSerializer.DEFAULT.serialize(o));
+	}
+
+	private static <T> T parse(String hex, Class<T> type) throws Exception {
+		return CborParser.DEFAULT.parse(fromSpacedHex(hex), type);
+	}
+
+	public static class A {
+		public int f1;
+		public String f2;
+		public List<Long> f3;
+		public Map<String,Boolean> f4;
+		public byte[] f5;
+		public A f6;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serialization (test vectors from RFC 8949 Appendix A)
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_integers() throws Exception {
+		assertEquals("00", serialize(0));
+		assertEquals("17", serialize(23));
+		assertEquals("18 18", serialize(24));
+		assertEquals("18 64", serialize(100));
+		assertEquals("19 03 E8", serialize(1000));
+		assertEquals("1A 00 0F 42 40", serialize(1000000));
+		assertEquals("1B 00 00 00 E8 D4 A5 10 00", serialize(1000000000000L));
+		assertEquals("20", serialize(-1));
+		assertEquals("29", serialize(-10));
+		assertEquals("38 63", serialize(-100));
+		assertEquals("39 03 E7", serialize(-1000));
+		assertEquals("3B 7F FF FF FF FF FF FF FF", serialize(Long.MIN_VALUE));
+	}
+
+	@Test
+	public void a02_bigNumbers() throws Exception {
+		assertEquals("1B FF FF FF FF FF FF FF FF", serialize(new BigInteger("18446744073709551615")));
+		assertEquals("C2 49 01 00 00 00 00 00 00 00 00", serialize(new BigInteger("18446744073709551616")));
+		assertEquals("3B FF FF FF FF FF FF FF FF", serialize(new BigInteger("-18446744073709551616")));
+		assertEquals("C3 49 01 00 00 00 00 00 00 00 00", serialize(new BigInteger("-18446744073709551617")));
+		assertEquals("C4 82 21 19 6A B3", serialize(new BigDecimal("273.15")));
+	}
+
+	@Test
+	public void a03_floats() throws Exception {
+		assertEquals("FB 3F F1 99 99 99 99 99 9A", serialize(1.1d));
+		assertEquals("FA 47 C3 50 00", serialize(100000.0f));
+	}
+
+	@Test
+	public void a04_simpleValues() throws Exception {
+		assertEquals("F4", serialize(false));
+		assertEquals("F5", serialize(true));
+		assertEquals("F6", serialize(null));
+	}
+
+	@Test
+	public void a05_strings() throws Exception {
+		assertEquals("60", serialize(""));
+		assertEquals("61 61", serialize("a"));
+		assertEquals("64 49 45 54 46", serialize("IETF"));
+		assertEquals("62 C3 BC", serialize("ü"));
+		assertEquals("63 E6 B0 B4", serialize("水"));
+		assertEquals("44 01 02 03 04", serialize(new ByteArrayInputStream(new byte[]{1,2,3,4})));
+	}
+
+	@Test
+	public void a06_arraysAndMaps() throws Exception {
+		assertEquals("80", serialize(new int[0]));
+		assertEquals("83 01 02 03", serialize(AList.of(1,2,3)));
+		assertEquals("83 01 82 02 03 82 04 05", serialize(new Object[]{1,AList.of(2,3),new int[]{4,5}}));
+		assertEquals("A0", serialize(new OMap()));
+		assertEquals("A2 61 61 01 61 62 82 02 03", serialize(OMap.of("a",1,"b",AList.of(2,3))));
+	}
+
+	@Test
+	public void a07_iteratorsUseIndefiniteLength() throws Exception {
+		assertEquals("9F 01 02 03 FF", serialize(AList.of(1,2,3).iterator()));
+		assertEquals("9F FF", serialize(Collections.emptyIterator()));
+		assertEquals("9F 01 02 FF", serialize(Collections.enumeration(AList.of(1,2))));
+		assertEquals("A1 61 61 9F 61 78 FF", serialize(OMap.of("a",AList.of("x").iterator())));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_scalars() throws Exception {
+		assertObject(parse("1B 00 00 00 E8 D4 A5 10 00", Object.class)).asJson().is("1000000000000");
+		assertObject(parse("39 03 E7", Object.class)).asJson().is("-1000");
+		assertEquals(new BigInteger("18446744073709551616"), parse("C2 49 01 00 00 00 00 00 00 00 00", BigInteger.class));
+		assertEquals(new BigInteger("-18446744073709551617"), parse("C3 49 01 00 00 00 00 00 00 00 00", BigInteger.class));
+		assertEquals(new BigDecimal("273.15"), parse("C4 82 21 19 6A B3", BigDecimal.class));
+		assertEquals("IETF", parse("64 49 45 54 46", String.class));
+		assertNull(parse("F6", Object.class));
+		assertNull(parse("F7", Object.class));
+	}
+
+	@Test
+	public void b02_halfPrecisionFloats() throws Exception {
+		assertEquals(0.0f, parse("F9 00 00", Float.class), 0);
+		assertEquals(1.0f, parse("F9 3C 00", Float.class), 0);
+		assertEquals(1.5f, parse("F9 3E 00", Float.class), 0);
+		assertEquals(65504.0f, parse("F9 7B FF", Float.class), 0);
+		assertEquals(5.960464477539063e-8f, parse("F9 00 01", Float.class), 0);
+		assertEquals(-4.0f, parse("F9 C4 00", Float.class), 0);
+		assertEquals(Float.POSITIVE_INFINITY, parse("F9 7C 00", Float.class), 0);
+		assertTrue(parse("F9 7E 00", Float.class).isNaN());
+	}
+
+	@Test
+	public void b03_indefiniteLength() throws Exception {
+		assertEquals("streaming", parse("7F 65 73 74 72 65 61 64 6D 69 6E 67 FF", String.class));
+		assertObject(parse("5F 42 01 02 43 03 04 05 FF", byte[].class)).asJson().is("[1,2,3,4,5]");
+		assertObject(parse("9F FF", Object.class)).asJson().is("[]");
+		assertObject(parse("9F 01 82 02 03 9F 04 05 FF FF", Object.class)).asJson().is("[1,[2,3],[4,5]]");
+		assertObject(parse("83 81 01 9F 02 03 FF 82 04 05", int[][].class)).asJson().is("[[1],[2,3],[4,5]]");
+		assertObject(parse("BF 61 61 01 61 62 9F 02 03 FF FF", Object.class)).asJson().is("{a:1,b:[2,3]}");
+		assertObject(parse("BF 63 46 75 6E F5 63 41 6D 74 21 FF", Object.class)).asJson().is("{Fun:true,Amt:-2}");
+	}
+
+	@Test
+	public void b04_tagsAreSkipped() throws Exception {
+		assertEquals("2013-03-21T20:04:00Z", parse("C0 74 32 30 31 33 2D 30 33 2D 32 31 54 32 30 3A 30 34 3A 30 30 5A", String.class));
+		assertObject(parse("C1 1A 51 4B 67 B0", Object.class)).asJson().is("1363896240");
+	}
+
+	@Test
+	public void b05_errors() throws Exception {
+		assertThrown(()->parse("FF", Object.class)).contains("break");
+		assertThrown(()->parse("83 01 02", Object.class)).contains("Unexpected end of file");
+	}
+
+	@Test
+	public void b06_maliciousInput() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 100000; i++)
+			sb.append("C1 ");
+		assertObject(parse(sb.append("01").toString(), Object.class)).asJson().is("1");
+		assertThrown(()->parse("C2 C2 C2 41 01", Object.class)).contains("Invalid nested bignum tag");
+		assertThrown(()->parse("C4 C4 82 01 01", Object.class)).contains("Invalid nested decimal fraction tag");
+		assertThrown(()->parse("C4 82 1B 00 00 00 01 00 00 00 00 01", Object.class)).contains("Decimal fraction exponent out of range");
+		assertThrown(()->parse("C4 82 3B 7F FF FF FF FF FF FF FF 01", Object.class)).contains("Decimal fraction exponent out of range");
+		assertThrown(()->parse("5A 7F FF FF FF 01", byte[].class)).contains("Unexpected end of file");
+		assertThrown(()->parse("7A 7F FF FF FF 61", String.class)).contains("Unexpected end of file");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Round trips
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_bean() throws Exception {
+		A a = new A();
+		a.f1 = -500;
+		a.f2 = "fooü";
+		a.f3 = AList.of(Long.MAX_VALUE, Long.MIN_VALUE, 0L);
+		a.f4 = new TreeMap<>();
+		a.f4.put("x", true);
+		a.f6 = new A();
+		a.f6.f5 = new byte[]{-1,0,1};
+		byte[] b = CborSerializer.DEFAULT.serialize(a);
+		assertObject(CborParser.DEFAULT.parse(b, A.class)).isSameJsonAs(a);
+		assertObject(Cbor.DEFAULT.read(b, A.class)).isSameJsonAs(a);
+		assertObject(Cbor.DEFAULT.read(Cbor.DEFAULT.write(a), A.class)).isSameJsonAs(a);
+	}
+
+	@Test
+	public void c02_beanFromIndefiniteMap() throws Exception {
+		CborParser p = CborParser.create().ignoreUnknownBeanProperties().build();
+		A a = p.parse(fromSpacedHex("BF 62 66 31 18 2A 62 66 33 9F 01 FF 62 66 39 F5 FF"), A.class);
+		assertObject(a).asJson().is("{f1:42,f3:[1]}");
+	}
+
+	@Test
+	public void c03_iteratorRoundTrip() throws Exception {
+		byte[] b = CborSerializer.DEFAULT.serialize(AList.of("a","b","c").iterator());
+		List<String> l = CborParser.DEFAULT.parse(b, List.class, String.class);
+		assertObject(l).asJson().is("['a','b','c']");
+		assertObject(CborParser.DEFAULT.parse(b, String[].class)).asJson().is("['a','b','c']");
+	}
+
+	@Test
+	public void c04_bigNumbers() throws Exception {
+		Object[] a = {new BigInteger("123456789012345678901234567890"), new BigInteger("-123456789012345678901234567890"), new BigDecimal("-1.23456789012345678901234567890E-100"), new BigDecimal("12345")};
+		Object[] b = CborParser.DEFAULT.parse(CborSerializer.DEFAULT.serialize(a), Object[].class);
+		assertTrue(Arrays.equals(a, b));
+	}
+
+	@Test
+	public void c05_spacedHexAndBase64() throws Exception {
+		assertEquals("83 01 02 03", CborSerializer.DEFAULT_SPACED_HEX.serializeToString(new int[]{1,2,3}));
+		assertObject(CborParser.DEFAULT_SPACED_HEX.parse("83 01 02 03", int[].class)).asJson().is("[1,2,3]");
+		assertObject(CborParser.DEFAULT_BASE64.parse(CborSerializer.DEFAULT_BASE64.serializeToString(AList.of(1,2,3)), int[].class)).asJson().is("[1,2,3]");
+	}
+}
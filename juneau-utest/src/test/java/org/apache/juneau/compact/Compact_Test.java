@@ -0,0 +1,306 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.compact;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.internal.StringUtils.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.math.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.marshall.*;
+import org.apache.juneau.msgpack.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class Compact_Test {
+
+	private static String serialize(Object o) throws Exception {
+		return toSpacedHex(CompactSerializer.DEFAULT.serialize(o));
+	}
+
+	private static <T> T parse(String hex, Class<T> type) throws Exception {
+		return CompactParser.DEFAULT.parse(fromSpacedHex(hex), type);
+	}
+
+	public static class A {
+		public int f1;
+		public String f2;
+
+		public A init() {
+			f1 = 1;
+			f2 = "x";
+			return this;
+		}
+	}
+
+	// Version 1 of a bean.
+	public static class B1 {
+		@Beanp(index=0) public int f1;
+		@Beanp(index=2) public String f3;
+	}
+
+	// Version 2 of the same bean with a new property between the existing ones, and a new nested bean.
+	public static class B2 {
+		@Beanp(index=0) public int f1;
+		@Beanp(index=1) public A f2;
+		@Beanp(index=2) public String f3;
+		@Beanp(index=3) public List<Object> f4;
+	}
+
+	public static class C {
+		@Beanp(index=10) public int f1;
+		public int f2;
+		public int f3;
+	}
+
+	public static class D {
+		@Beanp(index=1) public int f1;
+		@Beanp(index=1) public int f2;
+	}
+
+	@Bean(typeName="E")
+	public static class E {
+		public String f1;
+	}
+
+	public static class G {
+		@Beanp(index=Integer.MAX_VALUE) public int f1;
+	}
+
+	// Same properties as H2 but in a different order.
+	@Bean(properties="f2,f1")
+	public static class H1 {
+		public String f1, f2;
+	}
+
+	public static class H2 {
+		public String f1, f2;
+	}
+
+	public static class F {
+		public Integer f1;
+		public long f2;
+		public double f3;
+		public float f4;
+		public boolean f5;
+		public String f6;
+		public BigInteger f7;
+		public BigDecimal f8;
+		public List<A> f9;
+		public Map<String,Integer> f10;
+		public int[] f11;
+		public F f12;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Wire format
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_scalars() throws Exception {
+		assertEquals("00", serialize(null));
+		assertEquals("01", serialize(false));
+		assertEquals("02", serialize(true));
+		assertEquals("03 00", serialize(0));
+		assertEquals("03 01", serialize(-1));
+		assertEquals("03 02", serialize(1));
+		assertEquals("03 AC 02", serialize(150));
+		assertEquals("03 FF FF FF FF 0F", serialize(Integer.MIN_VALUE));
+		assertEquals("03 FE FF FF FF FF FF FF FF FF 01", serialize(Long.MAX_VALUE));
+		assertEquals("04 3F C0 00 00", serialize(1.5f));
+		assertEquals("05 3F F8 00 00 00 00 00 00", serialize(1.5d));
+		assertEquals("06 02 61 62", serialize("ab"));
+		assertEquals("0B 04 31 2E 32 35", serialize(new BigDecimal("1.25")));
+	}
+
+	@Test
+	public void a02_collections() throws Exception {
+		assertEquals("08 02 03 02 03 04", serialize(new int[]{1,2}));
+		assertEquals("08 02 06 01 61 00", serialize(AList.of("a",null)));
+		assertEquals("09 01 06 01 61 03 02", serialize(OMap.of("a",1)));
+		assertEquals("0C 03 02 03 04 0D", serialize(AList.of(1,2).iterator()));
+	}
+
+	@Test
+	public void a03_beansWithoutIndexesUseNames() throws Exception {
+		assertEquals("0A 02 06 02 66 31 03 02 02 06 02 66 32 06 01 78 00", serialize(new A().init()));
+		assertEquals("0A 02 06 02 66 31 03 00 00", serialize(new A()));
+	}
+
+	@Test
+	public void a04_explicitIndexes() throws Exception {
+		C c = new C();
+		c.f1 = 1;
+		c.f2 = 2;
+		c.f3 = 3;
+		assertEquals("0A 0D 03 02 02 06 02 66 32 03 04 02 06 02 66 33 03 06 00", serialize(c));
+		BeanMeta<?> bm = BeanContext.DEFAULT.getBeanMeta(C.class);
+		assertEquals(10, bm.getPropertyOrdinal("f1"));
+		assertEquals(-1, bm.getPropertyOrdinal("f2"));
+		assertEquals(-1, bm.getPropertyOrdinal("xxx"));
+		assertEquals("f1", bm.getPropertyMetaByOrdinal(10).getName());
+		assertNull(bm.getPropertyMetaByOrdinal(0));
+		assertNull(bm.getPropertyMetaByOrdinal(11));
+		assertObject(parse("0A 0D 03 02 02 06 02 66 32 03 04 02 06 02 66 33 03 06 00", C.class)).asJson().is("{f1:1,f2:2,f3:3}");
+	}
+
+	@Test
+	public void a05_duplicateIndexes() throws Exception {
+		assertThrown(()->CompactSerializer.DEFAULT.serialize(new D())).contains("Duplicate @Beanp(index) value 1");
+	}
+
+	@Test
+	public void a06_smallerThanMsgPack() throws Exception {
+		List<B1> l = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			B1 b = new B1();
+			b.f1 = i;
+			b.f3 = "x";
+			l.add(b);
+		}
+		assertTrue(CompactSerializer.DEFAULT.serialize(l).length < MsgPackSerializer.DEFAULT.serialize(l).length);
+	}
+
+	@Test
+	public void a07_largeIndex() throws Exception {
+		G g = new G();
+		g.f1 = 1;
+		assertEquals("0A 82 80 80 80 08 03 02 00", serialize(g));
+		assertEquals(1, parse("0A 82 80 80 80 08 03 02 00", G.class).f1);
+		assertThrown(()->parse("0A 83 80 80 80 08 03 02 00", G.class)).contains("Invalid bean property key");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_scalars() throws Exception {
+		assertEquals(150, (int)parse("03 AC 02", Integer.class));
+		assertEquals(Long.MAX_VALUE, (long)parse("03 FE FF FF FF FF FF FF FF FF 01", Long.class));
+		assertObject(parse("03 FE FF FF FF FF FF FF FF FF 01", Object.class)).isType(Long.class);
+		assertObject(parse("03 01", Object.class)).isType(Integer.class);
+		assertEquals(new BigDecimal("1.25"), parse("0B 04 31 2E 32 35", BigDecimal.class));
+		assertEquals(new BigInteger("12"), parse("0B 02 31 32", Object.class));
+		assertEquals("ab", parse("06 02 61 62", String.class));
+		assertNull(parse("00", String.class));
+	}
+
+	@Test
+	public void b02_streams() throws Exception {
+		assertObject(parse("0C 03 02 03 04 0D", int[].class)).asJson().is("[1,2]");
+		assertObject(parse("0C 0D", Object.class)).asJson().is("[]");
+		List<Integer> l = CompactParser.DEFAULT.parse(CompactSerializer.DEFAULT.serialize(AList.of(1,2,3).iterator()), List.class, Integer.class);
+		assertObject(l).asJson().is("[1,2,3]");
+	}
+
+	@Test
+	public void b03_unknownBeanTypesParseAsOrdinalMaps() throws Exception {
+		assertObject(parse("0A 03 03 02 04 06 01 78 00", Object.class)).asJson().is("{'0':1,'1':'x'}");
+	}
+
+	@Test
+	public void b04_errors() throws Exception {
+		assertThrown(()->parse("0D", Object.class)).contains("Unexpected end of stream");
+		assertThrown(()->parse("7F", Object.class)).contains("Invalid data type code 0x7f");
+		assertThrown(()->parse("08 03 02", Object.class)).contains("Unexpected end of file");
+		assertThrown(()->parse("06 FF FF FF FF 07 61", String.class)).contains("Unexpected end of file");
+		assertThrown(()->parse("07 FF FF FF FF 07 01", byte[].class)).contains("Unexpected end of file");
+		assertThrown(()->parse("06 FF FF FF FF 0F 61", String.class)).contains("Length too large");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Schema evolution
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_unknownOrdinalsAreSkipped() throws Exception {
+		B2 b2 = new B2();
+		b2.f1 = 1;
+		b2.f2 = new A().init();
+		b2.f3 = "foo";
+		b2.f4 = AList.of(1, "a", AList.of(true, 1.5), OMap.of("x", new A().init()), new byte[]{1,2}, new BigDecimal("1.5"));
+		byte[] b = CompactSerializer.DEFAULT.serialize(b2);
+		assertObject(CompactParser.DEFAULT.parse(b, B1.class)).asJson().is("{f1:1,f3:'foo'}");
+		// Beans inside untyped collections are read as maps keyed by ordinal.
+		assertObject(CompactParser.DEFAULT.parse(b, B2.class)).asJson().is("{f1:1,f2:{f1:1,f2:'x'},f3:'foo',f4:[1,'a',[true,1.5],{x:{f1:1,f2:'x'}},[1,2],1.5]}");
+	}
+
+	@Test
+	public void c02_missingOrdinalsAreLeftUnset() throws Exception {
+		B1 b1 = new B1();
+		b1.f1 = 1;
+		b1.f3 = "foo";
+		assertObject(CompactParser.DEFAULT.parse(CompactSerializer.DEFAULT.serialize(b1), B2.class)).asJson().is("{f1:1,f3:'foo'}");
+	}
+
+	@Test
+	public void c03_unindexedPropertiesMatchByName() throws Exception {
+		H1 h1 = new H1();
+		h1.f1 = "a";
+		h1.f2 = "b";
+		assertObject(CompactParser.DEFAULT.parse(CompactSerializer.DEFAULT.serialize(h1), H2.class)).asJson().is("{f1:'a',f2:'b'}");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Round trips
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void d01_bean() throws Exception {
+		F f = new F();
+		f.f1 = -5;
+		f.f2 = Long.MIN_VALUE;
+		f.f3 = 1e300;
+		f.f4 = -0.5f;
+		f.f5 = true;
+		f.f6 = "fooü";
+		f.f7 = new BigInteger("-123456789012345678901234567890");
+		f.f8 = new BigDecimal("1.23456789012345678901234567890E-100");
+		f.f9 = AList.of(new A().init(), null, new A());
+		f.f10 = new TreeMap<>();
+		f.f10.put("a", 1);
+		f.f10.put("b", null);
+		f.f11 = new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE};
+		f.f12 = new F();
+		f.f12.f6 = "bar";
+		byte[] b = CompactSerializer.DEFAULT.serialize(f);
+		assertObject(CompactParser.DEFAULT.parse(b, F.class)).isSameJsonAs(f);
+		assertObject(Compact.DEFAULT.read(Compact.DEFAULT.write(f), F.class)).isSameJsonAs(f);
+	}
+
+	@Test
+	public void d02_beanTypes() throws Exception {
+		CompactSerializer s = CompactSerializer.create().addBeanTypes().addRootType().dictionary(E.class).build();
+		CompactParser p = CompactParser.create().dictionary(E.class).build();
+		E e = new E();
+		e.f1 = "foo";
+		byte[] b = s.serialize(e);
+		assertEquals("0A 01 06 01 45 02 06 02 66 31 06 03 66 6F 6F 00", toSpacedHex(b));
+		assertObject(p.parse(b, Object.class)).isType(E.class).asJson().is("{f1:'foo'}");
+		assertObject(CompactParser.DEFAULT.parse(b, Object.class)).asJson().is("{_type:'E',f1:'foo'}");
+	}
+
+	@Test
+	public void d03_spacedHexAndBase64() throws Exception {
+		assertEquals("0A 02 06 02 66 31 03 02 02 06 02 66 32 06 01 78 00", CompactSerializer.DEFAULT_SPACED_HEX.serializeToString(new A().init()));
+		assertObject(CompactParser.DEFAULT_SPACED_HEX.parse("0A 02 06 02 66 31 03 02 02 06 02 66 32 06 01 78 00", A.class)).asJson().is("{f1:1,f2:'x'}");
+		assertObject(CompactParser.DEFAULT_BASE64.parse(CompactSerializer.DEFAULT_BASE64.serializeToString(new A().init()), A.class)).asJson().is("{f1:1,f2:'x'}");
+	}
+}
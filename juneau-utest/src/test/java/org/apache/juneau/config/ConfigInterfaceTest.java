@@ -19,6 +19,7 @@ import static org.junit.runners.MethodSorters.*;
 import java.util.*;
 
 import org.apache.juneau.collections.*;
+import org.apache.juneau.config.store.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.testutils.pojos.*;
 import org.junit.*;
@@ -426,6 +427,49 @@ public class ConfigInterfaceTest {
 		assertObject(proxy.getEnum1d3dListMap().values().iterator().next().get(0)[0][0][0]).isType(TestEnum.class);
 	}
 
+	//====================================================================================================
+	// Cached values
+	//====================================================================================================
+
+	@Test
+	public void testCachedValues() throws Exception {
+		proxy.setString("foo");
+		String s = proxy.getString();
+		assertObject(proxy.getString()).isSameObjectAs(s);
+		proxy.setStringList(AList.of("foo"));
+		List<String> l = proxy.getStringList();
+		l.add("x");
+		assertObject(proxy.getStringList()).asJson().is("['foo']");
+		proxy.setStringList(AList.of("bar"));
+		assertObject(proxy.getStringList()).asJson().is("['bar']");
+		cf.remove("A/stringList");
+		assertObject(proxy.getStringList()).isNull();
+		cf.set("A/stringList", "['baz']");
+		assertObject(proxy.getStringList()).asJson().is("['baz']");
+	}
+
+	@Test
+	public void testCachedValuesInvalidatedByStoreChanges() throws Exception {
+		ConfigMemoryStore.DEFAULT.update("ConfigInterfaceTest.cfg", "[A]", "string = foo");
+		Config cf2 = Config.create().store(ConfigMemoryStore.DEFAULT).name("ConfigInterfaceTest.cfg").build();
+		ConfigInterface proxy2 = cf2.getSectionAsInterface("A", ConfigInterface.class);
+		assertEquals("foo", proxy2.getString());
+		ConfigMemoryStore.DEFAULT.update("ConfigInterfaceTest.cfg", "[A]", "string = bar");
+		assertEquals("bar", proxy2.getString());
+		cf2.rollback();
+		assertEquals("bar", proxy2.getString());
+	}
+
+	@Test
+	public void testVariablesNotCached() throws Exception {
+		System.setProperty("ConfigInterfaceTest.x", "foo");
+		cf.set("A/string", "$S{ConfigInterfaceTest.x}");
+		assertEquals("foo", proxy.getString());
+		System.setProperty("ConfigInterfaceTest.x", "bar");
+		assertEquals("bar", proxy.getString());
+		System.clearProperty("ConfigInterfaceTest.x");
+	}
+
 	public static interface ConfigInterface {
 
 		// Various primitives
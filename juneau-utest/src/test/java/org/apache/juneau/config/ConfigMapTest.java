@@ -1131,6 +1131,81 @@ public class ConfigMapTest {
 		assertThrown(()->cm.setEntry("S1", "k1", "v1", " ", null, null)).is("Invalid modifiers:  ");
 	}
 
+	//-----------------------------------------------------------------------------------------------------------------
+	// Reads see a consistent snapshot of the map.
+	//-----------------------------------------------------------------------------------------------------------------
+	@Test
+	public void testSnapshotReads() throws Exception {
+		ConfigStore s = initStore("Foo.cfg",
+			"# comment",
+			"[S1]",
+			"k1 = v1"
+		);
+		ConfigMap cm = s.getMap("Foo.cfg");
+
+		Set<String> keys = cm.getKeys("S1");
+		List<String> preLines = cm.getPreLines("S1");
+		cm.setEntry("S1", "k2", "v2", null, null, null);
+		cm.setSection("S2", Arrays.asList("# S2"));
+
+		assertObject(keys).asJson().is("['k1']");
+		assertObject(cm.getKeys("S1")).asJson().is("['k1','k2']");
+		assertObject(cm.getSections()).asJson().is("['','S1','S2']");
+		assertObject(cm.getPreLines("S2")).asJson().is("['# S2']");
+		assertThrown(()->preLines.add("x")).isType(UnsupportedOperationException.class);
+
+		cm.removeEntry("S1", "k1");
+		assertObject(cm.getEntry("S1", "k1")).isNull();
+		assertObject(cm.asMap()).asJson().is("{'':{},S1:{k2:'v2'},S2:{}}");
+
+		cm.rollback();
+		assertObject(cm.asMap()).asJson().is("{'':{},S1:{k1:'v1'}}");
+
+		s.update("Foo.cfg", "[S3]", "k3 = v3");
+		assertObject(cm.asMap()).asJson().is("{'':{},S3:{k3:'v3'}}");
+		assertString(cm.getEntry("S3", "k3").getValue()).is("v3");
+	}
+
+	@Test
+	public void testConcurrentSnapshotReads() throws Exception {
+		ConfigStore s = initStore("Foo.cfg",
+			"[S1]",
+			"k1 = 0"
+		);
+		ConfigMap cm = s.getMap("Foo.cfg");
+		Thread t = new Thread(() -> {
+			for (int i = 1; i <= 1000; i++)
+				cm.setEntry("S1", "k1", String.valueOf(i), null, null, null);
+		});
+		t.start();
+		int last = 0;
+		while (last < 1000) {
+			int i = Integer.parseInt(cm.getEntry("S1", "k1").getValue());
+			assertTrue(i >= last);
+			last = i;
+		}
+		t.join();
+	}
+
+	@Test
+	public void testLocalChangesVisibleDuringReload() throws Exception {
+		ConfigStore s = initStore("Foo.cfg",
+			"[S1]",
+			"k1 = 0"
+		);
+		ConfigMap cm = s.getMap("Foo.cfg");
+		cm.setEntry("S1", "local", "x", null, null, null);
+		Thread t = new Thread(() -> {
+			for (int i = 1; i <= 1000; i++)
+				s.update("Foo.cfg", "[S1]", "k1 = " + i);
+		});
+		t.start();
+		while (t.isAlive())
+			assertString(cm.getEntry("S1", "local").getValue()).is("x");
+		t.join();
+		assertObject(cm.asMap()).asJson().is("{'':{},S1:{k1:'1000',local:'x'}}");
+	}
+
 	private static ConfigStore initStore(String name, String...contents) {
 		return ConfigMemoryStore.create().build().update(name, contents);
 	}
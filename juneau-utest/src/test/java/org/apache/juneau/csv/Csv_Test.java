@@ -15,8 +15,14 @@ package org.apache.juneau.csv;
 import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
+import java.io.*;
 import java.util.*;
+import java.util.stream.*;
 
+import org.apache.juneau.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.marshall.*;
+import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
 
@@ -44,9 +50,131 @@ public class Csv_Test {
 		public String b;
 		public int c;
 
+		public A() {}
+
 		public A(String b, int c) {
 			this.b = b;
 			this.c = c;
 		}
 	}
+
+	//====================================================================================================
+	// Parsing
+	//====================================================================================================
+
+	@Test
+	public void testParseBeans() throws Exception {
+		List<A> l = CsvParser.DEFAULT.parse("b,c\nb1,1\nb2,2\n", List.class, A.class);
+		assertEquals(2, l.size());
+		assertEquals("b1", l.get(0).b);
+		assertEquals(2, l.get(1).c);
+
+		A[] a = CsvParser.DEFAULT.parse("c,b\r\n1,b1\r\n\r\n2,b2", A[].class);
+		assertEquals(2, a.length);
+		assertEquals("b2", a[1].b);
+		assertEquals(1, a[0].c);
+
+		A a2 = CsvParser.DEFAULT.parse("b,c\nb1,1\n", A.class);
+		assertEquals("b1", a2.b);
+	}
+
+	@Test
+	public void testParseQuoting() throws Exception {
+		List<A> l = CsvParser.DEFAULT.parse("b,c\n\"x, \"\"y\"\"\n\",1\nnull,2\n\"null\",3\n,4\n", List.class, A.class);
+		assertEquals("x, \"y\"\n", l.get(0).b);
+		assertNull(l.get(1).b);
+		assertEquals("null", l.get(2).b);
+		assertEquals("", l.get(3).b);
+	}
+
+	@Test
+	public void testParseMaps() throws Exception {
+		OList l = CsvParser.DEFAULT.parse("b,c\nb1,1\n", OList.class);
+		assertEquals("[{b:'b1',c:'1'}]", l.toString());
+
+		List<Map<String,Integer>> l2 = CsvParser.DEFAULT.parse("x,y\n1,\n3,4", List.class, Map.class, String.class, Integer.class);
+		assertEquals("[{x:1,y:null},{x:3,y:4}]", SimpleJson.DEFAULT.toString(l2));
+	}
+
+	@Test
+	public void testParseNullHeader() throws Exception {
+		OList l = CsvParser.DEFAULT.parse("null,b\n1,null\n", OList.class);
+		assertEquals("[{'null':'1',b:null}]", l.toString());
+
+		try {
+			CsvParser.DEFAULT.parse("null,b\n1,b1\n", List.class, A.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unknown property 'null'"));
+		}
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		List<A> l = new ArrayList<>();
+		l.add(new A("b 1",1));
+		l.add(new A("say \"hi\", bye",2));
+		l.add(new A("null",3));
+		l.add(new A(null,4));
+		String csv = CsvSerializer.DEFAULT.serialize(l);
+		List<A> l2 = CsvParser.DEFAULT.parse(csv, List.class, A.class);
+		assertEquals(SimpleJson.DEFAULT.toString(l), SimpleJson.DEFAULT.toString(l2));
+	}
+
+	@Test
+	public void testUnknownProperty() throws Exception {
+		try {
+			CsvParser.DEFAULT.parse("b,x\nb1,1\n", List.class, A.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unknown property 'x'"));
+		}
+		List<A> l = CsvParser.create().ignoreUnknownBeanProperties().build().parse("b,x\nb1,1\n", List.class, A.class);
+		assertEquals("b1", l.get(0).b);
+	}
+
+	@Test
+	public void testMalformed() throws Exception {
+		try {
+			CsvParser.DEFAULT.parse("b,c\n\"b1,1\n", List.class, A.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unterminated quoted field"));
+		}
+	}
+
+	@Test
+	public void testParseIterator() throws Exception {
+		StringBuilder sb = new StringBuilder("b,c\n");
+		for (int i = 0; i < 1000; i++)
+			sb.append("b").append(i).append(',').append(i).append('\n');
+
+		int count = 0;
+		try (ParserIterator<A> i = CsvParser.DEFAULT.parseIterator(new StringReader(sb.toString()), A.class)) {
+			while (i.hasNext()) {
+				A a = i.next();
+				assertEquals(count, a.c);
+				assertEquals("b" + count, a.b);
+				count++;
+			}
+		}
+		assertEquals(1000, count);
+
+		try (Stream<A> s = CsvParser.DEFAULT.parseIterator(sb.toString(), A.class).stream()) {
+			assertEquals(499500, s.mapToInt(x -> x.c).sum());
+		}
+
+		ParserIterator<A> i = CsvParser.DEFAULT.parseIterator("b,c\n", A.class);
+		assertFalse(i.hasNext());
+
+		i = CsvParser.DEFAULT.parseIterator("b,c\nb1,x\n", A.class);
+		assertTrue(i.hasNext());
+		try {
+			i.next();
+			fail();
+		} catch (BasicRuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+		assertFalse(i.hasNext());
+	}
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.mstat.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class Cache_Test {
+
+	@Test
+	public void a01_basic() {
+		Cache<String,String> x = new Cache<>(false, 10);
+		assertObject(x.get("a")).isNull();
+		assertString(x.put("a", "1")).is("1");
+		assertString(x.put("a", "2")).is("1");
+		assertString(x.get("a")).is("1");
+		assertObject(x.get(null)).isNull();
+		assertString(x.put(null, "3")).is("3");
+
+		CacheStats s = x.getStats();
+		assertInteger(s.getSize()).is(1);
+		assertInteger(s.getMaxSize()).is(10);
+		assertLong(s.getHits()).is(1L);
+		assertLong(s.getMisses()).is(1L);
+		assertLong(s.getEvictions()).is(0L);
+		assertInteger(s.getHitRatio()).is(50);
+	}
+
+	@Test
+	public void a02_disabled() {
+		Cache<String,String> x = new Cache<>(true, 10);
+		assertString(x.put("a", "1")).is("1");
+		assertObject(x.get("a")).isNull();
+		assertInteger(x.size()).is(0);
+		assertObject(x.values()).asJson().is("[]");
+	}
+
+	@Test
+	public void a03_bounded() {
+		Cache<Integer,Integer> x = new Cache<>(false, 100);
+		for (int i = 0; i < 1000; i++)
+			x.put(i, i);
+		assertInteger(x.size()).is(100);
+		assertLong(x.getStats().getEvictions()).is(900L);
+	}
+
+	@Test
+	public void a04_recentlyUsedEntriesRetained() {
+		Cache<Integer,Integer> x = new Cache<>(false, 10);
+		for (int i = 0; i < 10; i++)
+			x.put(i, i);
+		for (int i = 10; i < 100; i++) {
+			x.get(0);
+			x.put(i, i);
+		}
+		assertInteger(x.get(0)).is(0);
+		assertInteger(x.size()).is(10);
+	}
+
+	@Test
+	public void a05_registered() {
+		Cache<String,String> x = new Cache<>("Cache_Test.a05", false, 10);
+		x.put("a", "1");
+		x.get("a");
+		assertString(x.getName()).is("Cache_Test.a05");
+		assertObject(CacheStats.getAll().stream().filter(y -> "Cache_Test.a05".equals(y.getName())).findFirst().get()).asJson().is("{name:'Cache_Test.a05',size:1,maxSize:10,hits:1,misses:0,evictions:0,hitRatio:100}");
+	}
+}
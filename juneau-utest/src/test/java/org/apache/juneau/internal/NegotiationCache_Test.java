@@ -0,0 +1,137 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class NegotiationCache_Test {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Normalization
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_normalize() {
+		assertObject(NegotiationCache.normalize(null)).isNull();
+		assertObject(NegotiationCache.normalize("")).isNull();
+		assertObject(NegotiationCache.normalize("  ")).isNull();
+		assertString(NegotiationCache.normalize(" text/json ")).is("text/json");
+		assertString(NegotiationCache.normalize("text/json , text/xml ; q = 0.9")).is("text/json,text/xml;q=0.9");
+		assertString(NegotiationCache.normalize("text/foo bar;x=\" a , b \"")).is("text/foo bar;x=\" a , b \"");
+	}
+
+	@Test
+	public void a02_normalize_noAllocationWhenNormalized() {
+		String s = "text/json,text/xml;q=0.9";
+		assertObject(NegotiationCache.normalize(s)).isSameObjectAs(s);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Caching
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_precomputed() {
+		AtomicInteger calls = new AtomicInteger();
+		NegotiationCache<String> x = new NegotiationCache<>(Arrays.asList("a", "b"), y -> { calls.incrementAndGet(); return y.toUpperCase(); }, false, 10);
+		assertInteger(calls.get()).is(2);
+		assertInteger(x.getTableSize()).is(2);
+		assertString(x.get("a")).is("A");
+		assertString(x.get(" b ")).is("B");
+		assertInteger(calls.get()).is(2);
+		assertLong(x.getStats().getHits()).is(0L);
+		assertLong(x.getStats().getMisses()).is(0L);
+	}
+
+	@Test
+	public void b02_bounded() {
+		NegotiationCache<String> x = new NegotiationCache<>(Collections.emptyList(), y -> y, false, 10);
+		for (int i = 0; i < 1000; i++)
+			assertString(x.get("x" + i)).is("x" + i);
+		assertInteger(x.getStats().getSize()).is(10);
+		assertLong(x.getStats().getEvictions()).is(990L);
+	}
+
+	@Test
+	public void b03_noMatchCached() {
+		AtomicInteger calls = new AtomicInteger();
+		NegotiationCache<String> x = new NegotiationCache<>(Collections.emptyList(), y -> { calls.incrementAndGet(); return null; }, false, 10);
+		assertObject(x.get("foo")).isNull();
+		assertObject(x.get("foo ")).isNull();
+		assertObject(x.get(null)).isNull();
+		assertInteger(calls.get()).is(1);
+		assertLong(x.getStats().getHits()).is(1L);
+	}
+
+	@Test
+	public void b04_disabled() {
+		AtomicInteger calls = new AtomicInteger();
+		NegotiationCache<String> x = new NegotiationCache<>(Collections.emptyList(), y -> { calls.incrementAndGet(); return y; }, true, 10);
+		assertString(x.get("foo")).is("foo");
+		assertString(x.get("foo")).is("foo");
+		assertInteger(calls.get()).is(2);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Groups
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_serializerGroup() {
+		SerializerGroup g = SerializerGroup.create().append(JsonSerializer.class, XmlSerializer.class).build();
+		assertObject(g.getSerializer("application/json")).isType(JsonSerializer.class);
+		assertObject(g.getSerializer("text/xml")).isType(XmlSerializer.class);
+		assertLong(g.getNegotiationCacheStats().getMisses()).is(0L);
+		assertObject(g.getSerializer("text/xml ; q=0.9 , application/json")).isType(JsonSerializer.class);
+		assertObject(g.getSerializer("text/xml;q=0.9,application/json")).isType(JsonSerializer.class);
+		assertObject(g.getSerializer("text/foo")).isNull();
+		assertLong(g.getNegotiationCacheStats().getMisses()).is(2L);
+		assertLong(g.getNegotiationCacheStats().getHits()).is(1L);
+		for (int i = 0; i < 5000; i++)
+			g.getSerializer("text/foo" + i);
+		assertInteger(g.getNegotiationCacheStats().getSize()).isLte(g.getNegotiationCacheStats().getMaxSize());
+	}
+
+	@Test
+	public void c02_parserGroup() {
+		ParserGroup g = ParserGroup.create().append(JsonParser.class, XmlParser.class).build();
+		assertObject(g.getParser("application/json")).isType(JsonParser.class);
+		assertObject(g.getParser("text/xml; charset=utf-8")).isType(XmlParser.class);
+		assertObject(g.getParser("text/xml;charset=utf-8")).isType(XmlParser.class);
+		assertObject(g.getParser("text/foo")).isNull();
+		assertLong(g.getNegotiationCacheStats().getMisses()).is(2L);
+		assertLong(g.getNegotiationCacheStats().getHits()).is(1L);
+	}
+
+	@Test
+	public void c03_encoderGroup() {
+		EncoderGroup g = EncoderGroup.DEFAULT.builder().build();
+		assertObject(g.getEncoder("gzip")).isType(GzipEncoder.class);
+		assertLong(g.getNegotiationCacheStats().getMisses()).is(0L);
+		assertString(g.getEncoderMatch("compress;q=0.5, gzip;q=1.0").getEncoding()).is("gzip");
+		assertObject(g.getEncoder("compress")).isNull();
+		assertLong(g.getNegotiationCacheStats().getMisses()).is(2L);
+	}
+}
@@ -0,0 +1,206 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.math.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.uon.*;
+import org.junit.*;
+
+@SuppressWarnings("unchecked")
+@FixMethodOrder(NAME_ASCENDING)
+public class NumberScanner_Test {
+
+	private static final String[] LITERALS = {
+		"0", "-0", "1", "-1", "123", "2147483647", "2147483648", "-2147483648", "-2147483649", "32767", "32768",
+		"-32768", "127", "128", "-128", "9007199254740993", "123456789012345678", "9223372036854775806",
+		"9223372036854775807", "-9223372036854775808", "99999999999999999999", "1.0", "1.5", "-1.5", "0.1",
+		"0.30000000000000004", "1e5", "1E-5", "1.25e+3", "0.000123", "123456789.123", "1.7976931348623157e308",
+		"4.9e-324", "3.4028235e38", "1e400", "1e-400", "00", "0123", "0x1F", "-0x1F", "#1F", "1.", "-.5", ".5", "+1",
+		"1.5f", "1e", "1e+", "-", "", "12abc"
+	};
+
+	private static final Class<?>[] TYPES = {
+		null, Number.class, Integer.class, int.class, Long.class, long.class, Double.class, double.class, Float.class,
+		float.class, Short.class, short.class, Byte.class, byte.class, BigDecimal.class, BigInteger.class,
+		AtomicInteger.class, AtomicLong.class
+	};
+
+	private static String parseString(String s, Class<?> type) {
+		try {
+			Number n = StringUtils.parseNumber(s, (Class<? extends Number>)type);
+			return n.getClass().getSimpleName() + ":" + n;
+		} catch (ParseException e) {
+			return "error";
+		}
+	}
+
+	// Reused across calls the same way a parser session reuses its scanner.
+	private static final NumberScanner SCANNER = new NumberScanner();
+
+	private static String parseReader(String s, Class<?> type) throws Exception {
+		try (ParserReader r = new ParserReader(new ParserPipe(s + ",x"))) {
+			try {
+				Number n = StringUtils.parseNumber(r, (Class<? extends Number>)type, SCANNER);
+				assertEquals(s, ',', r.read());
+				return n.getClass().getSimpleName() + ":" + n;
+			} catch (ParseException e) {
+				return "error";
+			}
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Scanning
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_sameAsStringParse() throws Exception {
+		for (String s : LITERALS)
+			for (Class<?> t : TYPES)
+				assertEquals(s + " as " + t, parseString(s, t), parseReader(s, t));
+	}
+
+	@Test
+	public void a02_exactRounding() throws Exception {
+		Random r = new Random(12345);
+		NumberScanner ns = new NumberScanner();
+		for (int i = 0; i < 20000; i++) {
+			String s = (r.nextBoolean() ? "-" : "") + Math.abs(r.nextLong() % (1L << (1 + r.nextInt(55)))) + (r.nextBoolean() ? "." + r.nextInt(1000000) : "") + (r.nextBoolean() ? "e" + (r.nextInt(50) - 25) : "");
+			try (ParserReader pr = new ParserReader(new ParserPipe(s))) {
+				if (! ns.scan(pr, null))
+					continue;  // Too many digits.
+				if (ns.isDouble())
+					assertEquals(s, Double.doubleToRawLongBits(Double.parseDouble(s)), Double.doubleToRawLongBits(ns.doubleValue()));
+				if (ns.isFloat())
+					assertEquals(s, Float.floatToRawIntBits(Float.parseFloat(s)), Float.floatToRawIntBits(ns.floatValue()));
+			}
+		}
+	}
+
+	@Test
+	public void a03_endChars() throws Exception {
+		NumberScanner ns = new NumberScanner();
+		AsciiSet endChars = AsciiSet.create(",)");
+		try (ParserReader r = new ParserReader(new ParserPipe("123)"))) {
+			assertTrue(ns.scan(r, endChars));
+			assertEquals(123, ns.intValue());
+			assertEquals(')', r.read());
+		}
+		try (ParserReader r = new ParserReader(new ParserPipe("123 "))) {
+			assertTrue(ns.scan(r, endChars));
+			assertEquals(' ', r.read());
+		}
+		try (ParserReader r = new ParserReader(new ParserPipe("123:"))) {
+			assertFalse(ns.scan(r, endChars));
+			assertEquals('1', r.read());
+		}
+	}
+
+	@Test
+	public void a04_reset() throws Exception {
+		NumberScanner ns = new NumberScanner();
+		try (ParserReader r = new ParserReader(new ParserPipe("1.5e3,"))) {
+			assertTrue(ns.scan(r, null));
+			assertFalse(ns.isInt());
+			assertNull(ns.toNumber(Integer.class));
+			ns.reset(r);
+			assertEquals("1.5e3", StringUtils.parseNumberString(r));
+		}
+	}
+
+	@Test
+	public void a05_longLiteralAcrossBufferRefill() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 1020; i++)
+			sb.append(' ');
+		String s = sb.append("123456789.25,").toString();
+		NumberScanner ns = new NumberScanner();
+		try (ParserReader r = new ParserReader(new ParserPipe(new java.io.StringReader(s)))) {
+			r.readSkipWs();
+			r.unread();
+			assertTrue(ns.scan(r, null));
+			assertEquals(123456789.25, ns.doubleValue(), 0);
+			ns.reset(r);
+			assertEquals("123456789.25", StringUtils.parseNumberString(r));
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Primitive bean properties
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class B {
+		public int i;
+		public long l;
+		public float f;
+		public double d;
+		public short s;
+		public Integer boxed;
+		private int x;
+
+		public int getX() {
+			return x;
+		}
+
+		public B setX(int x) {
+			this.x = x;
+			return this;
+		}
+	}
+
+	@Test
+	public void b01_json() throws Exception {
+		B b = JsonParser.DEFAULT.parse("{i:-12,l:9223372036854775807,f:0.1,d:-1.25e-3,s:7,boxed:3,x:42}", B.class);
+		assertObject(b).asJson().is("{boxed:3,d:-0.00125,f:0.1,i:-12,l:9223372036854775807,s:7,x:42}");
+	}
+
+	@Test
+	public void b02_json_fallbacks() throws Exception {
+		B b = JsonParser.DEFAULT.parse("{i:'5',l:0x10,f:1e40,d:1e300,x:null}", B.class);
+		assertObject(b).asJson().is("{d:1.0E300,f:Infinity,i:5,l:16,s:0,x:0}");
+		assertThrown(()->JsonParser.DEFAULT.parse("{i:1.5}", B.class)).contains("Invalid number");
+		assertThrown(()->JsonParser.DEFAULT.parse("{i:2147483648}", B.class)).contains("Invalid number");
+	}
+
+	@Test
+	public void b03_uon() throws Exception {
+		B b = UonParser.DEFAULT.parse("(i=-12,l=9223372036854775807,f=0.1, d = -1.25e-3 ,s=7,boxed=3,x=42)", B.class);
+		assertObject(b).asJson().is("{boxed:3,d:-0.00125,f:0.1,i:-12,l:9223372036854775807,s:7,x:42}");
+		assertThrown(()->UonParser.DEFAULT.parse("(i=1.5)", B.class)).contains("Invalid number");
+	}
+
+	public static class C {
+		public void setX(int x) {
+			throw new IllegalStateException("bad x");
+		}
+		public int getX() {
+			return 0;
+		}
+	}
+
+	@Test
+	public void b04_setterException() throws Exception {
+		assertThrown(()->JsonParser.DEFAULT.parse("{x:1}", C.class)).contains("Error occurred trying to set property 'x'", "bad x");
+		assertObject(JsonParser.create().ignoreInvocationExceptionsOnSetters().build().parse("{x:1}", C.class)).exists();
+	}
+}
@@ -0,0 +1,178 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.json.JsonCursor.Token.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.json.JsonCursor.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class JsonCursorTest {
+
+	private static final JsonParser p = JsonParser.DEFAULT;
+	private static final JsonParser sp = JsonParser.DEFAULT_STRICT;
+
+	private static String tokens(JsonCursor c) throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (Token t = c.next(); t != null; t = c.next()) {
+			if (sb.length() > 0)
+				sb.append(' ');
+			sb.append(t);
+			if (t == FIELD_NAME)
+				sb.append('(').append(c.getFieldName()).append(')');
+			else if (t == STRING || t == NUMBER || t == BOOLEAN)
+				sb.append('(').append(c.getValue()).append(')');
+		}
+		return sb.toString();
+	}
+
+	//====================================================================================================
+	// Tokens
+	//====================================================================================================
+
+	@Test
+	public void a01_tokens() throws Exception {
+		try (JsonCursor c = p.createCursor("{a:1,'b':[true,null,\"x\"],c:{},d:[]}")) {
+			assertEquals(
+				"START_OBJECT FIELD_NAME(a) NUMBER(1) FIELD_NAME(b) START_ARRAY BOOLEAN(true) NULL STRING(x) END_ARRAY "
+				+ "FIELD_NAME(c) START_OBJECT END_OBJECT FIELD_NAME(d) START_ARRAY END_ARRAY END_OBJECT",
+				tokens(c));
+		}
+	}
+
+	@Test
+	public void a02_scalars() throws Exception {
+		try (JsonCursor c = sp.createCursor(" \"foo\" ")) {
+			assertEquals("STRING(foo)", tokens(c));
+		}
+		try (JsonCursor c = sp.createCursor("-1.5e2")) {
+			assertEquals(NUMBER, c.next());
+			assertEquals(-150.0, c.getNumber().doubleValue(), 0);
+			assertNull(c.next());
+		}
+		try (JsonCursor c = p.createCursor("")) {
+			assertNull(c.next());
+		}
+		try (JsonCursor c = p.createCursor(null)) {
+			assertNull(c.next());
+		}
+	}
+
+	@Test
+	public void a03_commentsAndWhitespace() throws Exception {
+		try (JsonCursor c = p.createCursor("/*x*/ [ 1 , // y\n 2 ] ")) {
+			assertEquals("START_ARRAY NUMBER(1) NUMBER(2) END_ARRAY", tokens(c));
+		}
+	}
+
+	@Test
+	public void a04_depthAndPeek() throws Exception {
+		try (JsonCursor c = p.createCursor("[[1]]")) {
+			assertEquals(START_ARRAY, c.peek());
+			assertEquals(0, c.getDepth());
+			c.next();
+			c.next();
+			assertEquals(2, c.getDepth());
+			assertEquals(NUMBER, c.peek());
+			assertEquals(NUMBER, c.next());
+			assertEquals(END_ARRAY, c.next());
+			assertEquals(1, c.getDepth());
+		}
+	}
+
+	//====================================================================================================
+	// Binding
+	//====================================================================================================
+
+	@Test
+	public void b01_readElements() throws Exception {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 100; i++)
+			sb.append(i == 0 ? "" : ",").append("{a:'a").append(i).append("',b:").append(i).append('}');
+		sb.append(']');
+
+		int count = 0;
+		try (JsonCursor c = p.createCursor(new StringReader(sb.toString()))) {
+			assertEquals(START_ARRAY, c.next());
+			while (c.peek() != END_ARRAY) {
+				A a = c.read(A.class);
+				assertEquals("a" + count, a.a);
+				assertEquals(count, a.b);
+				count++;
+			}
+			assertEquals(END_ARRAY, c.next());
+			assertNull(c.next());
+		}
+		assertEquals(100, count);
+	}
+
+	@Test
+	public void b02_readFieldValues() throws Exception {
+		try (JsonCursor c = p.createCursor("{total:2,items:[{a:'x',b:1},{a:'y',b:2}],other:{x:[1,2,{}]},last:true}")) {
+			List<A> l = null;
+			assertEquals(START_OBJECT, c.next());
+			while (c.next() == FIELD_NAME) {
+				if (c.getFieldName().equals("items")) {
+					l = c.read(List.class, A.class);
+				} else if (c.getFieldName().equals("other")) {
+					assertEquals(START_OBJECT, c.next());
+					c.skipChildren();
+					assertEquals(END_OBJECT, c.getToken());
+				} else {
+					c.next();
+				}
+			}
+			assertEquals(END_OBJECT, c.getToken());
+			assertEquals(2, l.size());
+			assertEquals("y", l.get(1).a);
+		}
+	}
+
+	@Test
+	public void b03_readScalar() throws Exception {
+		try (JsonCursor c = p.createCursor("[1,'2']")) {
+			c.next();
+			assertEquals(Integer.valueOf(1), c.read(Integer.class));
+			assertEquals(Integer.valueOf(2), c.read(Integer.class));
+			assertThrown(()->c.read(Integer.class)).contains("Expected a value");
+		}
+	}
+
+	public static class A {
+		public String a;
+		public int b;
+	}
+
+	//====================================================================================================
+	// Errors
+	//====================================================================================================
+
+	@Test
+	public void c01_malformed() throws Exception {
+		assertThrown(()->tokens(p.createCursor("[1 2]"))).isType(ParseException.class).contains("Expected ',' or ']'");
+		assertThrown(()->tokens(p.createCursor("{a 1}"))).isType(ParseException.class).contains("Could not find ':'");
+		assertThrown(()->tokens(p.createCursor("{a:1,}"))).isType(ParseException.class).contains("trailing comma");
+		assertThrown(()->tokens(p.createCursor("[1,]"))).isType(ParseException.class).contains("Missing value");
+		assertThrown(()->tokens(p.createCursor("[1"))).isType(ParseException.class);
+		assertThrown(()->tokens(p.createCursor("1 2"))).isType(ParseException.class).contains("Remainder after parse");
+		assertThrown(()->tokens(sp.createCursor("{a:1}"))).isType(ParseException.class).contains("Unquoted attribute");
+	}
+}
@@ -0,0 +1,124 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.internal.IOUtils.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class JsonSerializerUtf8_Test {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Utf8Writer
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static byte[] utf8(String s, int bufferSize) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (Utf8Writer w = new Utf8Writer(baos, bufferSize)) {
+			w.write(s);
+		}
+		return baos.toByteArray();
+	}
+
+	@Test
+	public void a01_utf8Writer_sameAsOutputStreamWriter() throws Exception {
+		String s = "abc \u00e9\u00df \u20ac\u4e2d \ud83d\ude00 end";
+		assertString(new String(utf8(s, 8192), UTF8)).is(s);
+		assertString(new String(utf8(s, 4), UTF8)).is(s);
+		assertObject(utf8(s, 5)).isSameJsonAs(s.getBytes(UTF8));
+	}
+
+	@Test
+	public void a02_utf8Writer_malformedSurrogates() throws Exception {
+		String s = "a\ud83db\ude00c\ud83d";
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (Writer w = new OutputStreamWriter(baos, StandardCharsets.UTF_8)) {
+			w.write(s);
+		}
+		assertObject(utf8(s, 8192)).isSameJsonAs(baos.toByteArray());
+		assertString(new String(utf8(s, 8192), UTF8)).is("a?b?c?");
+	}
+
+	@Test
+	public void a03_utf8Writer_raw() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (Utf8Writer w = new Utf8Writer(baos, 4)) {
+			w.write("ab");
+			w.writeRaw("cdefgh".getBytes(UTF8));
+			w.write('i');
+		}
+		assertString(new String(baos.toByteArray(), UTF8)).is("abcdefghi");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// JsonSerializer
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class A {
+		public String f1 = "foo\u00e9\"\n/";
+		public int f2 = -123;
+		public long f3 = Long.MIN_VALUE;
+		public Integer f4 = Integer.MAX_VALUE;
+		public double f5 = 1.5;
+		public boolean f6 = true;
+		public Map<String,Object> f7 = AMap.of("\u20ac", 1, "a b", (Object)(short)-7);
+		public List<Byte> f8 = AList.of((byte)0, (byte)-1);
+		public String f9 = "\ud83d\ude00";
+	}
+
+	private static void assertSameAsString(WriterSerializer s, Object o) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		s.serialize(o, baos);
+		assertString(new String(baos.toByteArray(), UTF8)).is(s.serialize(o));
+	}
+
+	@Test
+	public void b01_outputStream_sameAsWriter() throws Exception {
+		for (WriterSerializer s : new WriterSerializer[]{JsonSerializer.DEFAULT, JsonSerializer.DEFAULT_READABLE, SimpleJsonSerializer.DEFAULT, SimpleJsonSerializer.DEFAULT_READABLE, JsonSerializer.create().escapeSolidus().build()}) {
+			assertSameAsString(s, new A());
+			assertSameAsString(s, new A[]{new A(), new A()});
+			assertSameAsString(s, 0);
+			assertSameAsString(s, -1L);
+		}
+	}
+
+	@Test
+	public void b02_outputStream_encodedNames() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		SimpleJsonSerializer.DEFAULT.serialize(new A(), baos);
+		assertString(new String(baos.toByteArray(), UTF8)).is("{f1:'foo\u00e9\"\\n/',f2:-123,f3:-9223372036854775808,f4:2147483647,f5:1.5,f6:true,f7:{'\u20ac':1,'a b':-7},f8:[0,-1],f9:'\ud83d\ude00'}");
+	}
+
+	@Test
+	public void b03_outputStream_otherCharset() throws Exception {
+		JsonSerializer s = JsonSerializer.create().ssq().streamCharset(Charset.forName("ISO-8859-1")).build();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		s.serialize(AMap.of("a", "\u00e9"), baos);
+		assertObject(baos.toByteArray()).isSameJsonAs("{a:'\u00e9'}".getBytes("ISO-8859-1"));
+	}
+
+	@Test
+	public void b04_session() throws Exception {
+		assertBoolean(JsonSerializer.DEFAULT.createSession().isDirectUtf8Output()).isTrue();
+	}
+}
@@ -0,0 +1,226 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.config.*;
+import org.apache.juneau.rest.mock.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class NdJson_Test {
+
+	public static class A {
+		public int f1;
+		public String f2;
+
+		public static A create(int f1, String f2) {
+			A a = new A();
+			a.f1 = f1;
+			a.f2 = f2;
+			return a;
+		}
+	}
+
+	public static class B {}
+
+	public static class BSwap extends StringSwap<B> {
+		@Override /* PojoSwap */
+		public B unswap(BeanSession session, String in, ClassMeta<?> hint) throws Exception {
+			throw new AssertionError("Failed on " + in);
+		}
+	}
+
+	private static List<A> beans(int count) {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < count; i++)
+			l.add(A.create(i, "s" + i));
+		return l;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serialization
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_collection() throws Exception {
+		assertEquals("{\"f1\":1,\"f2\":\"a\"}\n{\"f1\":2,\"f2\":\"b\"}\n", NdJsonSerializer.DEFAULT.serialize(Arrays.asList(A.create(1,"a"), A.create(2,"b"))));
+		assertEquals("1\n\"x\"\nnull\n[1,2]\n", NdJsonSerializer.DEFAULT.serialize(new Object[]{1,"x",null,new int[]{1,2}}));
+		assertEquals("", NdJsonSerializer.DEFAULT.serialize(new ArrayList<>()));
+	}
+
+	@Test
+	public void a02_singleValue() throws Exception {
+		assertEquals("{\"f1\":1,\"f2\":\"a\"}\n", NdJsonSerializer.DEFAULT.serialize(A.create(1,"a")));
+		assertEquals("{\"a\":[1,2]}\n", NdJsonSerializer.DEFAULT.serialize(OMap.of("a", AList.of(1,2))));
+		assertEquals("null\n", NdJsonSerializer.DEFAULT.serialize(null));
+	}
+
+	@Test
+	public void a03_stream() throws Exception {
+		assertEquals("1\n2\n3\n", NdJsonSerializer.DEFAULT.serialize(Stream.of(1,2,3)));
+		assertEquals("\"a\"\n\"b\"\n", NdJsonSerializer.DEFAULT.serialize(Arrays.asList("a","b").iterator()));
+	}
+
+	@Test
+	public void a04_neverUsesWhitespace() throws Exception {
+		WriterSerializer s = NdJsonSerializer.create().ws().build();
+		assertEquals("{\"f1\":1,\"f2\":\"a\"}\n", s.serialize(Arrays.asList(A.create(1,"a"))));
+		assertEquals("{\"f1\":1,\"f2\":\"a\"}\n", s.createSession(SerializerSessionArgs.create().useWhitespace(true)).serialize(A.create(1,"a")));
+	}
+
+	@Test
+	public void a05_flushesEachRecord() throws Exception {
+		final List<String> flushed = new ArrayList<>();
+		StringWriter sw = new StringWriter() {
+			@Override
+			public void flush() {
+				flushed.add(toString());
+			}
+		};
+		NdJsonSerializer.DEFAULT.serialize(Stream.of(1,2), sw);
+		assertObject(flushed.subList(0, 2)).asJson().is("['1\\n','1\\n2\\n']");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_collection() throws Exception {
+		List<A> l = NdJsonParser.DEFAULT.parse("{f1:1,f2:'a'}\n\n  \r\n{\"f1\":2,\"f2\":\"b\"}", List.class, A.class);
+		assertObject(l).asJson().is("[{f1:1,f2:'a'},{f1:2,f2:'b'}]");
+		assertObject(l.get(0)).isType(A.class);
+	}
+
+	@Test
+	public void b02_array() throws Exception {
+		assertObject(NdJsonParser.DEFAULT.parse("1\n2\n3\n", int[].class)).asJson().is("[1,2,3]");
+		assertObject(NdJsonParser.DEFAULT.parse("{f1:1}\n", A[].class)).asJson().is("[{f1:1}]");
+	}
+
+	@Test
+	public void b03_object() throws Exception {
+		Object o = NdJsonParser.DEFAULT.parse("{a:1}\n[1,2]\n'x'\n", Object.class);
+		assertObject(o).isType(OList.class).asJson().is("[{a:1},[1,2],'x']");
+	}
+
+	@Test
+	public void b04_singleValue() throws Exception {
+		assertObject(NdJsonParser.DEFAULT.parse("{f1:1,f2:'a'}\n", A.class)).asJson().is("{f1:1,f2:'a'}");
+		assertObject(NdJsonParser.DEFAULT.parse("{a:[1,2]}", OMap.class)).asJson().is("{a:[1,2]}");
+	}
+
+	@Test
+	public void b05_parallelKeepsOrder() throws Exception {
+		List<A> in = beans(5000);
+		String s = NdJsonSerializer.DEFAULT.serialize(in);
+		for (NdJsonParser p : new NdJsonParser[]{NdJsonParser.DEFAULT, NdJsonParser.create().chunkSize(7).build(), NdJsonParser.create().chunkSize(0).build()}) {
+			List<A> out = p.parse(s, List.class, A.class);
+			assertObject(out).isSameJsonAs(in);
+		}
+	}
+
+	@Test
+	public void b06_parseIntoCollection() throws Exception {
+		List<Integer> l = new ArrayList<>(Arrays.asList(0));
+		NdJsonParser.create().chunkSize(1).build().parseIntoCollection("1\n2\n", l, Integer.class);
+		assertObject(l).asJson().is("[0,1,2]");
+	}
+
+	@Test
+	public void b07_iterator() throws Exception {
+		try (ParserIterator<A> i = NdJsonParser.DEFAULT.parseIterator("{f1:1}\n\n{f1:2}\n", A.class)) {
+			assertObject(i.stream().map(x -> x.f1).collect(Collectors.toList())).asJson().is("[1,2]");
+		}
+	}
+
+	@Test
+	public void b08_errorReportsLine() throws Exception {
+		assertThrown(()->NdJsonParser.DEFAULT.parse("{f1:1}\n\n{f1:\n", List.class, A.class)).contains("Could not parse line 3.");
+		String s = NdJsonSerializer.DEFAULT.serialize(beans(100)) + "{f1:\n";
+		assertThrown(()->NdJsonParser.create().chunkSize(10).build().parse(s, List.class, A.class)).contains("Could not parse line 101.");
+	}
+
+	@Test
+	public void b09_errorInParallelTask() throws Exception {
+		NdJsonParser p = NdJsonParser.create().chunkSize(1).swaps(BSwap.class).build();
+		assertThrown(()->p.parse("'x'\n'y'\n", List.class, B.class)).isType(AssertionError.class).contains("Failed on ");
+	}
+
+	public static class BListener extends ParserListener {
+		final List<String> events = new ArrayList<>();
+
+		@Override /* ParserListener */
+		public <T> void onUnknownBeanProperty(ParserSession session, String propertyName, Class<T> beanClass, T bean) {
+			events.add(propertyName);
+			session.addWarning("Unknown property {0}", propertyName);
+		}
+	}
+
+	@Test
+	public void b10_parallelWarningsAndEvents() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 100; i++)
+			sb.append(i % 2 == 0 ? "{f1:1}" : "{f1:1,x" + i + ":1}").append('\n');
+		for (NdJsonParser p : new NdJsonParser[]{
+				NdJsonParser.create().chunkSize(3).ignoreUnknownBeanProperties().listener(BListener.class).build(),
+				NdJsonParser.create().chunkSize(0).ignoreUnknownBeanProperties().listener(BListener.class).build()}) {
+			ParserSession ps = p.createSession();
+			List<A> l = ps.parse(sb.toString(), List.class, A.class);
+			assertEquals(100, l.size());
+			assertEquals(50, ps.getWarnings().size());
+			assertEquals("50: Unknown property x99", ps.getWarnings().get(49));
+			List<String> events = ps.getListener(BListener.class).events;
+			assertEquals(50, events.size());
+			assertTrue(events.contains("x1") && events.contains("x99"));
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// REST
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Rest
+	public static class C implements BasicUniversalRest {
+		@RestGet
+		public Stream<A> a() {
+			return beans(3).stream();
+		}
+		@RestGet
+		public Iterator<A> b() {
+			return beans(2).iterator();
+		}
+	}
+
+	@Test
+	public void c01_restStreams() throws Exception {
+		MockRestClient c = MockRestClient.create(C.class).ndJson().build();
+		c.get("/a").run().assertHeader("Content-Type").is("application/x-ndjson").assertBody().is("{\"f1\":0,\"f2\":\"s0\"}\n{\"f1\":1,\"f2\":\"s1\"}\n{\"f1\":2,\"f2\":\"s2\"}\n");
+		List<A> l = c.get("/b").run().getBody().asType(List.class, A.class);
+		assertObject(l).asJson().is("[{f1:0,f2:'s0'},{f1:1,f2:'s1'}]");
+	}
+}
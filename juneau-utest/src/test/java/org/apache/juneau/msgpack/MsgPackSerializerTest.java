@@ -81,8 +81,8 @@ public class MsgPackSerializerTest {
 		test(Long.decode("0x0000000100000000").longValue(), "D3 00 00 00 01 00 00 00 00");
 		test(Long.decode("0x7FFFFFFFFFFFFFFF").longValue(), "D3 7F FF FF FF FF FF FF FF");
 		test(-Long.decode("0x7FFFFFFFFFFFFFFF").longValue(), "D3 80 00 00 00 00 00 00 01");
-		test(-1, "E1");
-		test(-63, "FF");
+		test(-1, "FF");
+		test(-63, "D0 C1");
 		test(-64, "D0 C0");
 
 		test(-0x7F, "D0 81");
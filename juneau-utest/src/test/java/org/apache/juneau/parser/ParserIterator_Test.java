@@ -0,0 +1,169 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.html.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+import org.junit.runner.*;
+import org.junit.runners.*;
+
+@RunWith(Parameterized.class)
+@FixMethodOrder(NAME_ASCENDING)
+public class ParserIterator_Test {
+
+	@Parameterized.Parameters
+	public static Collection<Object[]> getParameters() {
+		return Arrays.asList(new Object[][] {
+			{ "Json", JsonSerializer.DEFAULT, JsonParser.DEFAULT },
+			{ "SimpleJson", SimpleJsonSerializer.DEFAULT, JsonParser.DEFAULT },
+			{ "Uon", UonSerializer.DEFAULT, UonParser.DEFAULT },
+			{ "MsgPack", MsgPackSerializer.DEFAULT, MsgPackParser.DEFAULT },
+			{ "Xml", XmlSerializer.DEFAULT, XmlParser.DEFAULT },
+		});
+	}
+
+	private final Serializer s;
+	private final Parser p;
+
+	public ParserIterator_Test(String label, Serializer s, Parser p) {
+		this.s = s;
+		this.p = p;
+	}
+
+	public static class A {
+		public String a;
+		public int b;
+		public List<Integer> c;
+
+		static A create(int i) {
+			A x = new A();
+			x.a = "a" + i;
+			x.b = i;
+			x.c = Arrays.asList(i, i+1);
+			return x;
+		}
+	}
+
+	private Object serialize(Object o) throws Exception {
+		return s.serialize(o);
+	}
+
+	@Test
+	public void a01_beans() throws Exception {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			l.add(A.create(i));
+		Object in = serialize(l);
+
+		int count = 0;
+		try (ParserIterator<A> i = p.parseIterator(in, A.class)) {
+			while (i.hasNext()) {
+				A a = i.next();
+				assertEquals("a" + count, a.a);
+				assertEquals(count, a.b);
+				assertEquals(count+1, a.c.get(1).intValue());
+				count++;
+			}
+			assertFalse(i.hasNext());
+		}
+		assertEquals(100, count);
+	}
+
+	@Test
+	public void a02_scalars() throws Exception {
+		Object in = serialize(Arrays.asList(1, 2, null, 4));
+		try (ParserIterator<Integer> i = p.parseIterator(in, Integer.class)) {
+			assertEquals("[1, 2, null, 4]", toList(i).toString());
+		}
+	}
+
+	@Test
+	public void a03_empty() throws Exception {
+		Object in = serialize(Collections.emptyList());
+		try (ParserIterator<A> i = p.parseIterator(in, A.class)) {
+			assertFalse(i.hasNext());
+			assertThrown(()->i.next()).isType(NoSuchElementException.class);
+		}
+	}
+
+	@Test
+	public void a04_stream() throws Exception {
+		Object in = serialize(Arrays.asList(A.create(1), A.create(2), A.create(3)));
+		try (Stream<A> st = p.parseIterator(in, A.class).stream()) {
+			assertEquals(6, st.mapToInt(x -> x.b).sum());
+		}
+	}
+
+	@Test
+	public void a05_lazy() throws Exception {
+		Object in = serialize(Arrays.asList(A.create(1), A.create(2)));
+		// Corrupt the input after the first element so that only the second element fails.
+		if (in instanceof String)
+			in = ((String)in).replace("a2", "a2\u0000\u0000").replace("2,", "x,").replace("<b>2</b>", "<b>x</b>");
+		else
+			in = replace((byte[])in, (byte)2, (byte)0xc1);
+		try (ParserIterator<A> i = p.parseIterator(in, A.class)) {
+			assertEquals(1, i.next().b);
+			assertThrown(()->i.next()).isType(BasicRuntimeException.class);
+			assertFalse(i.hasNext());
+		}
+	}
+
+	@Test
+	public void a06_close() throws Exception {
+		Object in = serialize(Arrays.asList(A.create(1), A.create(2)));
+		final boolean[] closed = new boolean[1];
+		ParserIterator<A> i = p.parseIterator(in, A.class).onClose(()->closed[0] = true);
+		assertEquals(1, i.next().b);
+		i.close();
+		assertTrue(closed[0]);
+		assertFalse(i.hasNext());
+	}
+
+	@Test
+	public void a07_unsupported() throws Exception {
+		assertThrown(()->HtmlParser.DEFAULT.parseIterator("<ul></ul>", A.class)).isType(UnsupportedOperationException.class);
+	}
+
+	private static <E> List<E> toList(Iterator<E> i) {
+		List<E> l = new ArrayList<>();
+		while (i.hasNext())
+			l.add(i.next());
+		return l;
+	}
+
+	private static byte[] replace(byte[] b, byte from, byte to) {
+		// Replaces the last occurrence only.
+		b = b.clone();
+		for (int i = b.length-1; i >= 0; i--)
+			if (b[i] == from) {
+				b[i] = to;
+				break;
+			}
+		return b;
+	}
+}
@@ -65,6 +65,15 @@ public class RestClient_Response_Body_Test {
 		@RestOp
 		public void head() {
 		}
+		@RestPost
+		public int sum(org.apache.juneau.rest.RestRequest req) throws Exception {
+			int sum = 0;
+			try (ParserIterator<ABean> i = req.getBody().asIterator(ABean.class)) {
+				while (i.hasNext())
+					sum += i.next().f;
+			}
+			return sum;
+		}
 	}
 
 	public static class TestClient extends MockRestClient {
@@ -261,6 +270,26 @@ public class RestClient_Response_Body_Test {
 		assertString(x26.group(1)).is("123");
 	}
 
+	@Test
+	public void a08_asIterator() throws Exception {
+		try (ParserIterator<ABean> i = testClient().entity(stringEntity("[{f:1},{f:2}]")).get().run().getBody().asIterator(ABean.class)) {
+			assertEquals(1, i.next().f);
+			assertEquals(2, i.next().f);
+			assertFalse(i.hasNext());
+		}
+
+		ParserIterator<ABean> x2 = testClient().entity(stringEntity("[{f:1},{f:2}]")).get().run().getBody().asIterator(ABean.class);
+		assertObject(x2.next()).asJson().is("{f:1}");
+		x2.close();
+		assertFalse(x2.hasNext());
+
+		assertThrown(()->testClient().entity(stringEntity("{f:1}")).get().run().getBody().asIterator(ABean.class)).contains("Could not parse response body");
+
+		client().build().post("/sum","[{f:1},{f:2},{f:3}]","application/json").run().assertBody().is("6");
+		client().build().post("/sum","[]","application/json").run().assertBody().is("0");
+		client().ignoreErrors().noLog().build().post("/sum?noTrace=true","{f:1}","application/json").run().assertCode().is(400);
+	}
+
 	//------------------------------------------------------------------------------------------------------------------
 	// HttpEntity passthrough methods.
 	//------------------------------------------------------------------------------------------------------------------
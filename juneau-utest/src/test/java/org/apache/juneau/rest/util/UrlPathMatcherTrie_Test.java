@@ -0,0 +1,94 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+import static org.apache.juneau.rest.util.UrlPathMatcher.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class UrlPathMatcherTrie_Test {
+
+	private static final String[] PATTERNS = {
+		"", "*", "/", "/*", "/foo", "/foo/*", "/foo/bar", "/foo/bar/*", "/foo/{id}", "/foo/{id}/*", "/foo/{id}/bar",
+		"/foo/{id}/bar/*", "/foo/*/baz", "/{a}/{b}", "/bar", "/bar/{x}/qux", "foo.txt", "*.txt", "foo.*"
+	};
+
+	private static final String[] PATHS = {
+		null, "/", "/foo", "/foo/", "/foo/bar", "/foo/bar/", "/foo/x", "/foo/x/bar", "/foo/x/bar/y", "/foo/x/baz",
+		"/bar", "/bar/x", "/bar/x/qux", "/baz", "/x/y", "/x/y/z", "/foo.txt", "/x/foo.txt", "/x/y.txt", "/foo%20bar"
+	};
+
+	private static UrlPathMatcherTrie<String> trie(String...patterns) {
+		UrlPathMatcherTrie<String> t = new UrlPathMatcherTrie<>();
+		for (String p : patterns)
+			t.add(of(p), p);
+		return t;
+	}
+
+	private static UrlPath path(String path) {
+		return UrlPath.of(path);
+	}
+
+	@Test
+	public void a01_candidatesIncludeAllMatches() throws Exception {
+		UrlPathMatcherTrie<String> t = trie(PATTERNS);
+		for (String path : PATHS) {
+			List<String> candidates = t.find(path(path));
+			for (String p : PATTERNS)
+				if (of(p).match(path(path)) != null)
+					assertObject(candidates.contains(p)).msg("path={0}, pattern={1}", path, p).is(true);
+		}
+	}
+
+	@Test
+	public void a02_candidatesInInsertionOrder() throws Exception {
+		UrlPathMatcherTrie<String> t = trie("/foo/{id}", "/foo/bar", "/*", "/foo/*");
+		assertObject(t.find(path("/foo/bar"))).asJson().is("['/foo/{id}','/foo/bar','/*','/foo/*']");
+	}
+
+	@Test
+	public void a03_literalBranchesPruned() throws Exception {
+		UrlPathMatcherTrie<String> t = trie("/foo/bar", "/foo/baz", "/bar/{x}", "/foo/{x}/qux", "/qux/*");
+		assertObject(t.find(path("/foo/bar"))).asJson().is("['/foo/bar']");
+		assertObject(t.find(path("/foo/bar/qux"))).asJson().is("['/foo/{x}/qux']");
+		assertObject(t.find(path("/bar/1"))).asJson().is("['/bar/{x}']");
+		assertObject(t.find(path("/qux/a/b/c"))).asJson().is("['/qux/*']");
+		assertObject(t.find(path("/nothing"))).asJson().is("[]");
+	}
+
+	@Test
+	public void a04_trailingSlash() throws Exception {
+		UrlPathMatcherTrie<String> t = trie("/foo");
+		assertObject(t.find(path("/foo/"))).asJson().is("['/foo']");
+	}
+
+	@Test
+	public void a05_fileNamePatternsAlwaysCandidates() throws Exception {
+		UrlPathMatcherTrie<String> t = trie("/foo", "*.txt");
+		assertObject(t.find(path("/bar/baz"))).asJson().is("['*.txt']");
+	}
+
+	@Test
+	public void a06_sameValueMultiplePatterns() throws Exception {
+		UrlPathMatcherTrie<String> t = new UrlPathMatcherTrie<>();
+		t.add(of("/a"), "x").add(of("/b"), "y").add(of("/c"), "x");
+		assertObject(t.find(path("/c"))).asJson().is("['x']");
+		assertObject(t.isEmpty()).is(false);
+		assertObject(new UrlPathMatcherTrie<String>().find(path("/c"))).asJson().is("[]");
+	}
+}
@@ -58,6 +58,8 @@ public class SerializerConfigAnnotationTest {
 		addBeanTypes="$X{true}",
 		addRootType="$X{true}",
 		binaryFormat="$X{HEX}",
+		flushInterval="$X{5}",
+		parallelChunkSize="$X{7}",
 		listener=AA.class,
 		maxIndent="$X{1}",
 		quoteChar="$X{'}",
@@ -82,6 +84,8 @@ public class SerializerConfigAnnotationTest {
 		check("true", ((SerializerSession)x).isAddBeanTypes());
 		check("true", x.isAddRootType());
 		check("AA", x.getListener());
+		check("5", x.getFlushInterval());
+		check("7", x.getParallelChunkSize());
 		check("1", x.getMaxIndent());
 		check("'", x.getQuoteChar());
 		check("true", x.isSortCollections());
@@ -104,6 +108,8 @@ public class SerializerConfigAnnotationTest {
 		check("true", x.isAddRootType());
 		check("HEX", x.getBinaryFormat());
 		check("AA", x.getListener());
+		check("5", x.getFlushInterval());
+		check("7", x.getParallelChunkSize());
 		check("true", x.isSortCollections());
 		check("true", x.isSortMaps());
 		check("true", x.isTrimEmptyCollections());
@@ -130,6 +136,8 @@ public class SerializerConfigAnnotationTest {
 		check("false", ((SerializerSession)x).isAddBeanTypes());
 		check("false", x.isAddRootType());
 		check(null, x.getListener());
+		check("0", x.getFlushInterval());
+		check("0", x.getParallelChunkSize());
 		check("100", x.getMaxIndent());
 		check("\"", x.getQuoteChar());
 		check("false", x.isSortCollections());
@@ -152,6 +160,8 @@ public class SerializerConfigAnnotationTest {
 		check("false", x.isAddRootType());
 		check("HEX", x.getBinaryFormat());
 		check(null, x.getListener());
+		check("0", x.getFlushInterval());
+		check("0", x.getParallelChunkSize());
 		check("false", x.isSortCollections());
 		check("false", x.isSortMaps());
 		check("false", x.isTrimEmptyCollections());
@@ -177,6 +187,8 @@ public class SerializerConfigAnnotationTest {
 		check("false", ((SerializerSession)x).isAddBeanTypes());
 		check("false", x.isAddRootType());
 		check(null, x.getListener());
+		check("0", x.getFlushInterval());
+		check("0", x.getParallelChunkSize());
 		check("100", x.getMaxIndent());
 		check("\"", x.getQuoteChar());
 		check("false", x.isSortCollections());
@@ -199,6 +211,8 @@ public class SerializerConfigAnnotationTest {
 		check("false", x.isAddRootType());
 		check("HEX", x.getBinaryFormat());
 		check(null, x.getListener());
+		check("0", x.getFlushInterval());
+		check("0", x.getParallelChunkSize());
 		check("false", x.isSortCollections());
 		check("false", x.isSortMaps());
 		check("false", x.isTrimEmptyCollections());
@@ -0,0 +1,210 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.internal.StringUtils.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.csv.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.transform.*;
+import org.junit.*;
+
+/**
+ * Tests serialization of large top-level lists in parallel chunks.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class SerializerParallel_Test {
+
+	public static class A {
+		public int f1;
+		public String f2;
+		public List<Integer> f3;
+
+		public static A create(int i) {
+			A a = new A();
+			a.f1 = i;
+			a.f2 = "s" + i + (i % 7 == 0 ? ",x" : "");
+			a.f3 = Arrays.asList(i, -i);
+			return a;
+		}
+	}
+
+	public static class B {}
+
+	public static class BSwap extends StringSwap<B> {
+		public static final Set<BeanSession> SESSIONS = ConcurrentHashMap.newKeySet();
+		@Override /* PojoSwap */
+		public String swap(BeanSession session, B o) throws Exception {
+			SESSIONS.add(session);
+			return "b";
+		}
+	}
+
+	public static class C {
+		private final int f1;
+		public C(int f1) {
+			this.f1 = f1;
+		}
+		public int getF1() {
+			if (f1 == 777)
+				throw new RuntimeException("Bad bean");
+			return f1;
+		}
+	}
+
+	private static List<A> beans(int count) {
+		List<A> l = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+			l.add(A.create(i));
+		return l;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Same output as sequential serialization
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_json() throws Exception {
+		List<A> l = beans(1000);
+		for (int size : new int[]{1, 7, 100, 999}) {
+			assertEquals(JsonSerializer.DEFAULT.serialize(l), JsonSerializer.create().parallelChunkSize(size).build().serialize(l));
+			assertEquals(SimpleJsonSerializer.DEFAULT.serialize(l), SimpleJsonSerializer.create().parallelChunkSize(size).build().serialize(l));
+		}
+	}
+
+	@Test
+	public void a02_json_array() throws Exception {
+		A[] a = beans(500).toArray(new A[0]);
+		assertEquals(JsonSerializer.DEFAULT.serialize(a), JsonSerializer.create().parallelChunkSize(10).build().serialize(a));
+		Object[] o = {1, "foo", null, A.create(1), Arrays.asList(1,2)};
+		assertString(JsonSerializer.create().ssq().parallelChunkSize(2).build().serialize(o)).is("[1,'foo',null,{f1:1,f2:'s1',f3:[1,-1]},[1,2]]");
+	}
+
+	@Test
+	public void a03_msgPack() throws Exception {
+		List<A> l = beans(1000);
+		for (int size : new int[]{1, 33, 999})
+			assertEquals(toHex(MsgPackSerializer.DEFAULT.serialize(l)), toHex(MsgPackSerializer.create().parallelChunkSize(size).build().serialize(l)));
+		List<A> l2 = MsgPackParser.DEFAULT.parse(MsgPackSerializer.create().parallelChunkSize(10).build().serialize(l), List.class, A.class);
+		assertObject(l2).isSameJsonAs(l);
+	}
+
+	@Test
+	public void a04_csv() throws Exception {
+		List<A> l = beans(1000);
+		for (int size : new int[]{1, 50, 999})
+			assertEquals(CsvSerializer.DEFAULT.serialize(l), CsvSerializer.create().parallelChunkSize(size).build().serialize(l));
+	}
+
+	@Test
+	public void a05_outputStream() throws Exception {
+		List<A> l = beans(300);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		JsonSerializer.create().parallelChunkSize(20).build().serialize(l, baos);
+		assertEquals(JsonSerializer.DEFAULT.serialize(l), new String(baos.toByteArray(), "UTF-8"));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// When parallel serialization is used
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static int sessionCount(WriterSerializer s, Object o) throws Exception {
+		BSwap.SESSIONS.clear();
+		s.serialize(o);
+		return BSwap.SESSIONS.size();
+	}
+
+	@Test
+	public void b01_chunkSessions() throws Exception {
+		List<B> l = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			l.add(new B());
+		assertEquals(1, sessionCount(JsonSerializer.create().swaps(BSwap.class).build(), l));
+		assertEquals(10, sessionCount(JsonSerializer.create().swaps(BSwap.class).parallelChunkSize(10).build(), l));
+		assertEquals(4, sessionCount(JsonSerializer.create().swaps(BSwap.class).parallelChunkSize(33).build(), l.toArray()));
+	}
+
+	@Test
+	public void b02_sequentialCases() throws Exception {
+		List<B> l = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			l.add(new B());
+
+		// Small lists, linked lists, sorted collections, and whitespace output are serialized sequentially.
+		assertEquals(1, sessionCount(JsonSerializer.create().swaps(BSwap.class).parallelChunkSize(100).build(), l));
+		assertEquals(1, sessionCount(JsonSerializer.create().swaps(BSwap.class).parallelChunkSize(10).build(), new LinkedList<>(l)));
+		assertEquals(1, sessionCount(JsonSerializer.create().swaps(BSwap.class).parallelChunkSize(10).sortCollections().build(), l));
+		assertEquals(1, sessionCount(JsonSerializer.create().swaps(BSwap.class).parallelChunkSize(10).ws().build(), l));
+	}
+
+	@Test
+	public void b03_errors() throws Exception {
+		List<C> l = new ArrayList<>();
+		for (int i = 0; i < 1000; i++)
+			l.add(new C(i));
+		assertThrown(()->JsonSerializer.create().parallelChunkSize(10).build().serialize(l)).contains("Bad bean");
+		assertThrown(()->MsgPackSerializer.create().parallelChunkSize(10).build().serialize(l)).contains("Bad bean");
+	}
+
+	@Test
+	public void b04_maxDepth() throws Exception {
+		List<A> l = beans(100);
+		for (int d = 1; d <= 4; d++) {
+			assertEquals(JsonSerializer.create().maxDepth(d).build().serialize(l), JsonSerializer.create().maxDepth(d).parallelChunkSize(10).build().serialize(l));
+			assertEquals(toHex(MsgPackSerializer.create().maxDepth(d).build().serialize(l)), toHex(MsgPackSerializer.create().maxDepth(d).parallelChunkSize(10).build().serialize(l)));
+		}
+	}
+
+	@Test
+	public void b05_recursions() throws Exception {
+		List<Object> l = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			l.add(i % 10 == 0 ? l : i);
+		assertThrown(()->JsonSerializer.create().detectRecursions().parallelChunkSize(10).build().serialize(l)).contains("Recursion occurred");
+		assertThrown(()->MsgPackSerializer.create().detectRecursions().parallelChunkSize(10).build().serialize(l)).contains("Recursion occurred");
+		assertEquals(JsonSerializer.create().ignoreRecursions().build().serialize(l), JsonSerializer.create().ignoreRecursions().parallelChunkSize(10).build().serialize(l));
+		Object[] a = l.toArray();
+		a[50] = a;
+		assertThrown(()->JsonSerializer.create().detectRecursions().parallelChunkSize(10).build().serialize(a)).contains("Recursion occurred");
+	}
+
+	public static class DSwap extends StringSwap<Integer> {
+		@Override /* PojoSwap */
+		public String swap(BeanSession session, Integer o) throws Exception {
+			session.addWarning("Swapped {0}", o);
+			return "d" + o;
+		}
+	}
+
+	@Test
+	public void b06_warnings() throws Exception {
+		List<Integer> l = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			l.add(i);
+		for (WriterSerializer s : new WriterSerializer[]{JsonSerializer.create().swaps(DSwap.class).build(), JsonSerializer.create().swaps(DSwap.class).parallelChunkSize(10).build()}) {
+			WriterSerializerSession ss = s.createSession();
+			ss.serialize(l);
+			assertEquals(100, ss.getWarnings().size());
+			assertEquals("100: Swapped 99", ss.getWarnings().get(99));
+		}
+	}
+}
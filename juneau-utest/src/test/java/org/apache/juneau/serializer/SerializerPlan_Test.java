@@ -0,0 +1,221 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.math.*;
+import java.net.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.html.*;
+import org.apache.juneau.http.header.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.transform.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests serialization of beans through precomputed serialization plans.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class SerializerPlan_Test {
+
+	public static final class P {}
+
+	public static class PSwap extends StringSwap<P> {
+		@Override /* PojoSwap */
+		public String swap(BeanSession session, P o) throws Exception {
+			return "p";
+		}
+	}
+
+	public static final class Q {}
+
+	public static class QSwap extends StringSwap<Q> {
+		@Override /* PojoSwap */
+		public MediaType[] forMediaTypes() {
+			return MediaType.ofAll("*/json");
+		}
+		@Override /* PojoSwap */
+		public String swap(BeanSession session, Q o) throws Exception {
+			return "q";
+		}
+	}
+
+	public static enum E { X }
+
+	public static class A {
+		public String f01 = "a<b";
+		public int f02 = 1;
+		public Integer f03 = 2;
+		public boolean f04 = true;
+		public double f05 = 1.5;
+		public BigDecimal f06 = BigDecimal.ONE;
+		public Object f07 = "b";
+		public List<String> f08 = Arrays.asList("c");
+		public URI f09 = URI.create("http://x");
+		public char f10 = 'd';
+		public P f11 = new P();
+		public E f12 = E.X;
+	}
+
+	public static class B {
+		public Q q = new Q();
+	}
+
+	public static class C {
+		@Beanp(name="*")
+		public Map<String,Object> extra = new LinkedHashMap<>();
+	}
+
+	public static class D {
+		public String f1;
+		public Integer f2;
+		public String f3 = "x";
+	}
+
+	public static class DInterceptor extends BeanInterceptor<D> {
+		@Override /* BeanInterceptor */
+		public Object readProperty(D bean, String name, Object value) {
+			return "x".equals(value) ? 123 : value;
+		}
+	}
+
+	@Bean(typeName="T")
+	public static class T {
+		public String f1 = "t";
+	}
+
+	public static class U {
+		public Object t = new T();
+	}
+
+	public static class V {
+		@Beanp(properties="f1")
+		public D d = new D();
+	}
+
+	private static final JsonSerializer JSON = SimpleJsonSerializer.create().swaps(PSwap.class, QSwap.class).build();
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Plans
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_kinds() throws Exception {
+		SerializerSession s = JSON.createSession();
+		SerializerPlan p = s.getSerializerPlan(s.getClassMeta(A.class));
+		assertEquals("[f01:STRING, f02:NUMBER, f03:NUMBER, f04:BOOLEAN, f05:NUMBER, f06:OTHER, f07:OTHER, f08:OTHER, f09:OTHER, f10:OTHER, f11:STRING, f12:OTHER]", Arrays.toString(p.getProperties()));
+		assertNull(p.getProperties()[0].getSwap());
+		assertNotNull(p.getProperties()[10].getSwap());
+		assertEquals(SerializerPlan.Kind.OTHER, p.getProperties()[0].getKind(1));
+		assertEquals("_type:STRING", p.getTypeProperty().toString());
+	}
+
+	@Test
+	public void a02_sharedBetweenSessions() throws Exception {
+		SerializerSession s1 = JSON.createSession(), s2 = JSON.createSession();
+		ClassMeta<?> cm = s1.getClassMeta(B.class);
+		SerializerPlan p = s1.getSerializerPlan(cm);
+		assertSame(p, s2.getSerializerPlan(cm));
+		assertEquals("[q:STRING]", Arrays.toString(p.getProperties()));
+
+		SerializerSession s3 = JSON.createSession(new SerializerSessionArgs().mediaType(MediaType.of("text/xml")));
+		SerializerPlan p3 = s3.getSerializerPlan(cm);
+		assertNotSame(p, p3);
+		assertSame(p3, s3.getSerializerPlan(cm));
+		assertEquals("[q:OTHER]", Arrays.toString(p3.getProperties()));
+	}
+
+	@Test
+	public void a03_dynaProperty() throws Exception {
+		SerializerSession s = JSON.createSession();
+		assertNull(s.getSerializerPlan(s.getClassMeta(C.class)));
+		C c = new C();
+		c.extra.put("x", 1);
+		assertEquals("{x:1}", JSON.serialize(c));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serialization
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_json() throws Exception {
+		assertEquals("{f01:'a<b',f02:1,f03:2,f04:true,f05:1.5,f06:1,f07:'b',f08:['c'],f09:'http://x',f10:'d',f11:'p',f12:'X'}", JSON.serialize(new A()));
+		assertEquals("{q:'q'}", JSON.serialize(new B()));
+	}
+
+	@Test
+	public void b02_uon() throws Exception {
+		UonSerializer s = UonSerializer.create().swaps(PSwap.class, QSwap.class).build();
+		assertEquals("(f01=a<b,f02=1,f03=2,f04=true,f05=1.5,f06=1,f07=b,f08=@(c),f09=http://x,f10=d,f11=p,f12=X)", s.serialize(new A()));
+	}
+
+	@Test
+	public void b03_xml() throws Exception {
+		XmlSerializer s = XmlSerializer.create().sq().swaps(PSwap.class, QSwap.class).build();
+		assertEquals("<object><f01>a&lt;b</f01><f02>1</f02><f03>2</f03><f04>true</f04><f05>1.5</f05><f06>1</f06><f07>b</f07><f08><string>c</string></f08><f09>http://x</f09><f10>d</f10><f11>p</f11><f12>X</f12></object>", s.serialize(new A()));
+	}
+
+	@Test
+	public void b04_html() throws Exception {
+		HtmlSerializer s = HtmlSerializer.create().sq().swaps(PSwap.class, QSwap.class).build();
+		assertString(s.serialize(new A()))
+			.contains("<tr><td>f01</td><td>a&lt;b</td></tr>")
+			.contains("<tr><td>f11</td><td>p</td></tr>");
+	}
+
+	@Test
+	public void b05_msgPack() throws Exception {
+		MsgPackSerializer s = MsgPackSerializer.create().swaps(PSwap.class, QSwap.class).build();
+		OMap m = MsgPackParser.DEFAULT.parse(s.serialize(new A()), OMap.class);
+		assertEquals("{f01:'a<b',f02:1,f03:2,f04:true,f05:1.5,f06:1.0,f07:'b',f08:['c'],f09:'http://x',f10:'d',f11:'p',f12:'X'}", SimpleJsonSerializer.DEFAULT.serialize(m));
+	}
+
+	@Test
+	public void b06_keepNullProperties() throws Exception {
+		assertEquals("{f1:null,f2:null,f3:'x'}", SimpleJsonSerializer.create().keepNullProperties().build().serialize(new D()));
+		assertEquals("(f1=null,f2=null,f3=x)", UonSerializer.create().keepNullProperties().build().serialize(new D()));
+		OMap m = MsgPackParser.DEFAULT.parse(MsgPackSerializer.create().keepNullProperties().build().serialize(new D()), OMap.class);
+		assertEquals("{f1:null,f2:null,f3:'x'}", SimpleJsonSerializer.DEFAULT.serialize(m));
+	}
+
+	@Test
+	public void b07_valueReplacedByInterceptor() throws Exception {
+		assertEquals("{f3:123}", SimpleJsonSerializer.create().beanInterceptor(D.class, DInterceptor.class).build().serialize(new D()));
+		assertEquals("<object><f3 _type='number'>123</f3></object>", XmlSerializer.create().sq().beanInterceptor(D.class, DInterceptor.class).build().serialize(new D()));
+	}
+
+	@Test
+	public void b08_typeName() throws Exception {
+		assertEquals("{t:{_type:'T',f1:'t'}}", SimpleJsonSerializer.create().addBeanTypes().build().serialize(new U()));
+		assertEquals("(t=(_type=T,f1=t))", UonSerializer.create().addBeanTypes().build().serialize(new U()));
+		OMap m = MsgPackParser.DEFAULT.parse(MsgPackSerializer.create().addBeanTypes().build().serialize(new U()), OMap.class);
+		assertEquals("{t:{_type:'T',f1:'t'}}", SimpleJsonSerializer.DEFAULT.serialize(m));
+	}
+
+	@Test
+	public void b09_filteredBeanMap() throws Exception {
+		assertEquals("{d:{}}", JSON.serialize(new V()));
+		assertEquals("{d:{f1:null}}", SimpleJsonSerializer.create().keepNullProperties().build().serialize(new V()));
+	}
+}
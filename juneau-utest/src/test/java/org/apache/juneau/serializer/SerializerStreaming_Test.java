@@ -0,0 +1,212 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.cbor.*;
+import org.apache.juneau.compact.*;
+import org.apache.juneau.csv.*;
+import org.apache.juneau.html.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests serialization of iterators, enumerations, spliterators, and streams.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class SerializerStreaming_Test {
+
+	private static List<String> list() {
+		return Arrays.asList("foo","bar","baz");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Element sources
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_json_sources() throws Exception {
+		WriterSerializer s = SimpleJsonSerializer.DEFAULT;
+		assertString(s.serialize(list().iterator())).is("['foo','bar','baz']");
+		assertString(s.serialize(Collections.enumeration(list()))).is("['foo','bar','baz']");
+		assertString(s.serialize(list().spliterator())).is("['foo','bar','baz']");
+		assertString(s.serialize(list().stream())).is("['foo','bar','baz']");
+		assertString(s.serialize(IntStream.range(1, 4))).is("[1,2,3]");
+		assertString(s.serialize(Stream.empty())).is("[]");
+	}
+
+	public static class A02 {
+		public Stream<A02a> f1 = Stream.of(new A02a(1), new A02a(2));
+		public Iterator<Integer> f2 = Arrays.asList(3,4).iterator();
+	}
+
+	public static class A02a {
+		public int x;
+		public A02a(int x) {
+			this.x = x;
+		}
+	}
+
+	@Test
+	public void a02_json_beanProperties() throws Exception {
+		assertString(SimpleJsonSerializer.DEFAULT.serialize(new A02())).is("{f1:[{x:1},{x:2}],f2:[3,4]}");
+		assertString(SimpleJsonSerializer.DEFAULT_READABLE.serialize(Stream.of(1,2))).is("[\n\t1,\n\t2\n]");
+	}
+
+	@Test
+	public void a03_uon() throws Exception {
+		assertString(UonSerializer.DEFAULT.serialize(list().stream())).is("@(foo,bar,baz)");
+		assertString(UonSerializer.DEFAULT.serialize(Stream.empty())).is("@()");
+	}
+
+	@Test
+	public void a04_xml() throws Exception {
+		XmlSerializer s = XmlSerializer.DEFAULT_SQ;
+		assertString(s.serialize(list().stream())).is(s.serialize(list()));
+		assertString(s.serialize(list().iterator())).is("<array><string>foo</string><string>bar</string><string>baz</string></array>");
+	}
+
+	@Test
+	public void a05_html() throws Exception {
+		HtmlSerializer s = HtmlSerializer.DEFAULT_SQ;
+		assertString(s.serialize(list().stream())).is(s.serialize(list()));
+		List<A02a> l = Arrays.asList(new A02a(1), new A02a(2));
+		assertString(s.serialize(l.stream())).is(s.serialize(l));
+	}
+
+	@Test
+	public void a06_msgPack() throws Exception {
+		MsgPackSerializer s = MsgPackSerializer.DEFAULT;
+		String expected = "93A3666F6FA3626172A362617A";
+		assertBytes(s.serialize(list())).asHex().is(expected);
+		assertBytes(s.serialize(list().stream())).asHex().is(expected);
+		assertBytes(s.serialize(list().iterator())).asHex().is(expected);
+		assertBytes(s.serialize(list().stream().filter(x -> true))).asHex().is(expected);
+		assertBytes(s.serialize(Collections.enumeration(list()))).asHex().is(expected);
+	}
+
+	@Test
+	public void a07_csv() throws Exception {
+		List<A02a> l = Arrays.asList(new A02a(1), new A02a(2));
+		assertString(CsvSerializer.DEFAULT.serialize(l.stream())).is("x\n1\n2\n");
+		assertString(CsvSerializer.DEFAULT.serialize(l.iterator())).is(CsvSerializer.DEFAULT.serialize(l));
+		assertString(CsvSerializer.DEFAULT.serialize(Stream.empty())).is("");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Incremental flushing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static class SnapshotWriter extends StringWriter {
+		List<String> flushes = new ArrayList<>();
+
+		@Override /* Writer */
+		public void flush() {
+			flushes.add(toString());
+		}
+	}
+
+	private static class SnapshotStream extends ByteArrayOutputStream {
+		List<Integer> flushes = new ArrayList<>();
+
+		@Override /* OutputStream */
+		public void flush() {
+			flushes.add(size());
+		}
+	}
+
+	@Test
+	public void b01_flushInterval_json() throws Exception {
+		WriterSerializer s = SimpleJsonSerializer.create().flushInterval(2).build();
+		SnapshotWriter w = new SnapshotWriter();
+		s.serialize(IntStream.range(1, 6), w);
+		assertString(w.flushes.get(0)).is("[1,2,");
+		assertString(w.flushes.get(1)).is("[1,2,3,4,");
+		assertString(w.toString()).is("[1,2,3,4,5]");
+	}
+
+	@Test
+	public void b02_flushInterval_disabled() throws Exception {
+		SnapshotWriter w = new SnapshotWriter();
+		SimpleJsonSerializer.DEFAULT.serialize(IntStream.range(1, 6), w);
+		for (String f : w.flushes)
+			assertString(f).is("[1,2,3,4,5]");
+	}
+
+	@Test
+	public void b03_flushInterval_msgPack() throws Exception {
+		OutputStreamSerializer s = MsgPackSerializer.create().flushInterval(1).build();
+		SnapshotStream os = new SnapshotStream();
+		s.serialize(Stream.of(1,2,3), os);
+		// Array header followed by one byte per positive fixint.
+		assertObject(os.flushes.subList(0, 3)).asJson().is("[2,3,4]");
+	}
+
+	@Test
+	public void b04_flushInterval_csv() throws Exception {
+		WriterSerializer s = CsvSerializer.create().flushInterval(1).build();
+		SnapshotWriter w = new SnapshotWriter();
+		s.serialize(Stream.of(new A02a(1), new A02a(2)), w);
+		assertString(w.flushes.get(0)).is("x\n1\n");
+		assertString(w.flushes.get(1)).is("x\n1\n2\n");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Closing sources
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_streamsClosed() throws Exception {
+		Serializer[] serializers = {
+			SimpleJsonSerializer.DEFAULT, NdJsonSerializer.DEFAULT, UonSerializer.DEFAULT, XmlSerializer.DEFAULT,
+			HtmlSerializer.DEFAULT, MsgPackSerializer.DEFAULT, CborSerializer.DEFAULT, CompactSerializer.DEFAULT,
+			CsvSerializer.DEFAULT
+		};
+		for (Serializer s : serializers) {
+			int[] closed = new int[1];
+			s.serialize(Stream.of(new A02a(1), new A02a(2)).onClose(() -> closed[0]++));
+			assertInteger(closed[0]).msg("Stream not closed by {0}", s.getClass().getSimpleName()).is(1);
+		}
+	}
+
+	@Test
+	public void c02_streamsClosedOnError() throws Exception {
+		int[] closed = new int[1];
+		Stream<Object> st = Stream.of(1, 2).map(x -> { throw new IllegalStateException("foo"); }).onClose(() -> closed[0]++);
+		assertThrown(() -> SimpleJsonSerializer.DEFAULT.serialize(st)).exists();
+		assertInteger(closed[0]).is(1);
+	}
+
+	@Test
+	public void c03_msgPack_tooLarge() throws Exception {
+		int[] closed = new int[1];
+		Spliterator<Object> sp = new Spliterators.AbstractSpliterator<Object>(Long.MAX_VALUE, Spliterator.SIZED) {
+			@Override /* Spliterator */
+			public boolean tryAdvance(java.util.function.Consumer<? super Object> action) {
+				return false;
+			}
+		};
+		Stream<Object> st = StreamSupport.stream(sp, false).onClose(() -> closed[0]++);
+		assertThrown(() -> MsgPackSerializer.DEFAULT.serialize(st)).contains("too large");
+		assertInteger(closed[0]).is(1);
+	}
+}